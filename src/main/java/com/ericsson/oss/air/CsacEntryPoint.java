@@ -16,8 +16,10 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Consumer;
 
 import com.ericsson.oss.air.csac.configuration.SchemaMigration;
 import com.ericsson.oss.air.csac.configuration.metrics.CustomMetricsRegistry;
@@ -26,13 +28,19 @@ import com.ericsson.oss.air.csac.handler.ResourceSubmissionHandler;
 import com.ericsson.oss.air.csac.handler.ServiceUpdateHandler;
 import com.ericsson.oss.air.csac.handler.event.ConsistencyCheckEvent;
 import com.ericsson.oss.air.csac.handler.event.ConsistencyCheckHandler;
+import com.ericsson.oss.air.csac.handler.reload.ReloadStage;
+import com.ericsson.oss.air.csac.handler.status.ProvisioningLock;
 import com.ericsson.oss.air.csac.handler.status.ProvisioningTracker;
 import com.ericsson.oss.air.csac.handler.validation.ValidationHandler;
+import com.ericsson.oss.air.csac.handler.validation.ValidationIndex;
 import com.ericsson.oss.air.csac.model.PMDefinition;
 import com.ericsson.oss.air.csac.model.ProfileDefinition;
 import com.ericsson.oss.air.csac.model.ResourceSubmission;
+import com.ericsson.oss.air.csac.repository.cache.ResolvedKpiCache;
 import com.ericsson.oss.air.csac.service.DiffCalculator;
+import com.ericsson.oss.air.csac.service.ResourceChangeSet;
 import com.ericsson.oss.air.csac.service.ResourceFileLoader;
+import com.ericsson.oss.air.csac.service.augmentation.AugmentationSchemaMappingCache;
 import com.ericsson.oss.air.exception.CsacConsistencyCheckException;
 import com.ericsson.oss.air.exception.CsacProvisioningStateTransitionException;
 import com.ericsson.oss.air.util.LazySupplier;
@@ -45,6 +53,7 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
@@ -54,9 +63,13 @@ import org.springframework.stereotype.Component;
  *
  * <ul>
  * <li>Database schema migration</li>
+ * <li>Preloading the resolved runtime KPI cache, if enabled</li>
  * <li>Loading and validating Assurance resources</li>
  * <li>Provisioning downstream services</li>
  * </ul>
+ * <p>
+ * Each data flow holds the {@link ProvisioningLock}, so that it never runs concurrently with another data flow, a configuration reset or a drift
+ * reconciliation.
  */
 @Component
 @Slf4j
@@ -65,9 +78,20 @@ public class CsacEntryPoint {
 
     private static final AuditLogger AUDIT_LOGGER = AuditLogFactory.getLogger(CsacEntryPoint.class);
 
+    private static final Consumer<ReloadStage> NO_STAGE_LISTENER = stage -> {
+    };
+
     @Setter(AccessLevel.PACKAGE) // used only for unit tests
     private Counter fileLoadErrorCounter = CustomMetricsRegistry.registerResourceFileLoadErrorCount();
 
+    /*
+     * If true, the full resource loading and provisioning flow is executed on startup even if the resource files are unchanged since the last
+     * completed provisioning operation.
+     */
+    @Value("${csac.resource.force:false}")
+    @Setter(AccessLevel.PACKAGE) // used only for unit tests
+    private boolean forceProvisioning;
+
     private final ResourceFileLoader resourceFileLoader;
 
     private final ResourceSubmissionHandler resourceSubmissionHandler;
@@ -86,10 +110,26 @@ public class CsacEntryPoint {
 
     private final ProvisioningTracker provisioningTracker;
 
+    private final ProvisioningLock provisioningLock;
+
     private final ConsistencyCheckHandler consistencyCheckHandler;
 
     private final SequentialOperator<Void> forcedProvisioningOperator;
 
+    private final ResolvedKpiCache resolvedKpiCache;
+
+    private final AugmentationSchemaMappingCache schemaMappingCache;
+
+    /*
+     * Resource files loaded and validated by the last successful data flow, keyed by path. Used by incremental reloads to skip unchanged files.
+     */
+    private final Map<Path, LoadedResourceFile> loadedResourceFiles = new HashMap<>();
+
+    /*
+     * Notified as each stage of the current data flow starts.
+     */
+    private Consumer<ReloadStage> stageListener = NO_STAGE_LISTENER;
+
     private final LazySupplier<Map<String, List<PMDefinition>>> validPMDefinitions = new LazySupplier<Map<String, List<PMDefinition>>>() {
 
         @Override
@@ -111,19 +151,100 @@ public class CsacEntryPoint {
             // create schemas for csac.
             this.schemaMigration.migrate();
 
-            // kick off the provisioning operation
-            startProvisioning();
+            // warm the resolved KPI cache from the runtime data store
+            this.resolvedKpiCache.preload();
+
+            this.provisioningLock.lock();
+
+            try {
+                // skip the provisioning operation if the resource files are unchanged since the last completed provisioning
+                if (!this.forceProvisioning && this.isProvisioned()) {
+                    log.info("Resource files unchanged since the last completed provisioning. No runtime resource changes detected.");
+
+                    this.forcedProvisioningOperator.apply(null);
+
+                    return;
+                }
+
+                // kick off the provisioning operation
+                startProvisioning();
+            } finally {
+                this.provisioningLock.unlock();
+            }
         } catch (final Exception e) {
             this.faultHandler.fatal(e);
         }
     }
 
     /**
-     * Wrapper method for the provisioning operation.
+     * Wrapper method for the provisioning operation. All resource files are reloaded and validated.
      *
      * @throws IOException if the exception occurs during resource file loading.
      */
     public void startProvisioning() throws IOException {
+        this.startProvisioning(NO_STAGE_LISTENER);
+    }
+
+    /**
+     * Wrapper method for the provisioning operation. All resource files are reloaded and validated, and the provided listener is notified as each
+     * stage of the data flow starts.
+     *
+     * @param stageListener listener notified as each data flow stage starts
+     * @throws IOException if the exception occurs during resource file loading.
+     */
+    public void startProvisioning(final Consumer<ReloadStage> stageListener) throws IOException {
+
+        this.provisioningLock.lock();
+
+        try {
+            this.loadedResourceFiles.clear();
+            this.stageListener = stageListener;
+
+            this.provision();
+        } finally {
+            this.stageListener = NO_STAGE_LISTENER;
+            this.provisioningLock.unlock();
+        }
+    }
+
+    /**
+     * Wrapper method for an incremental provisioning operation. Only the resource files added or changed since the last successful provisioning
+     * operation are reloaded and validated. Unchanged resource files are merged from the previously validated resources, so the diff and
+     * provisioning steps still operate on the complete set of resources.
+     *
+     * @throws IOException if the exception occurs during resource file loading.
+     */
+    public void reloadChangedResources() throws IOException {
+        this.reloadChangedResources(NO_STAGE_LISTENER);
+    }
+
+    /**
+     * Wrapper method for an incremental provisioning operation. Only the resource files added or changed since the last successful provisioning
+     * operation are reloaded and validated, and the provided listener is notified as each stage of the data flow starts.
+     *
+     * @param stageListener listener notified as each data flow stage starts
+     * @throws IOException if the exception occurs during resource file loading.
+     */
+    public void reloadChangedResources(final Consumer<ReloadStage> stageListener) throws IOException {
+
+        this.provisioningLock.lock();
+
+        try {
+            this.stageListener = stageListener;
+
+            this.provision();
+        } finally {
+            this.stageListener = NO_STAGE_LISTENER;
+            this.provisioningLock.unlock();
+        }
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Runs the CSAC data flow and handles any provisioning failure.
+     */
+    private void provision() throws IOException {
 
         try {
 
@@ -148,7 +269,7 @@ public class CsacEntryPoint {
      *
      * <ol>
      * <li>initializes the database</li>
-     * <li>validates and loads the resource file(s) from disk</li>
+     * <li>validates and loads the resource file(s) from disk that were added or changed since the last successful data flow</li>
      * <li>incrementally aggregates the submitted resources</li>
      * <li>incrementally validates the submitted resources</li>
      * <li>persists the validated resources</li>
@@ -163,54 +284,139 @@ public class CsacEntryPoint {
         // reset the valid PM definition supplier in the event that this is a re-entry.
         this.validPMDefinitions.reset();
 
+        // schema mappings are only cached for the duration of a run, as they may be changed in the AAS in between.
+        this.schemaMappingCache.invalidateAll();
+
         final Instant csacStartTime = Instant.now();
 
+        this.stageListener.accept(ReloadStage.LOADING);
+
         final ResourceSubmission masterResourceSubmission = new ResourceSubmission();
+        final ValidationIndex validationIndex = this.validationHandler.newValidationIndex();
         final List<Path> validResourceFilePaths;
+        final Map<Path, String> contentDigests;
+        final String resourceFingerprint;
 
         try {
             validResourceFilePaths = this.resourceSubmissionHandler.getOrderedResourceList();
+            contentDigests = this.resourceSubmissionHandler.getContentDigests(validResourceFilePaths);
+            resourceFingerprint = this.resourceSubmissionHandler.getResourceFingerprint(contentDigests);
+        } catch (final Exception e) {
+            fileLoadErrorCounter.increment();
+            throw e;
+        }
+
+        // only the resource files added or changed since the last successful data flow are loaded
+        final List<Path> changedResourceFilePaths = validResourceFilePaths.stream()
+                .filter(resourceFile -> !this.isLoaded(resourceFile, contentDigests.get(resourceFile)))
+                .toList();
+
+        final List<ResourceSubmission> newResourceSubmissions;
+
+        try {
+            // the files are parsed concurrently but returned in order, so the merge below remains deterministic
+            newResourceSubmissions = this.resourceFileLoader.loadResourceFilePaths(changedResourceFilePaths);
         } catch (final Exception e) {
             fileLoadErrorCounter.increment();
             throw e;
         }
 
+        this.stageListener.accept(ReloadStage.VALIDATING);
+
+        final Map<Path, LoadedResourceFile> currentResourceFiles = new HashMap<>();
+        int changedIndex = 0;
+
         for (final Path resourceFile : validResourceFilePaths) {
-            final ResourceSubmission newResourceSubmission;
 
-            try {
-                newResourceSubmission = this.resourceFileLoader.loadResourceFilePath(resourceFile);
-            } catch (final Exception e) {
-                fileLoadErrorCounter.increment();
-                throw e;
-            }
+            final String contentDigest = contentDigests.get(resourceFile);
 
-            validateNewResourceSubmission(masterResourceSubmission, newResourceSubmission, resourceFile);
+            if (this.isLoaded(resourceFile, contentDigest)) {
+
+                final LoadedResourceFile loadedResourceFile = this.loadedResourceFiles.get(resourceFile);
+                mergeLoadedResourceFile(masterResourceSubmission, loadedResourceFile, resourceFile, validationIndex);
+                currentResourceFiles.put(resourceFile, loadedResourceFile);
+            } else {
 
+                final ResourceSubmission newResourceSubmission = newResourceSubmissions.get(changedIndex++);
+                final Map<String, List<PMDefinition>> validPms = validateNewResourceSubmission(masterResourceSubmission, newResourceSubmission,
+                        resourceFile, validationIndex);
+                currentResourceFiles.put(resourceFile, new LoadedResourceFile(contentDigest, newResourceSubmission, validPms));
+            }
         }
 
-        final boolean dictionaryUpdated = updateDictionaryResources(masterResourceSubmission);
+        log.info("Loaded {} new or changed resource files. {} resource files unchanged since the last reload.", changedResourceFilePaths.size(),
+                validResourceFilePaths.size() - changedResourceFilePaths.size());
+
+        this.stageListener.accept(ReloadStage.UPDATING_DICTIONARY);
+
+        final ResourceChangeSet changeSet = this.diffCalculator.getChangeSet(masterResourceSubmission);
 
-        // Calculate affected profiles
-        final Set<ProfileDefinition> pendingProfiles = this.diffCalculator.getAffectedProfiles(masterResourceSubmission);
+        final boolean dictionaryUpdated = updateDictionaryResources(masterResourceSubmission, changeSet);
+
+        // Calculate affected profiles. These are relative to the updated dictionary, so the change set is only recalculated if the dictionary
+        // was updated.
+        final ResourceChangeSet updatedChangeSet = dictionaryUpdated ? this.diffCalculator.getChangeSet(masterResourceSubmission) : changeSet;
+        final Set<ProfileDefinition> pendingProfiles = this.diffCalculator.getAffectedProfiles(updatedChangeSet);
 
         if (!dictionaryUpdated && pendingProfiles.isEmpty()) {
             log.info("No runtime resource changes detected.");
 
+            // the provisioned resources match the resource files, so the next startup can skip this flow
+            this.provisioningTracker.recordResourceFingerprint(resourceFingerprint);
+            this.updateLoadedResourceFiles(currentResourceFiles);
+
             this.forcedProvisioningOperator.apply(null);
 
             return;
         }
 
+        this.stageListener.accept(ReloadStage.PROVISIONING);
         this.provisioningTracker.startProvisioning();
 
         // individual provisioning handlers are responsible for determining exactly what needs to be provisioned.
         this.serviceUpdateHandler.notify(masterResourceSubmission.getProfileDefs(), csacStartTime);
         this.provisioningTracker.stopProvisioning();
+        this.provisioningTracker.recordResourceFingerprint(resourceFingerprint);
+        this.updateLoadedResourceFiles(currentResourceFiles);
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns true if the provided resource file was loaded by the last successful data flow and its content is unchanged since.
+     */
+    private boolean isLoaded(final Path resourceFile, final String contentDigest) {
+
+        final LoadedResourceFile loadedResourceFile = this.loadedResourceFiles.get(resourceFile);
+
+        return Objects.nonNull(loadedResourceFile) && Objects.equals(loadedResourceFile.contentDigest(), contentDigest);
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Replaces the loaded resource files with those of the data flow that has just completed successfully.
+     */
+    private void updateLoadedResourceFiles(final Map<Path, LoadedResourceFile> currentResourceFiles) {
+        this.loadedResourceFiles.clear();
+        this.loadedResourceFiles.putAll(currentResourceFiles);
     }
 
-    private void validateNewResourceSubmission(final ResourceSubmission masterResourceSubmission, final ResourceSubmission newResourceSubmission,
-                                               final Path resourceFile) {
+    /*
+     * (non-javadoc)
+     *
+     * Returns true if the current resource files were provisioned by the latest completed provisioning operation.
+     */
+    private boolean isProvisioned() throws IOException {
+
+        final List<Path> resourceFiles = this.resourceSubmissionHandler.getOrderedResourceList();
+
+        return this.provisioningTracker.isProvisioned(this.resourceSubmissionHandler.getResourceFingerprint(resourceFiles));
+    }
+
+    private Map<String, List<PMDefinition>> validateNewResourceSubmission(final ResourceSubmission masterResourceSubmission,
+                                                                          final ResourceSubmission newResourceSubmission,
+                                                                          final Path resourceFile, final ValidationIndex validationIndex) {
 
         // log presence of PM Schema definitions if there are any.
         if (newResourceSubmission.hasPmSchemaDefs()) {
@@ -231,31 +437,61 @@ public class CsacEntryPoint {
         newResourceSubmission.addPmCountersToPmDefList();
 
         // validate PMDefinitions in the new resource submission
+        Map<String, List<PMDefinition>> validPms = Map.of();
+
         if (newResourceSubmission.hasPmDefs()) {
             log.info("Validating {} PM definitions from resource file {}", newResourceSubmission.getPmDefs().size(), resourceFile.toString());
-            updateValidPmDefinitions(newResourceSubmission);
+            validPms = this.validationHandler.getValidPMDefinitions(newResourceSubmission.getPmDefs());
+            updateValidPmDefinitions(validPms);
         }
 
         // merge the subsequent resource submission onto the master resource submission
         masterResourceSubmission.mergeResourceSubmission(newResourceSubmission);
+        validationIndex.add(newResourceSubmission);
 
-        // validate KPIDefinitions in the master resource submission
+        // validate KPIDefinitions in the master resource submission. Only new or changed definitions are validated.
         if (newResourceSubmission.hasKpiDefs()) {
             log.info("Validating {} KPI definitions from resource file {}", newResourceSubmission.getKpiDefs().size(), resourceFile.toString());
-            this.validationHandler.validateKPIDefinitions(masterResourceSubmission);
+            this.validationHandler.validateKPIDefinitions(masterResourceSubmission, validationIndex);
         }
 
-        // validate ProfileDefinitions in the master resource submission
+        // validate ProfileDefinitions in the master resource submission. Only new or changed definitions, and those referencing changed KPI
+        // definitions, are validated.
         if (newResourceSubmission.hasProfileDefs()) {
             log.info("Validating {} profile definitions from resource file {}", newResourceSubmission.getProfileDefs().size(),
                     resourceFile.toString());
-            this.validationHandler.validateProfileDefinitions(masterResourceSubmission);
+            this.validationHandler.validateProfileDefinitions(masterResourceSubmission, validationIndex);
+        }
+
+        return validPms;
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Merges a resource file that was validated by the last successful data flow and is unchanged since. Its definitions are not validated again,
+     * apart from any profile definitions that reference a KPI definition changed by an earlier resource file in this data flow.
+     */
+    private void mergeLoadedResourceFile(final ResourceSubmission masterResourceSubmission, final LoadedResourceFile loadedResourceFile,
+                                         final Path resourceFile, final ValidationIndex validationIndex) {
+
+        log.debug("Resource file {} is unchanged. Merging previously validated resources", resourceFile);
+
+        final ResourceSubmission resourceSubmission = loadedResourceFile.resourceSubmission();
+
+        updateValidPmDefinitions(loadedResourceFile.validPmDefinitions());
+
+        masterResourceSubmission.mergeResourceSubmission(resourceSubmission);
+        validationIndex.addValidated(resourceSubmission);
+
+        if (resourceSubmission.hasProfileDefs()) {
+            this.validationHandler.validateProfileDefinitions(masterResourceSubmission, validationIndex);
         }
     }
 
-    private boolean updateDictionaryResources(final ResourceSubmission resourceSubmission) {
+    private boolean updateDictionaryResources(final ResourceSubmission resourceSubmission, final ResourceChangeSet changeSet) {
 
-        if (!this.diffCalculator.isChanged(resourceSubmission)) {
+        if (!changeSet.hasChanges()) {
             log.info("No dictionary resource changes found. Skipping dictionary updates.");
             return false;
         } else {
@@ -288,9 +524,7 @@ public class CsacEntryPoint {
      *
      * Updates the valid PM definitions map with valid definitions from the current partial ResourceSubmission.
      */
-    private void updateValidPmDefinitions(final ResourceSubmission newResourceSubmission) {
-
-        final Map<String, List<PMDefinition>> validPms = this.validationHandler.getValidPMDefinitions(newResourceSubmission.getPmDefs());
+    private void updateValidPmDefinitions(final Map<String, List<PMDefinition>> validPms) {
 
         // need to merge the valid PMs from this submission with the master list of validated PMs
         for (final Map.Entry<String, List<PMDefinition>> validPmEntry : validPms.entrySet()) {
@@ -331,4 +565,13 @@ public class CsacEntryPoint {
 
         return targetSet.stream().toList();
     }
+
+    /*
+     * (non-javadoc)
+     *
+     * A resource file loaded and validated by a successful data flow, along with the valid PM definitions it contributed.
+     */
+    private record LoadedResourceFile(String contentDigest, ResourceSubmission resourceSubmission,
+                                      Map<String, List<PMDefinition>> validPmDefinitions) {
+    }
 }
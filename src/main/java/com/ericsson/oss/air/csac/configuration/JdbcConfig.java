@@ -12,6 +12,7 @@ package com.ericsson.oss.air.csac.configuration;
 
 import javax.sql.DataSource;
 
+import com.ericsson.oss.air.csac.repository.impl.jdbc.util.StatementCountingJdbcTemplate;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
@@ -49,14 +50,14 @@ public class JdbcConfig {
     @Primary
     @ConditionalOnBean(value = DataSource.class)
     public JdbcTemplate applicationDataConnection(DataSource dataSource) {
-        return new JdbcTemplate(dataSource);
+        return new StatementCountingJdbcTemplate(dataSource);
     }
 
     @Bean
     @Primary
     @ConditionalOnBean(value = DataSource.class)
     public NamedParameterJdbcTemplate namedParameterJdbcTemplate(DataSource dataSource) {
-        return new NamedParameterJdbcTemplate(dataSource);
+        return new NamedParameterJdbcTemplate(new StatementCountingJdbcTemplate(dataSource));
     }
 
 }
@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.configuration;
+
+import java.util.Objects;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.rolling.FixedWindowRollingPolicy;
+import ch.qos.logback.core.rolling.RollingFileAppender;
+import ch.qos.logback.core.rolling.SizeBasedTriggeringPolicy;
+import ch.qos.logback.core.util.FileSize;
+import com.ericsson.oss.air.exception.CsacValidationException;
+import com.ericsson.oss.air.util.logging.payload.PayloadLogger;
+import jakarta.annotation.PostConstruct;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.logging.log4j.util.Strings;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configures the payload logging policy. Payloads logged by the class loggers are truncated to the configured maximum length. If a dump file path is
+ * configured, the complete payloads are also written to a dedicated size-based rotating file. Otherwise, the complete payloads are never logged, as
+ * the {@value PayloadLogger#DUMP_LOGGER_NAME} logger is turned off rather than left to inherit the root logger. See {@link PayloadLogger}.
+ */
+@Component
+@Slf4j
+public class PayloadLoggingConfiguration implements DisposableBean {
+
+    private static final String DUMP_APPENDER_NAME = "CSAC_PAYLOAD_DUMP";
+
+    private static final String DUMP_PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %msg%n";
+
+    private static final int MAX_DUMP_FILES = 20;
+
+    @Getter(AccessLevel.PACKAGE) // Getter for unit tests only
+    private String dumpPath;
+
+    @Getter(AccessLevel.PACKAGE) // Getter for unit tests only
+    private FileSize dumpMaxFileSize;
+
+    @Getter(AccessLevel.PACKAGE) // Getter for unit tests only
+    private int dumpMaxFiles;
+
+    private RollingFileAppender<ILoggingEvent> dumpAppender;
+
+    private Logger dumpLogger;
+
+    /**
+     * Sets the maximum length of a payload logged by the class loggers.
+     *
+     * @param maxLength maximum payload length in characters
+     */
+    @Autowired
+    public void setMaxLength(@Value("${csac.logging.payload.max-length:2048}") final Integer maxLength) {
+
+        PayloadLogger.setMaxLength(maxLength);
+
+        log.debug("Maximum logged payload length: {}", maxLength);
+    }
+
+    /**
+     * Sets the path of the file receiving the complete payloads. The complete payloads are not written to a file if the path is blank.
+     *
+     * @param dumpPath path of the payload dump file
+     */
+    @Autowired
+    public void setDumpPath(@Value("${csac.logging.payload.dump.path:}") final String dumpPath) {
+
+        log.debug("Payload dump file: {}", dumpPath);
+
+        this.dumpPath = dumpPath;
+    }
+
+    /**
+     * Sets the size of the payload dump file that triggers a rollover, for example {@code 10MB}.
+     *
+     * @param dumpMaxFileSize maximum size of the payload dump file
+     */
+    @Autowired
+    public void setDumpMaxFileSize(@Value("${csac.logging.payload.dump.max-file-size:10MB}") final String dumpMaxFileSize) {
+
+        final String errorMsg = String.format("%s is not a permitted value for the maximum payload dump file size", dumpMaxFileSize);
+
+        if (Objects.isNull(dumpMaxFileSize)) {
+            throw new CsacValidationException(errorMsg);
+        }
+
+        try {
+            this.dumpMaxFileSize = FileSize.valueOf(dumpMaxFileSize);
+        } catch (final IllegalArgumentException e) {
+            throw new CsacValidationException(errorMsg);
+        }
+
+        log.debug("Maximum payload dump file size: {}", this.dumpMaxFileSize);
+    }
+
+    /**
+     * Sets the number of rolled-over payload dump files kept in addition to the current file.
+     *
+     * @param dumpMaxFiles number of rolled-over payload dump files
+     */
+    @Autowired
+    public void setDumpMaxFiles(@Value("${csac.logging.payload.dump.max-files:5}") final Integer dumpMaxFiles) {
+
+        if (Objects.isNull(dumpMaxFiles) || dumpMaxFiles < 1 || dumpMaxFiles > MAX_DUMP_FILES) {
+            throw new CsacValidationException(String.format("%s is not a permitted value for the number of payload dump files", dumpMaxFiles));
+        }
+
+        log.debug("Number of payload dump files: {}", dumpMaxFiles);
+
+        this.dumpMaxFiles = dumpMaxFiles;
+    }
+
+    /**
+     * Directs the {@value PayloadLogger#DUMP_LOGGER_NAME} logger to a rotating payload dump file if a dump file path is configured, or turns it off
+     * otherwise. In either case, the logger never writes to the appenders of the root logger.
+     */
+    @PostConstruct
+    public void init() {
+
+        if (!(LoggerFactory.getILoggerFactory() instanceof final LoggerContext loggerContext)) {
+            if (!Strings.isBlank(this.dumpPath)) {
+                log.warn("Payload dump file {} not supported by the logging system", this.dumpPath);
+            }
+            return;
+        }
+
+        this.dumpLogger = loggerContext.getLogger(PayloadLogger.DUMP_LOGGER_NAME);
+        this.dumpLogger.setAdditive(false);
+
+        if (Strings.isBlank(this.dumpPath)) {
+            // the complete payloads would otherwise be captured and logged wherever the root logger writes
+            this.dumpLogger.setLevel(Level.OFF);
+            return;
+        }
+
+        final PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern(DUMP_PATTERN);
+        encoder.start();
+
+        this.dumpAppender = new RollingFileAppender<>();
+        this.dumpAppender.setContext(loggerContext);
+        this.dumpAppender.setName(DUMP_APPENDER_NAME);
+        this.dumpAppender.setFile(this.dumpPath);
+        this.dumpAppender.setEncoder(encoder);
+
+        final FixedWindowRollingPolicy rollingPolicy = new FixedWindowRollingPolicy();
+        rollingPolicy.setContext(loggerContext);
+        rollingPolicy.setParent(this.dumpAppender);
+        rollingPolicy.setFileNamePattern(this.dumpPath + ".%i");
+        rollingPolicy.setMinIndex(1);
+        rollingPolicy.setMaxIndex(this.dumpMaxFiles);
+        rollingPolicy.start();
+
+        final SizeBasedTriggeringPolicy<ILoggingEvent> triggeringPolicy = new SizeBasedTriggeringPolicy<>();
+        triggeringPolicy.setContext(loggerContext);
+        triggeringPolicy.setMaxFileSize(this.dumpMaxFileSize);
+        triggeringPolicy.start();
+
+        this.dumpAppender.setRollingPolicy(rollingPolicy);
+        this.dumpAppender.setTriggeringPolicy(triggeringPolicy);
+        this.dumpAppender.start();
+
+        this.dumpLogger.addAppender(this.dumpAppender);
+        this.dumpLogger.setLevel(Level.DEBUG);
+
+        log.info("Writing complete payloads to {}", this.dumpPath);
+    }
+
+    /**
+     * Restores the {@value PayloadLogger#DUMP_LOGGER_NAME} logger, and detaches and stops the payload dump file appender, if any.
+     */
+    @Override
+    public void destroy() {
+
+        if (Objects.isNull(this.dumpLogger)) {
+            return;
+        }
+
+        this.dumpLogger.setLevel(null);
+        this.dumpLogger.setAdditive(true);
+
+        if (Objects.nonNull(this.dumpAppender)) {
+            this.dumpLogger.detachAppender(this.dumpAppender);
+            this.dumpAppender.stop();
+            this.dumpAppender = null;
+        }
+
+        this.dumpLogger = null;
+    }
+}
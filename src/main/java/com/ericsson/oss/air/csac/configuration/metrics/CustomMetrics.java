@@ -41,6 +41,13 @@ public enum CustomMetrics {
     PROVISIONING_KPI_TIME_SECONDS("provisioning_kpi_time_seconds"),
     PROVISIONING_PMSC_TIME_SECONDS("provisioning_pmsc_time_seconds"),
     PROVISIONING_TOTAL_TIME_SECONDS("provisioning_total_time_seconds"),
+    PROVISIONING_KPI_RESOLUTION_QUERIES("provisioning_kpi_resolution_queries_int_total"),
+    PROVISIONING_AAS_SCHEMA_MAPPING_CACHE_HITS("provisioning_aas_schema_mapping_cache_hits_total"),
+    PROVISIONING_AAS_SCHEMA_MAPPING_CACHE_MISSES("provisioning_aas_schema_mapping_cache_misses_total"),
+    PROVISIONING_KPI_CACHE_HITS("provisioning_kpi_cache_hits_total"),
+    PROVISIONING_KPI_CACHE_MISSES("provisioning_kpi_cache_misses_total"),
+    PROVISIONING_KPI_CACHE_SIZE("provisioning_kpi_cache_entries_int_total"),
+    PROVISIONING_KPI_CACHE_LOAD_TIME_SECONDS("provisioning_kpi_cache_load_time_seconds"),
     CSAC_FILE_LOAD_ERRORS("file_load_errors_total"),
     DICTIONARY_KPI_DEFS_ERROR("dictionary_kpi_definition_errors_total"),
     DICTIONARY_PM_DEFS_ERROR("dictionary_pm_definition_errors_total"),
@@ -56,7 +63,12 @@ public enum CustomMetrics {
     CONFIGURATION_RESET_TOTAL_ERRORS("configuration_reset_errors_total"),
     CONFIGURATION_RESET_TOTAL_TIME_SECONDS("configuration_reset_total_time_seconds"),
     CONFIGURATION_RESET_INDEX_ERRORS("configuration_reset_index_errors_total"),
-    CONFIGURATION_RESET_INDEX_TIME_SECONDS("configuration_reset_index_time_seconds");
+    CONFIGURATION_RESET_INDEX_TIME_SECONDS("configuration_reset_index_time_seconds"),
+    RECONCILIATION_KPI_DRIFT("reconciliation_kpi_drift_int_total"),
+    RECONCILIATION_AUG_DRIFT("reconciliation_augmentation_drift_int_total"),
+    RECONCILIATION_REPAIRS("reconciliation_repairs_total"),
+    RECONCILIATION_ERRORS("reconciliation_errors_total"),
+    RECONCILIATION_TIME_SECONDS("reconciliation_time_seconds");
 
     public static final String CUSTOM_METRIC_TAG = "csac_custom_metric";
 
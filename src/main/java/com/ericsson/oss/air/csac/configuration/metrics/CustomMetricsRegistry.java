@@ -212,6 +212,83 @@ public class CustomMetricsRegistry {
         return this.registerTimers(CustomMetrics.PROVISIONING_TOTAL_TIME_SECONDS.getMetricName());
     }
 
+    /**
+     * Register the metric to display the number of data store queries issued to resolve the runtime KPIs during the last provisioning run
+     *
+     * @return {@link AtomicLong} query count
+     */
+    @Bean
+    public AtomicLong provisioningKpiResolutionQueryCount() {
+
+        return this.registerErrorCounters(CustomMetrics.PROVISIONING_KPI_RESOLUTION_QUERIES.getMetricName());
+    }
+
+    /**
+     * Register the metric to display the number of AAS schema mapping lookups served from the schema mapping cache
+     *
+     * @return {@link AtomicLong} cache hit count
+     */
+    @Bean
+    public AtomicLong provisioningAasSchemaMappingCacheHits() {
+
+        return this.registerErrorCounters(CustomMetrics.PROVISIONING_AAS_SCHEMA_MAPPING_CACHE_HITS.getMetricName());
+    }
+
+    /**
+     * Register the metric to display the number of AAS schema mapping lookups that required a request to the AAS
+     *
+     * @return {@link AtomicLong} cache miss count
+     */
+    @Bean
+    public AtomicLong provisioningAasSchemaMappingCacheMisses() {
+
+        return this.registerErrorCounters(CustomMetrics.PROVISIONING_AAS_SCHEMA_MAPPING_CACHE_MISSES.getMetricName());
+    }
+
+    /**
+     * Register the metric to display the number of runtime KPI lookups served from the resolved KPI cache
+     *
+     * @return {@link AtomicLong} cache hit count
+     */
+    @Bean
+    public AtomicLong provisioningKpiCacheHits() {
+
+        return this.registerErrorCounters(CustomMetrics.PROVISIONING_KPI_CACHE_HITS.getMetricName());
+    }
+
+    /**
+     * Register the metric to display the number of runtime KPI lookups not found in the resolved KPI cache
+     *
+     * @return {@link AtomicLong} cache miss count
+     */
+    @Bean
+    public AtomicLong provisioningKpiCacheMisses() {
+
+        return this.registerErrorCounters(CustomMetrics.PROVISIONING_KPI_CACHE_MISSES.getMetricName());
+    }
+
+    /**
+     * Register the metric to display the number of runtime KPI instances currently held in the resolved KPI cache
+     *
+     * @return {@link AtomicLong} cache size
+     */
+    @Bean
+    public AtomicLong provisioningKpiCacheSize() {
+
+        return this.registerErrorCounters(CustomMetrics.PROVISIONING_KPI_CACHE_SIZE.getMetricName());
+    }
+
+    /**
+     * Register the metric to display the time taken to preload the resolved KPI cache from the runtime data store
+     *
+     * @return {@link AtomicDouble} elapsed time
+     */
+    @Bean
+    public AtomicDouble provisioningKpiCacheLoadTime() {
+
+        return this.registerTimers(CustomMetrics.PROVISIONING_KPI_CACHE_LOAD_TIME_SECONDS.getMetricName());
+    }
+
     /**
      * Register the metric to display the number of augmentation definitions currently in the data dictionary
      *
@@ -359,6 +436,61 @@ public class CustomMetricsRegistry {
         return registerErrorCounters(CustomMetrics.CONFIGURATION_RESET_TOTAL_ERRORS.getMetricName());
     }
 
+    /**
+     * Registers the metric to report the number of runtime KPI instances found to differ from the PMSC by the latest drift reconciliation
+     *
+     * @return {@link AtomicLong} differing item count
+     */
+    @Bean
+    public AtomicLong reconciliationKpiDrift() {
+
+        return registerErrorCounters(CustomMetrics.RECONCILIATION_KPI_DRIFT.getMetricName());
+    }
+
+    /**
+     * Registers the metric to report the number of effective augmentations found to differ from the AAS by the latest drift reconciliation
+     *
+     * @return {@link AtomicLong} differing item count
+     */
+    @Bean
+    public AtomicLong reconciliationAugmentationDrift() {
+
+        return registerErrorCounters(CustomMetrics.RECONCILIATION_AUG_DRIFT.getMetricName());
+    }
+
+    /**
+     * Registers the metric to report the total number of differing items repaired by drift reconciliation
+     *
+     * @return {@link AtomicLong} repair counter
+     */
+    @Bean
+    public AtomicLong reconciliationRepairs() {
+
+        return registerErrorCounters(CustomMetrics.RECONCILIATION_REPAIRS.getMetricName());
+    }
+
+    /**
+     * Registers the metric to report the total number of errors encountered by drift reconciliation
+     *
+     * @return {@link AtomicLong} error counter
+     */
+    @Bean
+    public AtomicLong reconciliationErrors() {
+
+        return registerErrorCounters(CustomMetrics.RECONCILIATION_ERRORS.getMetricName());
+    }
+
+    /**
+     * Registers the metric to report the elapsed time taken by the latest drift reconciliation
+     *
+     * @return {@link AtomicDouble} elapsed time
+     */
+    @Bean
+    public AtomicDouble reconciliationTime() {
+
+        return this.registerTimers(CustomMetrics.RECONCILIATION_TIME_SECONDS.getMetricName());
+    }
+
     private AtomicDouble registerTimers(final String metricName) {
         final AtomicDouble gaugeValue = new AtomicDouble();
 
@@ -10,6 +10,7 @@
 
 package com.ericsson.oss.air.csac.configuration.schema;
 
+import java.util.List;
 import java.util.Set;
 
 import com.ericsson.oss.air.csac.model.PMDefinition;
@@ -21,5 +22,15 @@ public interface InputSchemaProvider {
 
     String getSchemaReference(ProfileDefinition profile, PMDefinition pmDefinition);
 
+    /**
+     * Prefetches the augmented schema mappings for all augmentations referenced by the provided profiles, so that subsequent calls to
+     * {@link #getSchemaReference(ProfileDefinition, PMDefinition)} do not need to query the AAS.
+     *
+     * @param profiles profiles that will be resolved
+     */
+    default void prefetchSchemaMappings(final List<ProfileDefinition> profiles) {
+        // no augmented schemas to prefetch by default
+    }
+
     PmSchema getSchema(String schemaReference);
 }
@@ -13,11 +13,13 @@ package com.ericsson.oss.air.csac.configuration.schema.impl;
 import static com.ericsson.oss.air.csac.model.datacatalog.MessageSchemaDTO.SPEC_REF_PATTERN;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Matcher;
+import java.util.stream.Collectors;
 
 import com.ericsson.oss.air.csac.configuration.schema.InputSchemaProvider;
 import com.ericsson.oss.air.csac.model.AugmentationDefinition;
@@ -29,7 +31,7 @@ import com.ericsson.oss.air.csac.model.pmschema.PmSchema;
 import com.ericsson.oss.air.csac.repository.AugmentationDefinitionDAO;
 import com.ericsson.oss.air.csac.service.DataCatalogService;
 import com.ericsson.oss.air.csac.service.SchemaRegistryService;
-import com.ericsson.oss.air.csac.service.augmentation.AugmentationProvisioningService;
+import com.ericsson.oss.air.csac.service.augmentation.AugmentationSchemaMappingCache;
 import com.ericsson.oss.air.exception.CsacValidationException;
 import com.ericsson.oss.air.util.logging.FaultHandler;
 import lombok.RequiredArgsConstructor;
@@ -54,7 +56,7 @@ public class LiveInputSchemaProvider implements InputSchemaProvider {
 
     private final AugmentationDefinitionDAO augmentationDefinitionDAO;
 
-    private final AugmentationProvisioningService augmentationService;
+    private final AugmentationSchemaMappingCache schemaMappingCache;
 
     /**
      * Prefetches the input schemas identified in the set of schema references. This will ensure the local availability of all schemas referenced in
@@ -88,8 +90,8 @@ public class LiveInputSchemaProvider implements InputSchemaProvider {
 
     /**
      * Returns a SchemaReference representing the source of the specified PMDefinition. If the profile is augmented, the returned reference will
-     * represent the augmented schema. Otherwise, the parser schema reference will be returned. Augmented schema references are obtained directly from
-     * the AAS via the AugmentationProvisioningService.
+     * represent the augmented schema. Otherwise, the parser schema reference will be returned. Augmented schema references are obtained from the AAS
+     * via the {@link AugmentationSchemaMappingCache}, which queries the AAS at most once per augmentation in each provisioning run.
      *
      * @param profile      profile definition containing the context for this PMDefinition.
      * @param pmDefinition PM definition specifying the PM schema source.
@@ -109,14 +111,33 @@ public class LiveInputSchemaProvider implements InputSchemaProvider {
             // return parser schema reference
             return parserSchemaReference;
         }
-        // If profile is augmented, return augmented schema reference from schema mappings returned from AAS (via AugmentationProvisioningService) else return parser schema.
-        final Map<String, String> schemaMappings = this.augmentationService.getSchemaMappings(profile.getAugmentation());
+        // If profile is augmented, return augmented schema reference from schema mappings returned from AAS (via the schema mapping cache) else return parser schema.
+        final Map<String, String> schemaMappings = this.schemaMappingCache.getSchemaMappings(profile.getAugmentation());
 
         final Optional<String> augmentedSchemaReference = Optional.ofNullable(schemaMappings.get(pmDefinition.getSource()));
 
         return augmentedSchemaReference.orElse(parserSchemaReference);
     }
 
+    /**
+     * Prefetches the AAS schema mappings for all augmentations referenced by the provided profiles that exist in the data dictionary. Schema
+     * mappings that are not already cached are retrieved concurrently.
+     *
+     * @param profiles profiles that will be resolved
+     */
+    @Override
+    public void prefetchSchemaMappings(final List<ProfileDefinition> profiles) {
+
+        final Set<String> augmentationNames = profiles.stream()
+                .map(ProfileDefinition::getAugmentation)
+                .filter(Objects::nonNull)
+                .distinct()
+                .filter(augmentationName -> this.augmentationDefinitionDAO.findById(augmentationName).isPresent())
+                .collect(Collectors.toSet());
+
+        this.schemaMappingCache.prefetch(augmentationNames);
+    }
+
     /**
      * Returns the schema represented by the specified schema reference. This method will attempt to resolve the Schema object from its internal cache.  If not present, it will read the
      * latest version of the schema from the Data Catalog and Schema Registry and cache it before returning it.
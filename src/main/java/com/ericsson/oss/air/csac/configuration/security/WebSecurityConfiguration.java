@@ -10,6 +10,7 @@
 
 package com.ericsson.oss.air.csac.configuration.security;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -17,9 +18,11 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.web.SecurityFilterChain;
 
 /**
- * Web security filter.  Currently, this filter chain ensures that all the default Spring Security headers are applied to all responses.
+ * Web security filter.  Currently, this filter chain ensures that all the default Spring Security headers are applied to all responses.  The filter
+ * is not created when CSAC runs without a web server, for example in plan mode.
  */
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class WebSecurityConfiguration {
 
     @Bean
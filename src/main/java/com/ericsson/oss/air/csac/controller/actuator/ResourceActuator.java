@@ -10,18 +10,20 @@
 
 package com.ericsson.oss.air.csac.controller.actuator;
 
-import java.io.IOException;
-
-import com.ericsson.oss.air.CsacEntryPoint;
+import com.ericsson.oss.air.csac.handler.reload.ReloadJob;
+import com.ericsson.oss.air.csac.handler.reload.ReloadJobHandler;
 import com.ericsson.oss.air.csac.handler.reset.ResetConfigurationHandler;
 import com.ericsson.oss.air.csac.handler.status.ProvisioningTracker;
 import com.ericsson.oss.air.csac.model.runtime.ProvisioningState;
+import com.ericsson.oss.air.exception.CsacNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.actuate.endpoint.web.annotation.RestControllerEndpoint;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 
 /**
@@ -43,7 +45,9 @@ import org.springframework.web.bind.annotation.PostMapping;
  * <p>
  * <br/><strong>Reload</strong><br/>
  * <p>
- * Reload loads the dictionary resources and initiates the full provisioning flow in the same way as restarting CSAC.
+ * Reload loads the dictionary resources and initiates the full provisioning flow in the same way as restarting CSAC. The reload runs asynchronously
+ * as a reload job: the request returns immediately with the job, whose status and progress can then be queried using its ID.  Reload requests
+ * received while a reload job is queued are served by that job.
  * <p>
  * A scenario where this might be needed is after modifying one of the CSAC resource files when doing local development or updating one of the CSAC
  * resource config maps if deploying to a Kubernetes cluster.  If provisioning includes targets that do not support incremental updates, the reset
@@ -54,29 +58,35 @@ import org.springframework.web.bind.annotation.PostMapping;
 @RequiredArgsConstructor
 public class ResourceActuator {
 
-    private final CsacEntryPoint csacEntryPoint;
+    private final ReloadJobHandler reloadJobHandler;
 
     private final ResetConfigurationHandler resetHandler;
 
     private final ProvisioningTracker provisioningTracker;
 
     /**
-     * Forces CSAC to reload its resource configuration.
+     * Forces CSAC to reload its resource configuration. The reload runs asynchronously.
      *
-     * @return Simple string message indicating that the configuration has been reloaded
-     * @throws IOException if an error occurs while loading resource files
+     * @return the reload job serving this request, with a 202 - Accepted status code
      */
     @PostMapping("/reload")
-    public ResponseEntity<String> reloadResources() throws IOException {
-
-        if (ProvisioningState.State.STARTED == this.provisioningTracker.currentProvisioningState().getProvisioningState()) {
-            throw new UnsupportedOperationException(
-                    "Unable to reload resources. Conflict with current provisioning state: " + ProvisioningState.State.STARTED.name());
-        }
+    public ResponseEntity<ReloadJob> reloadResources() {
+        return ResponseEntity.accepted().body(this.reloadJobHandler.submit());
+    }
 
-        this.csacEntryPoint.startProvisioning();
+    /**
+     * Returns the status and progress of a reload job.
+     *
+     * @param jobId reload job ID, as returned by the reload request
+     * @return the reload job with the specified ID
+     * @throws CsacNotFoundException if the reload job does not exist or is no longer retained
+     */
+    @GetMapping("/reload/{jobId}")
+    public ResponseEntity<ReloadJob> getReloadJob(@PathVariable final String jobId) {
 
-        return ResponseEntity.ok("CSAC resource configuration reloaded\n");
+        return this.reloadJobHandler.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new CsacNotFoundException("Reload job not found: " + jobId));
     }
 
     /**
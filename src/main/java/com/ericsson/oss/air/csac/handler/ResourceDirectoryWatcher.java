@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.handler;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import com.ericsson.oss.air.CsacEntryPoint;
+import com.ericsson.oss.air.csac.configuration.ResourceProperties;
+import com.ericsson.oss.air.csac.handler.reload.ReloadJob;
+import com.ericsson.oss.air.csac.handler.reload.ReloadJobHandler;
+import com.ericsson.oss.air.exception.CsacValidationException;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Watches the resource directory and triggers an incremental reload of the changed resource files. Any change in the directory triggers the reload,
+ * as a mounted ConfigMap is updated by atomically replacing a hidden data directory rather than by modifying the resource files themselves.
+ * <p>
+ * Changes are debounced: the reload starts once no further change has been detected for the configured debounce period, so a ConfigMap update
+ * touching several files results in a single reload. Each reload is submitted as an incremental job to the {@link ReloadJobHandler}, so it is
+ * queued behind or coalesced with any other reload and its status can be queried like any other reload job. Only the resource files whose content
+ * has changed are reloaded and validated. See {@link CsacEntryPoint#reloadChangedResources()}.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "csac.resource.watch.enabled", havingValue = "true")
+public class ResourceDirectoryWatcher implements DisposableBean {
+
+    private final ResourceProperties resourceProperties;
+
+    private final ReloadJobHandler reloadJobHandler;
+
+    @Getter(AccessLevel.PACKAGE) // Getter for unit tests only
+    private long debounceMillis = 5000;
+
+    private WatchService watchService;
+
+    private Thread watcherThread;
+
+    /**
+     * Sets the period in milliseconds during which no further change must be detected before the changed resource files are reloaded.
+     *
+     * @param debounceMillis debounce period in milliseconds
+     */
+    @Autowired
+    public void setDebounceMillis(@Value("${csac.resource.watch.debounce:5000}") final Long debounceMillis) {
+
+        if (Objects.isNull(debounceMillis) || debounceMillis < 1) {
+            throw new CsacValidationException(String.format("%s is not a permitted value for the resource watch debounce period", debounceMillis));
+        }
+
+        log.debug("Resource watch debounce period: {} ms", debounceMillis);
+
+        this.debounceMillis = debounceMillis;
+    }
+
+    /**
+     * Starts watching the resource directory.
+     *
+     * @throws IOException if the resource directory cannot be watched
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() throws IOException {
+
+        final Path resourceDirectory = this.resourceProperties.getResourcePath();
+
+        this.watchService = resourceDirectory.getFileSystem().newWatchService();
+        resourceDirectory.register(this.watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+
+        this.watcherThread = new Thread(this::watch, "csac-resource-watcher");
+        this.watcherThread.setDaemon(true);
+        this.watcherThread.start();
+
+        log.info("Watching resource directory {} for changes", resourceDirectory);
+    }
+
+    /**
+     * Stops watching the resource directory.
+     *
+     * @throws IOException if an error occurs closing the watch service
+     */
+    @Override
+    public void destroy() throws IOException {
+
+        if (Objects.nonNull(this.watcherThread)) {
+            this.watcherThread.interrupt();
+        }
+
+        if (Objects.nonNull(this.watchService)) {
+            this.watchService.close();
+        }
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Reloads the changed resource files after each debounced change in the resource directory until the watcher is stopped.
+     */
+    private void watch() {
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                this.awaitChanges();
+                this.reload();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ClosedWatchServiceException e) {
+            log.debug("Resource directory watch service closed");
+        }
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Blocks until a change is detected in the resource directory and no further change has been detected for the debounce period.
+     */
+    private void awaitChanges() throws InterruptedException {
+
+        WatchKey watchKey = this.watchService.take();
+
+        do {
+            watchKey.pollEvents();
+
+            if (!watchKey.reset()) {
+                log.warn("Resource directory {} can no longer be watched", this.resourceProperties.getResourcePath());
+                throw new ClosedWatchServiceException();
+            }
+
+            watchKey = this.watchService.poll(this.debounceMillis, TimeUnit.MILLISECONDS);
+        } while (Objects.nonNull(watchKey));
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Submits an incremental reload job for the changed resource files. A failed job is logged by the reload job handler and the directory is still
+     * watched, so that a corrected resource file is picked up by the next change.
+     */
+    private void reload() {
+
+        final ReloadJob job = this.reloadJobHandler.submit(true);
+
+        log.info("Resource directory changed. Reload job {} will reload the changed resource files", job.getId());
+    }
+}
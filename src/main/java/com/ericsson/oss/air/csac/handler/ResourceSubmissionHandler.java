@@ -12,17 +12,27 @@ package com.ericsson.oss.air.csac.handler;
 
 import com.ericsson.oss.air.csac.configuration.ResourceProperties;
 import com.ericsson.oss.air.exception.CsacValidationException;
+import com.ericsson.oss.air.util.codec.Digest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -37,6 +47,33 @@ public class ResourceSubmissionHandler {
 
     private final ResourceProperties resourceProperties;
 
+    @Value("${info.app.version:}")
+    private String applicationVersion;
+
+    @Value("${provisioning.aas.enabled:false}")
+    private boolean isAasEnabled;
+
+    @Value("${provisioning.index.enabled:false}")
+    private boolean isIndexEnabled;
+
+    @Value("${provisioning.pmsc.enabled:false}")
+    private boolean isPmscEnabled;
+
+    @Value("${provisioning.vm.enabled:false}")
+    private boolean isVmEnabled;
+
+    @Value("${provisioning.pmsc.aggregationPeriod.default:15}")
+    private int defaultAggregationPeriod;
+
+    @Value("${provisioning.pmsc.data.reliabilityOffset:0}")
+    private int dataReliabilityOffset;
+
+    @Value("${provisioning.pmsc.restClient.legacy:false}")
+    private boolean isLegacyPmscClient;
+
+    @Value("${provisioning.index.legacy:true}")
+    private boolean isLegacyIndexClient;
+
     @Autowired
     public ResourceSubmissionHandler(final ResourceProperties resourceProperties) {
         this.resourceProperties = resourceProperties;
@@ -83,6 +120,85 @@ public class ResourceSubmissionHandler {
         return Collections.unmodifiableList(resourceFileList);
     }
 
+    /**
+     * Returns a fingerprint of the provided ordered list of resource files. The fingerprint is a SHA-256 hex string calculated from the name and
+     * content of each file in the order provided, so it changes if a file is added, removed, reordered, renamed or modified.
+     * <p>
+     * The fingerprint also covers the application version, the enabled provisioning targets and the settings that change the provisioned
+     * resources, such as the default aggregation period, so it changes on upgrade or when such a setting changes, even if the resource files are
+     * unchanged.
+     * <p>
+     * The files are streamed through the digest and are not parsed.
+     *
+     * @param resourceFiles ordered list of resource files, as returned by {@link #getOrderedResourceList()}
+     * @return a 64-character hexadecimal fingerprint of the resource files
+     * @throws IOException if an error occurs while reading a resource file
+     */
+    public String getResourceFingerprint(final List<Path> resourceFiles) throws IOException {
+        return this.getResourceFingerprint(this.getContentDigests(resourceFiles));
+    }
+
+    /**
+     * Returns a fingerprint of the resource files with the provided content digests. This is equivalent to
+     * {@link #getResourceFingerprint(List)} but does not read the files again.
+     *
+     * @param contentDigests ordered map of resource file content digests, as returned by {@link #getContentDigests(List)}
+     * @return a 64-character hexadecimal fingerprint of the resource files
+     */
+    public String getResourceFingerprint(final Map<Path, String> contentDigests) {
+
+        final MessageDigest fingerprint = Digest.newMessageDigest(Digest.Algorithm.SHA256);
+
+        fingerprint.update(this.getDeploymentConfiguration().getBytes(StandardCharsets.UTF_8));
+        fingerprint.update((byte) 0);
+
+        for (final Map.Entry<Path, String> contentDigest : contentDigests.entrySet()) {
+
+            fingerprint.update(contentDigest.getKey().getFileName().toString().getBytes(StandardCharsets.UTF_8));
+            fingerprint.update((byte) 0);
+            fingerprint.update(HexFormat.of().parseHex(contentDigest.getValue()));
+        }
+
+        return HexFormat.of().formatHex(fingerprint.digest());
+    }
+
+    /**
+     * Returns the SHA-256 content digest of each of the provided resource files, in the order provided. The files are streamed through the digest
+     * and are not parsed.
+     *
+     * @param resourceFiles ordered list of resource files
+     * @return ordered map of 64-character hexadecimal content digests keyed by resource file
+     * @throws IOException if an error occurs while reading a resource file
+     */
+    public Map<Path, String> getContentDigests(final List<Path> resourceFiles) throws IOException {
+
+        final Map<Path, String> contentDigests = new LinkedHashMap<>();
+        final MessageDigest contentDigest = Digest.newMessageDigest(Digest.Algorithm.SHA256);
+
+        for (final Path resourceFile : resourceFiles) {
+
+            try (final InputStream in = new DigestInputStream(Files.newInputStream(resourceFile), contentDigest)) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+
+            // digest() also resets the content digest for the next file
+            contentDigests.put(resourceFile, HexFormat.of().formatHex(contentDigest.digest()));
+        }
+
+        return contentDigests;
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns the deployment configuration that determines what is provisioned from an unchanged set of resource files.
+     */
+    private String getDeploymentConfiguration() {
+        return String.format("version=%s;aas=%s;index=%s;pmsc=%s;vm=%s;aggregationPeriod=%d;reliabilityOffset=%d;pmscLegacy=%s;indexLegacy=%s",
+                this.applicationVersion, this.isAasEnabled, this.isIndexEnabled, this.isPmscEnabled, this.isVmEnabled, this.defaultAggregationPeriod,
+                this.dataReliabilityOffset, this.isLegacyPmscClient, this.isLegacyIndexClient);
+    }
+
     private List<Path> getOutOfBoxResourcePaths(final Path resourceDirectory) {
 
         final List<Path> resourceFileList = new ArrayList<>();
@@ -27,12 +27,14 @@ import com.ericsson.oss.air.csac.model.augmentation.AugmentationRuleRequestDto;
 import com.ericsson.oss.air.csac.repository.AugmentationDefinitionDAO;
 import com.ericsson.oss.air.csac.repository.EffectiveAugmentationDAO;
 import com.ericsson.oss.air.csac.service.augmentation.AugmentationProvisioningService;
+import com.ericsson.oss.air.csac.service.augmentation.AugmentationSchemaMappingCache;
 import com.ericsson.oss.air.exception.CsacConsistencyCheckException;
+import com.ericsson.oss.air.util.ChangeSet;
 import com.ericsson.oss.air.util.DiffEngine;
-import com.ericsson.oss.air.util.codec.Codec;
 import com.ericsson.oss.air.util.logging.FaultHandler;
+import com.ericsson.oss.air.util.logging.payload.PayloadLogFactory;
+import com.ericsson.oss.air.util.logging.payload.PayloadLogger;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Primary;
@@ -50,6 +52,8 @@ import org.springframework.util.ObjectUtils;
 @RequiredArgsConstructor
 public class LiveAugmentationHandler implements AugmentationHandler {
 
+    private static final PayloadLogger PAYLOAD_LOGGER = PayloadLogFactory.getLogger(LiveAugmentationHandler.class);
+
     private final AugmentationDefinitionDAO augmentationDefinitionDAO;
 
     private final EffectiveAugmentationDAO effectiveAugmentationDAO;
@@ -62,10 +66,10 @@ public class LiveAugmentationHandler implements AugmentationHandler {
 
     private final AugmentationProvisioningService augmentationProvisioningService;
 
-    private final Codec codec;
-
     private final ConsistencyCheckHandler consistencyCheckHandler;
 
+    private final AugmentationSchemaMappingCache schemaMappingCache;
+
     /**
      * {@inheritDoc}
      * <br>
@@ -80,7 +84,6 @@ public class LiveAugmentationHandler implements AugmentationHandler {
      *
      * @param pendingProfiles list of pending profiles in the current resource submission.
      */
-    @SneakyThrows
     @Override
     public void submit(final List<ProfileDefinition> pendingProfiles) {
 
@@ -90,7 +93,8 @@ public class LiveAugmentationHandler implements AugmentationHandler {
         }
 
         final List<AugmentationDefinition> candidateList = this.getEffectiveAugmentations(pendingProfiles);
-        log.info("Effective Augmentations: {}", this.codec.writeValueAsString(candidateList));
+        log.info("Number of effective augmentations: {}", candidateList.size());
+        PAYLOAD_LOGGER.debug("Effective Augmentations: {}", candidateList);
 
         final List<AugmentationDefinition> sourceList = this.effectiveAugmentationDAO.findAll();
         final DiffEngine<AugmentationDefinition> diffCalculator = this.calculator.builder()
@@ -98,9 +102,11 @@ public class LiveAugmentationHandler implements AugmentationHandler {
                 .source(sourceList)
                 .build();
 
-        createAugmentations(diffCalculator.getAdded(candidateList), pendingProfiles);
-        updateAugmentations(diffCalculator.getUpdated(candidateList), pendingProfiles);
-        deleteAugmentations(diffCalculator.getDeleted(candidateList));
+        final ChangeSet<AugmentationDefinition> changeSet = diffCalculator.diff(candidateList);
+
+        createAugmentations(changeSet.getAdded(), pendingProfiles);
+        updateAugmentations(changeSet.getUpdated(), pendingProfiles);
+        deleteAugmentations(changeSet.getDeleted());
 
         log.info("AAS provisioning completed successfully.");
 
@@ -144,7 +150,6 @@ public class LiveAugmentationHandler implements AugmentationHandler {
         return effectiveAugmentationDefList;
     }
 
-    @SneakyThrows
     protected void createAugmentations(final List<AugmentationDefinition> augmentationDefinitionList,
                                        final List<ProfileDefinition> profileList) {
 
@@ -157,6 +162,7 @@ public class LiveAugmentationHandler implements AugmentationHandler {
                     .collect(Collectors.toList());
 
             augmentationProvisioningService.create(augmentationRequestDtoList);
+            invalidateSchemaMappings(augmentationDefinitionList);
 
             for (final AugmentationDefinition augmentationDefinition : augmentationDefinitionList) {
                 final List<String> affectedProfiles = profileList.stream()
@@ -168,15 +174,14 @@ public class LiveAugmentationHandler implements AugmentationHandler {
 
                 log.debug("Augmentation '{}' is associated with profile(s): {}",
                         augmentationDefinition.getName(),
-                        codec.writeValueAsString(affectedProfiles));
+                        affectedProfiles);
             }
         }
 
         log.info("Number of augmentations created: {}", augmentationRequestDtoList.size());
-        log.debug("Created augmentations json: {}", this.codec.writeValueAsStringPretty(augmentationRequestDtoList));
+        PAYLOAD_LOGGER.debug("Created augmentations json: {}", augmentationRequestDtoList);
     }
 
-    @SneakyThrows
     protected void updateAugmentations(final List<AugmentationDefinition> augmentationDefinitionList,
                                        final List<ProfileDefinition> profileList) {
 
@@ -188,6 +193,7 @@ public class LiveAugmentationHandler implements AugmentationHandler {
                     .collect(Collectors.toList());
 
             augmentationProvisioningService.update(augmentationRequestDtoList);
+            invalidateSchemaMappings(augmentationDefinitionList);
 
             for (final AugmentationDefinition augmentationDefinition : augmentationDefinitionList) {
                 final List<String> affectedProfiles = profileList.stream()
@@ -199,15 +205,14 @@ public class LiveAugmentationHandler implements AugmentationHandler {
 
                 log.debug("Augmentation '{}' is associated with profile(s): {}",
                         augmentationDefinition.getName(),
-                        codec.writeValueAsString(affectedProfiles));
+                        affectedProfiles);
             }
         }
 
         log.info("Number of augmentations updated: {}", augmentationRequestDtoList.size());
-        log.debug("Updated augmentations json: {}", this.codec.writeValueAsStringPretty(augmentationRequestDtoList));
+        PAYLOAD_LOGGER.debug("Updated augmentations json: {}", augmentationRequestDtoList);
     }
 
-    @SneakyThrows
     protected void deleteAugmentations(final List<AugmentationDefinition> augmentationDefinitionList) {
 
         List<AugmentationRequestDto> augmentationRequestDtoList = new ArrayList<>();
@@ -219,6 +224,7 @@ public class LiveAugmentationHandler implements AugmentationHandler {
                     .collect(Collectors.toList());
 
             this.augmentationProvisioningService.delete(augmentationRequestDtoList);
+            invalidateSchemaMappings(augmentationDefinitionList);
 
             augmentationDefinitionList.stream()
                     .forEach(augmentationDefinition -> {
@@ -234,7 +240,7 @@ public class LiveAugmentationHandler implements AugmentationHandler {
         }
 
         log.info("Number of augmentations deleted: {}", augmentationRequestDtoList.size());
-        log.debug("Deleted augmentations json: {}", this.codec.writeValueAsStringPretty(augmentationRequestDtoList));
+        PAYLOAD_LOGGER.debug("Deleted augmentations json: {}", augmentationRequestDtoList);
     }
 
     /*
@@ -302,6 +308,15 @@ public class LiveAugmentationHandler implements AugmentationHandler {
         return ObjectUtils.isEmpty(ardqType) || ardqType.trim().isEmpty();
     }
 
+    /*
+     * (non-javadoc)
+     *
+     * Removes the cached AAS schema mappings of the created, updated or deleted augmentations.
+     */
+    private void invalidateSchemaMappings(final List<AugmentationDefinition> augmentationDefinitionList) {
+        this.schemaMappingCache.invalidate(augmentationDefinitionList.stream().map(AugmentationDefinition::getName).toList());
+    }
+
     private void consistencyCheckOnDBOperation(final AugmentationDefinition augmentationDefinition, final List<String> affectedProfiles) {
         try {
             this.effectiveAugmentationDAO.save(augmentationDefinition, affectedProfiles);
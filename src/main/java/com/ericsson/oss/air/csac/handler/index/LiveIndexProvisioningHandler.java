@@ -35,6 +35,7 @@ import com.ericsson.oss.air.csac.repository.DeployedKpiDefDAO;
 import com.ericsson.oss.air.csac.repository.KPIDefinitionDAO;
 import com.ericsson.oss.air.csac.service.index.IndexerProvisioningService;
 import com.ericsson.oss.air.exception.CsacConsistencyCheckException;
+import com.ericsson.oss.air.util.codec.ContentDigest;
 import com.ericsson.oss.air.util.operator.StatefulSequentialOperator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -234,13 +235,13 @@ public class LiveIndexProvisioningHandler extends IndexProvisioningHandler {
      */
     protected ServiceUpdateHandler.ServiceUpdateType getUpdateType(final DeployedIndexDefinitionDto indexDto) {
 
-        final Optional<DeployedIndexDefinitionDto> existing = this.indexDefinitionDao.findById(indexDto.indexDefinitionName());
+        final Optional<String> existingDigest = this.indexDefinitionDao.findDigestById(indexDto.indexDefinitionName());
 
-        if (existing.isEmpty()) {
+        if (existingDigest.isEmpty()) {
             return ServiceUpdateHandler.ServiceUpdateType.CREATE;
         }
 
-        if (indexDto.equals(existing.get())) {
+        if (existingDigest.get().equals(ContentDigest.of(indexDto))) {
             return ServiceUpdateHandler.ServiceUpdateType.NO_OP;
         }
 
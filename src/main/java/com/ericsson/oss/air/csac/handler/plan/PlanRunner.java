@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.handler.plan;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.ericsson.oss.air.util.codec.Codec;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.logging.log4j.util.Strings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs CSAC in plan mode. The provisioning plan for the resource directory is calculated and written as JSON to the file specified by
+ * {@code csac.plan.output}, or to standard output if no file is specified, and the application then exits. The exit code is 0 if the plan was
+ * calculated and 1 if the resource files are invalid or the plan could not be calculated, so plan mode can be used to gate resource changes in a
+ * pipeline.
+ * <p>
+ * Log events are written to standard error in plan mode, so standard output contains only the plan.
+ * <p>
+ * The plan is calculated before the application is ready, so the regular CSAC bootstrap is never executed in plan mode.
+ */
+@Component
+@Profile({ "plan" })
+@Slf4j
+@RequiredArgsConstructor
+public class PlanRunner implements ApplicationRunner {
+
+    static final int EXIT_SUCCESS = 0;
+
+    static final int EXIT_FAILURE = 1;
+
+    private final ProvisioningPlanner provisioningPlanner;
+
+    private final Codec codec;
+
+    private final ConfigurableApplicationContext applicationContext;
+
+    /*
+     * Path of the file the provisioning plan is written to. If empty, the plan is written to standard output.
+     */
+    @Value("${csac.plan.output:}")
+    @Setter(AccessLevel.PACKAGE) // used only for unit tests
+    private String output;
+
+    /*
+     * Stream the provisioning plan is written to if no output file is configured.
+     */
+    @Setter(AccessLevel.PACKAGE) // used only for unit tests
+    private OutputStream standardOutput = System.out;
+
+    @Override
+    public void run(final ApplicationArguments args) {
+
+        final int exitCode = this.execute();
+
+        System.exit(SpringApplication.exit(this.applicationContext, () -> exitCode));
+    }
+
+    /**
+     * Calculates and writes the provisioning plan.
+     *
+     * @return the plan mode exit code
+     */
+    int execute() {
+
+        try {
+            this.write(this.provisioningPlanner.plan());
+            return EXIT_SUCCESS;
+        } catch (final Exception e) {
+            log.error("Unable to calculate the provisioning plan", e);
+            return EXIT_FAILURE;
+        }
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Writes the provisioning plan to the output file, or to standard output if no output file is configured.
+     */
+    private void write(final ProvisioningPlan plan) throws IOException {
+
+        if (Strings.isBlank(this.output)) {
+            this.codec.writeValuePretty(this.standardOutput, plan);
+            this.standardOutput.write(System.lineSeparator().getBytes(StandardCharsets.UTF_8));
+            this.standardOutput.flush();
+            return;
+        }
+
+        final Path outputPath = Path.of(this.output);
+
+        try (final OutputStream out = new BufferedOutputStream(Files.newOutputStream(outputPath))) {
+            this.codec.writeValuePretty(out, plan);
+        }
+
+        log.info("Provisioning plan written to {}", outputPath);
+    }
+}
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.handler.plan;
+
+import java.util.Map;
+
+import com.ericsson.oss.air.csac.handler.reload.ReloadStage;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Statistics for a {@link ProvisioningPlan}. The table fan-out is the number of runtime KPIs written to a single PMSC output table.
+ */
+@Getter
+@Builder
+@JsonPropertyOrder({ "resourceFiles", "pmDefinitions", "kpiDefinitions", "profileDefinitions", "augmentationDefinitions", "runtimeKpis",
+        "outputTables", "maxTableFanOut", "meanTableFanOut", "augmentations", "indexes", "indexWriters", "stageMillis", "totalMillis" })
+public class PlanStatistics {
+
+    private final int resourceFiles;
+
+    private final int pmDefinitions;
+
+    private final int kpiDefinitions;
+
+    private final int profileDefinitions;
+
+    private final int augmentationDefinitions;
+
+    private final int runtimeKpis;
+
+    private final int outputTables;
+
+    private final int maxTableFanOut;
+
+    private final double meanTableFanOut;
+
+    private final int augmentations;
+
+    private final int indexes;
+
+    private final int indexWriters;
+
+    /**
+     * Elapsed time in milliseconds for each data flow stage that was executed.
+     */
+    private final Map<ReloadStage, Long> stageMillis;
+
+    private final long totalMillis;
+}
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.handler.plan;
+
+import java.util.List;
+
+import com.ericsson.oss.air.csac.model.AugmentationDefinition;
+import com.ericsson.oss.air.csac.model.pmsc.KpiTypeEnum;
+import com.ericsson.oss.air.csac.model.runtime.RuntimeKpiInstance;
+import com.ericsson.oss.air.csac.model.runtime.index.DeployedIndexDefinitionDto;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * The complete provisioning plan calculated for a set of resource files: the runtime KPIs instantiated from the profile definitions, the PMSC
+ * output tables they are written to, the augmentations registered with the Assurance Augmentation Service and the index definitions and writers
+ * registered with the Assurance Indexer.
+ */
+@Getter
+@Builder
+@JsonPropertyOrder({ "statistics", "runtimeKpis", "outputTables", "augmentations", "indexes" })
+public class ProvisioningPlan {
+
+    private final PlanStatistics statistics;
+
+    private final List<RuntimeKpiInstance> runtimeKpis;
+
+    private final List<OutputTable> outputTables;
+
+    private final List<AugmentationDefinition> augmentations;
+
+    private final List<DeployedIndexDefinitionDto> indexes;
+
+    /**
+     * A PMSC KPI output table and the names of the runtime KPIs written to it.
+     *
+     * @param name    output table name
+     * @param kpiType type of the runtime KPIs written to the table
+     * @param kpis    names of the runtime KPIs written to the table
+     */
+    public record OutputTable(String name, KpiTypeEnum kpiType, List<String> kpis) {
+    }
+}
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.handler.plan;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.StreamSupport;
+
+import com.ericsson.oss.air.CsacEntryPoint;
+import com.ericsson.oss.air.csac.handler.ResourceSubmissionHandler;
+import com.ericsson.oss.air.csac.handler.plan.ProvisioningPlan.OutputTable;
+import com.ericsson.oss.air.csac.handler.reload.ReloadStage;
+import com.ericsson.oss.air.csac.model.AugmentationDefinition;
+import com.ericsson.oss.air.csac.model.pmsc.KpiDefinitionDTO;
+import com.ericsson.oss.air.csac.model.runtime.RuntimeKpiInstance;
+import com.ericsson.oss.air.csac.model.runtime.index.DeployedIndexDefinitionDto;
+import com.ericsson.oss.air.csac.repository.AugmentationDefinitionDAO;
+import com.ericsson.oss.air.csac.repository.DeployedIndexDefinitionDao;
+import com.ericsson.oss.air.csac.repository.DeployedKpiDefDAO;
+import com.ericsson.oss.air.csac.repository.EffectiveAugmentationDAO;
+import com.ericsson.oss.air.csac.repository.KPIDefinitionDAO;
+import com.ericsson.oss.air.csac.repository.PMDefinitionDAO;
+import com.ericsson.oss.air.csac.repository.ProfileDefinitionDAO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Calculates the {@link ProvisioningPlan} for the resource files in the resource directory. The complete CSAC data flow is executed against the
+ * in-memory data dictionary and runtime data store and the dry-run downstream clients, so the plan is exactly what CSAC would provision without
+ * connecting to a database or to any downstream service.
+ */
+@Component
+@Profile({ "plan" })
+@Slf4j
+@RequiredArgsConstructor
+public class ProvisioningPlanner {
+
+    private final CsacEntryPoint csacEntryPoint;
+
+    private final ResourceSubmissionHandler resourceSubmissionHandler;
+
+    private final PMDefinitionDAO pmDefinitionDAO;
+
+    private final KPIDefinitionDAO kpiDefinitionDAO;
+
+    private final ProfileDefinitionDAO profileDefinitionDAO;
+
+    private final AugmentationDefinitionDAO augmentationDefinitionDAO;
+
+    private final DeployedKpiDefDAO deployedKpiDefDAO;
+
+    private final EffectiveAugmentationDAO effectiveAugmentationDAO;
+
+    private final DeployedIndexDefinitionDao deployedIndexDefinitionDao;
+
+    /**
+     * Loads, validates and provisions the resource files in the resource directory and returns the resulting provisioning plan.
+     *
+     * @return the provisioning plan for the resource files in the resource directory
+     * @throws IOException if an error occurs reading the resource files
+     */
+    public ProvisioningPlan plan() throws IOException {
+
+        final Map<ReloadStage, Instant> stageStarts = new EnumMap<>(ReloadStage.class);
+        final Instant start = Instant.now();
+
+        this.csacEntryPoint.startProvisioning(stage -> stageStarts.put(stage, Instant.now()));
+
+        final Instant end = Instant.now();
+
+        final List<RuntimeKpiInstance> runtimeKpis = this.deployedKpiDefDAO.findAllRuntimeKpis();
+        final List<OutputTable> outputTables = getOutputTables(this.deployedKpiDefDAO.getAllDeployedKpis());
+        final List<AugmentationDefinition> augmentations = this.effectiveAugmentationDAO.findAll();
+        final List<DeployedIndexDefinitionDto> indexes = StreamSupport.stream(this.deployedIndexDefinitionDao.findAll().spliterator(), false)
+                .toList();
+
+        final PlanStatistics statistics = PlanStatistics.builder()
+                .resourceFiles(this.resourceSubmissionHandler.getOrderedResourceList().size())
+                .pmDefinitions(this.pmDefinitionDAO.getAllPmDefNames().size())
+                .kpiDefinitions(this.kpiDefinitionDAO.getAllKpiDefNames().size())
+                .profileDefinitions(this.profileDefinitionDAO.totalProfileDefinitions())
+                .augmentationDefinitions(this.augmentationDefinitionDAO.totalAugmentationDefinitions())
+                .runtimeKpis(runtimeKpis.size())
+                .outputTables(outputTables.size())
+                .maxTableFanOut(outputTables.stream().mapToInt(table -> table.kpis().size()).max().orElse(0))
+                .meanTableFanOut(outputTables.stream().mapToInt(table -> table.kpis().size()).average().orElse(0))
+                .augmentations(augmentations.size())
+                .indexes(indexes.size())
+                .indexWriters(indexes.stream().mapToInt(index -> index.indexWriters().size()).sum())
+                .stageMillis(getStageMillis(stageStarts, end))
+                .totalMillis(Duration.between(start, end).toMillis())
+                .build();
+
+        log.info("Provisioning plan calculated in {} ms: {} runtime KPIs in {} output tables, {} augmentations, {} indexes",
+                statistics.getTotalMillis(), statistics.getRuntimeKpis(), statistics.getOutputTables(), statistics.getAugmentations(),
+                statistics.getIndexes());
+
+        return ProvisioningPlan.builder()
+                .statistics(statistics)
+                .runtimeKpis(runtimeKpis)
+                .outputTables(outputTables)
+                .augmentations(augmentations)
+                .indexes(indexes)
+                .build();
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Groups the provided runtime KPI definitions by the PMSC output table they are written to, in order of first appearance.
+     */
+    private static List<OutputTable> getOutputTables(final List<KpiDefinitionDTO> deployedKpis) {
+
+        final Map<String, List<KpiDefinitionDTO>> kpisByTable = new LinkedHashMap<>();
+
+        for (final KpiDefinitionDTO deployedKpi : deployedKpis) {
+            kpisByTable.computeIfAbsent(deployedKpi.getFactTableName(), tableName -> new ArrayList<>()).add(deployedKpi);
+        }
+
+        return kpisByTable.entrySet().stream()
+                .map(table -> new OutputTable(table.getKey(), table.getValue().get(0).getKpiType(),
+                        table.getValue().stream().map(KpiDefinitionDTO::getName).toList()))
+                .toList();
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns the elapsed time of each executed stage. Each stage ends when the next executed stage starts, and the last one when the data flow ends.
+     */
+    private static Map<ReloadStage, Long> getStageMillis(final Map<ReloadStage, Instant> stageStarts, final Instant end) {
+
+        final Map<ReloadStage, Long> stageMillis = new EnumMap<>(ReloadStage.class);
+        final List<Map.Entry<ReloadStage, Instant>> stages = new ArrayList<>(stageStarts.entrySet());
+
+        for (int i = 0; i < stages.size(); i++) {
+            final Instant stageEnd = i + 1 < stages.size() ? stages.get(i + 1).getValue() : end;
+            stageMillis.put(stages.get(i).getKey(), Duration.between(stages.get(i).getValue(), stageEnd).toMillis());
+        }
+
+        return stageMillis;
+    }
+}
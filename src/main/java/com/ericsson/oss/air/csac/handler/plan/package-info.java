@@ -0,0 +1,15 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+/**
+ * This package contains the offline plan mode, which calculates the complete provisioning plan for a resource directory without a database or any
+ * downstream service.
+ */
+package com.ericsson.oss.air.csac.handler.plan;
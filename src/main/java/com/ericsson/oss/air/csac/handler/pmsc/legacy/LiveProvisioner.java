@@ -12,40 +12,61 @@ package com.ericsson.oss.air.csac.handler.pmsc.legacy;
 
 import java.util.ArrayList;
 import java.util.List;
-
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
 import com.ericsson.oss.air.csac.handler.event.ConsistencyCheckEvent;
 import com.ericsson.oss.air.csac.handler.event.ConsistencyCheckHandler;
+import com.ericsson.oss.air.csac.handler.pmsc.transform.KpiSubmissionPlanner;
 import com.ericsson.oss.air.csac.handler.pmsc.transform.KpiSubmissionTransformer;
 import com.ericsson.oss.air.csac.model.ProfileDefinition;
 import com.ericsson.oss.air.csac.model.pmsc.KpiDefinitionDTO;
 import com.ericsson.oss.air.csac.model.pmsc.KpiDefinitionDTOWithRelationship;
 import com.ericsson.oss.air.csac.model.pmsc.KpiDefinitionSubmission;
+import com.ericsson.oss.air.csac.model.pmsc.KpiSubmissionDto;
 import com.ericsson.oss.air.csac.repository.DeployedProfileDAO;
+import com.ericsson.oss.air.csac.repository.cache.KpiOutputTableDigestCache;
 import com.ericsson.oss.air.csac.repository.cache.ResolvedKpiCache;
 import com.ericsson.oss.air.csac.service.kpi.pmsc.PmscRestClient;
 import com.ericsson.oss.air.csac.service.kpi.pmsc.legacy.PmscProvisioningService;
 import com.ericsson.oss.air.exception.CsacConsistencyCheckException;
+import com.ericsson.oss.air.exception.CsacValidationException;
 
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * This class will provision a running PMSC.
+ * This class will provision a running PMSC. A KPI submission for the current PMSC model is split into size-bounded chunks by the
+ * {@link KpiSubmissionPlanner} and submitted stage by stage, with the chunks in a stage submitted concurrently. Each chunk is a separate request and
+ * is retried on its own. Output tables unchanged since they were last accepted by the PMSC are not submitted again, see
+ * {@link KpiOutputTableDigestCache}.
  */
 @Component
 @Slf4j
 @RequiredArgsConstructor
 @Primary
-public class LiveProvisioner implements Provisioner {
+public class LiveProvisioner implements Provisioner, DisposableBean {
 
     private final DeployedProfileDAO deployedProfileDAO;
 
     private final KpiSubmissionTransformer kpiSubmissionTransformer;
 
+    private final KpiSubmissionPlanner kpiSubmissionPlanner;
+
+    private final KpiOutputTableDigestCache kpiOutputTableDigestCache;
+
     private final PmscProvisioningService legacyRestClient;
 
     private final PmscRestClient restClient;
@@ -57,6 +78,54 @@ public class LiveProvisioner implements Provisioner {
     @Value("${provisioning.pmsc.restClient.legacy:false}")
     private boolean isLegacyPmscClient;
 
+    /**
+     * The maximum number of chunks in a stage submitted to the PMSC concurrently.
+     */
+    @Getter(AccessLevel.PACKAGE) // Getter for unit tests only
+    private int parallelism = 4;
+
+    /*
+     * Bounded pool shared by all concurrent stage submissions, sized by the configured parallelism. Null if the sequential submission is configured.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Sets the maximum number of KPI submission chunks submitted to the PMSC concurrently.
+     *
+     * @param parallelism maximum number of concurrent PMSC submissions
+     */
+    @Autowired
+    public void setParallelism(@Value("${provisioning.pmsc.submission.parallelism:4}") final Integer parallelism) {
+
+        if (Objects.isNull(parallelism) || parallelism < 1) {
+            throw new CsacValidationException(String.format("%s is not a permitted value for the PMSC submission parallelism", parallelism));
+        }
+
+        log.debug("PMSC submission parallelism: {}", parallelism);
+
+        this.parallelism = parallelism;
+
+        this.destroy();
+
+        if (parallelism > 1) {
+            final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("csac-pmsc-submission-");
+            threadFactory.setDaemon(true);
+            this.executor = Executors.newFixedThreadPool(parallelism, threadFactory);
+        }
+    }
+
+    /**
+     * Shuts down the pool used by the concurrent stage submissions.
+     */
+    @Override
+    public void destroy() {
+
+        if (Objects.nonNull(this.executor)) {
+            this.executor.shutdownNow();
+            this.executor = null;
+        }
+    }
+
     @Override
     public void provision(final List<KpiDefinitionDTOWithRelationship> kpiDefinitionDTOs, final List<ProfileDefinition> pendingProfiles) {
 
@@ -67,7 +136,7 @@ public class LiveProvisioner implements Provisioner {
         if (this.isLegacyPmscClient) {
             this.legacyRestClient.updatePMSCKpisDefinitions(kpiDefinitionSubmission);
         } else {
-            this.restClient.create(kpiDefinitionSubmission);
+            this.submit(kpiDefinitionSubmission);
         }
 
         /**
@@ -88,4 +157,69 @@ public class LiveProvisioner implements Provisioner {
             throw new CsacConsistencyCheckException(e);
         }
     }
+
+    /*
+     * (non-javadoc)
+     *
+     * Submits the provided KPI submission to the PMSC. Only the new or changed output tables in a submission for the current PMSC model are
+     * submitted, in chunks, stage by stage.
+     */
+    private void submit(final KpiDefinitionSubmission kpiDefinitionSubmission) {
+
+        if (!(kpiDefinitionSubmission instanceof final KpiSubmissionDto kpiSubmission)) {
+            this.restClient.create(kpiDefinitionSubmission);
+            return;
+        }
+
+        final List<List<KpiSubmissionDto>> stages = this.kpiSubmissionPlanner.plan(this.kpiOutputTableDigestCache.removeUnchanged(kpiSubmission));
+
+        for (int i = 0; i < stages.size(); i++) {
+            log.info("Submitting KPI submission stage {} of {}: {} chunks", i + 1, stages.size(), stages.get(i).size());
+            this.submitStage(stages.get(i));
+        }
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Submits the chunks in a stage concurrently on the shared pool and waits for all of them to complete. A failed chunk does not interrupt the
+     * other chunks in the stage. If more than one chunk fails, the exception for the first of these chunks is thrown.
+     */
+    private void submitStage(final List<KpiSubmissionDto> chunks) {
+
+        if (Objects.isNull(this.executor) || chunks.size() <= 1) {
+            chunks.forEach(this::submitChunk);
+            return;
+        }
+
+        final List<CompletableFuture<Void>> tasks = chunks.stream()
+                .map(chunk -> CompletableFuture.runAsync(() -> this.submitChunk(chunk), this.executor))
+                .toList();
+
+        RuntimeException failure = null;
+
+        for (final CompletableFuture<Void> task : tasks) {
+            try {
+                task.join();
+            } catch (final CompletionException e) {
+                if (Objects.isNull(failure)) {
+                    failure = e.getCause() instanceof final RuntimeException runtimeException ? runtimeException : e;
+                }
+            }
+        }
+
+        if (Objects.nonNull(failure)) {
+            throw failure;
+        }
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Submits a single chunk to the PMSC and records the digests of its output tables once it has been accepted.
+     */
+    private void submitChunk(final KpiSubmissionDto chunk) {
+        this.restClient.create(chunk);
+        this.kpiOutputTableDigestCache.putAccepted(chunk);
+    }
 }
@@ -21,8 +21,8 @@ import com.ericsson.oss.air.csac.model.pmsc.KpiDefinitionDTO;
 import com.ericsson.oss.air.csac.model.pmsc.KpiDefinitionDTOWithRelationship;
 import com.ericsson.oss.air.csac.model.pmsc.KpiTypeEnum;
 import com.ericsson.oss.air.csac.service.KPICalculator;
-import com.ericsson.oss.air.util.codec.Codec;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.ericsson.oss.air.util.logging.payload.PayloadLogFactory;
+import com.ericsson.oss.air.util.logging.payload.PayloadLogger;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -33,17 +33,16 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class PMSCHandler {
 
+    private static final PayloadLogger PAYLOAD_LOGGER = PayloadLogFactory.getLogger(PMSCHandler.class);
+
     private final KPICalculator kpiCalculator;
 
     private final Provisioner provisioner;
 
-    private final Codec codec;
-
     @Autowired
-    public PMSCHandler(final KPICalculator kpiCalculator, final Provisioner provisioner, final Codec codec) {
+    public PMSCHandler(final KPICalculator kpiCalculator, final Provisioner provisioner) {
         this.kpiCalculator = kpiCalculator;
         this.provisioner = provisioner;
-        this.codec = codec;
     }
 
     /**
@@ -61,12 +60,8 @@ public class PMSCHandler {
 
         final List<KpiDefinitionDTOWithRelationship> kpiDefinitionDTOs = this.kpiCalculator.calculateAffectedKPIs(pendingProfiles);
 
-        try {
-            final String kpisInJson = this.codec.writeValueAsStringPretty(kpiDefinitionDTOs);
-            log.info("Calculated KPIs: {}", kpisInJson);
-        } catch (final JsonProcessingException e) {
-            log.error("Unable to serialize to JSON \n", e);
-        }
+        log.info("Number of calculated KPIs: {}", kpiDefinitionDTOs.size());
+        PAYLOAD_LOGGER.debug("Calculated KPIs: {}", kpiDefinitionDTOs);
 
         log.info("Number of new and updated simple KPIs: {}",
                  kpiDefinitionDTOs.stream().filter(kpi -> kpi.getKpiType().equals(KpiTypeEnum.SIMPLE)).count());
@@ -0,0 +1,230 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.handler.pmsc.transform;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.ericsson.oss.air.csac.model.pmsc.KpiOutputTableDto;
+import com.ericsson.oss.air.csac.model.pmsc.KpiOutputTableListDto;
+import com.ericsson.oss.air.csac.model.pmsc.KpiSubmissionDto;
+import com.ericsson.oss.air.csac.model.pmsc.PmscKpiDefinitionDto;
+import com.ericsson.oss.air.csac.repository.cache.KpiOutputTableDigestCache;
+import com.ericsson.oss.air.exception.CsacValidationException;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Splits a {@link KpiSubmissionDto} into size-bounded chunks along output table boundaries, so that a large submission is sent to the PMSC as
+ * several smaller requests. An output table is never split across chunks.
+ * <p>
+ * The chunks are grouped into ordered stages. All chunks in a stage are independent of each other and can be submitted concurrently, but a stage
+ * must be completed before the next stage is submitted:
+ * <ol>
+ *     <li>the scheduled simple output tables, which only depend on the input data sources</li>
+ *     <li>the scheduled complex output tables, in as many stages as needed so that a complex table is submitted after the complex tables its KPI
+ *     expressions read from</li>
+ *     <li>the on-demand output tables, if any, in a single chunk</li>
+ * </ol>
+ * Complex tables with a circular dependency are submitted together in a single chunk of their own stage.
+ */
+@Component
+@Slf4j
+public class KpiSubmissionPlanner {
+
+    // a maximal run of table name characters in a KPI expression, which is a table reference if it is the name of a complex table
+    private static final Pattern TABLE_NAME_TOKEN = Pattern.compile("[A-Za-z0-9_]+");
+
+    /**
+     * The maximum number of KPI definitions in a chunk. A table with more KPI definitions than this is submitted in a chunk of its own.
+     */
+    @Getter(AccessLevel.PACKAGE) // Getter for unit tests only
+    private int maxChunkSize = 500;
+
+    /**
+     * Sets the maximum number of KPI definitions submitted to the PMSC in a single request.
+     *
+     * @param maxChunkSize maximum number of KPI definitions in a chunk
+     */
+    @Autowired
+    public void setMaxChunkSize(@Value("${provisioning.pmsc.submission.maxChunkSize:500}") final Integer maxChunkSize) {
+
+        if (Objects.isNull(maxChunkSize) || maxChunkSize < 1) {
+            throw new CsacValidationException(String.format("%s is not a permitted value for the PMSC submission chunk size", maxChunkSize));
+        }
+
+        log.debug("PMSC submission chunk size: {}", maxChunkSize);
+
+        this.maxChunkSize = maxChunkSize;
+    }
+
+    /**
+     * Returns the ordered stages of chunks for the provided KPI submission.
+     *
+     * @param kpiSubmission KPI submission to split
+     * @return the ordered stages, each containing the chunks that can be submitted concurrently
+     */
+    public List<List<KpiSubmissionDto>> plan(final KpiSubmissionDto kpiSubmission) {
+
+        final List<List<KpiSubmissionDto>> stages = new ArrayList<>();
+
+        final List<KpiOutputTableDto> simpleTables = getTables(kpiSubmission.getScheduledSimple());
+
+        if (!simpleTables.isEmpty()) {
+            stages.add(this.chunk(simpleTables, KpiSubmissionPlanner::createSimpleChunk));
+        }
+
+        this.addComplexStages(getTables(kpiSubmission.getScheduledComplex()), stages);
+
+        if (!getTables(kpiSubmission.getOnDemand()).isEmpty()) {
+            stages.add(List.of(KpiSubmissionDto.builder().onDemand(kpiSubmission.getOnDemand()).build()));
+        }
+
+        log.info("KPI submission split into {} stages of {} chunks", stages.size(), stages.stream().mapToInt(List::size).sum());
+
+        return stages;
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Adds the stages for the provided complex tables. A table is placed in the first stage following the stages of all the complex tables it
+     * reads from. The tables left over once no further table can be placed have a circular dependency and form a final stage with a single chunk.
+     */
+    private void addComplexStages(final List<KpiOutputTableDto> complexTables, final List<List<KpiSubmissionDto>> stages) {
+
+        final Map<String, KpiOutputTableDto> tablesByName = new LinkedHashMap<>();
+        complexTables.forEach(table -> tablesByName.put(KpiOutputTableDigestCache.getTableName(table), table));
+
+        final Map<String, Set<String>> dependencies = new LinkedHashMap<>();
+        tablesByName.forEach((tableName, table) -> dependencies.put(tableName, getDependencies(table, tablesByName.keySet())));
+
+        final Set<String> placedTableNames = new HashSet<>();
+
+        while (!dependencies.isEmpty()) {
+
+            final List<String> stageTableNames = dependencies.entrySet().stream()
+                    .filter(entry -> placedTableNames.containsAll(entry.getValue()))
+                    .map(Map.Entry::getKey)
+                    .toList();
+
+            if (stageTableNames.isEmpty()) {
+                log.warn("Complex KPI output tables with circular dependencies submitted together: {}", dependencies.keySet());
+                stages.add(List.of(createComplexChunk(dependencies.keySet().stream().map(tablesByName::get).toList())));
+                return;
+            }
+
+            stages.add(this.chunk(stageTableNames.stream().map(tablesByName::get).toList(), KpiSubmissionPlanner::createComplexChunk));
+
+            stageTableNames.forEach(dependencies::remove);
+            placedTableNames.addAll(stageTableNames);
+        }
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Packs the provided tables, in order, into chunks of at most maxChunkSize KPI definitions.
+     */
+    private List<KpiSubmissionDto> chunk(final List<KpiOutputTableDto> tables,
+                                         final Function<List<KpiOutputTableDto>, KpiSubmissionDto> chunkFactory) {
+
+        final List<KpiSubmissionDto> chunks = new ArrayList<>();
+
+        List<KpiOutputTableDto> chunkTables = new ArrayList<>();
+        int chunkSize = 0;
+
+        for (final KpiOutputTableDto table : tables) {
+
+            final int tableSize = table.getKpiDefinitions().size();
+
+            if (!chunkTables.isEmpty() && chunkSize + tableSize > this.maxChunkSize) {
+                chunks.add(chunkFactory.apply(chunkTables));
+                chunkTables = new ArrayList<>();
+                chunkSize = 0;
+            }
+
+            chunkTables.add(table);
+            chunkSize += tableSize;
+        }
+
+        if (!chunkTables.isEmpty()) {
+            chunks.add(chunkFactory.apply(chunkTables));
+        }
+
+        return chunks;
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns the names of the other complex tables read by the KPI expressions in the provided complex table. Each expression is tokenized once
+     * and its tokens are looked up in the complex table names, so the cost does not grow with the number of complex tables.
+     */
+    private static Set<String> getDependencies(final KpiOutputTableDto table, final Set<String> complexTableNames) {
+
+        final Set<String> dependencies = new HashSet<>();
+
+        for (final PmscKpiDefinitionDto kpiDefinition : table.getKpiDefinitions()) {
+
+            final Matcher token = TABLE_NAME_TOKEN.matcher(kpiDefinition.getExpression());
+
+            while (token.find()) {
+                if (complexTableNames.contains(token.group())) {
+                    dependencies.add(token.group());
+                }
+            }
+        }
+
+        dependencies.remove(KpiOutputTableDigestCache.getTableName(table));
+
+        return dependencies;
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns the tables in the provided table list, or an empty list if there is none.
+     */
+    private static List<KpiOutputTableDto> getTables(final KpiOutputTableListDto tableList) {
+        return Objects.isNull(tableList) ? List.of() : tableList.getKpiOutputTables();
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Creates a chunk for the provided simple tables.
+     */
+    private static KpiSubmissionDto createSimpleChunk(final List<KpiOutputTableDto> tables) {
+        return KpiSubmissionDto.builder().scheduledSimple(new KpiOutputTableListDto(tables)).build();
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Creates a chunk for the provided complex tables.
+     */
+    private static KpiSubmissionDto createComplexChunk(final List<KpiOutputTableDto> tables) {
+        return KpiSubmissionDto.builder().scheduledComplex(new KpiOutputTableListDto(tables)).build();
+    }
+}
@@ -0,0 +1,617 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.handler.reconcile;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.ericsson.oss.air.csac.handler.pmsc.transform.KpiSubmissionPlanner;
+import com.ericsson.oss.air.csac.handler.pmsc.transform.KpiSubmissionTransformer;
+import com.ericsson.oss.air.csac.handler.status.ProvisioningLock;
+import com.ericsson.oss.air.csac.handler.status.ProvisioningTracker;
+import com.ericsson.oss.air.csac.model.pmsc.ComplexKpiOutputTableDto;
+import com.ericsson.oss.air.csac.model.pmsc.KpiDefinitionDTO;
+import com.ericsson.oss.air.csac.model.pmsc.KpiDefinitionSubmission;
+import com.ericsson.oss.air.csac.model.pmsc.KpiOutputTableDto;
+import com.ericsson.oss.air.csac.model.pmsc.KpiOutputTableListDto;
+import com.ericsson.oss.air.csac.model.pmsc.KpiSubmissionDto;
+import com.ericsson.oss.air.csac.model.pmsc.PmscKpiDefinitionDto;
+import com.ericsson.oss.air.csac.model.pmsc.SimpleKpiOutputTableDto;
+import com.ericsson.oss.air.csac.model.runtime.ProvisioningState;
+import com.ericsson.oss.air.csac.repository.DeployedKpiDefDAO;
+import com.ericsson.oss.air.csac.repository.EffectiveAugmentationDAO;
+import com.ericsson.oss.air.csac.repository.cache.KpiOutputTableDigestCache;
+import com.ericsson.oss.air.csac.service.augmentation.AugmentationRestClient;
+import com.ericsson.oss.air.csac.service.kpi.pmsc.PmscRestClient;
+import com.ericsson.oss.air.exception.CsacValidationException;
+import com.ericsson.oss.air.util.codec.ContentDigest;
+import com.ericsson.oss.air.util.concurrent.AtomicDouble;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically compares the CSAC runtime data store with the configuration in the downstream services and reports the differences, or drift, as
+ * metrics. Each item is compared by content digest, so an unchanged item costs a digest comparison rather than a request. The expected digests are
+ * read as stored in the runtime data store where available, and the KPI definitions expected in the PMSC are only computed again once another
+ * provisioning operation has completed.
+ * <p>
+ * The comparison is a background activity and never competes with live provisioning. It holds the {@link ProvisioningLock} for the whole run, so
+ * neither the comparison nor any repair interleaves with a data flow or a configuration reset. It is skipped if the lock is held or if the latest
+ * provisioning operation has not completed, it is abandoned as soon as another operation waits for the lock, and the requests it sends to the
+ * downstream services are spaced by the configured request interval.
+ * <p>
+ * If repair is enabled, only the differing items are repaired:
+ * <ul>
+ * <li>PMSC: missing KPI definitions are submitted and unexpected KPI definitions are deleted. Changed KPI definitions are reported only, as the
+ * PMSC does not accept modified KPI definitions.</li>
+ * <li>AAS: unexpected ARDQ registrations are deleted. Missing registrations are reported only, as they require the schema mapping resolved during
+ * provisioning.</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "provisioning.reconciliation.enabled", havingValue = "true")
+public class DriftReconciler implements DisposableBean {
+
+    static final String PMSC_TARGET = "PMSC";
+
+    static final String AAS_TARGET = "AAS";
+
+    private final ProvisioningTracker provisioningTracker;
+
+    private final ProvisioningLock provisioningLock;
+
+    private final DeployedKpiDefDAO deployedKpiDefDAO;
+
+    private final KpiSubmissionTransformer kpiSubmissionTransformer;
+
+    private final KpiSubmissionPlanner kpiSubmissionPlanner;
+
+    private final PmscRestClient pmscRestClient;
+
+    private final KpiOutputTableDigestCache kpiOutputTableDigestCache;
+
+    private final EffectiveAugmentationDAO effectiveAugmentationDAO;
+
+    private final AugmentationRestClient augmentationRestClient;
+
+    @Autowired
+    private AtomicLong reconciliationKpiDrift;
+
+    @Autowired
+    private AtomicLong reconciliationAugmentationDrift;
+
+    @Autowired
+    private AtomicLong reconciliationRepairs;
+
+    @Autowired
+    private AtomicLong reconciliationErrors;
+
+    @Autowired
+    private AtomicDouble reconciliationTime;
+
+    @Value("${provisioning.pmsc.enabled:false}")
+    private boolean isPmscEnabled;
+
+    @Value("${provisioning.aas.enabled:false}")
+    private boolean isAasEnabled;
+
+    @Value("${provisioning.reconciliation.repair:false}")
+    private boolean isRepairEnabled;
+
+    @Getter(AccessLevel.PACKAGE) // Getter for unit tests only
+    private long period = 3600000;
+
+    @Getter(AccessLevel.PACKAGE) // Getter for unit tests only
+    private long requestInterval = 1000;
+
+    private ScheduledExecutorService executor;
+
+    private long nextRequestNanos;
+
+    /*
+     * KPI definitions expected in the PMSC as of the last completed provisioning operation. Only accessed while holding the provisioning lock.
+     */
+    private ExpectedKpis expectedKpis;
+
+    /**
+     * Sets the period in milliseconds between the end of one reconciliation and the start of the next.
+     *
+     * @param period reconciliation period in milliseconds
+     */
+    @Autowired
+    public void setPeriod(@Value("${provisioning.reconciliation.period:3600000}") final Long period) {
+
+        if (Objects.isNull(period) || period < 1) {
+            throw new CsacValidationException(String.format("%s is not a permitted value for the reconciliation period", period));
+        }
+
+        log.debug("Reconciliation period: {} ms", period);
+
+        this.period = period;
+    }
+
+    /**
+     * Sets the minimum interval in milliseconds between two consecutive requests sent to the downstream services during a reconciliation.
+     *
+     * @param requestInterval minimum request interval in milliseconds
+     */
+    @Autowired
+    public void setRequestInterval(@Value("${provisioning.reconciliation.requestInterval:1000}") final Long requestInterval) {
+
+        if (Objects.isNull(requestInterval) || requestInterval < 0) {
+            throw new CsacValidationException(String.format("%s is not a permitted value for the reconciliation request interval", requestInterval));
+        }
+
+        log.debug("Reconciliation request interval: {} ms", requestInterval);
+
+        this.requestInterval = requestInterval;
+    }
+
+    /**
+     * Starts the periodic reconciliation. The first reconciliation starts one period after the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "csac-drift-reconciler");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.executor.scheduleWithFixedDelay(this::reconcileSafely, this.period, this.period, TimeUnit.MILLISECONDS);
+
+        log.info("Drift reconciliation scheduled every {} ms. Repair enabled: {}", this.period, this.isRepairEnabled);
+    }
+
+    /**
+     * Stops the periodic reconciliation.
+     */
+    @Override
+    public void destroy() {
+
+        if (Objects.nonNull(this.executor)) {
+            this.executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Compares the runtime data store with each enabled downstream service and, if repair is enabled, repairs the differing items. The comparison is
+     * skipped if a provisioning operation holds the provisioning lock or has not completed, and abandoned if a provisioning operation waits for the
+     * lock while it is in progress.
+     *
+     * @return the drift report for each downstream service compared
+     * @throws InterruptedException if interrupted while waiting to send a request
+     */
+    public List<DriftReport> reconcile() throws InterruptedException {
+
+        if (!this.provisioningLock.tryLock()) {
+            log.info("Provisioning in progress. Skipping drift reconciliation");
+            return new ArrayList<>();
+        }
+
+        try {
+            final ProvisioningState provisioningState = this.provisioningTracker.currentProvisioningState();
+
+            if (provisioningState.getProvisioningState() != ProvisioningState.State.COMPLETED) {
+                log.info("Provisioning has not completed. Skipping drift reconciliation");
+                return new ArrayList<>();
+            }
+
+            return this.reconcile(provisioningState.getId());
+        } finally {
+            this.provisioningLock.unlock();
+        }
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Compares the runtime data store with each enabled downstream service as of the completed provisioning operation identified by the provided
+     * provisioning state ID. Must be called while holding the provisioning lock.
+     */
+    private List<DriftReport> reconcile(final Integer provisioningStateId) throws InterruptedException {
+
+        final List<DriftReport> reports = new ArrayList<>();
+
+        log.info("Drift reconciliation started");
+
+        final Instant start = Instant.now();
+        this.nextRequestNanos = System.nanoTime();
+
+        try {
+            if (this.isPmscEnabled) {
+                this.reconcileTarget(PMSC_TARGET, () -> this.reconcileKpis(provisioningStateId), this.reconciliationKpiDrift).ifPresent(reports::add);
+            }
+
+            if (this.isAasEnabled) {
+                this.reconcileTarget(AAS_TARGET, this::reconcileAugmentations, this.reconciliationAugmentationDrift).ifPresent(reports::add);
+            }
+
+            log.info("Drift reconciliation completed");
+        } catch (final ProvisioningPendingException e) {
+            log.info("Provisioning pending. Drift reconciliation abandoned");
+        } finally {
+            this.reconciliationTime.set(Duration.between(start, Instant.now()).toMillis() / 1000.0D);
+        }
+
+        return reports;
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Runs a scheduled reconciliation. Any failure is logged so that the next scheduled reconciliation still runs.
+     */
+    private void reconcileSafely() {
+
+        try {
+            this.reconcile();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final Exception e) {
+            log.error("Drift reconciliation failed", e);
+        }
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Reconciles a single downstream service and records its drift. A failure is counted and logged, and does not prevent the remaining services
+     * from being reconciled.
+     */
+    private Optional<DriftReport> reconcileTarget(final String target, final TargetReconciler targetReconciler, final AtomicLong driftGauge)
+            throws InterruptedException {
+
+        try {
+            final Optional<DriftReport> report = targetReconciler.reconcile();
+
+            report.ifPresent(driftReport -> {
+                driftGauge.set(driftReport.getTotal());
+
+                if (driftReport.isEmpty()) {
+                    log.info("No drift detected in {}", target);
+                } else {
+                    log.warn("Drift detected in {}: missing {}, unexpected {}, changed {}", target, driftReport.getMissing(),
+                            driftReport.getUnexpected(), driftReport.getChanged());
+                }
+            });
+
+            return report;
+        } catch (final ProvisioningPendingException e) {
+            throw e;
+        } catch (final RuntimeException e) {
+            this.reconciliationErrors.incrementAndGet();
+            log.error("Unable to reconcile {}", target, e);
+            return Optional.empty();
+        }
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Compares the deployed KPI definitions with the KPI definitions in the PMSC. Only the KPI submission model can be compared, as the legacy model
+     * does not identify the output table of each KPI definition.
+     */
+    private Optional<DriftReport> reconcileKpis(final Integer provisioningStateId) throws InterruptedException {
+
+        final ExpectedKpis expectedKpis = this.getExpectedKpis(provisioningStateId);
+
+        if (Objects.isNull(expectedKpis.submission())) {
+            log.info("Drift reconciliation is not supported for the legacy PMSC model. Skipping PMSC");
+            return Optional.empty();
+        }
+
+        final KpiSubmissionDto expectedSubmission = expectedKpis.submission();
+        final Map<String, String> expected = expectedKpis.digests();
+
+        this.pace();
+        final List<PmscKpiDefinitionDto> actualKpis = this.pmscRestClient.getAll();
+
+        final Map<String, String> actual = actualKpis.stream().collect(
+                Collectors.toMap(PmscKpiDefinitionDto::getName, DriftReconciler::getKpiDigest, (first, second) -> first, LinkedHashMap::new));
+
+        final DriftReport report = DriftReport.compare(PMSC_TARGET, expected, actual);
+
+        if (!report.isEmpty()) {
+            // the output tables accepted earlier no longer reflect the PMSC, so they are resubmitted in full by the next provisioning
+            this.kpiOutputTableDigestCache.deleteAll();
+        }
+
+        if (this.isRepairEnabled) {
+            this.repairKpis(report, expectedSubmission, actualKpis);
+        }
+
+        return Optional.of(report);
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns the KPI definitions expected in the PMSC. The deployed KPI definitions only change during provisioning or reset, so the expected KPI
+     * definitions are computed once for each completed provisioning operation and reused by the following reconciliations.
+     */
+    private ExpectedKpis getExpectedKpis(final Integer provisioningStateId) {
+
+        if (Objects.nonNull(this.expectedKpis) && Objects.nonNull(provisioningStateId)
+                && provisioningStateId.equals(this.expectedKpis.provisioningStateId())) {
+            return this.expectedKpis;
+        }
+
+        final List<KpiDefinitionDTO> deployedKpis = this.deployedKpiDefDAO.getAllDeployedKpis();
+        final KpiSubmissionDto expectedSubmission;
+
+        if (deployedKpis.isEmpty()) {
+            expectedSubmission = KpiSubmissionDto.builder().build();
+        } else {
+            final KpiDefinitionSubmission submission = this.kpiSubmissionTransformer.apply(deployedKpis);
+            expectedSubmission = submission instanceof KpiSubmissionDto submissionDto ? submissionDto : null;
+        }
+
+        final Map<String, String> expected = Objects.isNull(expectedSubmission) ? Map.of() : getKpiDefinitions(expectedSubmission).collect(
+                Collectors.toMap(PmscKpiDefinitionDto::getName, DriftReconciler::getKpiDigest, (first, second) -> first, LinkedHashMap::new));
+
+        this.expectedKpis = new ExpectedKpis(provisioningStateId, expectedSubmission, expected);
+
+        return this.expectedKpis;
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Deletes the unexpected KPI definitions from the PMSC, dependent KPI definitions first, and then submits the missing KPI definitions in the
+     * staged chunks used for provisioning.
+     */
+    private void repairKpis(final DriftReport report, final KpiSubmissionDto expectedSubmission, final List<PmscKpiDefinitionDto> actualKpis)
+            throws InterruptedException {
+
+        if (!report.getUnexpected().isEmpty()) {
+
+            // the PMSC lists complex KPI definitions first, so they are deleted before the KPI definitions they depend on
+            final List<String> unexpectedNames = actualKpis.stream()
+                    .map(PmscKpiDefinitionDto::getName)
+                    .filter(report.getUnexpected()::contains)
+                    .distinct()
+                    .toList();
+
+            this.pace();
+            this.pmscRestClient.deleteById(unexpectedNames);
+            this.reconciliationRepairs.addAndGet(unexpectedNames.size());
+        }
+
+        if (!report.getMissing().isEmpty()) {
+
+            final KpiSubmissionDto missingSubmission = KpiSubmissionDto.builder()
+                    .onDemand(filterTables(expectedSubmission.getOnDemand(), report.getMissing()))
+                    .scheduledComplex(filterTables(expectedSubmission.getScheduledComplex(), report.getMissing()))
+                    .scheduledSimple(filterTables(expectedSubmission.getScheduledSimple(), report.getMissing()))
+                    .build();
+
+            for (final List<KpiSubmissionDto> stage : this.kpiSubmissionPlanner.plan(missingSubmission)) {
+                for (final KpiSubmissionDto chunk : stage) {
+                    this.pace();
+                    this.pmscRestClient.create(chunk);
+                }
+            }
+
+            this.reconciliationRepairs.addAndGet(report.getMissing().size());
+        }
+
+        if (!report.getChanged().isEmpty()) {
+            log.warn("Changed KPI definitions in PMSC are not repaired: {}", report.getChanged());
+        }
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Compares the effective augmentations with the ARDQ registrations in the AAS. The AAS registrations are compared by ARDQ Id only, as the AAS
+     * request is built from the schema mapping resolved during provisioning.
+     */
+    private Optional<DriftReport> reconcileAugmentations() throws InterruptedException {
+
+        final Map<String, String> expected = presenceOnly(this.effectiveAugmentationDAO.findAllDigests().keySet());
+
+        this.pace();
+        final Map<String, String> actual = presenceOnly(this.augmentationRestClient.getAllArdqIds());
+
+        final DriftReport report = DriftReport.compare(AAS_TARGET, expected, actual);
+
+        if (this.isRepairEnabled) {
+
+            for (final String ardqId : report.getUnexpected()) {
+                this.pace();
+                this.augmentationRestClient.delete(ardqId);
+                this.reconciliationRepairs.incrementAndGet();
+            }
+
+            if (!report.getMissing().isEmpty()) {
+                log.warn("Missing ARDQ registrations in AAS are not repaired: {}", report.getMissing());
+            }
+        }
+
+        return Optional.of(report);
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Waits until the request interval has passed since the previous request, then checks that no other operation is waiting for the provisioning
+     * lock. A waiting provisioning operation is therefore delayed by at most one request and one request interval.
+     */
+    private void pace() throws InterruptedException {
+
+        final long waitNanos = this.nextRequestNanos - System.nanoTime();
+
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+
+        if (this.provisioningLock.hasQueuedThreads()) {
+            throw new ProvisioningPendingException();
+        }
+
+        this.nextRequestNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.requestInterval);
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns the KPI definitions in all the output tables of the provided submission.
+     */
+    private static Stream<PmscKpiDefinitionDto> getKpiDefinitions(final KpiSubmissionDto submission) {
+        return Stream.of(submission.getScheduledSimple(), submission.getScheduledComplex(), submission.getOnDemand())
+                .filter(Objects::nonNull)
+                .flatMap(tableList -> tableList.getKpiOutputTables().stream())
+                .flatMap(table -> table.getKpiDefinitions().stream());
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns the digest of the fields of a KPI definition that are returned by the PMSC for both simple and complex KPI definitions.
+     */
+    private static String getKpiDigest(final PmscKpiDefinitionDto kpiDefinition) {
+        return ContentDigest.of(Stream.of(kpiDefinition.getExpression(), kpiDefinition.getObjectType(), kpiDefinition.getAggregationType())
+                .map(String::valueOf)
+                .toList());
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns the provided output tables restricted to the named KPI definitions. Tables left without KPI definitions are dropped.
+     */
+    private static KpiOutputTableListDto filterTables(final KpiOutputTableListDto tableList, final Set<String> kpiNames) {
+
+        if (Objects.isNull(tableList)) {
+            return null;
+        }
+
+        final List<KpiOutputTableDto> tables = new ArrayList<>();
+
+        for (final KpiOutputTableDto table : tableList.getKpiOutputTables()) {
+
+            final List<PmscKpiDefinitionDto> kpiDefinitions = table.getKpiDefinitions().stream()
+                    .filter(kpiDefinition -> kpiNames.contains(kpiDefinition.getName()))
+                    .toList();
+
+            if (!kpiDefinitions.isEmpty()) {
+                tables.add(withKpiDefinitions(table, kpiDefinitions));
+            }
+        }
+
+        return tables.isEmpty() ? null : new KpiOutputTableListDto(tables);
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns a copy of the provided output table containing only the provided KPI definitions.
+     */
+    private static KpiOutputTableDto withKpiDefinitions(final KpiOutputTableDto table, final List<PmscKpiDefinitionDto> kpiDefinitions) {
+
+        if (table instanceof SimpleKpiOutputTableDto simpleTable) {
+            return SimpleKpiOutputTableDto.customSimpleKpiOutputTableDtoBuilder()
+                    .aggregationPeriod(table.getAggregationPeriod())
+                    .alias(table.getAlias())
+                    .dataReliabilityOffset(table.getDataReliabilityOffset())
+                    .aggregationElements(table.getAggregationElements())
+                    .kpiDefinitions(kpiDefinitions)
+                    .inputDataIdentifier(simpleTable.getInputDataIdentifier())
+                    .build();
+        }
+
+        if (table instanceof ComplexKpiOutputTableDto) {
+            return ComplexKpiOutputTableDto.customComplexKpiOutputTableDtoBuilder()
+                    .aggregationPeriod(table.getAggregationPeriod())
+                    .alias(table.getAlias())
+                    .dataReliabilityOffset(table.getDataReliabilityOffset())
+                    .aggregationElements(table.getAggregationElements())
+                    .kpiDefinitions(kpiDefinitions)
+                    .build();
+        }
+
+        return KpiOutputTableDto.customKpiOutputTableDtoBuilder()
+                .aggregationPeriod(table.getAggregationPeriod())
+                .alias(table.getAlias())
+                .dataReliabilityOffset(table.getDataReliabilityOffset())
+                .aggregationElements(table.getAggregationElements())
+                .kpiDefinitions(kpiDefinitions)
+                .build();
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns the provided item names mapped to null digests, so that the items are compared for presence only.
+     */
+    private static Map<String, String> presenceOnly(final Collection<String> names) {
+
+        final Map<String, String> items = new LinkedHashMap<>();
+        names.forEach(name -> items.put(name, null));
+
+        return items;
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Reconciles a single downstream service, returning an empty Optional if the service cannot be compared.
+     */
+    @FunctionalInterface
+    private interface TargetReconciler {
+
+        Optional<DriftReport> reconcile() throws InterruptedException;
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * KPI definitions expected in the PMSC as of the completed provisioning operation identified by the provisioning state ID. The submission is null
+     * if the deployed KPI definitions are transformed to the legacy model.
+     */
+    private record ExpectedKpis(Integer provisioningStateId, KpiSubmissionDto submission, Map<String, String> digests) {
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Thrown when another operation waits for the provisioning lock during a reconciliation.
+     */
+    private static class ProvisioningPendingException extends RuntimeException {
+    }
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.handler.reconcile;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import lombok.Value;
+
+/**
+ * The differences between the items in the CSAC runtime data store and the items in a downstream service. Items are compared by the content digest
+ * of each item, keyed by item name.
+ */
+@Value
+public class DriftReport {
+
+    /**
+     * Name of the downstream service.
+     */
+    String target;
+
+    /**
+     * Names of the items in the runtime data store that are missing from the downstream service.
+     */
+    Set<String> missing;
+
+    /**
+     * Names of the items in the downstream service that are not in the runtime data store.
+     */
+    Set<String> unexpected;
+
+    /**
+     * Names of the items whose content in the downstream service differs from the runtime data store.
+     */
+    Set<String> changed;
+
+    /**
+     * Compares the provided item digests. A null digest matches any digest for the same item, so items whose content cannot be compared are only
+     * checked for presence.
+     *
+     * @param target   name of the downstream service
+     * @param expected digest of each item in the runtime data store, keyed by item name
+     * @param actual   digest of each item in the downstream service, keyed by item name
+     * @return the differences between the expected and actual items
+     */
+    public static DriftReport compare(final String target, final Map<String, String> expected, final Map<String, String> actual) {
+
+        final Set<String> missing = new TreeSet<>();
+        final Set<String> changed = new TreeSet<>();
+
+        expected.forEach((name, digest) -> {
+            if (!actual.containsKey(name)) {
+                missing.add(name);
+            } else if (Objects.nonNull(digest) && Objects.nonNull(actual.get(name)) && !digest.equals(actual.get(name))) {
+                changed.add(name);
+            }
+        });
+
+        final Set<String> unexpected = new TreeSet<>(actual.keySet());
+        unexpected.removeAll(expected.keySet());
+
+        return new DriftReport(target, missing, unexpected, changed);
+    }
+
+    /**
+     * Returns the total number of differing items.
+     *
+     * @return the total number of differing items
+     */
+    public int getTotal() {
+        return this.missing.size() + this.unexpected.size() + this.changed.size();
+    }
+
+    /**
+     * Returns true if no item differs.
+     *
+     * @return true if no item differs
+     */
+    public boolean isEmpty() {
+        return this.getTotal() == 0;
+    }
+}
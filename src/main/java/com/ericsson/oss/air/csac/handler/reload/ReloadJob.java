@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.handler.reload;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * A resource reload job. Reload requests received while a job is queued are coalesced into that job, so the number of requests served by a job
+ * may be greater than one.
+ * <p>
+ * An incremental job reloads only the resource files changed since the last successful provisioning operation, while a full job reloads all
+ * resource files. A full reload request coalesced into an incremental job makes that job a full job.
+ * <p>
+ * A reload job is updated by the thread running it and may be read concurrently, so each property is safely published but the properties are not
+ * updated atomically as a group.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ReloadJob {
+
+    /**
+     * Status of a reload job.
+     */
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    /**
+     * Start time of a data flow stage in a reload job. A stage ends when the next stage starts or when the job ends.
+     *
+     * @param stage   data flow stage
+     * @param started start time of the stage
+     */
+    public record StageProgress(ReloadStage stage, Instant started) {
+    }
+
+    private final String id = UUID.randomUUID().toString();
+
+    private final Instant submitted = Instant.now();
+
+    private final AtomicInteger requests = new AtomicInteger(1);
+
+    private final List<StageProgress> stages = new CopyOnWriteArrayList<>();
+
+    private volatile Status status = Status.QUEUED;
+
+    private volatile Instant started;
+
+    private volatile Instant completed;
+
+    private volatile String error;
+
+    private volatile boolean incremental;
+
+    /**
+     * Creates a full reload job.
+     */
+    public ReloadJob() {
+        this(false);
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Creates a full or incremental reload job.
+     */
+    ReloadJob(final boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    /**
+     * Returns the unique ID of this job.
+     *
+     * @return the unique ID of this job
+     */
+    public String getId() {
+        return this.id;
+    }
+
+    /**
+     * Returns the current status of this job.
+     *
+     * @return the current status of this job
+     */
+    public Status getStatus() {
+        return this.status;
+    }
+
+    /**
+     * Returns true if this job reloads only the changed resource files, or false if it reloads all resource files.
+     *
+     * @return true if this job reloads only the changed resource files
+     */
+    public boolean isIncremental() {
+        return this.incremental;
+    }
+
+    /**
+     * Returns the number of reload requests served by this job.
+     *
+     * @return the number of reload requests served by this job
+     */
+    public int getRequests() {
+        return this.requests.get();
+    }
+
+    /**
+     * Returns the time the job was submitted.
+     *
+     * @return the time the job was submitted
+     */
+    public Instant getSubmitted() {
+        return this.submitted;
+    }
+
+    /**
+     * Returns the time the job started running, or null if it is still queued.
+     *
+     * @return the time the job started running
+     */
+    public Instant getStarted() {
+        return this.started;
+    }
+
+    /**
+     * Returns the time the job completed or failed, or null if it has not ended.
+     *
+     * @return the time the job ended
+     */
+    public Instant getCompleted() {
+        return this.completed;
+    }
+
+    /**
+     * Returns the data flow stages started so far, in order. The last stage is the current stage of a running job.
+     *
+     * @return the data flow stages started so far
+     */
+    public List<StageProgress> getStages() {
+        return List.copyOf(this.stages);
+    }
+
+    /**
+     * Returns the error message of a failed job, or null if the job has not failed.
+     *
+     * @return the error message of a failed job
+     */
+    public String getError() {
+        return this.error;
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Records another reload request served by this queued job. A full reload request makes this job a full job.
+     */
+    void coalesce(final boolean incremental) {
+        this.incremental = this.incremental && incremental;
+        this.requests.incrementAndGet();
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Records the start of this job.
+     */
+    void start() {
+        this.started = Instant.now();
+        this.status = Status.RUNNING;
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Records the start of a data flow stage.
+     */
+    void stageStarted(final ReloadStage stage) {
+        this.stages.add(new StageProgress(stage, Instant.now()));
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Records the successful completion of this job.
+     */
+    void complete() {
+        this.completed = Instant.now();
+        this.status = Status.COMPLETED;
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Records the failure of this job.
+     */
+    void fail(final Throwable cause) {
+        this.error = cause.getMessage();
+        this.completed = Instant.now();
+        this.status = Status.FAILED;
+    }
+}
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.handler.reload;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.ericsson.oss.air.CsacEntryPoint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs resource reload jobs on a dedicated thread. At most one job runs and at most one job is queued at any time: a reload request received while
+ * a job is queued is coalesced into the queued job, as that job will load the resource files as they are when it starts.
+ * <p>
+ * The most recent jobs are retained so that their status can be queried after they have ended.
+ */
+@Component
+@Slf4j
+public class ReloadJobHandler implements DisposableBean {
+
+    static final int MAX_RETAINED_JOBS = 20;
+
+    private final CsacEntryPoint csacEntryPoint;
+
+    private final ExecutorService executor;
+
+    private final Map<String, ReloadJob> jobs = new LinkedHashMap<>() {
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, ReloadJob> eldest) {
+            return this.size() > MAX_RETAINED_JOBS;
+        }
+    };
+
+    private ReloadJob queuedJob;
+
+    /**
+     * Creates a reload job handler that runs jobs on a dedicated daemon thread.
+     *
+     * @param csacEntryPoint CSAC entry point
+     */
+    @Autowired
+    public ReloadJobHandler(final CsacEntryPoint csacEntryPoint) {
+        this(csacEntryPoint, Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "csac-reload-job");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Creates a reload job handler that runs jobs using the provided single-threaded executor.
+     */
+    ReloadJobHandler(final CsacEntryPoint csacEntryPoint, final ExecutorService executor) {
+        this.csacEntryPoint = csacEntryPoint;
+        this.executor = executor;
+    }
+
+    /**
+     * Submits a full resource reload request. Returns a new queued job, or the already queued job if there is one.
+     *
+     * @return the job that will serve the reload request
+     */
+    public ReloadJob submit() {
+        return this.submit(false);
+    }
+
+    /**
+     * Submits a full or incremental resource reload request. Returns a new queued job, or the already queued job if there is one. An incremental
+     * job reloads only the resource files changed since the last successful provisioning operation.
+     *
+     * @param incremental true to reload only the changed resource files, or false to reload all resource files
+     * @return the job that will serve the reload request
+     */
+    public synchronized ReloadJob submit(final boolean incremental) {
+
+        if (Objects.nonNull(this.queuedJob)) {
+            this.queuedJob.coalesce(incremental);
+            log.info("Reload request coalesced into queued reload job {}", this.queuedJob.getId());
+            return this.queuedJob;
+        }
+
+        final ReloadJob job = new ReloadJob(incremental);
+
+        this.queuedJob = job;
+        this.jobs.put(job.getId(), job);
+        this.executor.execute(() -> this.run(job));
+
+        log.info("Reload job {} queued", job.getId());
+
+        return job;
+    }
+
+    /**
+     * Returns the retained reload job with the specified ID.
+     *
+     * @param jobId reload job ID
+     * @return the reload job with the specified ID, or an empty optional if it does not exist or is no longer retained
+     */
+    public synchronized Optional<ReloadJob> getJob(final String jobId) {
+        return Optional.ofNullable(this.jobs.get(jobId));
+    }
+
+    /**
+     * Stops the reload job thread. A running job is interrupted.
+     */
+    @Override
+    public void destroy() {
+        this.executor.shutdownNow();
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Runs the provided job, which is the queued job. Once it starts, any further reload request is queued as a new job.
+     */
+    private void run(final ReloadJob job) {
+
+        synchronized (this) {
+            this.queuedJob = null;
+        }
+
+        log.info("Reload job {} started. Incremental: {}. Requests served: {}", job.getId(), job.isIncremental(), job.getRequests());
+        job.start();
+
+        try {
+            if (job.isIncremental()) {
+                this.csacEntryPoint.reloadChangedResources(job::stageStarted);
+            } else {
+                this.csacEntryPoint.startProvisioning(job::stageStarted);
+            }
+
+            job.complete();
+
+            log.info("Reload job {} completed", job.getId());
+        } catch (final Exception e) {
+            job.fail(e);
+
+            log.error("Reload job {} failed", job.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.handler.reload;
+
+/**
+ * Stages of the CSAC data flow, in the order they are executed. A data flow that finds no runtime resource changes ends after the
+ * {@link #UPDATING_DICTIONARY} stage.
+ */
+public enum ReloadStage {
+
+    /**
+     * Reading and parsing the resource files.
+     */
+    LOADING,
+
+    /**
+     * Merging and validating the loaded resources.
+     */
+    VALIDATING,
+
+    /**
+     * Calculating the resource changes and updating the data dictionary.
+     */
+    UPDATING_DICTIONARY,
+
+    /**
+     * Provisioning the resources to the downstream services.
+     */
+    PROVISIONING
+}
@@ -0,0 +1,14 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+/**
+ * This package contains the asynchronous resource reload jobs initiated through the resource actuator.
+ */
+package com.ericsson.oss.air.csac.handler.reload;
@@ -16,6 +16,7 @@ import java.util.concurrent.atomic.AtomicLong;
 
 import com.ericsson.oss.air.csac.handler.util.VoidOperator;
 import com.ericsson.oss.air.csac.service.augmentation.AugmentationProvisioningService;
+import com.ericsson.oss.air.csac.service.augmentation.AugmentationSchemaMappingCache;
 import com.ericsson.oss.air.util.concurrent.AtomicDouble;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,6 +34,8 @@ public class AugmentationResetOperator implements VoidOperator {
 
     private final AugmentationProvisioningService augmentationProvisioningService;
 
+    private final AugmentationSchemaMappingCache schemaMappingCache;
+
     @Autowired
     @Qualifier("configurationResetAugErrorCounter")
     private AtomicLong errorCountMetric;
@@ -47,6 +50,7 @@ public class AugmentationResetOperator implements VoidOperator {
         final Instant start = Instant.now();
         try {
             this.augmentationProvisioningService.deleteAll();
+            this.schemaMappingCache.invalidateAll();
             this.errorCountMetric.set(0L);
         } catch (final Exception ex) {
             this.errorCountMetric.incrementAndGet();
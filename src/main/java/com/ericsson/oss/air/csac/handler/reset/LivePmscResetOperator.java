@@ -14,6 +14,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.atomic.AtomicLong;
 
+import com.ericsson.oss.air.csac.repository.cache.KpiOutputTableDigestCache;
 import com.ericsson.oss.air.csac.repository.cache.ResolvedKpiCache;
 import com.ericsson.oss.air.csac.service.kpi.pmsc.PmscRestClient;
 import com.ericsson.oss.air.util.concurrent.AtomicDouble;
@@ -39,6 +40,8 @@ public class LivePmscResetOperator implements PmscConfigurationResetOperator {
 
     private final ResolvedKpiCache resolvedKpiCache;
 
+    private final KpiOutputTableDigestCache kpiOutputTableDigestCache;
+
     @Autowired
     @Qualifier("configurationResetKpiErrorCounter")
     private AtomicLong errorCounter;
@@ -51,6 +54,8 @@ public class LivePmscResetOperator implements PmscConfigurationResetOperator {
     public void apply() {
         final Instant start = Instant.now();
         try {
+            // cleared first, as the PMSC may already have deleted some of the tables if the reset fails
+            this.kpiOutputTableDigestCache.deleteAll();
             this.pmscRestClient.deleteAll();
             this.resolvedKpiCache.deleteAll();
             this.errorCounter.set(0L);
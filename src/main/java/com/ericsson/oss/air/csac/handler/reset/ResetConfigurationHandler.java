@@ -18,6 +18,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.ericsson.oss.air.csac.handler.status.ProvisioningLock;
 import com.ericsson.oss.air.csac.handler.status.ProvisioningTracker;
 import com.ericsson.oss.air.util.concurrent.AtomicDouble;
 import com.ericsson.oss.air.util.logging.FaultHandler;
@@ -45,6 +46,8 @@ public class ResetConfigurationHandler {
 
     private final ProvisioningTracker provisioningTracker;
 
+    private final ProvisioningLock provisioningLock;
+
     @Autowired
     private AtomicDouble configurationResetTotalTime;
 
@@ -67,14 +70,16 @@ public class ResetConfigurationHandler {
     private boolean isPmscEnabled;
 
     /**
-     * Applies the reset operations for resetting CSAC.
+     * Applies the reset operations for resetting CSAC. The reset waits for any running provisioning operation to end.
      */
     public void apply() {
 
-        final Instant start = Instant.now();
-
         final KpiConfigurationResetOperator kpiResetOperator = getKpiResetOperator(this.isPmscEnabled);
 
+        this.provisioningLock.lock();
+
+        final Instant start = Instant.now();
+
         try {
             kpiResetOperator
                     .andThen(this.augmentationResetOperator)
@@ -91,6 +96,7 @@ public class ResetConfigurationHandler {
             final double d = Duration.between(start, Instant.now()).toMillis() / 1000.0D;
             this.configurationResetTotalTime.set(d);
             this.configurationResetTotalErrors.set(getTotalErrors());
+            this.provisioningLock.unlock();
         }
     }
 
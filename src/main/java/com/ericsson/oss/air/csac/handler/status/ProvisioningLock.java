@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.handler.status;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Serializes the operations that change the configuration of the downstream services: the CSAC data flow, run at startup or by a reload job, the
+ * configuration reset, and the drift reconciliation. Unlike the persisted provisioning state, which only records the PROVISIONING stage of the data
+ * flow, the lock is held for the whole of each operation.
+ * <p>
+ * A background operation holding the lock can check whether another operation is waiting for it with {@link #hasQueuedThreads()}, so that it can
+ * release the lock and give way to provisioning.
+ */
+@Component
+public class ProvisioningLock extends ReentrantLock {
+
+    private static final long serialVersionUID = 0L;
+}
@@ -80,6 +80,30 @@ public class ProvisioningTracker implements ApplicationListener<ContextClosedEve
         this.persistProvisioningState(resetState);
     }
 
+    /**
+     * Records the fingerprint of the resource files provisioned by the latest successful provisioning operation.
+     *
+     * @param resourceFingerprint fingerprint of the provisioned resource files
+     */
+    public void recordResourceFingerprint(final String resourceFingerprint) {
+        this.provisioningStateDao.updateResourceFingerprint(resourceFingerprint);
+    }
+
+    /**
+     * Returns true if the latest provisioning operation completed successfully for the resource files with the provided fingerprint.
+     *
+     * @param resourceFingerprint fingerprint of the current resource files
+     * @return true if the resource files with the provided fingerprint are already provisioned
+     */
+    public boolean isProvisioned(final String resourceFingerprint) {
+
+        final ProvisioningState latest = this.provisioningStateDao.findLatest();
+
+        return latest.getProvisioningState() == ProvisioningState.State.COMPLETED
+                && Objects.nonNull(resourceFingerprint)
+                && resourceFingerprint.equals(latest.getResourceFingerprint());
+    }
+
     /**
      * Returns the current provisioning state.
      *
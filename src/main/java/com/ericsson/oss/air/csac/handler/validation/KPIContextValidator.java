@@ -24,6 +24,7 @@ import org.springframework.stereotype.Component;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Component
@@ -68,18 +69,55 @@ public class KPIContextValidator implements CsacValidator<ResourceSubmission> {
         final List<KPIDefinition> kpiDefinitions = resourceSubmission.getKpiDefs();
 
         kpiDefinitions.forEach(kpiDefinition -> {
-            if (!isValidInputMetrics(kpiDefinition)) {
-                final String errorMessage = "Input metrics have different type for this KPI definition: "
-                        + kpiDefinition.getName();
-                log.error(errorMessage);
-                throw new CsacValidationException(errorMessage);
-            }
-            log.debug("Input metrics were validated successfully for KPI definition[name]: '{}' with type: '{}'", kpiDefinition.getName(),
-                    kpiDefinition.getInputMetrics().get(0).getType());
+            checkInputMetricTypes(kpiDefinition);
             checkKPIContext(kpiDefinition, resourceSubmission);
         });
     }
 
+    /**
+     * Validate the kpi definitions in the merged resource submission that have not already been validated against the provided index. The result
+     * is the same as {@link #validateKPIDefinitions(ResourceSubmission)}, but unchanged kpi definitions from earlier resource files are not
+     * validated again and the data dictionary is read at most once per index.
+     *
+     * @param resourceSubmission
+     *         the merged resource submission
+     * @param validationIndex
+     *         index of the resources submitted and validated so far
+     */
+    public void validateKPIDefinitions(final ResourceSubmission resourceSubmission, final ValidationIndex validationIndex) {
+
+        for (final KPIDefinition kpiDefinition : resourceSubmission.getKpiDefs()) {
+
+            if (validationIndex.isValidated(kpiDefinition)) {
+                continue;
+            }
+
+            checkInputMetricTypes(kpiDefinition);
+
+            final Predicate<String> defExists = isComplexKpi(kpiDefinition) ? validationIndex::containsKpi : validationIndex::containsPm;
+            kpiDefinition.getInputMetrics().forEach(inputMetric -> checkInputMetricId(inputMetric, defExists, kpiDefinition.getName()));
+
+            validationIndex.setValidated(kpiDefinition);
+        }
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Validate a kpi definition only contains same type in input metrics
+     */
+    private void checkInputMetricTypes(final KPIDefinition kpiDefinition) {
+
+        if (!isValidInputMetrics(kpiDefinition)) {
+            final String errorMessage = "Input metrics have different type for this KPI definition: "
+                    + kpiDefinition.getName();
+            log.error(errorMessage);
+            throw new CsacValidationException(errorMessage);
+        }
+        log.debug("Input metrics were validated successfully for KPI definition[name]: '{}' with type: '{}'", kpiDefinition.getName(),
+                kpiDefinition.getInputMetrics().get(0).getType());
+    }
+
     /**
      * Validate a kpi definition only references existing pm or kpi definitions as input metrics in current resource submission
      *
@@ -110,7 +148,7 @@ public class KPIContextValidator implements CsacValidator<ResourceSubmission> {
         final Set<String> kpiNamesInDictionary = this.kpiDefinitionDAO.getAllKpiDefNames();
         kpiDefNames.addAll(kpiNamesInDictionary);
 
-        kpi.getInputMetrics().forEach(inputMetric -> checkInputMetricId(inputMetric, kpiDefNames, kpi.getName()));
+        kpi.getInputMetrics().forEach(inputMetric -> checkInputMetricId(inputMetric, kpiDefNames::contains, kpi.getName()));
     }
 
     /**
@@ -125,7 +163,7 @@ public class KPIContextValidator implements CsacValidator<ResourceSubmission> {
         final Set<String> pmDefNames = resourceSubmission.getPmDefs().stream().map(PMDefinition::getName).collect(Collectors.toSet());
         final Set<String> existingPmDefNames = this.pmDefinitionDAO.getAllPmDefNames();
         pmDefNames.addAll(existingPmDefNames);
-        kpi.getInputMetrics().forEach(inputMetric -> checkInputMetricId(inputMetric, pmDefNames, kpi.getName()));
+        kpi.getInputMetrics().forEach(inputMetric -> checkInputMetricId(inputMetric, pmDefNames::contains, kpi.getName()));
     }
 
     /**
@@ -148,15 +186,15 @@ public class KPIContextValidator implements CsacValidator<ResourceSubmission> {
      *
      * @param inputMetric
      *         the input metric contains reference
-     * @param defNames
-     *         all the definition names in resource submission and dictionary
+     * @param defExists
+     *         true if the definition name exists in the resource submission or dictionary
      * @param kpiName
      *         the current kpi definition name
      * @throws CsacValidationException
      */
-    private void checkInputMetricId(final InputMetric inputMetric, final Set<String> defNames, final String kpiName)
+    private void checkInputMetricId(final InputMetric inputMetric, final Predicate<String> defExists, final String kpiName)
             throws CsacValidationException {
-        if (!defNames.contains(inputMetric.getId())) {
+        if (!defExists.test(inputMetric.getId())) {
             // throw exception only when the kpi does not exist neither in current resource submission nor dictionary
             final String errorMessage = "This KPI definition: " + kpiName +
                     " references non existing " + inputMetric.getType() + " definitions as input metric: " + inputMetric.getId();
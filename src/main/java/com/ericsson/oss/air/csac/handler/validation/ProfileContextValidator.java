@@ -18,6 +18,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,7 +27,6 @@ import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
-import com.ericsson.oss.air.csac.model.AugmentationDefinition;
 import com.ericsson.oss.air.csac.model.InputMetric;
 import com.ericsson.oss.air.csac.model.InputMetricOverride;
 import com.ericsson.oss.air.csac.model.KPIDefinition;
@@ -75,8 +75,49 @@ public class ProfileContextValidator implements CsacValidator<ResourceSubmission
             return;
         }
 
+        // the dictionary is read once per validation rather than once per profile
+        final Map<String, KPIDefinition> kpiDefNameIdx = this.kpiDefinitionDAO.findAll().stream()
+                .collect(Collectors.toMap(KPIDefinition::getName, Function.identity(), (first, second) -> second));
+        kpiDefNameIdx.putAll(Objects.requireNonNullElse(resourceSubmission.getKpiDefs(), new ArrayList<KPIDefinition>()).stream()
+                .collect(Collectors.toMap(KPIDefinition::getName, Function.identity(), (first, second) -> second)));
+
+        final Set<String> augmentationNames = new HashSet<>();
+        if (!ObjectUtils.isEmpty(resourceSubmission.getAugmentationDefinitions())) {
+            resourceSubmission.getAugmentationDefinitions()
+                    .forEach(augmentationDefinition -> augmentationNames.add(augmentationDefinition.getName()));
+        }
+
         final List<ProfileDefinition> profileDefinitions = resourceSubmission.getProfileDefs();
-        profileDefinitions.forEach(profileDefinition -> checkProfileContext(profileDefinition, resourceSubmission));
+        profileDefinitions.forEach(profileDefinition -> checkProfileContext(profileDefinition, kpiDefNameIdx::get, augmentationNames::contains));
+    }
+
+    /**
+     * Validates the profiles in the merged resource submission that have not already been validated against the provided index. Profiles that
+     * reference a KPI definition changed since they were validated are validated again. The result is the same as
+     * {@link #validateProfileDefinitions(ResourceSubmission)}, but unchanged profiles from earlier resource files are not validated again and the
+     * data dictionary is read at most once per index.
+     *
+     * @param resourceSubmission the merged resource submission
+     * @param validationIndex    index of the resources submitted and validated so far
+     * @throws CsacValidationException
+     */
+    public void validateProfileDefinitions(final ResourceSubmission resourceSubmission, final ValidationIndex validationIndex) {
+
+        if (!resourceSubmission.hasProfileDefs()) {
+            return;
+        }
+
+        for (final ProfileDefinition profileDefinition : resourceSubmission.getProfileDefs()) {
+
+            if (validationIndex.isValidated(profileDefinition)) {
+                continue;
+            }
+
+            checkProfileContext(profileDefinition, validationIndex::findKpi, validationIndex::containsAugmentation);
+            validationIndex.setValidated(profileDefinition);
+        }
+
+        validationIndex.profileValidationCompleted();
     }
 
     /**
@@ -91,27 +132,24 @@ public class ProfileContextValidator implements CsacValidator<ResourceSubmission
      * </ul>
      *
      * @param profileDefinition  the profile definition to be validated
-     * @param resourceSubmission the resource submission that contains the KPIs to be validated against
+     * @param kpiLookup          returns the KPI definition with a given name from the current submission or the data dictionary, or null
+     * @param augmentationExists returns true if an augmentation definition with a given name exists in the current submission
      * @throws CsacValidationException
      */
-    private void checkProfileContext(final ProfileDefinition profileDefinition, final ResourceSubmission resourceSubmission) {
-
-        final Set<KPIDefinition> resourceKpiDefinitions = new HashSet<>(resourceSubmission.getKpiDefs());
-        final Set<KPIDefinition> dbKpiDefinitions = new HashSet<>(this.kpiDefinitionDAO.findAll());
+    private void checkProfileContext(final ProfileDefinition profileDefinition, final Function<String, KPIDefinition> kpiLookup,
+                                     final Predicate<String> augmentationExists) {
 
         //If profile has augmentation, check if associated augmentation definition exists in resource submission.
         final String profileAugmentation = profileDefinition.getAugmentation();
         if (StringUtils.hasText(profileAugmentation)) {
-            validateProfileAugmentation(profileAugmentation, resourceSubmission);
+            validateProfileAugmentation(profileAugmentation, augmentationExists);
         }
 
-        final Map<String, KPIDefinition> kpiDefNameIdx = dbKpiDefinitions.stream()
-                .collect(Collectors.toMap(KPIDefinition::getName, Function.identity()));
-        kpiDefNameIdx.putAll(resourceKpiDefinitions.stream().collect(Collectors.toMap(KPIDefinition::getName, Function.identity())));
-
         profileDefinition.getKpis().forEach(kpiReference -> {
 
-            if (!kpiDefNameIdx.containsKey(kpiReference.getRef())) {
+            final KPIDefinition kpiDefinition = kpiLookup.apply(kpiReference.getRef());
+
+            if (Objects.isNull(kpiDefinition)) {
 
                 final String errorMessage = String.format("KPI %s does not exist in the existing resource submissions or data dictionary",
                                                           kpiReference.getRef());
@@ -122,25 +160,18 @@ public class ProfileContextValidator implements CsacValidator<ResourceSubmission
 
             if (!isBlank(kpiReference.getInputMetricOverrides())) {
                 final List<String> profileContext = profileDefinition.getContext();
-                checkInputMetricOverrideContext(kpiReference, kpiDefNameIdx.get(kpiReference.getRef()), profileContext);
+                checkInputMetricOverrideContext(kpiReference, kpiDefinition, profileContext);
             }
         });
     }
 
-    private void validateProfileAugmentation(final String profileAugmentation, final ResourceSubmission resourceSubmission) {
+    private void validateProfileAugmentation(final String profileAugmentation, final Predicate<String> augmentationExists) {
 
-        final String errorMsg = String.format("Augmentation %s does not exist in the existing resource submissions", profileAugmentation);
-        final List<AugmentationDefinition> augmentationDefinitionList = resourceSubmission.getAugmentationDefinitions();
-
-        if (!ObjectUtils.isEmpty(augmentationDefinitionList)) {
-
-            for (final AugmentationDefinition augmentationDefinition : augmentationDefinitionList) {
-                if (augmentationDefinition.getName().equals(profileAugmentation)) {
-                    return;
-                }
-            }
+        if (augmentationExists.test(profileAugmentation)) {
+            return;
         }
 
+        final String errorMsg = String.format("Augmentation %s does not exist in the existing resource submissions", profileAugmentation);
         final CsacValidationException cve = new CsacValidationException(errorMsg);
         this.faultHandler.fatal(cve);
         throw cve;
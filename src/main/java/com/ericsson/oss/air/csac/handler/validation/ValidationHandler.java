@@ -20,6 +20,8 @@ import com.ericsson.oss.air.csac.handler.validation.augmentation.AugmentationVal
 import com.ericsson.oss.air.csac.handler.validation.pmsc.PmscConfigurationValidator;
 import com.ericsson.oss.air.csac.model.PMDefinition;
 import com.ericsson.oss.air.csac.model.ResourceSubmission;
+import com.ericsson.oss.air.csac.repository.KPIDefinitionDAO;
+import com.ericsson.oss.air.csac.repository.PMDefinitionDAO;
 import com.ericsson.oss.air.exception.CsacValidationException;
 import io.micrometer.core.instrument.Counter;
 import jakarta.validation.ConstraintViolation;
@@ -48,6 +50,12 @@ public class ValidationHandler {
     @Autowired
     private PmscConfigurationValidator pmscConfigurationValidator;
 
+    @Autowired
+    private KPIDefinitionDAO kpiDefinitionDAO;
+
+    @Autowired
+    private PMDefinitionDAO pmDefinitionDAO;
+
     private Validator validator;
 
     private static final Counter pmValidationErrorCounter = CustomMetricsRegistry.registerPMValidationErrorCount();
@@ -103,6 +111,22 @@ public class ValidationHandler {
         }
     }
 
+    /**
+     * Validates the context of the KPI definitions in the merged resource submission that have not already been validated against the provided
+     * index.
+     *
+     * @param resourceSubmission the merged resource submission
+     * @param validationIndex    index of the resources submitted and validated so far in the current data flow
+     */
+    public void validateKPIDefinitions(final ResourceSubmission resourceSubmission, final ValidationIndex validationIndex) {
+        try {
+            this.kpiContextValidator.validateKPIDefinitions(resourceSubmission, validationIndex);
+        } catch (final RuntimeException e) {
+            kpiValidationErrorCounter.increment();
+            throw e;
+        }
+    }
+
     /**
      * Validates the context of Profile definitions in the submitted resources after bean validation
      *
@@ -112,6 +136,26 @@ public class ValidationHandler {
         this.profileContextValidator.validateProfileDefinitions(resourceSubmission);
     }
 
+    /**
+     * Validates the context of the Profile definitions in the merged resource submission that have not already been validated against the provided
+     * index.
+     *
+     * @param resourceSubmission the merged resource submission
+     * @param validationIndex    index of the resources submitted and validated so far in the current data flow
+     */
+    public void validateProfileDefinitions(final ResourceSubmission resourceSubmission, final ValidationIndex validationIndex) {
+        this.profileContextValidator.validateProfileDefinitions(resourceSubmission, validationIndex);
+    }
+
+    /**
+     * Returns a new, empty validation index for incremental validation of the resource files in a single data flow.
+     *
+     * @return a new, empty validation index
+     */
+    public ValidationIndex newValidationIndex() {
+        return new ValidationIndex(this.kpiDefinitionDAO, this.pmDefinitionDAO);
+    }
+
     /**
      * Validates the context of the augmentation definitions in the provided resource submission.
      *
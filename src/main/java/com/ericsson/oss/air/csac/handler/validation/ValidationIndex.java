@@ -0,0 +1,271 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.handler.validation;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.ericsson.oss.air.csac.model.KPIDefinition;
+import com.ericsson.oss.air.csac.model.KPIReference;
+import com.ericsson.oss.air.csac.model.ProfileDefinition;
+import com.ericsson.oss.air.csac.model.ResourceSubmission;
+import com.ericsson.oss.air.csac.repository.KPIDefinitionDAO;
+import com.ericsson.oss.air.csac.repository.PMDefinitionDAO;
+
+/**
+ * Index of the resources submitted and validated so far in a single CSAC data flow. It is used to validate each resource file incrementally: only
+ * the KPI and profile definitions that a file adds or changes are validated, along with any previously validated profile definitions that
+ * reference a KPI definition changed since they were validated.
+ * <p>
+ * Because merging resource submissions never removes a definition, a definition that was valid against an earlier merged submission remains valid
+ * against any later one unless the definition itself, or a KPI definition it references, has changed. Incremental validation therefore produces the
+ * same result as revalidating the whole merged submission after each file.
+ * <p>
+ * The data dictionary is read lazily, at most once per index. A new index must be created for each data flow. This class is not thread-safe.
+ */
+public class ValidationIndex {
+
+    private final KPIDefinitionDAO kpiDefinitionDAO;
+
+    private final PMDefinitionDAO pmDefinitionDAO;
+
+    private final Map<String, KPIDefinition> submittedKpis = new HashMap<>();
+
+    private final Set<String> submittedPmNames = new HashSet<>();
+
+    private final Set<String> submittedAugmentationNames = new HashSet<>();
+
+    private final Map<String, KPIDefinition> validatedKpis = new HashMap<>();
+
+    private final Map<String, ProfileDefinition> validatedProfiles = new HashMap<>();
+
+    private final Set<String> changedKpiNames = new HashSet<>();
+
+    private Set<String> dictionaryKpiNames;
+
+    private Set<String> dictionaryPmNames;
+
+    private Map<String, KPIDefinition> dictionaryKpis;
+
+    /**
+     * Creates an empty validation index backed by the provided data dictionary.
+     *
+     * @param kpiDefinitionDAO KPI definition DAO for the data dictionary
+     * @param pmDefinitionDAO  PM definition DAO for the data dictionary
+     */
+    public ValidationIndex(final KPIDefinitionDAO kpiDefinitionDAO, final PMDefinitionDAO pmDefinitionDAO) {
+        this.kpiDefinitionDAO = kpiDefinitionDAO;
+        this.pmDefinitionDAO = pmDefinitionDAO;
+    }
+
+    /**
+     * Adds the definitions in the provided resource submission to this index. This method must be called each time a resource submission is merged
+     * into the master resource submission, before the merged submission is validated.
+     *
+     * @param resourceSubmission the resource submission that was merged
+     */
+    public void add(final ResourceSubmission resourceSubmission) {
+
+        nullSafe(resourceSubmission.getPmDefs()).forEach(pmDef -> this.submittedPmNames.add(pmDef.getName()));
+        nullSafe(resourceSubmission.getAugmentationDefinitions()).forEach(augDef -> this.submittedAugmentationNames.add(augDef.getName()));
+
+        for (final KPIDefinition kpiDef : nullSafe(resourceSubmission.getKpiDefs())) {
+            if (!kpiDef.equals(this.submittedKpis.put(kpiDef.getName(), kpiDef))) {
+                this.changedKpiNames.add(kpiDef.getName());
+            }
+        }
+    }
+
+    /**
+     * Adds the definitions in the provided resource submission to this index and records its KPI and profile definitions as validated. This
+     * method is used instead of {@link #add(ResourceSubmission)} for a resource submission that was validated by an earlier data flow and has not
+     * changed since. A KPI definition in the submission is only tracked as changed if it replaces a different submitted definition, so its profile
+     * definitions are validated again only if they reference a KPI definition changed since the last profile validation pass.
+     *
+     * @param resourceSubmission the previously validated resource submission that was merged
+     */
+    public void addValidated(final ResourceSubmission resourceSubmission) {
+
+        nullSafe(resourceSubmission.getPmDefs()).forEach(pmDef -> this.submittedPmNames.add(pmDef.getName()));
+        nullSafe(resourceSubmission.getAugmentationDefinitions()).forEach(augDef -> this.submittedAugmentationNames.add(augDef.getName()));
+
+        for (final KPIDefinition kpiDef : nullSafe(resourceSubmission.getKpiDefs())) {
+
+            final KPIDefinition replacedKpi = this.submittedKpis.put(kpiDef.getName(), kpiDef);
+
+            if (Objects.nonNull(replacedKpi) && !kpiDef.equals(replacedKpi)) {
+                this.changedKpiNames.add(kpiDef.getName());
+            }
+
+            this.setValidated(kpiDef);
+        }
+
+        nullSafe(resourceSubmission.getProfileDefs()).forEach(this::setValidated);
+    }
+
+    /**
+     * Returns true if a KPI definition with the specified name exists in the submitted resources or the data dictionary.
+     *
+     * @param kpiName KPI definition name
+     * @return true if a KPI definition with the specified name exists in the submitted resources or the data dictionary
+     */
+    public boolean containsKpi(final String kpiName) {
+        return this.submittedKpis.containsKey(kpiName) || this.getDictionaryKpiNames().contains(kpiName);
+    }
+
+    /**
+     * Returns true if a PM definition with the specified name exists in the submitted resources or the data dictionary.
+     *
+     * @param pmName PM definition name
+     * @return true if a PM definition with the specified name exists in the submitted resources or the data dictionary
+     */
+    public boolean containsPm(final String pmName) {
+        return this.submittedPmNames.contains(pmName) || this.getDictionaryPmNames().contains(pmName);
+    }
+
+    /**
+     * Returns true if an augmentation definition with the specified name exists in the submitted resources.
+     *
+     * @param augmentationName augmentation definition name
+     * @return true if an augmentation definition with the specified name exists in the submitted resources
+     */
+    public boolean containsAugmentation(final String augmentationName) {
+        return this.submittedAugmentationNames.contains(augmentationName);
+    }
+
+    /**
+     * Returns the KPI definition with the specified name. Submitted KPI definitions take precedence over the data dictionary.
+     *
+     * @param kpiName KPI definition name
+     * @return the KPI definition with the specified name, or null if it does not exist
+     */
+    public KPIDefinition findKpi(final String kpiName) {
+
+        final KPIDefinition submittedKpi = this.submittedKpis.get(kpiName);
+
+        return Objects.nonNull(submittedKpi) ? submittedKpi : this.getDictionaryKpis().get(kpiName);
+    }
+
+    /**
+     * Returns true if the provided KPI definition has already been validated.
+     *
+     * @param kpiDefinition KPI definition
+     * @return true if the provided KPI definition has already been validated
+     */
+    public boolean isValidated(final KPIDefinition kpiDefinition) {
+        return kpiDefinition.equals(this.validatedKpis.get(kpiDefinition.getName()));
+    }
+
+    /**
+     * Records the provided KPI definition as validated.
+     *
+     * @param kpiDefinition validated KPI definition
+     */
+    public void setValidated(final KPIDefinition kpiDefinition) {
+        this.validatedKpis.put(kpiDefinition.getName(), kpiDefinition);
+    }
+
+    /**
+     * Returns true if the provided profile definition has already been validated and none of the KPI definitions it references have changed
+     * since the last profile validation pass.
+     *
+     * @param profileDefinition profile definition
+     * @return true if the provided profile definition does not need to be validated again
+     */
+    public boolean isValidated(final ProfileDefinition profileDefinition) {
+
+        if (!profileDefinition.equals(this.validatedProfiles.get(profileDefinition.getName()))) {
+            return false;
+        }
+
+        for (final KPIReference kpiReference : nullSafe(profileDefinition.getKpis())) {
+            if (this.changedKpiNames.contains(kpiReference.getRef())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Records the provided profile definition as validated.
+     *
+     * @param profileDefinition validated profile definition
+     */
+    public void setValidated(final ProfileDefinition profileDefinition) {
+        this.validatedProfiles.put(profileDefinition.getName(), profileDefinition);
+    }
+
+    /**
+     * Marks the end of a profile validation pass. Changed KPI definitions are tracked from this point onwards.
+     */
+    public void profileValidationCompleted() {
+        this.changedKpiNames.clear();
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns the KPI definition names in the data dictionary, reading them on first use.
+     */
+    private Set<String> getDictionaryKpiNames() {
+
+        if (Objects.isNull(this.dictionaryKpiNames)) {
+            this.dictionaryKpiNames = this.kpiDefinitionDAO.getAllKpiDefNames();
+        }
+
+        return this.dictionaryKpiNames;
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns the PM definition names in the data dictionary, reading them on first use.
+     */
+    private Set<String> getDictionaryPmNames() {
+
+        if (Objects.isNull(this.dictionaryPmNames)) {
+            this.dictionaryPmNames = this.pmDefinitionDAO.getAllPmDefNames();
+        }
+
+        return this.dictionaryPmNames;
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns the KPI definitions in the data dictionary keyed by name, reading them on first use.
+     */
+    private Map<String, KPIDefinition> getDictionaryKpis() {
+
+        if (Objects.isNull(this.dictionaryKpis)) {
+            this.dictionaryKpis = this.kpiDefinitionDAO.findAll().stream()
+                    .collect(Collectors.toMap(KPIDefinition::getName, Function.identity(), (first, second) -> second));
+        }
+
+        return this.dictionaryKpis;
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns the provided list, or an empty list if it is null.
+     */
+    private static <T> List<T> nullSafe(final List<T> definitions) {
+        return Objects.requireNonNullElse(definitions, List.of());
+    }
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import com.ericsson.oss.air.exception.CsacValidationException;
+
+/**
+ * Insertion-ordered list of resource definitions indexed by name. Adding a definition with the same name as an existing definition replaces the
+ * existing definition in its original position, so adding or replacing a definition is O(1). A collection of definitions added together, such as
+ * the definitions from one resource file, must not contain duplicate names.
+ * <p>
+ * The list cannot be modified through the {@link List} interface. It is modified only by its owner, which is the resource submission that created
+ * it.
+ *
+ * @param <T> resource definition type
+ */
+final class ResourceDefinitionList<T extends ResourceDefinition> extends AbstractList<T> implements RandomAccess {
+
+    private final Object owner;
+
+    private final List<T> definitions = new ArrayList<>();
+
+    private final Map<String, Integer> indexByName = new HashMap<>();
+
+    /*
+     * (non-javadoc)
+     *
+     * Creates an empty list owned by the provided object.
+     */
+    ResourceDefinitionList(final Object owner) {
+        this.owner = owner;
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns true if this list is owned by the provided object.
+     */
+    boolean isOwnedBy(final Object candidate) {
+        return this.owner == candidate;
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Adds the provided definition, replacing any existing definition with the same name in its original position.
+     */
+    void put(final T definition) {
+
+        final Integer index = this.indexByName.putIfAbsent(definition.getName(), this.definitions.size());
+
+        if (Objects.isNull(index)) {
+            this.definitions.add(definition);
+            this.modCount++;
+        } else {
+            this.definitions.set(index, definition);
+        }
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Adds each of the provided definitions in order, replacing any existing definitions with the same names. This list is not modified if the
+     * provided definitions contain duplicate names.
+     */
+    void putAll(final Collection<? extends T> newDefinitions) {
+
+        final Set<String> newNames = new HashSet<>();
+
+        for (final T definition : newDefinitions) {
+            if (!newNames.add(definition.getName())) {
+                throw new CsacValidationException("Duplicate resource definition name: " + definition.getName());
+            }
+        }
+
+        newDefinitions.forEach(this::put);
+    }
+
+    @Override
+    public T get(final int index) {
+        return this.definitions.get(index);
+    }
+
+    @Override
+    public int size() {
+        return this.definitions.size();
+    }
+}
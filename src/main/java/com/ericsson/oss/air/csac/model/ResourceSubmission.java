@@ -16,13 +16,9 @@ import static com.ericsson.oss.air.csac.model.ResourceSubmission.PM_DEFS;
 import static com.ericsson.oss.air.csac.model.ResourceSubmission.PM_SCHEMAS;
 import static com.ericsson.oss.air.csac.model.ResourceSubmission.PROFILE_DEFS;
 
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import com.ericsson.oss.air.exception.CsacValidationException;
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -154,7 +150,12 @@ public class ResourceSubmission {
 
     /**
      * Merges the provided {@link ResourceSubmission} onto this object. For properties with the same name, the property from the new
-     * {@link ResourceSubmission} overwrites the existing property
+     * {@link ResourceSubmission} overwrites the existing property in its original position. Otherwise, the merged definitions are in the order
+     * they were first merged.
+     * <p>
+     * The merged definitions are held in name-indexed lists owned by this object, so a merge is proportional to the size of the new
+     * {@link ResourceSubmission} rather than the total number of definitions merged so far. The lists in the new {@link ResourceSubmission} are
+     * not modified or shared.
      *
      * @param newResourceSubmission The new {@link ResourceSubmission} to be merged with the existing one
      */
@@ -163,153 +164,54 @@ public class ResourceSubmission {
             throw new CsacValidationException("New Resource Submission does not exist");
         }
 
-        final List<PMSchemaDefinition> mergedPmSchemaDefs = getMergedPmSchemaDefs(newResourceSubmission);
-        if (!CollectionUtils.isEmpty(mergedPmSchemaDefs)) {
-            this.setPmSchemaDefs(mergedPmSchemaDefs);
+        if (newResourceSubmission.hasPmSchemaDefs()) {
+            this.setPmSchemaDefs(getMergedResourceDefinitions(this.pmSchemaDefs, newResourceSubmission.getPmSchemaDefs()));
         }
 
-        final List<PMDefinition> mergedPmDefs = getMergedPmDefs(newResourceSubmission);
-        if (!CollectionUtils.isEmpty(mergedPmDefs)) {
-            this.setPmDefs(mergedPmDefs);
+        if (newResourceSubmission.hasPmDefs()) {
+            this.setPmDefs(getMergedResourceDefinitions(this.pmDefs, newResourceSubmission.getPmDefs()));
         }
 
-        final List<KPIDefinition> mergedKpiDefs = getMergedKpiDefs(newResourceSubmission);
-        if (!CollectionUtils.isEmpty(mergedKpiDefs)) {
-            this.setKpiDefs(mergedKpiDefs);
+        if (newResourceSubmission.hasKpiDefs()) {
+            this.setKpiDefs(getMergedResourceDefinitions(this.kpiDefs, newResourceSubmission.getKpiDefs()));
         }
 
-        final List<AugmentationDefinition> mergedAugDefs = getMergedAugmentationDefs(newResourceSubmission);
-        if (!mergedAugDefs.isEmpty()) {
-            this.setAugmentationDefinitions(mergedAugDefs);
+        if (newResourceSubmission.hasAugmentationDefs()) {
+            this.setAugmentationDefinitions(getMergedResourceDefinitions(this.augmentationDefinitions,
+                    newResourceSubmission.getAugmentationDefinitions()));
         }
 
-        final List<ProfileDefinition> mergedProfileDefs = getMergedProfileDefs(newResourceSubmission);
-        if (!CollectionUtils.isEmpty(mergedProfileDefs)) {
-            this.setProfileDefs(mergedProfileDefs);
+        if (newResourceSubmission.hasProfileDefs()) {
+            this.setProfileDefs(getMergedResourceDefinitions(this.profileDefs, newResourceSubmission.getProfileDefs()));
         }
     }
 
     /**
-     * Gets a list of the merged {@link PMDefinition} objects. For PM Definitions with the same name, the property from the new
-     * {@link ResourceSubmission} overwrites the existing property
-     *
-     * @param newResourceSubmission The new {@link ResourceSubmission} to be merged with the existing one
-     * @return the merged list of {@link PMDefinition} objects, empty list if both {@link PMDefinition} lists are null/empty
-     */
-    private List<PMDefinition> getMergedPmDefs(ResourceSubmission newResourceSubmission) {
-        if (hasPmDefs()) {
-            if (newResourceSubmission.hasPmDefs()) {
-                return getMergedResourceDefinitions(pmDefs, newResourceSubmission.getPmDefs());
-            } else {
-                return pmDefs;
-            }
-        } else {
-            if (newResourceSubmission.hasPmDefs()) {
-                return newResourceSubmission.getPmDefs();
-            } else {
-                return List.of();
-            }
-        }
-    }
-
-    /*
-     * Returns a list of PM schema definitions that includes both existing definitions in this resource submission and those provided by the
-     * specified resource submission.
-     */
-    private List<PMSchemaDefinition> getMergedPmSchemaDefs(final ResourceSubmission newResourceSubmission) {
-
-        final List<PMSchemaDefinition> merged = new ArrayList<>();
-
-        if (this.hasPmSchemaDefs()) {
-            if (newResourceSubmission.hasPmSchemaDefs()) {
-                merged.addAll(getMergedResourceDefinitions(this.pmSchemaDefs, newResourceSubmission.getPmSchemaDefs()));
-            }
-        } else {
-            merged.addAll(newResourceSubmission.getPmSchemaDefs());
-        }
-
-        return merged;
-    }
-
-    /**
-     * Gets a list of the merged {@link KPIDefinition} objects. For KPI Definitions with the same name, the property from the new
-     * {@link ResourceSubmission} overwrites the existing property
+     * Get the merged list of {@link ResourceDefinition}. Definitions in the new List with the same name overwrite the previous definitions.
+     * <p>
+     * The previous definitions are updated in place if they are already held in a list owned by this resource submission. Otherwise, they are
+     * copied once into a new list owned by this resource submission.
      *
-     * @param newResourceSubmission The new {@link ResourceSubmission} to be merged with the existing one
-     * @return the merged list of {@link KPIDefinition} objects, empty list if both {@link KPIDefinition} lists are null/empty
+     * @param prevDefs A list of {@link ResourceDefinition} objects read previously
+     * @param newDefs  A list of {@link ResourceDefinition} objects from a more recent resource file
+     * @return a master list of {@link ResourceDefinition} objects that is a union of the two inputs
      */
-    private List<KPIDefinition> getMergedKpiDefs(ResourceSubmission newResourceSubmission) {
-        if (hasKpiDefs()) {
-            if (newResourceSubmission.hasKpiDefs()) {
-                return getMergedResourceDefinitions(kpiDefs, newResourceSubmission.getKpiDefs());
-            } else {
-                return kpiDefs;
-            }
-        } else {
-            if (newResourceSubmission.hasKpiDefs()) {
-                return newResourceSubmission.getKpiDefs();
-            } else {
-                return List.of();
-            }
-        }
-    }
+    private <T extends ResourceDefinition> List<T> getMergedResourceDefinitions(final List<T> prevDefs, final List<T> newDefs) {
 
-    /*
-     * Gets a list of the merged {@link ProfileDefinition} objects. For Profile Definitions with the same name, the property from the new
-     * {@link ResourceSubmission} overwrites the existing property
-     *
-     * @param newResourceSubmission
-     *         The new {@link ResourceSubmission} to be merged with the existing one
-     * @return the merged list of {@link ProfileDefinition} objects, empty list if both {@link ProfileDefinition} lists are null/empty
-     */
-    private List<ProfileDefinition> getMergedProfileDefs(final ResourceSubmission newResourceSubmission) {
-        if (hasProfileDefs()) {
-            if (newResourceSubmission.hasProfileDefs()) {
-                return getMergedResourceDefinitions(profileDefs, newResourceSubmission.getProfileDefs());
-            } else {
-                return profileDefs;
-            }
-        } else {
-            if (newResourceSubmission.hasProfileDefs()) {
-                return newResourceSubmission.getProfileDefs();
-            } else {
-                return List.of();
-            }
+        if (prevDefs instanceof ResourceDefinitionList<T> ownedDefs && ownedDefs.isOwnedBy(this)) {
+            ownedDefs.putAll(newDefs);
+            return ownedDefs;
         }
-    }
-
-    /*
-     *Returns a list of augmentation definitions that includes both existing definitions in this resource submission and those provided by the
-     * specified resource submission.
-     */
-    private List<AugmentationDefinition> getMergedAugmentationDefs(final ResourceSubmission newResourceSubmission) {
 
-        final List<AugmentationDefinition> merged = new ArrayList<>();
+        final ResourceDefinitionList<T> mergedDefs = new ResourceDefinitionList<>(this);
 
-        if (this.hasAugmentationDefs()) {
-            if (newResourceSubmission.hasAugmentationDefs()) {
-                merged.addAll(getMergedResourceDefinitions(this.augmentationDefinitions, newResourceSubmission.getAugmentationDefinitions()));
-            }
-        } else {
-            merged.addAll(newResourceSubmission.getAugmentationDefinitions());
+        if (Objects.nonNull(prevDefs)) {
+            mergedDefs.putAll(prevDefs);
         }
 
-        return merged;
-    }
-
-    /**
-     * Get the merged list of {@link ResourceDefinition}. Definitions in the new List with the same name overwrite the previous definitions.
-     *
-     * @param prevDefs A list of {@link ResourceDefinition} objects read previously
-     * @param newDefs  A list of {@link ResourceDefinition} objects from a more recent resource file
-     * @return a master list of {@link ResourceDefinition} objects that is a union of the two inputs
-     */
-    private <T extends ResourceDefinition> List<T> getMergedResourceDefinitions(final List<T> prevDefs, final List<T> newDefs) {
-        final Map<String, T> newDefsMap = newDefs.stream().collect(Collectors.toMap(ResourceDefinition::getName, val -> val));
-        Map<String, T> prevDefsMap = prevDefs.stream().collect(Collectors.toMap(ResourceDefinition::getName, val -> val));
+        mergedDefs.putAll(newDefs);
 
-        prevDefsMap.putAll(newDefsMap);
-        return new ArrayList<>(prevDefsMap.values());
+        return mergedDefs;
     }
 
     /**
@@ -319,20 +221,19 @@ public class ResourceSubmission {
      */
     public void addPmCountersToPmDefList() {
 
-        final Map<String, PMDefinition> pmDefsFromPmSchemas = new HashMap<>();
+        final ResourceDefinitionList<PMDefinition> pmDefsFromPmSchemas = new ResourceDefinitionList<>(this);
 
         this.pmSchemaDefs.stream().filter(PMSchemaDefinition::hasPmCounters).forEach(pmSchemaDef -> {
 
             for (final PMSchemaDefinition.PMCounter pmCounter : pmSchemaDef.getPmCounters()) {
-
-                final PMDefinition pmDefinition = pmCounter.toPmDefinition(pmSchemaDef.getUri());
-                pmDefsFromPmSchemas.put(pmDefinition.getName(), pmDefinition);
+                pmDefsFromPmSchemas.put(pmCounter.toPmDefinition(pmSchemaDef.getUri()));
             }
         });
 
-        this.pmDefs.forEach(pmDefinition -> pmDefsFromPmSchemas.put(pmDefinition.getName(), pmDefinition));
+        // the PM definitions replace any PM counters with the same names
+        this.pmDefs.forEach(pmDefsFromPmSchemas::put);
 
-        this.pmDefs = new ArrayList<>(pmDefsFromPmSchemas.values());
+        this.pmDefs = pmDefsFromPmSchemas;
 
     }
 }
@@ -138,6 +138,11 @@ public class ProvisioningState implements Comparable<ProvisioningState> {
     @Builder.Default
     private State provisioningState = State.STARTED;
 
+    /*
+     * Fingerprint of the resource files provisioned by a COMPLETED provisioning operation, or null if none was recorded.
+     */
+    private String resourceFingerprint;
+
     @Override
     public int hashCode() {
         return this.id.hashCode();
@@ -11,7 +11,11 @@
 package com.ericsson.oss.air.csac.model.runtime;
 
 import java.util.List;
+import java.util.Objects;
 
+import com.ericsson.oss.air.csac.model.InputMetricOverride;
+import com.ericsson.oss.air.csac.model.KPIReference;
+import com.ericsson.oss.air.util.codec.Digest;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -27,6 +31,8 @@ import lombok.NoArgsConstructor;
          setterPrefix = "with")
 public class RuntimeKpiKey {
 
+    private static final Digest DIGEST = new Digest();
+
     private String kpDefinitionName;
 
     private List<String> aggregationFields;
@@ -34,4 +40,79 @@ public class RuntimeKpiKey {
     private Integer aggregationPeriod;
 
     private String referenceKey;
+
+    /**
+     * Returns the reference key for a KPI reference. The key is a digest of a canonical encoding of the reference fields: the KPI reference, the
+     * aggregation period and each input metric override with its aggregation period and context. Every value is length-prefixed so that distinct
+     * references cannot produce the same encoding. Absent and empty values are encoded identically, as they are in the JSON representation of a
+     * KPI reference.
+     *
+     * @param kpiReference the KPI reference
+     * @return the reference key for the KPI reference
+     */
+    public static String referenceKeyOf(final KPIReference kpiReference) {
+
+        final StringBuilder encoding = new StringBuilder(64);
+
+        appendValue(encoding, kpiReference.getRef());
+        appendValue(encoding, kpiReference.getAggregationPeriod());
+
+        final List<InputMetricOverride> inputMetricOverrides = kpiReference.getInputMetricOverrides();
+        final int overrideCount = Objects.isNull(inputMetricOverrides) ? 0 : inputMetricOverrides.size();
+        encoding.append(overrideCount).append('[');
+
+        for (int i = 0; i < overrideCount; i++) {
+            final InputMetricOverride inputMetricOverride = inputMetricOverrides.get(i);
+            if (Objects.isNull(inputMetricOverride)) {
+                encoding.append('-');
+                continue;
+            }
+            appendValue(encoding, inputMetricOverride.getId());
+            appendValue(encoding, inputMetricOverride.getAggregationPeriod());
+
+            final List<String> context = inputMetricOverride.getContext();
+            final int contextSize = Objects.isNull(context) ? 0 : context.size();
+            encoding.append(contextSize).append('[');
+            for (int j = 0; j < contextSize; j++) {
+                appendElement(encoding, context.get(j));
+            }
+        }
+
+        return DIGEST.getDigestAsHex(encoding.toString());
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Appends a string property value. Null and empty values are equivalent.
+     */
+    private static void appendValue(final StringBuilder encoding, final String value) {
+        appendElement(encoding, Objects.isNull(value) ? "" : value);
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Appends an integer property value.
+     */
+    private static void appendValue(final StringBuilder encoding, final Integer value) {
+        if (Objects.isNull(value)) {
+            encoding.append('-');
+        } else {
+            encoding.append(value).append(';');
+        }
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Appends a string list element as its length followed by its value. Null and empty elements are distinct.
+     */
+    private static void appendElement(final StringBuilder encoding, final String element) {
+        if (Objects.isNull(element)) {
+            encoding.append('-');
+        } else {
+            encoding.append(element.length()).append(':').append(element);
+        }
+    }
 }
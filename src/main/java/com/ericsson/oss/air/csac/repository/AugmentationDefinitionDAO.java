@@ -11,9 +11,12 @@
 package com.ericsson.oss.air.csac.repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import com.ericsson.oss.air.csac.model.AugmentationDefinition;
+import com.ericsson.oss.air.util.codec.ContentDigest;
 
 /**
  * Data dictionary DAO API for {@link com.ericsson.oss.air.csac.model.AugmentationDefinition}.
@@ -35,6 +38,16 @@ public interface AugmentationDefinitionDAO {
      */
     List<AugmentationDefinition> findAll();
 
+    /**
+     * Returns the content digest of every augmentation definition in the data dictionary, keyed by augmentation Id. The digests can be compared
+     * with {@link ContentDigest#of(Object)} of a submitted definition without materializing the stored definitions.
+     *
+     * @return map of augmentation Id to content digest
+     */
+    default Map<String, String> findAllDigests() {
+        return this.findAll().stream().collect(Collectors.toMap(AugmentationDefinition::getName, ContentDigest::of));
+    }
+
     /**
      * Returns a paged list of all augmentation definitions in the data dictionary, ordered by augmentation Id.
      *
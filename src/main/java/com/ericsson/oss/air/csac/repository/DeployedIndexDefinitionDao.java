@@ -10,9 +10,11 @@
 
 package com.ericsson.oss.air.csac.repository;
 
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import com.ericsson.oss.air.csac.model.runtime.index.DeployedIndexDefinitionDto;
+import com.ericsson.oss.air.util.codec.ContentDigest;
 
 /**
  * DAO API for successfully deployed {@link DeployedIndexDefinitionDao} instances.
@@ -27,4 +29,15 @@ public interface DeployedIndexDefinitionDao extends DaoRepository<DeployedIndexD
      * @return a stream of {@code DeployedIndexDefinitionDao} from the repository.
      */
     <S extends DeployedIndexDefinitionDto> Stream<S> stream();
+
+    /**
+     * Returns the content digest of the specified deployed index definition, or an empty Optional if the index definition does not exist.
+     *
+     * @param id
+     *         index definition name
+     * @return optional containing the {@link ContentDigest} of the deployed index definition
+     */
+    default Optional<String> findDigestById(final String id) {
+        return this.findById(id).map(ContentDigest::of);
+    }
 }
@@ -11,10 +11,14 @@
 package com.ericsson.oss.air.csac.repository;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import com.ericsson.oss.air.csac.model.ProfileDefinition;
 import com.ericsson.oss.air.csac.model.pmsc.KpiDefinitionDTO;
 import com.ericsson.oss.air.csac.model.runtime.RuntimeKpiInstance;
+import com.ericsson.oss.air.csac.model.runtime.RuntimeKpiKey;
 import com.ericsson.oss.air.csac.model.runtime.metadata.KpiContextId;
 
 /**
@@ -40,6 +44,16 @@ public interface DeployedKpiDefDAO {
      */
     void createDeployedKpi(final KpiDefinitionDTO kpiDefinitionDTO, final String kpiDefName, final List<String> aggregationFields);
 
+    /**
+     * Create or update multiple deployed kpis. Each kpi is stored with the kpi definition name and aggregation fields of its runtime kpi key.
+     *
+     * @param runtimeKpis the kpi definition dtos to persist, keyed by runtime kpi key
+     */
+    default void createDeployedKpis(final Map<RuntimeKpiKey, KpiDefinitionDTO> runtimeKpis) {
+        runtimeKpis.forEach((runtimeKpiKey, kpiDefinitionDTO) -> this.createDeployedKpi(kpiDefinitionDTO, runtimeKpiKey.getKpDefinitionName(),
+                runtimeKpiKey.getAggregationFields()));
+    }
+
     /**
      * Update deployed kpi.
      *
@@ -108,6 +122,16 @@ public interface DeployedKpiDefDAO {
      */
     List<RuntimeKpiInstance> findAllRuntimeKpis();
 
+    /**
+     * Passes every runtime KPI instance stored in the runtime data store to the provided consumer, one instance at a time. Implementations
+     * should avoid materializing the full result set in memory.
+     *
+     * @param consumer consumer receiving each runtime KPI instance
+     */
+    default void streamAllRuntimeKpis(final Consumer<RuntimeKpiInstance> consumer) {
+        this.findAllRuntimeKpis().forEach(consumer);
+    }
+
     /**
      * Returns a paged list of runtime KPIs as stored in the runtime data store.
      *
@@ -126,6 +150,18 @@ public interface DeployedKpiDefDAO {
      */
     List<RuntimeKpiInstance> findAllRuntimeKpis(boolean visibleOnly);
 
+    /**
+     * Returns a list of all runtime KPI instances created from any of the provided KPI definition names.
+     *
+     * @param kpiDefinitionNames the KPI definition names to match
+     * @return a list of runtime KPI instances created from any of the provided KPI definition names
+     */
+    default List<RuntimeKpiInstance> findAllRuntimeKpisByDefinitionNames(final Set<String> kpiDefinitionNames) {
+        return this.findAllRuntimeKpis().stream()
+                .filter(runtimeKpiInstance -> kpiDefinitionNames.contains(runtimeKpiInstance.getKpDefinitionName()))
+                .toList();
+    }
+
     /**
      * This function returns a list of runtime KPI instances associated with the provided KPI context ID. If the 'visibleOnly' parameter is set to
      * 'true', the results will be filtered based on the 'is_visible' property in the KPI definition.
@@ -11,10 +11,12 @@
 package com.ericsson.oss.air.csac.repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-
+import java.util.stream.Collectors;
 
 import com.ericsson.oss.air.csac.model.AugmentationDefinition;
+import com.ericsson.oss.air.util.codec.ContentDigest;
 
 /**
  * Runtime DAO API for {@link AugmentationDefinition}.
@@ -40,6 +42,15 @@ public interface EffectiveAugmentationDAO {
      */
     List<AugmentationDefinition> findAll();
 
+    /**
+     * Returns the content digest of every effective augmentation definition in the runtime data store, keyed by augmentation Id.
+     *
+     * @return map of augmentation Id to content digest
+     */
+    default Map<String, String> findAllDigests() {
+        return this.findAll().stream().collect(Collectors.toMap(AugmentationDefinition::getName, ContentDigest::of));
+    }
+
     /**
      * Returns the specified effective augmentation definition, or an empty Optional if definition does not exist. To retrieve associated profiles,
      * use the {@link EffectiveAugmentationDAO#findAllProfileNames(String)} findAllProfileNames} method.
@@ -10,8 +10,14 @@
 
 package com.ericsson.oss.air.csac.repository;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import com.ericsson.oss.air.csac.model.KPIDefinition;
 import com.ericsson.oss.air.csac.model.PMDefinition;
@@ -36,6 +42,20 @@ public interface KPIDefinitionDAO {
      */
     KPIDefinition findByKPIDefName(final String kpiDefName);
 
+    /**
+     * Find all KPIDefinitions matching the provided KPIDefinition names. Names without a matching definition are ignored.
+     *
+     * @param kpiDefNames
+     *         set of KPIDefinition names
+     * @return set of matching KPIDefinition objects
+     */
+    default Set<KPIDefinition> findByKPIDefNames(final Set<String> kpiDefNames) {
+        return kpiDefNames.stream()
+                .map(this::findByKPIDefName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
     /**
      * Get all KPI definition names
      *
@@ -71,6 +91,28 @@ public interface KPIDefinitionDAO {
         return !ObjectUtils.isEmpty(byKPIDefName) && byKPIDefName.equals(kpiDef);
     }
 
+    /**
+     * Returns the provided KPI definitions that do not match the KPI definition with the same name in the data dictionary. The data dictionary is
+     * read once for the whole collection rather than once per KPI definition.
+     *
+     * @param kpiDefs
+     *         the KPI definitions to be matched
+     * @return the KPI definitions that are new or differ from the data dictionary
+     */
+    default Set<KPIDefinition> findUnmatched(final Collection<KPIDefinition> kpiDefs) {
+
+        if (ObjectUtils.isEmpty(kpiDefs)) {
+            return new HashSet<>();
+        }
+
+        final Map<String, KPIDefinition> dictionaryKpiDefs = this.findAll().stream()
+                .collect(Collectors.toMap(KPIDefinition::getName, Function.identity(), (first, second) -> first));
+
+        return kpiDefs.stream()
+                .filter(kpiDef -> !Objects.equals(kpiDef, dictionaryKpiDefs.get(kpiDef.getName())))
+                .collect(Collectors.toSet());
+    }
+
     /**
      * A method returns a set of affected @{@link KPIDefinition} by given a set of  @{@link PMDefinition}
      *
@@ -10,9 +10,13 @@
 
 package com.ericsson.oss.air.csac.repository;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import com.ericsson.oss.air.csac.model.PMDefinition;
 import org.springframework.util.ObjectUtils;
@@ -57,6 +61,40 @@ public interface PMDefinitionDAO {
      */
     PMDefinition findByPMDefName(final String pmdefName);
 
+    /**
+     * Find all PMDefinitions matching the provided PMDefinition names. Names without a matching definition are ignored.
+     *
+     * @param pmDefNames set of PMDefinition names
+     * @return map of PMDefinition name to PMDefinition object
+     */
+    default Map<String, PMDefinition> findByPMDefNames(final Set<String> pmDefNames) {
+        final Map<String, PMDefinition> pmDefsByName = new HashMap<>();
+        pmDefNames.forEach(pmDefName -> {
+            final PMDefinition pmDef = this.findByPMDefName(pmDefName);
+            if (!ObjectUtils.isEmpty(pmDef)) {
+                pmDefsByName.put(pmDefName, pmDef);
+            }
+        });
+        return pmDefsByName;
+    }
+
+    /**
+     * Find the schema names for the provided PMDefinition names. Names without a schema are ignored.
+     *
+     * @param pmDefNames set of PMDefinition names
+     * @return map of PMDefinition name to schema name
+     */
+    default Map<String, String> findSchemasByPMDefNames(final Set<String> pmDefNames) {
+        final Map<String, String> schemasByPmDefName = new HashMap<>();
+        pmDefNames.forEach(pmDefName -> {
+            final String schemaName = this.findSchemaByPMDefName(pmDefName);
+            if (!ObjectUtils.isEmpty(schemaName)) {
+                schemasByPmDefName.put(pmDefName, schemaName);
+            }
+        });
+        return schemasByPmDefName;
+    }
+
     /**
      * Find all PMDefinitions by start page and number of rows
      *
@@ -91,4 +129,21 @@ public interface PMDefinitionDAO {
         return !ObjectUtils.isEmpty(byPMDefName) && byPMDefName.equals(pmDef);
     }
 
+    /**
+     * Returns the provided PM definitions that do not match the PM definition with the same name in the data dictionary.
+     *
+     * @param pmDefs The pm definitions to be matched
+     * @return the PM definitions that are new or differ from the data dictionary
+     */
+    default Set<PMDefinition> findUnmatched(final Collection<PMDefinition> pmDefs) {
+
+        if (ObjectUtils.isEmpty(pmDefs)) {
+            return new HashSet<>();
+        }
+
+        return pmDefs.stream()
+                .filter(pmDef -> !this.isMatched(pmDef))
+                .collect(Collectors.toSet());
+    }
+
 }
@@ -10,9 +10,17 @@
 
 package com.ericsson.oss.air.csac.repository;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import com.ericsson.oss.air.csac.model.PMSchemaDefinition;
+import org.springframework.util.ObjectUtils;
 
 /**
  * API for all {@link PMSchemaDefinition} repository operations.
@@ -32,6 +40,27 @@ public interface PMSchemaDefinitionDao extends DaoRepository<PMSchemaDefinition,
         return matchedDefinition.isPresent() && matchedDefinition.get().equals(pmSchemaDefinition);
     }
 
+    /**
+     * Returns the provided PM Schema definitions that do not match the PM Schema definition with the same name in the DAO. The DAO is read once
+     * for the whole collection rather than once per PM Schema definition.
+     *
+     * @param pmSchemaDefinitions the PM Schema definitions to be matched
+     * @return the PM Schema definitions that are new or differ from the DAO
+     */
+    default Set<PMSchemaDefinition> findUnmatched(final Collection<PMSchemaDefinition> pmSchemaDefinitions) {
+
+        if (ObjectUtils.isEmpty(pmSchemaDefinitions)) {
+            return new HashSet<>();
+        }
+
+        final Map<String, PMSchemaDefinition> storedDefinitions = new HashMap<>();
+        this.findAll().forEach(definition -> storedDefinitions.putIfAbsent(definition.getName(), definition));
+
+        return pmSchemaDefinitions.stream()
+                .filter(definition -> !Objects.equals(definition, storedDefinitions.get(definition.getName())))
+                .collect(Collectors.toSet());
+    }
+
     @Override
     default void deleteById(final String id) {
         throw new UnsupportedOperationException();
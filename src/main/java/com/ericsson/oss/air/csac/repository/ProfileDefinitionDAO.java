@@ -11,9 +11,12 @@
 package com.ericsson.oss.air.csac.repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import com.ericsson.oss.air.csac.model.ProfileDefinition;
+import com.ericsson.oss.air.util.codec.ContentDigest;
 
 /**
  * Data dictionary DAO API for {@link com.ericsson.oss.air.csac.model.ProfileDefinition}.
@@ -51,6 +54,16 @@ public interface ProfileDefinitionDAO {
      */
     List<ProfileDefinition> findAll();
 
+    /**
+     * Returns the content digest of every profile definition in the data dictionary, keyed by profile name. The digests can be compared with
+     * {@link ContentDigest#of(Object)} of a submitted definition without materializing the stored definitions.
+     *
+     * @return map of profile name to content digest
+     */
+    default Map<String, String> findAllDigests() {
+        return this.findAll().stream().collect(Collectors.toMap(ProfileDefinition::getName, ContentDigest::of));
+    }
+
     /**
      * Returns the total number of profile definitions in the data dictionary.
      *
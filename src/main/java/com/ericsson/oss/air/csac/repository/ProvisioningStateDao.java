@@ -24,6 +24,14 @@ public interface ProvisioningStateDao extends DaoRepository<ProvisioningState, I
      */
     ProvisioningState findLatest();
 
+    /**
+     * Records the provided resource file fingerprint against the latest provisioning state. The fingerprint is only recorded if the latest
+     * provisioning state is {@code COMPLETED}.
+     *
+     * @param resourceFingerprint fingerprint of the resource files provisioned by the latest provisioning operation
+     */
+    void updateResourceFingerprint(String resourceFingerprint);
+
     /*
      * (non-javadoc)
      *
@@ -0,0 +1,185 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.repository.cache;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import com.ericsson.oss.air.csac.model.pmsc.KpiOutputTableDto;
+import com.ericsson.oss.air.csac.model.pmsc.KpiOutputTableListDto;
+import com.ericsson.oss.air.csac.model.pmsc.KpiSubmissionDto;
+import com.ericsson.oss.air.csac.model.pmsc.SimpleKpiOutputTableDto;
+import com.ericsson.oss.air.util.codec.ContentDigest;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository bean that keeps a digest of each KPI output table last accepted by the PMSC, keyed by output table name. A KPI submission can be
+ * reduced to the output tables whose digest has changed since they were last accepted, so that unchanged tables are not submitted again.
+ * <p>
+ * The digest covers the table type, alias, aggregation period, aggregation elements, data reliability offset, input data identifier, and the set
+ * of KPI definitions in the table. The order of the KPI definitions in the table is not significant.
+ * <p>
+ * The digests are held in memory only. After a restart, every table is submitted once before it can be skipped.
+ */
+@Slf4j
+@Repository
+@NoArgsConstructor
+public class KpiOutputTableDigestCache {
+
+    private final Map<String, String> tableDigests = new ConcurrentHashMap<>();
+
+    /**
+     * Indicates whether unchanged output tables are removed from KPI submissions.
+     */
+    @Getter(AccessLevel.PACKAGE) // Getter for unit tests only
+    private boolean enabled = true;
+
+    @Autowired
+    public void setEnabled(
+            @Value("${provisioning.pmsc.submission.skipUnchangedTables:true}")
+            final Boolean enabled) {
+        this.enabled = !Boolean.FALSE.equals(enabled);
+        log.debug("Skipping of unchanged KPI output tables is " + (this.enabled ? "enabled" : "disabled"));
+    }
+
+    /**
+     * Returns the name of the PMSC output table for the provided table DTO, for example kpi_csac_simple_snssai_15.
+     *
+     * @param table KPI output table DTO
+     * @return the name of the PMSC output table
+     */
+    public static String getTableName(final KpiOutputTableDto table) {
+        return "kpi_" + table.getAlias() + "_" + table.getAggregationPeriod().getValue();
+    }
+
+    /**
+     * Returns a copy of the provided KPI submission without the output tables that are unchanged since they were last accepted by the PMSC. The
+     * provided KPI submission is returned as is if skipping unchanged tables is disabled.
+     *
+     * @param kpiSubmission KPI submission to reduce
+     * @return a KPI submission containing only new or changed output tables
+     */
+    public KpiSubmissionDto removeUnchanged(final KpiSubmissionDto kpiSubmission) {
+
+        if (!this.enabled) {
+            return kpiSubmission;
+        }
+
+        final KpiSubmissionDto changedSubmission = KpiSubmissionDto.builder()
+                .onDemand(this.removeUnchanged(kpiSubmission.getOnDemand()))
+                .scheduledComplex(this.removeUnchanged(kpiSubmission.getScheduledComplex()))
+                .scheduledSimple(this.removeUnchanged(kpiSubmission.getScheduledSimple()))
+                .build();
+
+        final int unchangedCount = countTables(kpiSubmission) - countTables(changedSubmission);
+
+        if (unchangedCount > 0) {
+            log.info("Skipping {} unchanged KPI output tables", unchangedCount);
+        }
+
+        return changedSubmission;
+    }
+
+    /**
+     * Records the digests of the output tables in the provided KPI submission once it has been accepted by the PMSC.
+     *
+     * @param kpiSubmission KPI submission accepted by the PMSC
+     */
+    public void putAccepted(final KpiSubmissionDto kpiSubmission) {
+
+        if (!this.enabled) {
+            return;
+        }
+
+        getTables(kpiSubmission).forEach(table -> this.tableDigests.put(getTableName(table), digest(table)));
+    }
+
+    /**
+     * Deletes all output table digests in the cache, so that all tables are submitted again.
+     */
+    public void deleteAll() {
+        this.tableDigests.clear();
+    }
+
+    /**
+     * Returns the number of output table digests in the cache.
+     *
+     * @return the number of output table digests in the cache
+     */
+    public int size() {
+        return this.tableDigests.size();
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns a table list containing only the new or changed tables in the provided table list, or null if there is none.
+     */
+    private KpiOutputTableListDto removeUnchanged(final KpiOutputTableListDto tableList) {
+
+        if (Objects.isNull(tableList)) {
+            return null;
+        }
+
+        final List<KpiOutputTableDto> changedTables = tableList.getKpiOutputTables().stream()
+                .filter(table -> !digest(table).equals(this.tableDigests.get(getTableName(table))))
+                .toList();
+
+        return changedTables.isEmpty() ? null : new KpiOutputTableListDto(changedTables);
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns the digest of the provided table. The KPI definitions are digested individually and sorted, so that their order in the table does not
+     * affect the digest.
+     */
+    private static String digest(final KpiOutputTableDto table) {
+
+        final List<String> kpiDigests = table.getKpiDefinitions().stream().map(ContentDigest::of).sorted().toList();
+        final String inputDataIdentifier = table instanceof final SimpleKpiOutputTableDto simpleTable ? simpleTable.getInputDataIdentifier() : null;
+
+        return ContentDigest.of(Arrays.asList(table.getClass().getSimpleName(), table.getAlias(), table.getAggregationPeriod(),
+                table.getAggregationElements(), table.getDataReliabilityOffset(), inputDataIdentifier, kpiDigests));
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns all the tables in the provided KPI submission.
+     */
+    private static List<KpiOutputTableDto> getTables(final KpiSubmissionDto kpiSubmission) {
+
+        return Stream.of(kpiSubmission.getOnDemand(), kpiSubmission.getScheduledComplex(), kpiSubmission.getScheduledSimple())
+                .filter(Objects::nonNull)
+                .flatMap(tableList -> tableList.getKpiOutputTables().stream())
+                .toList();
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns the number of tables in the provided KPI submission.
+     */
+    private static int countTables(final KpiSubmissionDto kpiSubmission) {
+        return getTables(kpiSubmission).size();
+    }
+}
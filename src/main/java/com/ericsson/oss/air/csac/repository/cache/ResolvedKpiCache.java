@@ -10,20 +10,52 @@
 
 package com.ericsson.oss.air.csac.repository.cache;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
+import com.ericsson.oss.air.csac.model.KPIDefinition;
 import com.ericsson.oss.air.csac.model.pmsc.KpiDefinitionDTO;
+import com.ericsson.oss.air.csac.model.pmsc.KpiTypeEnum;
+import com.ericsson.oss.air.csac.model.runtime.RuntimeKpiInstance;
 import com.ericsson.oss.air.csac.model.runtime.RuntimeKpiKey;
 import com.ericsson.oss.air.csac.repository.DeployedKpiDefDAO;
+import com.ericsson.oss.air.csac.repository.KPIDefinitionDAO;
+import com.ericsson.oss.air.exception.CsacValidationException;
+import com.ericsson.oss.air.util.codec.ContentDigest;
+import com.ericsson.oss.air.util.concurrent.AtomicDouble;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 /**
- * Repository bean that will keep a local copy of all newly instantiated runtime KPI instances
+ * Repository bean that will keep a local copy of all newly instantiated runtime KPI instances. The cache is safe for use by concurrent KPI
+ * calculations. New or modified instances are tracked until they are flushed, so that each flush only persists the instances that changed since
+ * the previous flush.
+ * <p>
+ * The cache can optionally be preloaded at startup with the simple runtime KPI instances already stored in the runtime data store. When a maximum
+ * size is configured, the oldest instances that have already been persisted are evicted first. Instances pending flush are never evicted.
+ * <p>
+ * Each preloaded instance records the content digest of the KPI definition it was instantiated from. A preloaded instance whose KPI definition has
+ * changed since is evicted by {@link #evictStale(Collection)}, so that it is instantiated again from the current KPI definition.
  */
+@Slf4j
 @Repository
 @NoArgsConstructor
 public class ResolvedKpiCache {
@@ -31,7 +63,104 @@ public class ResolvedKpiCache {
     @Autowired
     private DeployedKpiDefDAO deployedKpiDefDAO;
 
-    private final Map<RuntimeKpiKey, KpiDefinitionDTO> kpiDefCache = new HashMap<>();
+    @Autowired
+    private KPIDefinitionDAO kpiDefinitionDAO;
+
+    private final Map<RuntimeKpiKey, KpiDefinitionDTO> kpiDefCache = new ConcurrentHashMap<>();
+
+    /**
+     * New or modified runtime KPI instances that have not been flushed to the runtime data store
+     */
+    private final Map<RuntimeKpiKey, KpiDefinitionDTO> dirtyKpiDefs = new ConcurrentHashMap<>();
+
+    /**
+     * Persisted runtime KPI instances in the order they became eligible for eviction. Only maintained when the cache size is bounded.
+     */
+    private final Set<RuntimeKpiKey> evictionOrder = new LinkedHashSet<>();
+
+    /**
+     * Content digest of the source KPI definition of each preloaded runtime KPI instance that has not been replaced since it was preloaded
+     */
+    private final Map<RuntimeKpiKey, String> preloadedSourceDigests = new ConcurrentHashMap<>();
+
+    /**
+     * Indicates whether the cache is preloaded from the runtime data store at startup.
+     */
+    @Getter(AccessLevel.PACKAGE) // Getter for unit tests only
+    private boolean preloadEnabled;
+
+    /**
+     * The maximum number of runtime KPI instances held by the cache. 0 means the cache is unbounded.
+     */
+    @Getter(AccessLevel.PACKAGE) // Getter for unit tests only
+    private int maxSize;
+
+    @Autowired
+    @Qualifier("provisioningKpiCacheHits")
+    private AtomicLong hitCounter;
+
+    @Autowired
+    @Qualifier("provisioningKpiCacheMisses")
+    private AtomicLong missCounter;
+
+    @Autowired
+    @Qualifier("provisioningKpiCacheSize")
+    private AtomicLong sizeGauge;
+
+    @Autowired
+    @Qualifier("provisioningKpiCacheLoadTime")
+    private AtomicDouble loadTime;
+
+    @Autowired
+    public void setPreloadEnabled(
+            @Value("${provisioning.pmsc.kpiCache.preload:false}")
+            final Boolean preloadEnabled) {
+        this.preloadEnabled = Boolean.TRUE.equals(preloadEnabled);
+        log.debug("Preloading of the resolved KPI cache is " + (this.preloadEnabled ? "enabled" : "disabled"));
+    }
+
+    @Autowired
+    public void setMaxSize(
+            @Value("${provisioning.pmsc.kpiCache.maxSize:0}")
+            final Integer maxSize) {
+        if (Objects.isNull(maxSize) || maxSize < 0) {
+            throw new CsacValidationException(String.format("%s is not a permitted value for the resolved KPI cache maximum size", maxSize));
+        }
+
+        this.maxSize = maxSize;
+        log.debug("The maximum size of the resolved KPI cache is set to : " + this.maxSize);
+    }
+
+    /**
+     * Preloads the cache with the simple runtime KPI instances stored in the runtime data store, if preloading is enabled. The runtime KPI
+     * instances are read in a single streaming query. Complex runtime KPI instances are not preloaded as their cache key cannot be derived from
+     * the persisted instance. Runtime KPI instances whose KPI definition is no longer in the data dictionary are not preloaded either.
+     */
+    public void preload() {
+
+        if (!this.preloadEnabled) {
+            log.debug("Preloading of the resolved KPI cache is disabled");
+            return;
+        }
+
+        final Instant start = Instant.now();
+        final AtomicInteger loaded = new AtomicInteger();
+
+        // the dictionary has not been updated yet, so it holds the KPI definitions the runtime KPI instances were instantiated from
+        final Map<String, String> sourceDigests = this.kpiDefinitionDAO.findAll().stream()
+                .collect(Collectors.toMap(KPIDefinition::getName, ContentDigest::of, (first, second) -> first));
+
+        this.deployedKpiDefDAO.streamAllRuntimeKpis(runtimeKpi -> {
+            if (this.load(runtimeKpi, sourceDigests)) {
+                loaded.incrementAndGet();
+            }
+        });
+
+        this.loadTime.set(Duration.between(start, Instant.now()).toMillis() / 1000.0D);
+
+        log.info("Preloaded {} runtime KPI instances into the resolved KPI cache in {} seconds. Cache size: {}", loaded.get(),
+                this.loadTime.get(), this.size());
+    }
 
     /**
      * Returns the target runtime KPI instance from the cache, or an empty
@@ -44,7 +173,28 @@ public class ResolvedKpiCache {
      * optional if the target KPI instance does not exist.
      */
     public Optional<KpiDefinitionDTO> get(final RuntimeKpiKey key) {
-        return Optional.ofNullable(this.kpiDefCache.get(key));
+
+        final KpiDefinitionDTO rtKpiInstance = this.kpiDefCache.get(key);
+        if (Objects.isNull(rtKpiInstance)) {
+            this.missCounter.incrementAndGet();
+        } else {
+            this.hitCounter.incrementAndGet();
+        }
+
+        return Optional.ofNullable(rtKpiInstance);
+    }
+
+    /**
+     * Returns true if the cache holds a runtime KPI instance for the provided key. Unlike {@link #get(RuntimeKpiKey)}, the lookup is not counted
+     * as a cache hit or miss, so it can be used to plan a calculation without affecting the cache metrics.
+     *
+     * @param key a multi-value key required to uniquely identify the KPI
+     *            instance, e.g. KPI definition name + aggregation fields +
+     *            aggregation period.
+     * @return true if the cache holds a runtime KPI instance for the provided key
+     */
+    public boolean containsKey(final RuntimeKpiKey key) {
+        return this.kpiDefCache.containsKey(key);
     }
 
     /**
@@ -57,16 +207,101 @@ public class ResolvedKpiCache {
      * @param rtKpiInstance new or updated runtime KPI instance to persist.
      */
     public void put(final RuntimeKpiKey key, final KpiDefinitionDTO rtKpiInstance) {
-        this.kpiDefCache.put(key, rtKpiInstance);
+        final KpiDefinitionDTO previous = this.kpiDefCache.put(key, rtKpiInstance);
+        this.preloadedSourceDigests.remove(key);
+        if (!Objects.equals(previous, rtKpiInstance)) {
+            this.dirtyKpiDefs.put(key, rtKpiInstance);
+        }
+        this.sizeGauge.set(this.kpiDefCache.size());
+    }
+
+    /**
+     * Adds the KPI instance to the cache unless an instance already exists for the same key. This guarantees that concurrent writers resolving
+     * the same key end up sharing a single runtime KPI instance.
+     *
+     * @param key           a multi-value key required to uniquely identify the KPI
+     *                      instance, e.g. KPI definition name + aggregation fields +
+     *                      aggregation period.
+     * @param rtKpiInstance new runtime KPI instance to add if absent.
+     * @return the runtime KPI instance held by the cache for this key after the call.
+     */
+    public KpiDefinitionDTO putIfAbsent(final RuntimeKpiKey key, final KpiDefinitionDTO rtKpiInstance) {
+        final KpiDefinitionDTO existing = this.kpiDefCache.putIfAbsent(key, rtKpiInstance);
+        if (existing == null) {
+            this.preloadedSourceDigests.remove(key);
+            this.dirtyKpiDefs.put(key, rtKpiInstance);
+            this.sizeGauge.set(this.kpiDefCache.size());
+            return rtKpiInstance;
+        }
+        return existing;
     }
 
     /**
-     * Flushes all new or updated runtime KPI instances to the runtime data store.
+     * Flushes all new or updated runtime KPI instances to the runtime data store in a single batch. Instances that have not changed since the
+     * previous flush are not written again.
      */
     public void flush() {
-        kpiDefCache.forEach(
-                (runtimeKpiKey, kpiDefinitionDTO) -> this.deployedKpiDefDAO.createDeployedKpi(kpiDefinitionDTO, runtimeKpiKey.getKpDefinitionName(),
-                        runtimeKpiKey.getAggregationFields()));
+
+        if (this.dirtyKpiDefs.isEmpty()) {
+            log.debug("No new or updated runtime KPI instances to flush");
+            return;
+        }
+
+        final Map<RuntimeKpiKey, KpiDefinitionDTO> pendingKpiDefs = new HashMap<>(this.dirtyKpiDefs);
+
+        this.deployedKpiDefDAO.createDeployedKpis(pendingKpiDefs);
+
+        // an instance replaced while the flush was in progress remains dirty
+        pendingKpiDefs.forEach(this.dirtyKpiDefs::remove);
+
+        log.debug("Flushed {} new or updated runtime KPI instances", pendingKpiDefs.size());
+
+        if (this.maxSize > 0) {
+            pendingKpiDefs.keySet().forEach(this::trackEviction);
+            this.evict();
+        }
+    }
+
+    /**
+     * Evicts the preloaded runtime KPI instances whose KPI definition differs from the provided current KPI definition. Preloaded instances of KPI
+     * definitions that are not provided, and instances resolved since the cache was preloaded, are kept.
+     *
+     * @param kpiDefinitions current KPI definitions
+     */
+    public void evictStale(final Collection<KPIDefinition> kpiDefinitions) {
+
+        if (this.preloadedSourceDigests.isEmpty()) {
+            return;
+        }
+
+        final Map<String, String> currentDigests = kpiDefinitions.stream()
+                .collect(Collectors.toMap(KPIDefinition::getName, ContentDigest::of, (first, second) -> first));
+
+        int evicted = 0;
+
+        synchronized (this.evictionOrder) {
+
+            final Iterator<Map.Entry<RuntimeKpiKey, String>> entries = this.preloadedSourceDigests.entrySet().iterator();
+
+            while (entries.hasNext()) {
+
+                final Map.Entry<RuntimeKpiKey, String> entry = entries.next();
+                final String currentDigest = currentDigests.get(entry.getKey().getKpDefinitionName());
+
+                if (Objects.nonNull(currentDigest) && !currentDigest.equals(entry.getValue())) {
+                    entries.remove();
+                    this.evictionOrder.remove(entry.getKey());
+                    this.kpiDefCache.remove(entry.getKey());
+                    ++evicted;
+                }
+            }
+        }
+
+        this.sizeGauge.set(this.kpiDefCache.size());
+
+        if (evicted > 0) {
+            log.info("Evicted {} preloaded runtime KPI instances with changed KPI definitions from the resolved KPI cache", evicted);
+        }
     }
 
     /**
@@ -74,6 +309,32 @@ public class ResolvedKpiCache {
      */
     public void deleteAll() {
         this.kpiDefCache.clear();
+        this.dirtyKpiDefs.clear();
+        this.preloadedSourceDigests.clear();
+
+        synchronized (this.evictionOrder) {
+            this.evictionOrder.clear();
+        }
+
+        this.sizeGauge.set(0L);
+    }
+
+    /**
+     * Returns the number of runtime KPI instances in the cache.
+     *
+     * @return the number of runtime KPI instances in the cache
+     */
+    public int size() {
+        return this.kpiDefCache.size();
+    }
+
+    /**
+     * Returns the number of new or updated runtime KPI instances that have not been flushed.
+     *
+     * @return the number of runtime KPI instances pending flush
+     */
+    public int pendingFlushCount() {
+        return this.dirtyKpiDefs.size();
     }
 
     /**
@@ -84,4 +345,82 @@ public class ResolvedKpiCache {
     protected boolean isEmpty() {
         return this.kpiDefCache.isEmpty();
     }
+
+    /*
+     * (non-javadoc)
+     *
+     * Adds a persisted simple runtime KPI instance to the cache without marking it for flush, recording the digest of its source KPI definition.
+     * Returns false if the instance cannot be cached.
+     */
+    private boolean load(final RuntimeKpiInstance runtimeKpi, final Map<String, String> sourceDigests) {
+
+        if (!(runtimeKpi.getRuntimeDefinition() instanceof KpiDefinitionDTO kpiDefinitionDTO)
+                || kpiDefinitionDTO.getKpiType() != KpiTypeEnum.SIMPLE) {
+            return false;
+        }
+
+        final String sourceDigest = sourceDigests.get(runtimeKpi.getKpDefinitionName());
+
+        if (Objects.isNull(sourceDigest)) {
+            return false;
+        }
+
+        final RuntimeKpiKey key = RuntimeKpiKey.builder()
+                .withKpDefinitionName(runtimeKpi.getKpDefinitionName())
+                .withAggregationFields(runtimeKpi.getContextFieldList())
+                .withAggregationPeriod(kpiDefinitionDTO.getAggregationPeriod())
+                .build();
+
+        if (Objects.nonNull(this.kpiDefCache.putIfAbsent(key, kpiDefinitionDTO))) {
+            return false;
+        }
+
+        this.preloadedSourceDigests.put(key, sourceDigest);
+
+        if (this.maxSize > 0) {
+            this.trackEviction(key);
+            this.evict();
+        }
+
+        this.sizeGauge.set(this.kpiDefCache.size());
+        return true;
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Makes the persisted runtime KPI instance the most recent candidate for eviction.
+     */
+    private void trackEviction(final RuntimeKpiKey key) {
+        synchronized (this.evictionOrder) {
+            this.evictionOrder.remove(key);
+            this.evictionOrder.add(key);
+        }
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Evicts the oldest persisted runtime KPI instances until the cache is within its maximum size. Instances pending flush are skipped and
+     * remain in the cache.
+     */
+    private void evict() {
+
+        synchronized (this.evictionOrder) {
+
+            final Iterator<RuntimeKpiKey> keys = this.evictionOrder.iterator();
+
+            while (this.kpiDefCache.size() > this.maxSize && keys.hasNext()) {
+
+                final RuntimeKpiKey key = keys.next();
+                if (!this.dirtyKpiDefs.containsKey(key)) {
+                    keys.remove();
+                    this.kpiDefCache.remove(key);
+                    this.preloadedSourceDigests.remove(key);
+                }
+            }
+        }
+
+        this.sizeGauge.set(this.kpiDefCache.size());
+    }
 }
@@ -13,7 +13,6 @@ package com.ericsson.oss.air.csac.repository.impl.inmemorydb;
 import static com.ericsson.oss.air.util.RestEndpointUtil.getSafeSublistIndex;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -44,24 +43,6 @@ public class KPIDefinitionDAOImpl implements KPIDefinitionDAO, Clearable {
 
     private final Map<String, KPIDefinition> kpiDefMap = new HashMap<>();
 
-    /**
-     * A method returns a set of affected @{@link KPIDefinition} by given @{@link PMDefinition}
-     */
-    private static Set<KPIDefinition> getAffectedKPIDefsImpl(final PMDefinition pmDef, final Set<KPIDefinition> kpiDefinitionList) {
-        final Set<KPIDefinition> affectedKPIDefs = new HashSet<>();
-
-        kpiDefinitionList.forEach(kpiDef -> {
-            for (final InputMetric inputMetric : kpiDef.getInputMetrics()) {
-                if (inputMetric.getType() == InputMetric.Type.PM_DATA && inputMetric.getId().equals(pmDef.getName())) {
-                    affectedKPIDefs.add(kpiDef);
-                    break;
-                }
-            }
-        });
-
-        return affectedKPIDefs;
-    }
-
     /**
      * A method returns a set of affected @{@link KPIDefinition} by given a set of  @{@link PMDefinition} within given a list of KPIDefinitions
      *
@@ -72,10 +53,16 @@ public class KPIDefinitionDAOImpl implements KPIDefinitionDAO, Clearable {
      * @return a set of @{@link KPIDefinition} that affected by given  @{@link PMDefinition}
      */
     public static Set<KPIDefinition> getAffectedKPIDefs(final Set<PMDefinition> pmDefs, final List<KPIDefinition> kpiDefinitionList) {
-        if (ObjectUtils.isEmpty(kpiDefinitionList)) {
+        if (ObjectUtils.isEmpty(kpiDefinitionList) || ObjectUtils.isEmpty(pmDefs)) {
             return new HashSet<>();
         }
-        return pmDefs.stream().map(pmDef -> getAffectedKPIDefsImpl(pmDef, new HashSet<>(kpiDefinitionList))).flatMap(Collection::stream)
+
+        final Set<String> pmDefNames = pmDefs.stream().map(PMDefinition::getName).collect(Collectors.toSet());
+
+        // single pass over the KPI definitions
+        return kpiDefinitionList.stream()
+                .filter(kpiDef -> kpiDef.getInputMetrics().stream()
+                        .anyMatch(inputMetric -> inputMetric.getType() == InputMetric.Type.PM_DATA && pmDefNames.contains(inputMetric.getId())))
                 .collect(Collectors.toSet());
     }
 
@@ -66,6 +66,16 @@ public class ProvisioningStateDaoImpl implements ProvisioningStateDao {
                 : saveUpdate(entity);
     }
 
+    @Override
+    public void updateResourceFingerprint(final String resourceFingerprint) {
+
+        final ProvisioningState latest = findLatest();
+
+        if (latest.getProvisioningState() == ProvisioningState.State.COMPLETED) {
+            this.rep.put(latest.getId(), latest.toBuilder().withResourceFingerprint(resourceFingerprint).build());
+        }
+    }
+
     @Override
     public Optional<ProvisioningState> findById(final Integer id) {
         return Optional.ofNullable(this.rep.get(id));
@@ -15,13 +15,16 @@ import static java.util.Collections.singletonList;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.ericsson.oss.air.csac.configuration.JdbcConfig;
 import com.ericsson.oss.air.csac.model.AugmentationDefinition;
 import com.ericsson.oss.air.csac.repository.AugmentationDefinitionDAO;
 import com.ericsson.oss.air.csac.repository.impl.jdbc.mapper.AugmentationDefinitionMapper;
+import com.ericsson.oss.air.csac.repository.impl.jdbc.mapper.ContentDigestRowHandler;
 import com.ericsson.oss.air.exception.CsacDAOException;
+import com.ericsson.oss.air.util.codec.ContentDigest;
 import com.ericsson.oss.air.util.logging.FaultHandler;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -54,22 +57,29 @@ public class AugmentationDefinitionDAOJdbcImpl implements AugmentationDefinition
 
     private static final String COLUMN_NAME = "name";
 
+    private static final String COLUMN_DIGEST = "digest";
+
     private static final String TABLE_DICT_AUG_DEF = "%1$s.aug_def";
 
     public static final String SELECT_BY_OFFSET_AND_LIMIT_STATEMENT = "SELECT * FROM " + TABLE_DICT_AUG_DEF + " OFFSET %2$d LIMIT %3$d";
 
     public static final String SELECT_ALL_AUG_DEF_STATEMENT = "SELECT " + COLUMN_DEF + " FROM " + TABLE_DICT_AUG_DEF;
 
+    // the definition is only returned for rows that do not have a digest yet
+    public static final String SELECT_ALL_AUG_DIGEST_STATEMENT = "SELECT " + COLUMN_NAME + ", " + COLUMN_DIGEST
+            + ", CASE WHEN " + COLUMN_DIGEST + " IS NULL THEN " + COLUMN_DEF + " END AS " + COLUMN_DEF
+            + " FROM " + TABLE_DICT_AUG_DEF;
+
     protected static final String DELETE_AUG_DEF_STATEMENT = "DELETE FROM " + TABLE_DICT_AUG_DEF
             + " WHERE " + COLUMN_NAME + " = ?";
 
     protected static final String AUG_COUNT_STATEMENT = "SELECT COUNT(*) FROM " + TABLE_DICT_AUG_DEF;
 
     private static final String INSERT_AUG_DEF_NAMED_STATEMENT = "INSERT INTO " + TABLE_DICT_AUG_DEF
-            + "(name, def)"
-            + " VALUES(:name, to_json(:def::json))"
+            + "(name, def, digest)"
+            + " VALUES(:name, to_json(:def::json), :digest)"
             + " ON CONFLICT (name) DO UPDATE"
-            + " SET def = EXCLUDED.def";
+            + " SET def = EXCLUDED.def, digest = EXCLUDED.digest";
 
     private static final String SELECT_AUG_DEF_STATEMENT = "SELECT " + COLUMN_DEF + " FROM " + TABLE_DICT_AUG_DEF
             + " WHERE name = :name";
@@ -109,7 +119,8 @@ public class AugmentationDefinitionDAOJdbcImpl implements AugmentationDefinition
                 final String augmentationDefString = this.mapper.writeValueAsString(augmentationDefinition);
                 final MapSqlParameterSource augmentationSqlParameterSource = new MapSqlParameterSource()
                         .addValue(COLUMN_NAME, augmentationDefinition.getName())
-                        .addValue(COLUMN_DEF, augmentationDefString);
+                        .addValue(COLUMN_DEF, augmentationDefString)
+                        .addValue(COLUMN_DIGEST, ContentDigest.of(augmentationDefinition));
 
                 augmentationSqlParameterSourceList.add(augmentationSqlParameterSource);
             }
@@ -129,6 +140,17 @@ public class AugmentationDefinitionDAOJdbcImpl implements AugmentationDefinition
                 new AugmentationDefinitionMapper());
     }
 
+    @Override
+    public Map<String, String> findAllDigests() {
+
+        final ContentDigestRowHandler<AugmentationDefinition> rowHandler = new ContentDigestRowHandler<>(COLUMN_NAME, COLUMN_DIGEST,
+                new AugmentationDefinitionMapper());
+
+        this.jdbcTemplate.query(String.format(SELECT_ALL_AUG_DIGEST_STATEMENT, this.jdbcConfig.getDictionarySchemaName()), rowHandler);
+
+        return rowHandler.getDigests();
+    }
+
     @Override
     public List<AugmentationDefinition> findAll(final Integer start, final Integer rows) {
         final Integer total = this.totalAugmentationDefinitions();
@@ -24,9 +24,11 @@ import com.ericsson.oss.air.csac.configuration.JdbcConfig;
 import com.ericsson.oss.air.csac.handler.validation.ValidationHandler;
 import com.ericsson.oss.air.csac.model.runtime.index.DeployedIndexDefinitionDto;
 import com.ericsson.oss.air.csac.repository.DeployedIndexDefinitionDao;
+import com.ericsson.oss.air.csac.repository.impl.jdbc.mapper.ContentDigestRowHandler;
 import com.ericsson.oss.air.csac.repository.impl.jdbc.mapper.DeployedIndexDefinitionMapper;
 import com.ericsson.oss.air.exception.CsacDAOException;
 import com.ericsson.oss.air.util.codec.Codec;
+import com.ericsson.oss.air.util.codec.ContentDigest;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.AllArgsConstructor;
 import org.springframework.context.annotation.Primary;
@@ -57,6 +59,11 @@ public class DeployedIndexDefinitionDaoJdbcImpl implements DeployedIndexDefiniti
      */
     public static final String COLUMN_IDX_DEF = "idx_def";
 
+    /**
+     * Deployed index definition content digest column.
+     */
+    public static final String COLUMN_IDX_DIGEST = "idx_digest";
+
     /**
      * Deployed index definition table.
      */
@@ -64,10 +71,10 @@ public class DeployedIndexDefinitionDaoJdbcImpl implements DeployedIndexDefiniti
 
     // SQL statements
     public static final String INSERT_RT_IDX_DEF_SQL = "INSERT INTO " + TABLE_RT_IDX_DEF
-            + " (" + COLUMN_IDX_NAME + "," + COLUMN_IDX_DEF + ")"
-            + " VALUES(?, to_json(?::json))"
+            + " (" + COLUMN_IDX_NAME + "," + COLUMN_IDX_DEF + "," + COLUMN_IDX_DIGEST + ")"
+            + " VALUES(?, to_json(?::json), ?)"
             + " ON CONFLICT (" + COLUMN_IDX_NAME + ") DO UPDATE"
-            + " SET " + COLUMN_IDX_DEF + " = EXCLUDED." + COLUMN_IDX_DEF;
+            + " SET " + COLUMN_IDX_DEF + " = EXCLUDED." + COLUMN_IDX_DEF + ", " + COLUMN_IDX_DIGEST + " = EXCLUDED." + COLUMN_IDX_DIGEST;
 
     public static final String SELECT_RT_IDX_DEF_SQL = "SELECT " + COLUMN_IDX_DEF + " FROM " + TABLE_RT_IDX_DEF;
 
@@ -75,6 +82,13 @@ public class DeployedIndexDefinitionDaoJdbcImpl implements DeployedIndexDefiniti
 
     public static final String SELECT_RT_IDX_DEF_BY_ID_SQL = SELECT_RT_IDX_DEF_SQL + WHERE + COLUMN_IDX_NAME + " = '%2$s'";
 
+    // the definition is only returned if the index definition does not have a digest yet
+    public static final String SELECT_RT_IDX_DIGEST_SQL = "SELECT " + COLUMN_IDX_NAME + ", " + COLUMN_IDX_DIGEST
+            + ", CASE WHEN " + COLUMN_IDX_DIGEST + " IS NULL THEN " + COLUMN_IDX_DEF + " END AS " + COLUMN_IDX_DEF
+            + " FROM " + TABLE_RT_IDX_DEF;
+
+    public static final String SELECT_RT_IDX_DIGEST_BY_ID_SQL = SELECT_RT_IDX_DIGEST_SQL + WHERE + COLUMN_IDX_NAME + " = ?";
+
     public static final String SELECT_RT_IDX_DEF_IN_IDS_SQL = SELECT_RT_IDX_DEF_SQL + WHERE + COLUMN_IDX_NAME + " IN (%2$s)";
 
     public static final String COUNT_RT_IDX_DEF_SQL = "SELECT COUNT(*) FROM " + TABLE_RT_IDX_DEF;
@@ -106,7 +120,7 @@ public class DeployedIndexDefinitionDaoJdbcImpl implements DeployedIndexDefiniti
             final String idxName = entity.indexDefinitionName();
             final String idxDef = this.codec.writeValueAsString(entity);
 
-            final PreparedStatementSetter statementSetter = this.getSaveStatementSetter(idxName, idxDef);
+            final PreparedStatementSetter statementSetter = this.getSaveStatementSetter(idxName, idxDef, ContentDigest.of(entity));
             this.jdbcTemplate.update(String.format(INSERT_RT_IDX_DEF_SQL, this.jdbcConfig.getRuntimeDatastoreSchemaName()), statementSetter);
 
             return entity;
@@ -121,13 +135,14 @@ public class DeployedIndexDefinitionDaoJdbcImpl implements DeployedIndexDefiniti
      *
      * Returns a PreparedStatementSetter for the save() operation.
      */
-    protected PreparedStatementSetter getSaveStatementSetter(final String idxName, final String idxDef) {
+    protected PreparedStatementSetter getSaveStatementSetter(final String idxName, final String idxDef, final String idxDigest) {
         return new PreparedStatementSetter() {
 
             @Override
             public void setValues(final PreparedStatement ps) throws SQLException {
                 ps.setString(1, idxName);
                 ps.setString(2, idxDef);
+                ps.setString(3, idxDigest);
             }
         };
     }
@@ -141,16 +156,18 @@ public class DeployedIndexDefinitionDaoJdbcImpl implements DeployedIndexDefiniti
 
         try {
 
-            // collect the entity defs to two arrays
+            // collect the entity defs to three arrays
             final List<String> idxNameList = new ArrayList<>();
             final List<String> idxDefList = new ArrayList<>();
+            final List<String> idxDigestList = new ArrayList<>();
 
             for (final S entity : entities) {
                 idxNameList.add(entity.indexDefinitionName());
                 idxDefList.add(this.codec.writeValueAsString(entity));
+                idxDigestList.add(ContentDigest.of(entity));
             }
 
-            final BatchPreparedStatementSetter statementSetter = this.getSaveAllStatementSetter(idxNameList, idxDefList);
+            final BatchPreparedStatementSetter statementSetter = this.getSaveAllStatementSetter(idxNameList, idxDefList, idxDigestList);
             this.jdbcTemplate.batchUpdate(String.format(INSERT_RT_IDX_DEF_SQL, this.jdbcConfig.getRuntimeDatastoreSchemaName()), statementSetter);
 
             return entities;
@@ -165,13 +182,15 @@ public class DeployedIndexDefinitionDaoJdbcImpl implements DeployedIndexDefiniti
      *
      * Return a BatchPreparedStatementSetter for the saveAll operation.
      */
-    protected BatchPreparedStatementSetter getSaveAllStatementSetter(final List<String> idxNameList, final List<String> idxDefList) {
+    protected BatchPreparedStatementSetter getSaveAllStatementSetter(final List<String> idxNameList, final List<String> idxDefList,
+                                                                     final List<String> idxDigestList) {
         return new BatchPreparedStatementSetter() {
 
             @Override
             public void setValues(final PreparedStatement ps, final int i) throws SQLException {
                 ps.setString(1, idxNameList.get(i));
                 ps.setString(2, idxDefList.get(i));
+                ps.setString(3, idxDigestList.get(i));
             }
 
             @Override
@@ -200,6 +219,23 @@ public class DeployedIndexDefinitionDaoJdbcImpl implements DeployedIndexDefiniti
         }
     }
 
+    @Override
+    public Optional<String> findDigestById(final String id) {
+
+        try {
+
+            final ContentDigestRowHandler<DeployedIndexDefinitionDto> rowHandler = new ContentDigestRowHandler<>(COLUMN_IDX_NAME,
+                    COLUMN_IDX_DIGEST, new DeployedIndexDefinitionMapper());
+
+            this.jdbcTemplate.query(String.format(SELECT_RT_IDX_DIGEST_BY_ID_SQL, this.jdbcConfig.getRuntimeDatastoreSchemaName()), rowHandler, id);
+
+            return Optional.ofNullable(rowHandler.getDigests().get(id));
+
+        } catch (final DataAccessException e) {
+            throw new CsacDAOException(e);
+        }
+    }
+
     @Override
     public boolean existsById(final String id) {
 
@@ -16,9 +16,13 @@ import java.sql.Array;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import javax.sql.DataSource;
 
@@ -26,22 +30,28 @@ import com.ericsson.oss.air.csac.configuration.JdbcConfig;
 import com.ericsson.oss.air.csac.model.ProfileDefinition;
 import com.ericsson.oss.air.csac.model.pmsc.KpiDefinitionDTO;
 import com.ericsson.oss.air.csac.model.runtime.RuntimeKpiInstance;
+import com.ericsson.oss.air.csac.model.runtime.RuntimeKpiKey;
 import com.ericsson.oss.air.csac.model.runtime.metadata.KpiContextId;
 import com.ericsson.oss.air.csac.repository.DeployedKpiDefDAO;
 import com.ericsson.oss.air.csac.repository.impl.jdbc.mapper.DeployedKpiDefinitionMapper;
 import com.ericsson.oss.air.csac.repository.impl.jdbc.mapper.RuntimeKpiInstanceMapper;
+import com.ericsson.oss.air.csac.repository.impl.jdbc.util.SqlEncoder;
 import com.ericsson.oss.air.exception.CsacDAOException;
 import com.ericsson.oss.air.util.logging.FaultHandler;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.util.Pair;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
 import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
@@ -95,6 +105,18 @@ public class DeployedKpiDefDAOJdbcImpl implements DeployedKpiDefDAO {
 
     public static final String FIND_ALL_VISIBLE_RT_KPIS = FIND_ALL_RT_KPIS + " WHERE pmsc_kpi_def->>'is_visible' = true";
 
+    public static final String FIND_ALL_RT_KPIS_BY_DEF_NAMES = FIND_ALL_RT_KPIS + " WHERE " + KPI_DEF_NAME_COLUMN + " IN (%2$s)";
+
+    /**
+     * Maximum number of runtime KPI instances sent to the runtime data store in a single JDBC batch
+     */
+    public static final int INSERT_BATCH_SIZE = 1000;
+
+    /**
+     * Number of runtime KPI instances fetched per round trip when streaming the runtime data store
+     */
+    public static final int STREAM_FETCH_SIZE = 1000;
+
     public static final String FIND_ALL_BY_OFFSET_AND_LIMIT_STATEMENT = FIND_ALL_RT_KPIS + " ORDER BY kpi_instance_id OFFSET %2$d LIMIT %3$d";
 
     @Autowired
@@ -146,6 +168,39 @@ public class DeployedKpiDefDAOJdbcImpl implements DeployedKpiDefDAO {
         }
     }
 
+    @Override
+    @Transactional
+    public void createDeployedKpis(final Map<RuntimeKpiKey, KpiDefinitionDTO> runtimeKpis) {
+
+        if (ObjectUtils.isEmpty(runtimeKpis)) {
+            return;
+        }
+
+        final List<DeployedKpiRow> rows = new ArrayList<>(runtimeKpis.size());
+        try {
+            for (final Map.Entry<RuntimeKpiKey, KpiDefinitionDTO> entry : runtimeKpis.entrySet()) {
+                rows.add(new DeployedKpiRow(entry.getValue().getName(), entry.getKey().getKpDefinitionName(),
+                        entry.getKey().getAggregationFields().toArray(), this.mapper.writeValueAsString(entry.getValue())));
+            }
+        } catch (final JsonProcessingException e) {
+            this.faultHandler.fatal(e);
+            throw new CsacDAOException(e);
+        }
+
+        // the aggregation field arrays are created on the connection used by the batch rather than on a separate connection per row
+        final ParameterizedPreparedStatementSetter<DeployedKpiRow> statementSetter = (ps, row) -> {
+            ps.setString(1, row.kpiInstanceId());
+            ps.setString(2, row.kpiDefName());
+            ps.setArray(3, ps.getConnection().createArrayOf("VARCHAR", row.aggregationFields()));
+            ps.setString(4, row.kpiDef());
+        };
+
+        this.jdbcTemplate.batchUpdate(String.format(INSERT_KPI_INSTANCE_STATEMENT, this.jdbcConfig.getRuntimeDatastoreSchemaName()), rows,
+                INSERT_BATCH_SIZE, statementSetter);
+
+        log.debug("Persisted {} runtime KPI instances", rows.size());
+    }
+
     @Override
     public void updateDeployedKpi(final KpiDefinitionDTO kpiDefinitionDTO) {
         try {
@@ -244,6 +299,21 @@ public class DeployedKpiDefDAOJdbcImpl implements DeployedKpiDefDAO {
                 new RuntimeKpiInstanceMapper());
     }
 
+    @Override
+    @Transactional
+    public void streamAllRuntimeKpis(final Consumer<RuntimeKpiInstance> consumer) {
+
+        final String sql = String.format(FIND_ALL_RT_KPIS, this.jdbcConfig.getRuntimeDatastoreSchemaName());
+        final RuntimeKpiInstanceMapper rowMapper = new RuntimeKpiInstanceMapper();
+
+        // the fetch size makes the driver use a server-side cursor instead of reading the whole table in a single round trip
+        this.jdbcTemplate.query(connection -> {
+            final PreparedStatement ps = connection.prepareStatement(sql);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(rowMapper.mapRow(rs, rs.getRow())));
+    }
+
     @Override
     public List<RuntimeKpiInstance> findAllRuntimeKpis(final Integer start, final Integer rows) {
 
@@ -266,6 +336,24 @@ public class DeployedKpiDefDAOJdbcImpl implements DeployedKpiDefDAO {
 
     }
 
+    @Override
+    public List<RuntimeKpiInstance> findAllRuntimeKpisByDefinitionNames(final Set<String> kpiDefinitionNames) {
+
+        if (ObjectUtils.isEmpty(kpiDefinitionNames)) {
+            return new ArrayList<>();
+        }
+
+        final List<RuntimeKpiInstance> runtimeKpis = new ArrayList<>();
+
+        for (final List<String> batch : SqlEncoder.partition(kpiDefinitionNames)) {
+            final String sql = String.format(FIND_ALL_RT_KPIS_BY_DEF_NAMES, this.jdbcConfig.getRuntimeDatastoreSchemaName(),
+                    SqlEncoder.toPlaceholders(batch.size()));
+            runtimeKpis.addAll(this.jdbcTemplate.query(sql, new ArgumentPreparedStatementSetter(batch.toArray()), new RuntimeKpiInstanceMapper()));
+        }
+
+        return runtimeKpis;
+    }
+
     @Override
     public List<RuntimeKpiInstance> findAllByContextId(final KpiContextId contextId, final boolean visibleOnly) {
 
@@ -279,4 +367,11 @@ public class DeployedKpiDefDAOJdbcImpl implements DeployedKpiDefDAO {
                 .toList();
     }
 
+    /*
+     * (non-javadoc)
+     *
+     * Column values of a runtime KPI instance row. The KPI definition is already serialized to JSON.
+     */
+    private record DeployedKpiRow(String kpiInstanceId, String kpiDefName, Object[] aggregationFields, String kpiDef) {
+    }
 }
@@ -11,6 +11,7 @@
 package com.ericsson.oss.air.csac.repository.impl.jdbc;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.ericsson.oss.air.csac.configuration.JdbcConfig;
@@ -18,7 +19,9 @@ import com.ericsson.oss.air.csac.model.AugmentationDefinition;
 import com.ericsson.oss.air.csac.repository.EffectiveAugmentationDAO;
 import com.ericsson.oss.air.csac.repository.impl.EffectiveAugmentationDAOBase;
 import com.ericsson.oss.air.csac.repository.impl.jdbc.mapper.AugmentationDefinitionMapper;
+import com.ericsson.oss.air.csac.repository.impl.jdbc.mapper.ContentDigestRowHandler;
 import com.ericsson.oss.air.exception.CsacDAOException;
+import com.ericsson.oss.air.util.codec.ContentDigest;
 import com.ericsson.oss.air.util.logging.FaultHandler;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -49,6 +52,8 @@ public class EffectiveAugmentationDAOJdbcImpl extends EffectiveAugmentationDAOBa
 
     private static final String COLUMN_DEF = "def";
 
+    private static final String COLUMN_DIGEST = "digest";
+
     private static final String COLUMN_PROF_NAME = "prof_name";
 
     private static final String COLUMN_AUG_NAME = "aug_name";
@@ -58,10 +63,10 @@ public class EffectiveAugmentationDAOJdbcImpl extends EffectiveAugmentationDAOBa
     private static final String TABLE_RT_PROF_AUG = "%1$s.rt_prof_aug";
 
     private static final String INSERT_EFFECTIVE_AUG_DEF_NAMED_STATEMENT = "INSERT INTO " + TABLE_RT_AUG_DEF
-            + "(name, def)"
-            + " VALUES(:name, to_json(:def::json))"
+            + "(name, def, digest)"
+            + " VALUES(:name, to_json(:def::json), :digest)"
             + " ON CONFLICT (name) DO UPDATE"
-            + " SET def = EXCLUDED.def";
+            + " SET def = EXCLUDED.def, digest = EXCLUDED.digest";
 
     private static final String INSERT_AFFECTED_PROFILE_NAMED_STATEMENT = "INSERT INTO " + TABLE_RT_PROF_AUG
             + "(prof_name, aug_name)"
@@ -74,6 +79,11 @@ public class EffectiveAugmentationDAOJdbcImpl extends EffectiveAugmentationDAOBa
 
     public static final String SELECT_ALL_EFFECTIVE_AUG_DEF_STATEMENT = "SELECT " + COLUMN_DEF + " FROM " + TABLE_RT_AUG_DEF;
 
+    // the definition is only returned for rows that do not have a digest yet
+    public static final String SELECT_ALL_EFFECTIVE_AUG_DIGEST_STATEMENT = "SELECT " + COLUMN_NAME + ", " + COLUMN_DIGEST
+            + ", CASE WHEN " + COLUMN_DIGEST + " IS NULL THEN " + COLUMN_DEF + " END AS " + COLUMN_DEF
+            + " FROM " + TABLE_RT_AUG_DEF;
+
     protected static final String DELETE_EFFECTIVE_AUG_DEF_STATEMENT = "DELETE FROM " + TABLE_RT_AUG_DEF
             + " WHERE " + COLUMN_NAME + " = ?";
 
@@ -108,7 +118,8 @@ public class EffectiveAugmentationDAOJdbcImpl extends EffectiveAugmentationDAOBa
 
             final SqlParameterSource namedParameters = new MapSqlParameterSource()
                     .addValue(COLUMN_NAME, augmentationDefinition.getName())
-                    .addValue(COLUMN_DEF, augmentationDefString);
+                    .addValue(COLUMN_DEF, augmentationDefString)
+                    .addValue(COLUMN_DIGEST, ContentDigest.of(augmentationDefinition));
 
             this.namedParameterJdbcTemplate.update(
                     String.format(INSERT_EFFECTIVE_AUG_DEF_NAMED_STATEMENT, this.jdbcConfig.getRuntimeDatastoreSchemaName()), namedParameters);
@@ -136,6 +147,18 @@ public class EffectiveAugmentationDAOJdbcImpl extends EffectiveAugmentationDAOBa
                 new AugmentationDefinitionMapper());
     }
 
+    @Override
+    public Map<String, String> findAllDigests() {
+
+        final ContentDigestRowHandler<AugmentationDefinition> rowHandler = new ContentDigestRowHandler<>(COLUMN_NAME, COLUMN_DIGEST,
+                new AugmentationDefinitionMapper());
+
+        this.jdbcTemplate.query(String.format(SELECT_ALL_EFFECTIVE_AUG_DIGEST_STATEMENT, this.jdbcConfig.getRuntimeDatastoreSchemaName()),
+                rowHandler);
+
+        return rowHandler.getDigests();
+    }
+
     @Override
     public Optional<AugmentationDefinition> findById(final String ardqId) {
 
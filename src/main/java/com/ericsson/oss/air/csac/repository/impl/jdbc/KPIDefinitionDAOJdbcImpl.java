@@ -14,9 +14,13 @@ import static com.ericsson.oss.air.util.RestEndpointUtil.getSafeSublistIndex;
 import static java.util.Collections.singletonList;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.ericsson.oss.air.csac.configuration.JdbcConfig;
@@ -26,6 +30,7 @@ import com.ericsson.oss.air.csac.model.PMDefinition;
 import com.ericsson.oss.air.csac.repository.KPIDefinitionDAO;
 import com.ericsson.oss.air.csac.repository.impl.jdbc.mapper.InputMetricWithKpiDefsMapper;
 import com.ericsson.oss.air.csac.repository.impl.jdbc.mapper.KpiDefinitionMapper;
+import com.ericsson.oss.air.csac.repository.impl.jdbc.util.SqlEncoder;
 import lombok.AllArgsConstructor;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -173,14 +178,16 @@ public class KPIDefinitionDAOJdbcImpl implements KPIDefinitionDAO {
             return;
         }
 
-        final Set<String> kpiNames = kpis.stream().map(KPIDefinition::getName).collect(Collectors.toSet());
+        for (final List<KPIDefinition> batch : SqlEncoder.partition(kpis)) {
+            final Set<String> kpiNames = batch.stream().map(KPIDefinition::getName).collect(Collectors.toSet());
 
-        final String findByNameIMStatement = String.format("SELECT * FROM " + KPI_INPUT_METRIC_TABLE_NAME + " WHERE kpi_name in (%2$s)",
-                this.jdbcConfig.getDictionarySchemaName(),
-                kpiNames.stream().map(v -> "?").collect(Collectors.joining(", ")));
-        this.jdbcTemplate.query(findByNameIMStatement,
-                new ArgumentPreparedStatementSetter(kpiNames.toArray()),
-                new InputMetricWithKpiDefsMapper(kpis));
+            final String findByNameIMStatement = String.format("SELECT * FROM " + KPI_INPUT_METRIC_TABLE_NAME + " WHERE kpi_name in (%2$s)",
+                    this.jdbcConfig.getDictionarySchemaName(),
+                    SqlEncoder.toPlaceholders(kpiNames.size()));
+            this.jdbcTemplate.query(findByNameIMStatement,
+                    new ArgumentPreparedStatementSetter(kpiNames.toArray()),
+                    new InputMetricWithKpiDefsMapper(batch));
+        }
     }
 
     @Override
@@ -207,26 +214,43 @@ public class KPIDefinitionDAOJdbcImpl implements KPIDefinitionDAO {
         return kpis;
     }
 
-    /**
-     * A helper method to return a set of {@link KPIDefinition} by given names
-     *
-     * @param kpiNames a set of kpiNames
-     * @return a set of {@link KPIDefinition}
-     */
-    Set<KPIDefinition> findByKPIDefNames(final Set<String> kpiNames) {
+    @Override
+    public Set<KPIDefinition> findByKPIDefNames(final Set<String> kpiNames) {
         if (ObjectUtils.isEmpty(kpiNames)) {
             return new HashSet<>();
         }
 
-        final String findByNameStatement = String.format("SELECT * FROM " + KPI_DEF_TABLE_NAME + " WHERE name in (%2$s)",
-                this.jdbcConfig.getDictionarySchemaName(),
-                kpiNames.stream().map(v -> "?").collect(Collectors.joining(", ")));
-        final List<KPIDefinition> kpis = this.jdbcTemplate.query(findByNameStatement,
-                new ArgumentPreparedStatementSetter(kpiNames.toArray()),
-                new KpiDefinitionMapper());
+        final Set<KPIDefinition> kpiDefs = new HashSet<>();
 
-        this.retrieveAndAddInputMetric(kpis);
-        return new HashSet<>(kpis);
+        for (final List<String> batch : SqlEncoder.partition(kpiNames)) {
+            final String findByNameStatement = String.format("SELECT * FROM " + KPI_DEF_TABLE_NAME + " WHERE name in (%2$s)",
+                    this.jdbcConfig.getDictionarySchemaName(),
+                    SqlEncoder.toPlaceholders(batch.size()));
+            final List<KPIDefinition> kpis = this.jdbcTemplate.query(findByNameStatement,
+                    new ArgumentPreparedStatementSetter(batch.toArray()),
+                    new KpiDefinitionMapper());
+
+            this.retrieveAndAddInputMetric(kpis);
+            kpiDefs.addAll(kpis);
+        }
+
+        return kpiDefs;
+    }
+
+    @Override
+    public Set<KPIDefinition> findUnmatched(final Collection<KPIDefinition> kpiDefs) {
+        if (ObjectUtils.isEmpty(kpiDefs)) {
+            return new HashSet<>();
+        }
+
+        // read only the submitted KPI definitions
+        final Map<String, KPIDefinition> dictionaryKpiDefs = this.findByKPIDefNames(
+                        kpiDefs.stream().map(KPIDefinition::getName).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(KPIDefinition::getName, Function.identity()));
+
+        return kpiDefs.stream()
+                .filter(kpiDef -> !Objects.equals(kpiDef, dictionaryKpiDefs.get(kpiDef.getName())))
+                .collect(Collectors.toSet());
     }
 
     @Override
@@ -14,16 +14,20 @@ import static com.ericsson.oss.air.util.RestEndpointUtil.getSafeSublistIndex;
 import static java.util.Collections.singletonList;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import com.ericsson.oss.air.csac.configuration.JdbcConfig;
 import com.ericsson.oss.air.csac.model.PMDefinition;
 import com.ericsson.oss.air.csac.repository.PMDefinitionDAO;
 import com.ericsson.oss.air.csac.repository.impl.jdbc.mapper.PMDefinitionMapper;
+import com.ericsson.oss.air.csac.repository.impl.jdbc.util.SqlEncoder;
 import lombok.AllArgsConstructor;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -32,7 +36,9 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.data.util.Pair;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
@@ -59,8 +65,11 @@ public class PMDefinitionDAOJdbcImpl implements PMDefinitionDAO {
     public static final String COUNT_STATEMENT = "SELECT COUNT(*) FROM %1$s.pm_def";
     public static final String SELECT_ALL_NAMES_STATEMENT = "SELECT name FROM %1$s.pm_def";
     public static final String SELECT_PM_DEF_BY_NAME_STATEMENT = "SELECT * FROM %1$s.pm_def WHERE name = ?";
+    public static final String SELECT_ALL_STATEMENT = "SELECT * FROM %1$s.pm_def";
     public static final String SELECT_BY_OFFSET_AND_LIMIT_STATEMENT = "SELECT * FROM %1$s.pm_def OFFSET %2$d LIMIT %3$d";
     public static final String SELECT_SCHEMA_STATEMENT = "SELECT schema FROM %1$s.pm_schema WHERE pm_name = ? ";
+    public static final String SELECT_PM_DEFS_BY_NAMES_STATEMENT = "SELECT * FROM %1$s.pm_def WHERE name IN (%2$s)";
+    public static final String SELECT_SCHEMAS_BY_PM_NAMES_STATEMENT = "SELECT pm_name, schema FROM %1$s.pm_schema WHERE pm_name IN (%2$s)";
 
     private static final String INSERT_PM_DEF_NAMED_STATEMENT = "INSERT INTO %1$s.pm_def"
             + "(name, source, description)"
@@ -161,6 +170,57 @@ public class PMDefinitionDAOJdbcImpl implements PMDefinitionDAO {
         return pmDefsByName.get(0);
     }
 
+    @Override
+    public Map<String, PMDefinition> findByPMDefNames(final Set<String> pmDefNames) {
+        if (ObjectUtils.isEmpty(pmDefNames)) {
+            return new HashMap<>();
+        }
+
+        final Map<String, PMDefinition> pmDefsByName = new HashMap<>();
+
+        for (final List<String> batch : SqlEncoder.partition(pmDefNames)) {
+            final String sql = String.format(SELECT_PM_DEFS_BY_NAMES_STATEMENT, this.jdbcConfig.getDictionarySchemaName(),
+                    SqlEncoder.toPlaceholders(batch.size()));
+            this.jdbcTemplate.query(sql, new ArgumentPreparedStatementSetter(batch.toArray()), new PMDefinitionMapper())
+                    .forEach(pmDef -> pmDefsByName.put(pmDef.getName(), pmDef));
+        }
+
+        return pmDefsByName;
+    }
+
+    @Override
+    public Map<String, String> findSchemasByPMDefNames(final Set<String> pmDefNames) {
+        if (ObjectUtils.isEmpty(pmDefNames)) {
+            return new HashMap<>();
+        }
+
+        final Map<String, String> schemasByPmDefName = new HashMap<>();
+        final RowCallbackHandler schemaRowHandler = rs -> schemasByPmDefName.put(rs.getString(COLUMN_PM_NAME), rs.getString(COLUMN_SCHEMA));
+
+        for (final List<String> batch : SqlEncoder.partition(pmDefNames)) {
+            final String sql = String.format(SELECT_SCHEMAS_BY_PM_NAMES_STATEMENT, this.jdbcConfig.getDictionarySchemaName(),
+                    SqlEncoder.toPlaceholders(batch.size()));
+            this.jdbcTemplate.query(sql, new ArgumentPreparedStatementSetter(batch.toArray()), schemaRowHandler);
+        }
+
+        return schemasByPmDefName;
+    }
+
+    @Override
+    public Set<PMDefinition> findUnmatched(final Collection<PMDefinition> pmDefs) {
+        if (ObjectUtils.isEmpty(pmDefs)) {
+            return new HashSet<>();
+        }
+
+        // read only the submitted PM definitions
+        final Map<String, PMDefinition> dictionaryPmDefs = this.findByPMDefNames(
+                pmDefs.stream().map(PMDefinition::getName).collect(Collectors.toSet()));
+
+        return pmDefs.stream()
+                .filter(pmDef -> !Objects.equals(pmDef, dictionaryPmDefs.get(pmDef.getName())))
+                .collect(Collectors.toSet());
+    }
+
     @Override
     public List<PMDefinition> findAllPMDefinitions(final Integer start, final Integer rows) {
         final Integer total = this.totalPMDefinitions();
@@ -12,13 +12,16 @@ package com.ericsson.oss.air.csac.repository.impl.jdbc;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.ericsson.oss.air.csac.configuration.JdbcConfig;
 import com.ericsson.oss.air.csac.model.ProfileDefinition;
 import com.ericsson.oss.air.csac.repository.ProfileDefinitionDAO;
+import com.ericsson.oss.air.csac.repository.impl.jdbc.mapper.ContentDigestRowHandler;
 import com.ericsson.oss.air.csac.repository.impl.jdbc.mapper.ProfileDefinitionMapper;
 import com.ericsson.oss.air.exception.CsacDAOException;
+import com.ericsson.oss.air.util.codec.ContentDigest;
 import com.ericsson.oss.air.util.logging.FaultHandler;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -50,13 +53,15 @@ public class ProfileDefinitionDAOJdbcImpl implements ProfileDefinitionDAO {
 
     public static final String COLUMN_DEF = "def";
 
+    private static final String COLUMN_DIGEST = "digest";
+
     private static final String TABLE_PROF_DEF = "%1$s.prof_def";
 
     private static final String INSERT_PROFILE_DEF_STATEMENT = "INSERT INTO " + TABLE_PROF_DEF
-            + "(name, def)"
-            + " VALUES(:name, to_json(:def::json))"
+            + "(name, def, digest)"
+            + " VALUES(:name, to_json(:def::json), :digest)"
             + " ON CONFLICT (name) DO UPDATE"
-            + " SET def = EXCLUDED.def";
+            + " SET def = EXCLUDED.def, digest = EXCLUDED.digest";
 
     private static final String SELECT_PROFILE_DEF_STATEMENT = "SELECT " + COLUMN_DEF + " FROM " + TABLE_PROF_DEF
             + " WHERE " + COLUMN_NAME + " = :name";
@@ -65,6 +70,11 @@ public class ProfileDefinitionDAOJdbcImpl implements ProfileDefinitionDAO {
 
     protected static final String SELECT_ALL_PROFILE_DEF_STATEMENT = "SELECT " + COLUMN_DEF + " FROM " + TABLE_PROF_DEF;
 
+    // the definition is only returned for rows that do not have a digest yet
+    protected static final String SELECT_ALL_PROFILE_DIGEST_STATEMENT = "SELECT " + COLUMN_NAME + ", " + COLUMN_DIGEST
+            + ", CASE WHEN " + COLUMN_DIGEST + " IS NULL THEN " + COLUMN_DEF + " END AS " + COLUMN_DEF
+            + " FROM " + TABLE_PROF_DEF;
+
     private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
     private JdbcTemplate jdbcTemplate;
@@ -95,7 +105,8 @@ public class ProfileDefinitionDAOJdbcImpl implements ProfileDefinitionDAO {
                 final String profileDefString = this.mapper.writeValueAsString(profileDefinition);
                 final MapSqlParameterSource augmentationSqlParameterSource = new MapSqlParameterSource()
                         .addValue(COLUMN_NAME, profileDefinition.getName())
-                        .addValue(COLUMN_DEF, profileDefString);
+                        .addValue(COLUMN_DEF, profileDefString)
+                        .addValue(COLUMN_DIGEST, ContentDigest.of(profileDefinition));
 
                 sqlParameterSourceList.add(augmentationSqlParameterSource);
             }
@@ -137,6 +148,17 @@ public class ProfileDefinitionDAOJdbcImpl implements ProfileDefinitionDAO {
                 new ProfileDefinitionMapper());
     }
 
+    @Override
+    public Map<String, String> findAllDigests() {
+
+        final ContentDigestRowHandler<ProfileDefinition> rowHandler = new ContentDigestRowHandler<>(COLUMN_NAME, COLUMN_DIGEST,
+                new ProfileDefinitionMapper());
+
+        this.jdbcTemplate.query(String.format(SELECT_ALL_PROFILE_DIGEST_STATEMENT, this.jdbcConfig.getDictionarySchemaName()), rowHandler);
+
+        return rowHandler.getDigests();
+    }
+
     @Override
     public int totalProfileDefinitions() {
         return this.jdbcTemplate.queryForObject(String.format(COUNT_STATEMENT, this.jdbcConfig.getDictionarySchemaName()), Integer.class);
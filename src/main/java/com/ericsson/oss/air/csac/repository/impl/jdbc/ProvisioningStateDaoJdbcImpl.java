@@ -49,6 +49,8 @@ public class ProvisioningStateDaoJdbcImpl implements ProvisioningStateDao {
 
     public static final String COLUMN_PROV_STATE = "provisioning_state";
 
+    public static final String COLUMN_RESOURCE_FINGERPRINT = "resource_fingerprint";
+
     public static final String WHERE = " WHERE ";
 
     public static final String ORDER_BY_ID = " ORDER BY " + COLUMN_PK;
@@ -75,6 +77,11 @@ public class ProvisioningStateDaoJdbcImpl implements ProvisioningStateDao {
             + " SET " + COLUMN_PROV_END_TIME + " = current_timestamp, " + COLUMN_PROV_STATE + " = '%2$s' "
             + "WHERE " + COLUMN_PK + " = (" + SQL_SELECT_LATEST_ID + ")";
 
+    public static final String SQL_UPDATE_RESOURCE_FINGERPRINT = "UPDATE " + TABLE_RT_PROV_STATE
+            + " SET " + COLUMN_RESOURCE_FINGERPRINT + " = ?"
+            + WHERE + COLUMN_PK + " = (" + SQL_SELECT_LATEST_ID + ")"
+            + " AND " + COLUMN_PROV_STATE + " = '" + ProvisioningState.State.COMPLETED.name() + "'";
+
     public static final String SQL_COUNT_PROV_STATES = "SELECT COUNT(*) FROM " + TABLE_RT_PROV_STATE;
 
     public static final String SQL_COUNT_PROV_STATES_BY_ID = SQL_COUNT_PROV_STATES + WHERE + COLUMN_PK + " = %2$s";
@@ -206,6 +213,18 @@ public class ProvisioningStateDaoJdbcImpl implements ProvisioningStateDao {
         }
     }
 
+    @Override
+    public void updateResourceFingerprint(final String resourceFingerprint) {
+
+        final String sql = String.format(SQL_UPDATE_RESOURCE_FINGERPRINT, this.jdbcConfig.getRuntimeDatastoreSchemaName());
+
+        try {
+            this.jdbcTemplate.update(sql, resourceFingerprint);
+        } catch (final DataAccessException e) {
+            throw new CsacDAOException(e);
+        }
+    }
+
     private ProvisioningState getDummyInitialState() {
         return ProvisioningState.builder()
                 .withProvisioningState(ProvisioningState.State.INITIAL)
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.repository.impl.jdbc.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.ericsson.oss.air.util.codec.ContentDigest;
+import lombok.Getter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * Collects the content digest of each row in a definition table into a map keyed by definition name. Rows written before the digest column was
+ * introduced have a {@code NULL} digest. For those rows only, the definition is mapped with the provided row mapper and its digest is computed with
+ * {@link ContentDigest#of(Object)}.
+ *
+ * @param <T>
+ *         definition type
+ */
+public class ContentDigestRowHandler<T> implements RowCallbackHandler {
+
+    private final String nameColumn;
+
+    private final String digestColumn;
+
+    private final RowMapper<T> definitionMapper;
+
+    @Getter
+    private final Map<String, String> digests = new HashMap<>();
+
+    /**
+     * Creates a row handler for a definition table.
+     *
+     * @param nameColumn
+     *         column containing the definition name
+     * @param digestColumn
+     *         column containing the content digest
+     * @param definitionMapper
+     *         row mapper used to compute the digest of rows without a stored digest
+     */
+    public ContentDigestRowHandler(final String nameColumn, final String digestColumn, final RowMapper<T> definitionMapper) {
+        this.nameColumn = nameColumn;
+        this.digestColumn = digestColumn;
+        this.definitionMapper = definitionMapper;
+    }
+
+    @Override
+    public void processRow(final ResultSet rs) throws SQLException {
+
+        final String digest = rs.getString(this.digestColumn);
+
+        this.digests.put(rs.getString(this.nameColumn),
+                Objects.isNull(digest) ? ContentDigest.of(this.definitionMapper.mapRow(rs, rs.getRow())) : digest);
+    }
+}
@@ -14,6 +14,7 @@ import static com.ericsson.oss.air.csac.repository.impl.jdbc.ProvisioningStateDa
 import static com.ericsson.oss.air.csac.repository.impl.jdbc.ProvisioningStateDaoJdbcImpl.COLUMN_PROV_END_TIME;
 import static com.ericsson.oss.air.csac.repository.impl.jdbc.ProvisioningStateDaoJdbcImpl.COLUMN_PROV_START_TIME;
 import static com.ericsson.oss.air.csac.repository.impl.jdbc.ProvisioningStateDaoJdbcImpl.COLUMN_PROV_STATE;
+import static com.ericsson.oss.air.csac.repository.impl.jdbc.ProvisioningStateDaoJdbcImpl.COLUMN_RESOURCE_FINGERPRINT;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -42,6 +43,8 @@ public class ProvisioningStateRowMapper implements RowMapper<ProvisioningState>
 
         final ProvisioningState.State state = ProvisioningState.State.fromString(rs.getString(COLUMN_PROV_STATE));
 
-        return new ProvisioningState(id, startTime, endTime, state);
+        final String resourceFingerprint = rs.getString(COLUMN_RESOURCE_FINGERPRINT);
+
+        return new ProvisioningState(id, startTime, endTime, state, resourceFingerprint);
     }
 }
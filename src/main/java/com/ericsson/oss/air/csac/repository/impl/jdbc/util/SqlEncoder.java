@@ -10,7 +10,11 @@
 
 package com.ericsson.oss.air.csac.repository.impl.jdbc.util;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.MissingFormatArgumentException;
 
 import org.springframework.util.ObjectUtils;
@@ -20,6 +24,12 @@ import org.springframework.util.ObjectUtils;
  */
 public class SqlEncoder {
 
+    /**
+     * Maximum number of values bound in a single {@code IN} list.  Longer value lists are split into several statements so that no statement
+     * exceeds the bind parameter limit of the database.
+     */
+    public static final int IN_LIST_BATCH_SIZE = 1000;
+
     private SqlEncoder() {
         // no-op.  Hides the Hides implicit default ctor.
     }
@@ -48,4 +58,36 @@ public class SqlEncoder {
 
         return String.format(sqlTemplate, args);
     }
+
+    /**
+     * Splits the provided values into consecutive batches of at most {@link #IN_LIST_BATCH_SIZE} values, one for each {@code IN} list.
+     *
+     * @param values
+     *         values to bind in {@code IN} lists
+     * @param <T>
+     *         value type
+     * @return the batches of values, or an empty list if no values are provided
+     */
+    public static <T> List<List<T>> partition(final Collection<T> values) {
+
+        final List<T> valueList = List.copyOf(values);
+        final List<List<T>> batches = new ArrayList<>();
+
+        for (int start = 0; start < valueList.size(); start += IN_LIST_BATCH_SIZE) {
+            batches.add(valueList.subList(start, Math.min(start + IN_LIST_BATCH_SIZE, valueList.size())));
+        }
+
+        return batches;
+    }
+
+    /**
+     * Returns a comma-separated list of positional parameter placeholders, such as {@code ?, ?, ?}, for an {@code IN} list of the specified size.
+     *
+     * @param count
+     *         number of placeholders
+     * @return a comma-separated list of positional parameter placeholders
+     */
+    public static String toPlaceholders(final int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
 }
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.repository.impl.jdbc.util;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * {@link JdbcTemplate} that counts the SQL statements it issues on each thread.  A caller can report the number of statements issued by the DAO
+ * methods it calls by comparing the count before and after the calls.  Each statement is counted once, including batched statements.
+ */
+public class StatementCountingJdbcTemplate extends JdbcTemplate {
+
+    private static final ThreadLocal<long[]> STATEMENT_COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    /**
+     * Creates a {@code StatementCountingJdbcTemplate} for the provided data source.
+     *
+     * @param dataSource
+     *         the JDBC data source
+     */
+    public StatementCountingJdbcTemplate(final DataSource dataSource) {
+        super(dataSource);
+    }
+
+    /**
+     * Returns the number of SQL statements issued on the current thread by any {@code StatementCountingJdbcTemplate}.
+     *
+     * @return the number of SQL statements issued on the current thread
+     */
+    public static long getStatementCount() {
+        return STATEMENT_COUNT.get()[0];
+    }
+
+    @Override
+    protected void applyStatementSettings(final Statement stmt) throws SQLException {
+        ++STATEMENT_COUNT.get()[0];
+        super.applyStatementSettings(stmt);
+    }
+}
@@ -0,0 +1,220 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.ericsson.oss.air.csac.model.InputMetric;
+import com.ericsson.oss.air.csac.model.KPIDefinition;
+import com.ericsson.oss.air.csac.model.KPIReference;
+import com.ericsson.oss.air.csac.model.ProfileDefinition;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Dependency graph of PM definitions, KPI definitions, profile definitions and augmentations. Adjacency indexes are maintained in both directions
+ * so that a definition can be added, replaced or removed without rebuilding the graph, and so that the definitions affected by a change can be
+ * found by traversing only the edges of the changed definitions.
+ * <p>
+ * The edges are:
+ * <ul>
+ * <li>PM definition to the KPI definitions that use it as a {@code PM_DATA} input metric</li>
+ * <li>KPI definition to the profile definitions that reference it</li>
+ * <li>augmentation to the profile definitions that use it</li>
+ * </ul>
+ * <p>
+ * This class is not thread-safe.
+ */
+public class DependencyGraph {
+
+    private final Map<String, Set<String>> kpisByPm = new HashMap<>();
+
+    private final Map<String, Set<String>> pmsByKpi = new HashMap<>();
+
+    private final Map<String, Set<String>> profilesByKpi = new HashMap<>();
+
+    private final Map<String, Set<String>> kpisByProfile = new HashMap<>();
+
+    private final Map<String, Set<String>> profilesByAugmentation = new HashMap<>();
+
+    private final Map<String, String> augmentationByProfile = new HashMap<>();
+
+    private final Map<String, ProfileDefinition> profiles = new HashMap<>();
+
+    /**
+     * Adds the specified KPI definition to the graph. If a KPI definition with the same name is already in the graph, its edges are replaced.
+     *
+     * @param kpiDefinition
+     *         KPI definition to add
+     */
+    public void putKpi(final KPIDefinition kpiDefinition) {
+
+        final String kpiName = kpiDefinition.getName();
+        this.removeKpi(kpiName);
+
+        final Set<String> pmNames = new HashSet<>();
+        for (final InputMetric inputMetric : Objects.requireNonNullElse(kpiDefinition.getInputMetrics(), List.<InputMetric>of())) {
+            if (inputMetric.getType() == InputMetric.Type.PM_DATA) {
+                pmNames.add(inputMetric.getId());
+                this.kpisByPm.computeIfAbsent(inputMetric.getId(), k -> new HashSet<>()).add(kpiName);
+            }
+        }
+
+        this.pmsByKpi.put(kpiName, pmNames);
+    }
+
+    /**
+     * Removes the specified KPI definition and its PM definition edges from the graph. Edges from profile definitions that reference the KPI
+     * definition are kept.
+     *
+     * @param kpiName
+     *         name of the KPI definition to remove
+     */
+    public void removeKpi(final String kpiName) {
+
+        final Set<String> pmNames = this.pmsByKpi.remove(kpiName);
+
+        if (Objects.nonNull(pmNames)) {
+            pmNames.forEach(pmName -> removeEdge(this.kpisByPm, pmName, kpiName));
+        }
+    }
+
+    /**
+     * Adds the specified profile definition to the graph. If a profile definition with the same name is already in the graph, it is replaced
+     * along with its edges.
+     *
+     * @param profileDefinition
+     *         profile definition to add
+     */
+    public void putProfile(final ProfileDefinition profileDefinition) {
+
+        final String profileName = profileDefinition.getName();
+        this.removeProfile(profileName);
+
+        final Set<String> kpiNames = new HashSet<>();
+        for (final KPIReference kpiReference : Objects.requireNonNullElse(profileDefinition.getKpis(), List.<KPIReference>of())) {
+            kpiNames.add(kpiReference.getRef());
+            this.profilesByKpi.computeIfAbsent(kpiReference.getRef(), k -> new HashSet<>()).add(profileName);
+        }
+
+        this.kpisByProfile.put(profileName, kpiNames);
+
+        final String augmentation = profileDefinition.getAugmentation();
+        if (!ObjectUtils.isEmpty(augmentation)) {
+            this.augmentationByProfile.put(profileName, augmentation);
+            this.profilesByAugmentation.computeIfAbsent(augmentation, k -> new HashSet<>()).add(profileName);
+        }
+
+        this.profiles.put(profileName, profileDefinition);
+    }
+
+    /**
+     * Removes the specified profile definition and all its edges from the graph.
+     *
+     * @param profileName
+     *         name of the profile definition to remove
+     */
+    public void removeProfile(final String profileName) {
+
+        if (Objects.isNull(this.profiles.remove(profileName))) {
+            return;
+        }
+
+        this.kpisByProfile.remove(profileName).forEach(kpiName -> removeEdge(this.profilesByKpi, kpiName, profileName));
+
+        final String augmentation = this.augmentationByProfile.remove(profileName);
+        if (Objects.nonNull(augmentation)) {
+            removeEdge(this.profilesByAugmentation, augmentation, profileName);
+        }
+    }
+
+    /**
+     * Returns the names of the KPI definitions that use any of the specified PM definitions as an input metric.
+     *
+     * @param pmNames
+     *         names of the changed PM definitions
+     * @return names of the affected KPI definitions
+     */
+    public Set<String> getKpisAffectedByPms(final Collection<String> pmNames) {
+        return traverse(this.kpisByPm, pmNames);
+    }
+
+    /**
+     * Returns the profile definitions that reference any of the specified KPI definitions.
+     *
+     * @param kpiNames
+     *         names of the changed KPI definitions
+     * @return the affected profile definitions
+     */
+    public Set<ProfileDefinition> getProfilesAffectedByKpis(final Collection<String> kpiNames) {
+        return this.getProfiles(traverse(this.profilesByKpi, kpiNames));
+    }
+
+    /**
+     * Returns the profile definitions that use any of the specified augmentations.
+     *
+     * @param augmentationNames
+     *         names of the changed augmentations
+     * @return the affected profile definitions
+     */
+    public Set<ProfileDefinition> getProfilesAffectedByAugmentations(final Collection<String> augmentationNames) {
+        return this.getProfiles(traverse(this.profilesByAugmentation, augmentationNames));
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns the profile definitions for the specified profile names.
+     */
+    private Set<ProfileDefinition> getProfiles(final Set<String> profileNames) {
+
+        final Set<ProfileDefinition> affectedProfiles = new HashSet<>();
+        profileNames.forEach(profileName -> affectedProfiles.add(this.profiles.get(profileName)));
+
+        return affectedProfiles;
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns the union of the adjacent nodes of the specified source nodes.
+     */
+    private static Set<String> traverse(final Map<String, Set<String>> adjacency, final Collection<String> sources) {
+
+        final Set<String> targets = new HashSet<>();
+        sources.forEach(source -> targets.addAll(adjacency.getOrDefault(source, Collections.emptySet())));
+
+        return targets;
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Removes the edge between the specified nodes, dropping the source node from the adjacency index once it has no edges left.
+     */
+    private static void removeEdge(final Map<String, Set<String>> adjacency, final String source, final String target) {
+
+        final Set<String> targets = adjacency.get(source);
+
+        if (Objects.nonNull(targets)) {
+            targets.remove(target);
+            if (targets.isEmpty()) {
+                adjacency.remove(source);
+            }
+        }
+    }
+}
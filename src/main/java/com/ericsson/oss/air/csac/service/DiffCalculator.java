@@ -11,13 +11,11 @@
 package com.ericsson.oss.air.csac.service;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.ericsson.oss.air.csac.configuration.augmentation.AugmentationConfiguration;
@@ -35,7 +33,9 @@ import com.ericsson.oss.air.csac.repository.KPIDefinitionDAO;
 import com.ericsson.oss.air.csac.repository.PMDefinitionDAO;
 import com.ericsson.oss.air.csac.repository.PMSchemaDefinitionDao;
 import com.ericsson.oss.air.csac.repository.ProfileDefinitionDAO;
-import com.ericsson.oss.air.csac.repository.impl.inmemorydb.KPIDefinitionDAOImpl;
+import com.ericsson.oss.air.util.ChangeSet;
+import com.ericsson.oss.air.util.DiffEngine;
+import com.ericsson.oss.air.util.codec.ContentDigest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -62,6 +62,26 @@ public class DiffCalculator {
 
     private final PMSchemaDefinitionDao pmSchemaDefinitionDao;
 
+    /**
+     * Returns the changes in the provided resource submission relative to the data dictionary and the runtime data store. Each dictionary is read
+     * once and each kind of definition is compared in a single pass. The affected profiles are relative to the current data dictionary, so a change
+     * set passed to {@link #getAffectedProfiles(ResourceChangeSet)} must be calculated after any dictionary update.
+     *
+     * @param resourceSubmission a @{@link ResourceSubmission} object
+     * @return the changes in the provided resource submission
+     */
+    public ResourceChangeSet getChangeSet(final ResourceSubmission resourceSubmission) {
+
+        return ResourceChangeSet.builder()
+                .changedPmDefs(this.getChangedPMDef(resourceSubmission.getPmDefs()))
+                .changedKpiDefs(this.getChangedKPIDef(resourceSubmission.getKpiDefs()))
+                .pmSchemaDefsChanged(!this.pmSchemaDefinitionDao.findUnmatched(
+                        Objects.requireNonNullElse(resourceSubmission.getPmSchemaDefs(), new ArrayList<PMSchemaDefinition>())).isEmpty())
+                .augmentationDefs(this.getAugmentationChangeSet(resourceSubmission.getAugmentationDefinitions()))
+                .profileDefs(this.getProfileChangeSet(resourceSubmission.getProfileDefs()))
+                .build();
+    }
+
     /**
      * return true if any object in resourceSubmission is not matched with existing resources
      *
@@ -69,46 +89,7 @@ public class DiffCalculator {
      * @return true if any object in resourceSubmission is not matched with existing resources
      */
     public boolean isChanged(final ResourceSubmission resourceSubmission) {
-
-        //check if kpi defs changed
-        final boolean isKpiDefsChanged = Objects.requireNonNullElse(resourceSubmission.getKpiDefs(), new ArrayList<KPIDefinition>()).stream()
-                .anyMatch(kpiDefinition -> !this.kpiDefinitionDAO.isMatched(kpiDefinition));
-
-        if (isKpiDefsChanged) {
-            return true;
-        }
-
-        //check if pm defs changed
-        final boolean isPmDefsChanged = Objects.requireNonNullElse(resourceSubmission.getPmDefs(), new ArrayList<PMDefinition>()).stream()
-                .anyMatch(def -> !this.pmDefinitionDAO.isMatched(def));
-
-        if (isPmDefsChanged) {
-            return true;
-        }
-
-        //check if PM Schema definitions changed
-        final boolean isPmSchemaDefsChanged = Objects.requireNonNullElse(resourceSubmission.getPmSchemaDefs(), new ArrayList<PMSchemaDefinition>())
-                .stream()
-                .anyMatch(def -> !this.pmSchemaDefinitionDao.isMatched(def));
-
-        if (isPmSchemaDefsChanged) {
-            return true;
-        }
-
-        //check if augmentation defs changed
-        final Set<AugmentationDefinition> changedAugDefs = this.getChangedAugmentationDefs(
-                resourceSubmission.getAugmentationDefinitions());
-        final boolean isAugmentationDefsChanged = this.isNotEmpty(changedAugDefs);
-
-        if (isAugmentationDefsChanged) {
-            return true;
-        }
-
-        //check if profile defs changed
-        final Set<ProfileDefinition> changedProfileDefs = this.getChangedProfDefs(resourceSubmission.getProfileDefs());
-
-        return this.isNotEmpty(changedProfileDefs);
-
+        return this.getChangeSet(resourceSubmission).hasChanges();
     }
 
     /*
@@ -117,19 +98,12 @@ public class DiffCalculator {
      * Return a Set of changed PM definitions
      */
     private Set<PMDefinition> getChangedPMDef(final List<PMDefinition> pmDefs) {
-        final Set<PMDefinition> changedPMDefs = new HashSet<>();
 
         if (ObjectUtils.isEmpty(pmDefs)) {
-            return changedPMDefs;
+            return new HashSet<>();
         }
 
-        pmDefs.forEach(pmDef -> {
-            if (!this.pmDefinitionDAO.isMatched(pmDef)) {
-                changedPMDefs.add(pmDef);
-            }
-        });
-
-        return changedPMDefs;
+        return this.pmDefinitionDAO.findUnmatched(pmDefs);
     }
 
     /*
@@ -138,51 +112,45 @@ public class DiffCalculator {
      * Return a Set of changed KPI definitions
      */
     private Set<KPIDefinition> getChangedKPIDef(final List<KPIDefinition> kpiDefs) {
-        final Set<KPIDefinition> changedKPIDefs = new HashSet<>();
 
         if (ObjectUtils.isEmpty(kpiDefs)) {
-            return changedKPIDefs;
+            return new HashSet<>();
         }
 
-        kpiDefs.forEach(pmDef -> {
-            if (!this.kpiDefinitionDAO.isMatched(pmDef)) {
-                changedKPIDefs.add(pmDef);
-            }
-        });
-
-        return changedKPIDefs;
+        return this.kpiDefinitionDAO.findUnmatched(kpiDefs);
     }
 
     /*
      * (non-javadoc)
      *
-     * Return a set of changed augmentation definitions.
+     * Return the change set of the submitted augmentation definitions.
      */
-    private Set<AugmentationDefinition> getChangedAugmentationDefs(final List<AugmentationDefinition> rsAugDefList) {
-        final Set<AugmentationDefinition> changedAugmentationDefs = new HashSet<>();
+    private ChangeSet<AugmentationDefinition> getAugmentationChangeSet(final List<AugmentationDefinition> rsAugDefList) {
 
         if (ObjectUtils.isEmpty(rsAugDefList)) {
-            return changedAugmentationDefs;
+            return ChangeSet.empty();
         }
 
-        final List<AugmentationDefinition> dictionaryAugmentationDefList = this.augmentationDefinitionDAO.findAll();
-        final List<AugmentationDefinition> deployedAugmentationDefList = this.effectiveAugmentationDAO.findAll();
+        final ChangeSet.ChangeSetBuilder<AugmentationDefinition> changeSet = ChangeSet.builder();
 
-        final Map<String, AugmentationDefinition> dictionaryAugmentationDefMap = dictionaryAugmentationDefList.
-                stream().collect(Collectors.toMap(AugmentationDefinition::getName, Function.identity()));
-
-        final Map<String, AugmentationDefinition> deployedAugmentationDefMap = deployedAugmentationDefList.
-                stream().collect(Collectors.toMap(AugmentationDefinition::getName, Function.identity()));
+        // only the stored content digests are compared, so the stored definitions are never materialized
+        final Map<String, String> dictionaryAugmentationDigestMap = this.augmentationDefinitionDAO.findAllDigests();
+        final Map<String, String> deployedAugmentationDigestMap = this.effectiveAugmentationDAO.findAllDigests();
 
         for (final AugmentationDefinition rsAugDef : rsAugDefList) {
 
             final String AugId = rsAugDef.getName();
-            final AugmentationDefinition dictionaryAugDef = dictionaryAugmentationDefMap.get(AugId);
-            final AugmentationDefinition deployedAugDef = deployedAugmentationDefMap.get(AugId);
+            final String dictionaryAugDigest = dictionaryAugmentationDigestMap.get(AugId);
+            final String deployedAugDigest = deployedAugmentationDigestMap.get(AugId);
 
             // If augmentation definition does not exist in dictionary or if it does not equal to the definition in dictionary, then add to changed augmentations list and check next definition in input list.
-            if (Objects.isNull(dictionaryAugDef) || !Objects.equals(rsAugDef, dictionaryAugDef)) {
-                changedAugmentationDefs.add(rsAugDef);
+            if (Objects.isNull(dictionaryAugDigest)) {
+                changeSet.added(rsAugDef);
+                continue;
+            }
+
+            if (!dictionaryAugDigest.equals(ContentDigest.of(rsAugDef))) {
+                changeSet.updated(rsAugDef);
                 continue;
             }
 
@@ -203,74 +171,89 @@ public class DiffCalculator {
 
             // This check is needed for restart scenario when previous AAS provisioning fails.
             // If augmentation definition does not exist in runtime store or if it does not equal to the definition in runtime store, then add to changed augmentations list and check next definition in input list.
-            if (Objects.isNull(deployedAugDef) || !Objects.equals(clonedRsAugDef, deployedAugDef)) {
-                changedAugmentationDefs.add(clonedRsAugDef);
+            if (Objects.isNull(deployedAugDigest) || !deployedAugDigest.equals(ContentDigest.of(clonedRsAugDef))) {
+                changeSet.updated(clonedRsAugDef);
+            } else {
+                changeSet.unchanged(rsAugDef);
             }
         }
 
-        return changedAugmentationDefs;
+        return changeSet.build();
     }
 
     /*
      * (non-javadoc)
      *
-     * Return a set of changed profile definitions.
+     * Return the change set of the submitted profile definitions relative to the deployed profile definitions. A submitted profile definition is
+     * unchanged only if it is deployed and its content digest matches the dictionary.
      */
-    private Set<ProfileDefinition> getChangedProfDefs(final List<ProfileDefinition> rsProfileDefList) {
-
-        final Set<ProfileDefinition> changedProfileDefList = new HashSet<>();
-
-        if (ObjectUtils.isEmpty(rsProfileDefList)) {
-            return changedProfileDefList;
-        }
-
-        final Set<ProfileDefinition> deployedProfileDefSet = this.deployedProfileDAO.getProfileDefinitions();
-        final Map<String, ProfileDefinition> deployedProfileDefMap = deployedProfileDefSet.
-                stream().collect(Collectors.toMap(ProfileDefinition::getName, Function.identity()));
+    private ChangeSet<ProfileDefinition> getProfileChangeSet(final List<ProfileDefinition> rsProfileDefList) {
 
-        final List<ProfileDefinition> dictionaryProfileDefList = this.profileDefinitionDAO.findAll();
-        final Map<String, ProfileDefinition> dictionaryProfileDefMap = dictionaryProfileDefList.
-                stream().collect(Collectors.toMap(ProfileDefinition::getName, Function.identity()));
+        final List<ProfileDefinition> rsProfileDefs = nullSafe(rsProfileDefList);
 
-        for (final ProfileDefinition rsProfileDef : rsProfileDefList) {
+        // the dictionary is only needed for submitted profiles that are already deployed
+        final Map<String, String> dictionaryProfileDigestMap = rsProfileDefs.isEmpty() ? Map.of() : this.profileDefinitionDAO.findAllDigests();
 
-            final String rsProfileDefName = rsProfileDef.getName();
-            final ProfileDefinition deployedProfileDef = deployedProfileDefMap.get(rsProfileDefName);
+        final DiffEngine<ProfileDefinition> diffEngine = new DiffEngine.DiffEngineBuilder<ProfileDefinition>()
+                .source(new ArrayList<>(this.deployedProfileDAO.getProfileDefinitions()))
+                .identityFunction(ProfileDefinition::getName)
+                .equivalence((rsProfileDef, deployedProfileDef) -> ContentDigest.of(rsProfileDef).equals(
+                        dictionaryProfileDigestMap.get(rsProfileDef.getName())))
+                .build();
 
-            if (Objects.isNull(deployedProfileDef) || !Objects.equals(rsProfileDef, dictionaryProfileDefMap.get(rsProfileDefName))) {
-
-                changedProfileDefList.add(rsProfileDef);
-            }
-        }
-
-        return changedProfileDefList;
+        return diffEngine.diff(rsProfileDefs);
     }
 
     /**
-     * Return a list of ProfileDefintion with given ResourceSubmission
+     * Return a list of ProfileDefintion with given ResourceSubmission.
      *
      * @param rs A @{@link ResourceSubmission}
      * @return a list of affected @{@link ProfileDefinition}
      */
     public Set<ProfileDefinition> getAffectedProfiles(final ResourceSubmission rs) {
-        final Set<PMDefinition> changedPMDef = this.getChangedPMDef(rs.getPmDefs());
-        final Set<AugmentationDefinition> changedAugmentationDefs = this.getChangedAugmentationDefs(
-                rs.getAugmentationDefinitions());
+        return this.getAffectedProfiles(this.getChangeSet(rs));
+    }
+
+    /**
+     * Return a list of ProfileDefintion affected by the given resource change set. The affected profiles are found by traversing a
+     * {@link DependencyGraph} built once for the change set, starting from the changed PM definitions, KPI definitions and augmentations.
+     *
+     * @param changeSet A @{@link ResourceChangeSet} calculated by {@link #getChangeSet(ResourceSubmission)}
+     * @return a list of affected @{@link ProfileDefinition}
+     */
+    public Set<ProfileDefinition> getAffectedProfiles(final ResourceChangeSet changeSet) {
+
+        final DependencyGraph dependencyGraph = new DependencyGraph();
+
+        // PM Def ->> Affected KPI Def. The KPI layer is only needed when PM definitions have changed. Unchanged submitted KPI definitions are
+        // identical to the dictionary, so only the changed ones need to be applied on top of it.
+        final Set<String> affectedKpiNames = new HashSet<>();
+        if (!changeSet.getChangedPmDefs().isEmpty()) {
+            this.kpiDefinitionDAO.findAll().forEach(dependencyGraph::putKpi);
+            changeSet.getChangedKpiDefs().forEach(dependencyGraph::putKpi);
+
+            affectedKpiNames.addAll(dependencyGraph.getKpisAffectedByPms(changeSet.getChangedPmDefs().stream().map(PMDefinition::getName).toList()));
+        }
 
-        // PM Def ->> Affected KPI Def
-        final Set<KPIDefinition> affectedKPIDefs = this.kpiDefinitionDAO.getAffectedKPIDefs(changedPMDef);
-        final Set<KPIDefinition> currentAffectedKPIDefs = KPIDefinitionDAOImpl.getAffectedKPIDefs(changedPMDef, rs.getKpiDefs());
+        changeSet.getChangedKpiDefs().forEach(kpiDef -> affectedKpiNames.add(kpiDef.getName()));
 
-        affectedKPIDefs.addAll(currentAffectedKPIDefs);
-        affectedKPIDefs.addAll(this.getChangedKPIDef(rs.getKpiDefs()));
+        final List<AugmentationDefinition> changedAugmentationDefs = changeSet.getAugmentationDefs().getChanged();
+
+        // the profile layer holds the deployed profiles, updated with the submitted profiles
+        final ChangeSet<ProfileDefinition> profileChangeSet = changeSet.getProfileDefs();
+        if (!affectedKpiNames.isEmpty() || !changedAugmentationDefs.isEmpty()) {
+            profileChangeSet.getDeleted().forEach(dependencyGraph::putProfile);
+            profileChangeSet.getUnchanged().forEach(dependencyGraph::putProfile);
+            profileChangeSet.getChanged().forEach(dependencyGraph::putProfile);
+        }
 
         // KPI Defs ->> Affected Profile Def
-        final Set<ProfileDefinition> affectedProfiles = this.deployedProfileDAO.getAffectedProfiles(new ArrayList<>(affectedKPIDefs));
-        affectedProfiles.addAll(this.getChangedProfDefs(rs.getProfileDefs()));
+        final Set<ProfileDefinition> affectedProfiles = dependencyGraph.getProfilesAffectedByKpis(affectedKpiNames);
+        affectedProfiles.addAll(profileChangeSet.getChanged());
 
         // Aug Defs ->> Affected Profile Defs
-        final Set<ProfileDefinition> profilesAffectedByAugmentations = this.getProfileDefsAffectedByAllAugmentations(changedAugmentationDefs, rs);
-        affectedProfiles.addAll(profilesAffectedByAugmentations);
+        affectedProfiles.addAll(dependencyGraph.getProfilesAffectedByAugmentations(
+                changedAugmentationDefs.stream().map(AugmentationDefinition::getName).toList()));
 
         affectedProfiles.forEach(prof -> {
             final String kpiNames = prof.getKpis().stream().map(KPIReference::getRef).collect(Collectors.joining(", "));
@@ -283,43 +266,10 @@ public class DiffCalculator {
     /*
      * (non-javadoc)
      *
-     * Gets profiles associated with a given augmentation.
-     */
-    private Set<ProfileDefinition> getProfileDefsAffectedByAllAugmentations(final Set<AugmentationDefinition> augmentationDefinitionSet,
-                                                                            final ResourceSubmission rs) {
-
-        return augmentationDefinitionSet.stream()
-                .map(augDef -> this.getProfilesAffectedByAnAugmentation(augDef.getName(), rs.getProfileDefs()))
-                .flatMap(Collection::stream)
-                .collect(Collectors.toSet());
-
-    }
-
-    /*
-     * (non-javadoc)
-     *
-     * Returns set of profile names associated to an augmentation.
-     */
-    private Set<ProfileDefinition> getProfilesAffectedByAnAugmentation(final String augName, final List<ProfileDefinition> profileDefList) {
-        final Set<ProfileDefinition> affectedProfileList = new HashSet<>();
-
-        for (final ProfileDefinition profile : profileDefList) {
-
-            if (augName.equals(profile.getAugmentation())) {
-                affectedProfileList.add(profile);
-            }
-        }
-
-        return affectedProfileList;
-    }
-
-    /*
-     * (non-javadoc)
-     *
-     * Returns true if list is not empty else return false.
+     * Returns the provided list, or an empty list if it is null.
      */
-    private <T> boolean isNotEmpty(final Set<T> changedDefinitions) {
-        return !changedDefinitions.isEmpty();
+    private static <T> List<T> nullSafe(final List<T> definitions) {
+        return Objects.requireNonNullElse(definitions, List.of());
     }
 
 }
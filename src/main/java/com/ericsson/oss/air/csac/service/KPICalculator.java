@@ -12,10 +12,21 @@ package com.ericsson.oss.air.csac.service;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import com.ericsson.oss.air.csac.configuration.schema.InputSchemaProvider;
@@ -32,19 +43,15 @@ import com.ericsson.oss.air.csac.model.pmsc.KpiDefinitionDTO;
 import com.ericsson.oss.air.csac.model.pmsc.KpiDefinitionDTOWithRelationship;
 import com.ericsson.oss.air.csac.model.pmschema.SchemaReference;
 import com.ericsson.oss.air.csac.model.runtime.RuntimeKpiKey;
-import com.ericsson.oss.air.csac.repository.DeployedKpiDefDAO;
-import com.ericsson.oss.air.csac.repository.KPIDefinitionDAO;
-import com.ericsson.oss.air.csac.repository.PMDefinitionDAO;
 import com.ericsson.oss.air.csac.repository.cache.ResolvedKpiCache;
 import com.ericsson.oss.air.exception.CsacValidationException;
-import com.ericsson.oss.air.util.codec.Codec;
-import com.ericsson.oss.air.util.codec.Digest;
 import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ObjectUtils;
 
@@ -53,7 +60,7 @@ import org.springframework.util.ObjectUtils;
  */
 @Component
 @Slf4j
-public class KPICalculator {
+public class KPICalculator implements DisposableBean {
 
     /**
      * The aggregation period for the PMSC KPI aggregations
@@ -62,41 +69,38 @@ public class KPICalculator {
     private Integer aggregationPeriod;
 
     /**
-     * The Pm definition dao.
+     * The maximum number of profile shards resolved concurrently. A value of 1 selects the sequential calculation.
      */
-    private final PMDefinitionDAO pmDefinitionDAO;
-
-    /**
-     * The Kpi definition dao.
-     */
-    private final KPIDefinitionDAO kpiDefinitionDAO;
+    @Getter(AccessLevel.PACKAGE) // Getter for unit tests only
+    private int parallelism = 1;
 
-    /**
-     * The Deployed kpi def dao.
+    /*
+     * Bounded pool shared by all parallel calculations, sized by the configured parallelism. Null if the sequential calculation is configured.
      */
-    private final DeployedKpiDefDAO deployedKpiDefDAO;
+    private ExecutorService executor;
 
     private final InputSchemaProvider inputSchemaProvider;
 
     private final ResolvedKpiCache resolvedKpiCache;
 
-    private final Codec codec = new Codec();
+    /**
+     * Loads the dictionary and runtime data required by a calculation in a single batch
+     */
+    private final KpiResolutionContextLoader resolutionContextLoader;
 
     /**
      * Instantiates a new Kpi calculator.
      *
-     * @param pmDefinitionDAO   the pm definition dao
-     * @param kpiDefinitionDAO  the kpi definition dao
-     * @param deployedKpiDefDAO the deployed kpi def dao
+     * @param inputSchemaProvider     the input schema provider
+     * @param resolvedKpiCache        the resolved runtime KPI cache
+     * @param resolutionContextLoader the KPI resolution context loader
      */
     @Autowired
-    public KPICalculator(final PMDefinitionDAO pmDefinitionDAO, final KPIDefinitionDAO kpiDefinitionDAO, final DeployedKpiDefDAO deployedKpiDefDAO,
-                         final InputSchemaProvider inputSchemaProvider, final ResolvedKpiCache resolvedKpiCache) {
-        this.pmDefinitionDAO = pmDefinitionDAO;
-        this.kpiDefinitionDAO = kpiDefinitionDAO;
-        this.deployedKpiDefDAO = deployedKpiDefDAO;
+    public KPICalculator(final InputSchemaProvider inputSchemaProvider, final ResolvedKpiCache resolvedKpiCache,
+                         final KpiResolutionContextLoader resolutionContextLoader) {
         this.inputSchemaProvider = inputSchemaProvider;
         this.resolvedKpiCache = resolvedKpiCache;
+        this.resolutionContextLoader = resolutionContextLoader;
     }
 
     @Autowired
@@ -112,18 +116,75 @@ public class KPICalculator {
         log.debug("The aggregation period value for the PMSC KPI calculations is set to : " + this.aggregationPeriod);
     }
 
+    @Autowired
+    public void setParallelism(
+            @Value("${provisioning.pmsc.kpiCalculation.parallelism:1}")
+            final Integer parallelism) {
+        if (Objects.isNull(parallelism) || parallelism < 1) {
+            throw new CsacValidationException(
+                    String.format("%s is not a permitted value for the KPI calculation parallelism", parallelism));
+        }
+
+        this.parallelism = parallelism;
+        log.debug("The parallelism for the KPI calculations is set to : " + this.parallelism);
+
+        this.destroy();
+
+        if (parallelism > 1) {
+            final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("csac-kpi-calculation-");
+            threadFactory.setDaemon(true);
+            this.executor = Executors.newFixedThreadPool(parallelism, threadFactory);
+        }
+    }
+
+    /**
+     * Shuts down the pool used by the parallel calculation.
+     */
+    @Override
+    public void destroy() {
+
+        if (Objects.nonNull(this.executor)) {
+            this.executor.shutdownNow();
+            this.executor = null;
+        }
+    }
+
     /**
-     * Calculate affected KPI from given pending profile
+     * Calculate affected KPI from given pending profile. All definitions and deployed KPIs referenced by the pending profiles are loaded up
+     * front into a {@link KpiResolutionContext} so the number of data store queries does not depend on the number of KPI references. The augmented
+     * schema mappings of the profiles are prefetched from the AAS once per augmentation. Preloaded runtime KPIs whose KPI definition has changed
+     * since they were instantiated are evicted from the {@link ResolvedKpiCache} and instantiated again.
+     * <p>
+     * If the configured parallelism is greater than 1, the profiles are split into shards which are resolved concurrently. The result is identical
+     * to the sequential calculation.
      *
      * @param pendingProfiles the pending profiles
      * @return the list of {@link KpiDefinitionDTOWithRelationship}
      */
     public List<KpiDefinitionDTOWithRelationship> calculateAffectedKPIs(final List<ProfileDefinition> pendingProfiles) {
 
+        final KpiResolutionContext resolutionContext = this.resolutionContextLoader.load(pendingProfiles);
+        this.resolvedKpiCache.evictStale(resolutionContext.getKpiDefinitions());
+        this.inputSchemaProvider.prefetchSchemaMappings(pendingProfiles);
+
+        if (this.parallelism > 1 && pendingProfiles.size() > 1) {
+            return this.calculateAffectedKPIsInParallel(pendingProfiles, resolutionContext);
+        }
+
+        return this.calculateAffectedKPIsSequentially(pendingProfiles, resolutionContext);
+    }
+
+    /*
+     * (non-javadoc)
+     * Calculates the affected KPIs one profile at a time.
+     */
+    private List<KpiDefinitionDTOWithRelationship> calculateAffectedKPIsSequentially(final List<ProfileDefinition> pendingProfiles,
+                                                                                   final KpiResolutionContext resolutionContext) {
+
         final List<KpiDefinitionDTOWithRelationship> affectedKpiDTOWithRelationshipList = new ArrayList<>();
 
         pendingProfiles.forEach(profile -> profile.getKpis().forEach(kpiReference -> {
-            final KPIDefinition parentKpiDef = this.kpiDefinitionDAO.findByKPIDefName(kpiReference.getRef());
+            final KPIDefinition parentKpiDef = resolutionContext.getKpiDefinition(kpiReference.getRef());
             final List<String> profileContext = profile.getContext();
             final List<InputMetricOverride> inputMetricOverrides = kpiReference.getInputMetricOverrides();
 
@@ -136,7 +197,7 @@ public class KPICalculator {
                     parentKpiDef.getInputMetrics().forEach(inputMetric -> {
                         // Complex kpi, check if the child simple kpi has been resolved
                         final String kpiName = inputMetric.getId();
-                        final KPIDefinition childKpi = this.kpiDefinitionDAO.findByKPIDefName(kpiName);
+                        final KPIDefinition childKpi = resolutionContext.getKpiDefinition(kpiName);
 
                         // Simple kpi can be override with different context fields, retrieve the correct context for it
                         final List<String> aggregationFields = getAggregationContext(kpiName, inputMetricOverrides, profileContext);
@@ -144,7 +205,8 @@ public class KPICalculator {
                         final Optional<KpiDefinitionDTO> childKpiDefDto = this.resolvedKpiCache.get(childKpiRtKey);
                         if (childKpiDefDto.isEmpty()) {
                             // If not resolved, calculate the child simple kpi with input metric override option and store in the cache
-                            final KpiDefinitionDTO simpleKpiDefinitionDto = getAffectedChildKpi(childKpi, aggregationFields, profile);
+                            final KpiDefinitionDTO simpleKpiDefinitionDto = getAffectedChildKpi(childKpi, aggregationFields, profile,
+                                    resolutionContext);
                             affectedChildSimpleKpis.put(kpiName, simpleKpiDefinitionDto);
                             affectedKpiDTOWithRelationshipList.add(getKpiDefinitionDTOWithRelationship(childKpi, simpleKpiDefinitionDto, profile));
                         } else {
@@ -152,14 +214,15 @@ public class KPICalculator {
                         }
                     });
 
-                    KpiDefinitionDTO complexKpiDefinitionDto = createComplexKpiDefinitionDto(parentKpiDef, profile, affectedChildSimpleKpis);
-                    complexKpiDefinitionDto = updateRuntimeKpiInstanceId(complexKpiDefinitionDto, parentKpiDef, profile);
+                    KpiDefinitionDTO complexKpiDefinitionDto = createComplexKpiDefinitionDto(parentKpiDef, profile, affectedChildSimpleKpis,
+                            resolutionContext);
+                    complexKpiDefinitionDto = updateRuntimeKpiInstanceId(complexKpiDefinitionDto, parentKpiDef, profile, resolutionContext);
                     this.resolvedKpiCache.put(runtimeKpiKey, complexKpiDefinitionDto);
                     affectedKpiDTOWithRelationshipList.add(getKpiDefinitionDTOWithRelationship(parentKpiDef, complexKpiDefinitionDto, profile));
                     log.debug("New instantiated complex KPI: {} with context {}", parentKpiDef.getName(), profileContext);
                 } else {
-                    KpiDefinitionDTO simpleKpiDefinitionDto = createSimpleKpiDefinitionDto(parentKpiDef, profile);
-                    simpleKpiDefinitionDto = updateRuntimeKpiInstanceId(simpleKpiDefinitionDto, parentKpiDef, profile);
+                    KpiDefinitionDTO simpleKpiDefinitionDto = createSimpleKpiDefinitionDto(parentKpiDef, profile, resolutionContext);
+                    simpleKpiDefinitionDto = updateRuntimeKpiInstanceId(simpleKpiDefinitionDto, parentKpiDef, profile, resolutionContext);
                     this.resolvedKpiCache.put(runtimeKpiKey, simpleKpiDefinitionDto);
                     final KpiDefinitionDTOWithRelationship simpleKpiDefDtoWithRelationship = getKpiDefinitionDTOWithRelationship(parentKpiDef,
                             simpleKpiDefinitionDto, profile);
@@ -175,16 +238,154 @@ public class KPICalculator {
 
     /*
      * (non-javadoc)
-     * Generates the runtime kpi key for a kpi, only if it is a complex kpi ,and it has input metrics overrides, stringifies the attributes and add as key element
+     * Calculates the affected KPIs concurrently. A planning pass assigns every new runtime KPI to the profile which instantiates it in the sequential
+     * calculation. The simple KPIs and then the complex KPIs are instantiated on the shared bounded pool with one task per profile shard. Finally,
+     * the instances are added to the cache and the relationship list in planning order so the result is identical to the sequential calculation.
+     */
+    private List<KpiDefinitionDTOWithRelationship> calculateAffectedKPIsInParallel(final List<ProfileDefinition> pendingProfiles,
+                                                                                 final KpiResolutionContext resolutionContext) {
+
+        final List<PlannedKpi> plan = this.planAffectedKPIs(pendingProfiles, resolutionContext);
+        final Map<RuntimeKpiKey, KpiDefinitionDTO> instantiatedKpis = new ConcurrentHashMap<>();
+
+        final int shardSize = (pendingProfiles.size() + this.parallelism - 1) / this.parallelism;
+
+        // complex KPIs require the simple input metric KPIs from any shard, so simple KPIs are completed first
+        this.instantiateShards(plan, shardSize, plannedKpi -> !plannedKpi.isComplex(), plannedKpi -> instantiatedKpis.put(
+                plannedKpi.key(), this.instantiateSimpleKpi(plannedKpi, resolutionContext)));
+        this.instantiateShards(plan, shardSize, PlannedKpi::isComplex, plannedKpi -> instantiatedKpis.put(
+                plannedKpi.key(), this.instantiateComplexKpi(plannedKpi, instantiatedKpis, resolutionContext)));
+
+        final List<KpiDefinitionDTOWithRelationship> affectedKpiDTOWithRelationshipList = new ArrayList<>();
+
+        plan.forEach(plannedKpi -> {
+            final KpiDefinitionDTO kpiDefinitionDto = this.resolvedKpiCache.putIfAbsent(plannedKpi.key(), instantiatedKpis.get(plannedKpi.key()));
+            affectedKpiDTOWithRelationshipList.add(getKpiDefinitionDTOWithRelationship(plannedKpi.kpiDefinition(), kpiDefinitionDto,
+                    plannedKpi.profile()));
+        });
+
+        log.debug("Instantiated {} KPIs for {} profiles in {} shards", plan.size(), pendingProfiles.size(),
+                (pendingProfiles.size() + shardSize - 1) / shardSize);
+
+        return affectedKpiDTOWithRelationshipList;
+    }
+
+    /*
+     * (non-javadoc)
+     * Returns the runtime KPIs to instantiate, in the order in which the sequential calculation would instantiate them. Runtime KPIs already in the
+     * cache, or already planned for an earlier profile, are skipped. The cache lookups made by the planning are not counted in the cache metrics.
+     */
+    private List<PlannedKpi> planAffectedKPIs(final List<ProfileDefinition> pendingProfiles, final KpiResolutionContext resolutionContext) {
+
+        final List<PlannedKpi> plan = new ArrayList<>();
+        final Set<RuntimeKpiKey> plannedKeys = new HashSet<>();
+        final Predicate<RuntimeKpiKey> isResolved = key -> plannedKeys.contains(key) || this.resolvedKpiCache.containsKey(key);
+
+        for (int profileIndex = 0; profileIndex < pendingProfiles.size(); profileIndex++) {
+            final ProfileDefinition profile = pendingProfiles.get(profileIndex);
+            final List<String> profileContext = profile.getContext();
+
+            for (final KPIReference kpiReference : profile.getKpis()) {
+                final KPIDefinition parentKpiDef = resolutionContext.getKpiDefinition(kpiReference.getRef());
+                final RuntimeKpiKey runtimeKpiKey = generateRuntimeKpiKey(kpiReference, profileContext, parentKpiDef);
+
+                if (isResolved.test(runtimeKpiKey)) {
+                    continue;
+                }
+
+                if (KPIContextValidator.isComplexKpi(parentKpiDef)) {
+                    final Map<String, RuntimeKpiKey> inputMetricKeys = new LinkedHashMap<>();
+                    for (final InputMetric inputMetric : parentKpiDef.getInputMetrics()) {
+                        final String kpiName = inputMetric.getId();
+                        final KPIDefinition childKpi = resolutionContext.getKpiDefinition(kpiName);
+                        final List<String> aggregationFields = getAggregationContext(kpiName, kpiReference.getInputMetricOverrides(), profileContext);
+                        final RuntimeKpiKey childKpiRtKey = generateRuntimeKpiKey(kpiReference, aggregationFields, childKpi);
+
+                        if (!isResolved.test(childKpiRtKey)) {
+                            plannedKeys.add(childKpiRtKey);
+                            plan.add(new PlannedKpi(profileIndex, profile, childKpi, childKpiRtKey, aggregationFields, null));
+                        }
+                        inputMetricKeys.put(kpiName, childKpiRtKey);
+                    }
+                    plannedKeys.add(runtimeKpiKey);
+                    plan.add(new PlannedKpi(profileIndex, profile, parentKpiDef, runtimeKpiKey, profileContext, inputMetricKeys));
+                } else {
+                    plannedKeys.add(runtimeKpiKey);
+                    plan.add(new PlannedKpi(profileIndex, profile, parentKpiDef, runtimeKpiKey, profileContext, null));
+                }
+            }
+        }
+
+        return plan;
+    }
+
+    /*
+     * (non-javadoc)
+     * Instantiates the planned KPIs matching the filter, one task per shard of consecutive profiles, and waits for all tasks to complete.
+     */
+    private void instantiateShards(final List<PlannedKpi> plan, final int shardSize, final Predicate<PlannedKpi> filter,
+                                   final Consumer<PlannedKpi> instantiation) {
+
+        final Map<Integer, List<PlannedKpi>> shards = plan.stream()
+                .filter(filter)
+                .collect(Collectors.groupingBy(plannedKpi -> plannedKpi.profileIndex() / shardSize, TreeMap::new, Collectors.toList()));
+
+        final CompletableFuture<?>[] tasks = shards.values().stream()
+                .map(shard -> CompletableFuture.runAsync(() -> shard.forEach(instantiation), this.executor))
+                .toArray(CompletableFuture[]::new);
+
+        try {
+            CompletableFuture.allOf(tasks).join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /*
+     * (non-javadoc)
+     * Instantiates a planned simple KPI.
+     */
+    private KpiDefinitionDTO instantiateSimpleKpi(final PlannedKpi plannedKpi, final KpiResolutionContext resolutionContext) {
+
+        final KpiDefinitionDTO simpleKpiDefinitionDto = createSimpleKpiDefinitionDto(plannedKpi.kpiDefinition(), plannedKpi.profile(),
+                plannedKpi.aggregationFields(), resolutionContext);
+
+        return updateRuntimeKpiInstanceId(simpleKpiDefinitionDto, plannedKpi.kpiDefinition(), plannedKpi.profile(), resolutionContext);
+    }
+
+    /*
+     * (non-javadoc)
+     * Instantiates a planned complex KPI. Its input metric KPIs are either instantiated in this calculation or already in the cache.
+     */
+    private KpiDefinitionDTO instantiateComplexKpi(final PlannedKpi plannedKpi, final Map<RuntimeKpiKey, KpiDefinitionDTO> instantiatedKpis,
+                                                   final KpiResolutionContext resolutionContext) {
+
+        final Map<String, KpiDefinitionDTO> affectedChildSimpleKpis = new HashMap<>();
+        plannedKpi.inputMetricKeys().forEach((kpiName, childKpiRtKey) -> Optional.ofNullable(instantiatedKpis.get(childKpiRtKey))
+                .or(() -> this.resolvedKpiCache.get(childKpiRtKey))
+                .ifPresent(childKpiDefDto -> affectedChildSimpleKpis.put(kpiName, childKpiDefDto)));
+
+        final KpiDefinitionDTO complexKpiDefinitionDto = createComplexKpiDefinitionDto(plannedKpi.kpiDefinition(), plannedKpi.profile(),
+                affectedChildSimpleKpis, resolutionContext);
+
+        return updateRuntimeKpiInstanceId(complexKpiDefinitionDto, plannedKpi.kpiDefinition(), plannedKpi.profile(), resolutionContext);
+    }
+
+    /*
+     * (non-javadoc)
+     * Generates the runtime kpi key for a kpi. For complex kpis, a structural digest of the kpi reference and its input metric overrides is added as
+     * key element
      */
-    @SneakyThrows
     private RuntimeKpiKey generateRuntimeKpiKey(final KPIReference kpiReference, final List<String> aggregationFields,
                                                 final KPIDefinition kpiDefinition) {
         final RuntimeKpiKey runtimeKpiKey = new RuntimeKpiKey().toBuilder().withAggregationFields(aggregationFields)
                 .withAggregationPeriod(aggregationPeriod).withKpDefinitionName(kpiDefinition.getName()).build();
 
         if (KPIContextValidator.isComplexKpi(kpiDefinition)) {
-            final String referenceKey = new Digest().getDigestAsHex(this.codec.writeValueAsString(kpiReference));
+            final String referenceKey = RuntimeKpiKey.referenceKeyOf(kpiReference);
             runtimeKpiKey.setReferenceKey(referenceKey);
         }
         return runtimeKpiKey;
@@ -195,13 +396,13 @@ public class KPICalculator {
      * Calculates the affected child kpi with input metrics override option
      */
     private KpiDefinitionDTO getAffectedChildKpi(final KPIDefinition kpiDefinition, final List<String> aggregationFields,
-                                                 final ProfileDefinition profile) {
+                                                 final ProfileDefinition profile, final KpiResolutionContext resolutionContext) {
         // calculate the KPI
         final String kpiName = kpiDefinition.getName();
         KpiDefinitionDTO simpleKpiDefinitionDto = createSimpleKpiDefinitionDto(
-                kpiDefinition, profile, aggregationFields);
+                kpiDefinition, profile, aggregationFields, resolutionContext);
         // if KPI is in the DB, get the id
-        simpleKpiDefinitionDto = updateRuntimeKpiInstanceId(simpleKpiDefinitionDto, kpiDefinition, profile);
+        simpleKpiDefinitionDto = updateRuntimeKpiInstanceId(simpleKpiDefinitionDto, kpiDefinition, profile, resolutionContext);
         // If not, instantiate the child simple kpis and add to the map for complex kpi calculation
         final RuntimeKpiKey childKpiRtKey = RuntimeKpiKey.builder().withKpDefinitionName(kpiName)
                 .withAggregationPeriod(aggregationPeriod).withAggregationFields(aggregationFields).build();
@@ -216,8 +417,8 @@ public class KPICalculator {
      * Rebuild the runtime kpi definition dto with correct id if it is in the DB already.
      */
     private KpiDefinitionDTO updateRuntimeKpiInstanceId(KpiDefinitionDTO kpiDefinitionDTO, final KPIDefinition kpiDefinition,
-                                                        final ProfileDefinition profile) {
-        final KpiDefinitionDTO deployedKpi = this.deployedKpiDefDAO.getDeployedKpiByAggregation(kpiDefinition.getName(), profile.getContext());
+                                                        final ProfileDefinition profile, final KpiResolutionContext resolutionContext) {
+        final KpiDefinitionDTO deployedKpi = resolutionContext.getDeployedKpi(kpiDefinition.getName(), profile.getContext());
         if (Objects.nonNull(deployedKpi)) {
             kpiDefinitionDTO = kpiDefinitionDTO.toBuilder().withName(deployedKpi.getName()).build();
         }
@@ -250,8 +451,9 @@ public class KPICalculator {
      * (non-javadoc)
      * Creates a simple runtime KPI definition using the provided KPI definition and profile.
      */
-    private KpiDefinitionDTO createSimpleKpiDefinitionDto(final KPIDefinition kpiDefinition, final ProfileDefinition profile) {
-        return createSimpleKpiDefinitionDto(kpiDefinition, profile, profile.getContext());
+    private KpiDefinitionDTO createSimpleKpiDefinitionDto(final KPIDefinition kpiDefinition, final ProfileDefinition profile,
+                                                          final KpiResolutionContext resolutionContext) {
+        return createSimpleKpiDefinitionDto(kpiDefinition, profile, profile.getContext(), resolutionContext);
     }
 
     /*
@@ -259,10 +461,10 @@ public class KPICalculator {
      * Creates a simple runtime KPI definition using the provided KPI definition, profile and aggregation context
      */
     private KpiDefinitionDTO createSimpleKpiDefinitionDto(final KPIDefinition kpiDefinition, final ProfileDefinition profile,
-                                                          final List<String> aggregationFields) {
+                                                          final List<String> aggregationFields, final KpiResolutionContext resolutionContext) {
         final String pmDefName = kpiDefinition.getInputMetrics().get(0).getId();
-        final String schemaName = this.pmDefinitionDAO.findSchemaByPMDefName(pmDefName);
-        final PMDefinition pmDef = this.pmDefinitionDAO.findByPMDefName(pmDefName);
+        final String schemaName = resolutionContext.getPmSchemaName(pmDefName);
+        final PMDefinition pmDef = resolutionContext.getPmDefinition(pmDefName);
         final String source = this.inputSchemaProvider.getSchemaReference(profile, pmDef);
 
         final String tableName = Objects.isNull(profile.getAugmentation()) ? schemaName : SchemaReference.of(source).getSchemaId();
@@ -276,15 +478,17 @@ public class KPICalculator {
      * @param complexKpiDefinition      the KPI definition
      * @param profile                   the profile definition
      * @param simpleKpiDefinitionDtoMap the map of runtime simple KPI definitions for the provided profile definition
+     * @param resolutionContext         the resolution context providing the deployed runtime KPI definitions
      * @return the complex runtime KPI definition
      */
     KpiDefinitionDTO createComplexKpiDefinitionDto(final KPIDefinition complexKpiDefinition, final ProfileDefinition profile,
-                                                   final Map<String, KpiDefinitionDTO> simpleKpiDefinitionDtoMap) {
+                                                   final Map<String, KpiDefinitionDTO> simpleKpiDefinitionDtoMap,
+                                                   final KpiResolutionContext resolutionContext) {
 
         final Map<String, KpiDefinitionDTO> inputSimpleKpiDefinitionDtoMap = new HashMap<>();
 
         complexKpiDefinition.getInputMetrics().forEach(inputMetric -> {
-            final KpiDefinitionDTO resolvedInputMetric = getResolvedInputMetric(inputMetric, simpleKpiDefinitionDtoMap, profile)
+            final KpiDefinitionDTO resolvedInputMetric = getResolvedInputMetric(inputMetric, simpleKpiDefinitionDtoMap, profile, resolutionContext)
                     .orElseThrow(() -> new CsacValidationException("Complex KPI \"" + complexKpiDefinition.getName()
                             + "\" cannot be instantiated. Missing input metric \"" + inputMetric.getId()
                             + "\" in profile \"" + profile.getName() + "\""));
@@ -343,7 +547,8 @@ public class KPICalculator {
      * Resolves and returns the provided input metric as a runtime KPI definition.
      */
     private Optional<KpiDefinitionDTO> getResolvedInputMetric(final InputMetric inputMetric, final Map<String, KpiDefinitionDTO> kpiDefinitionDtoMap,
-                                                              final ProfileDefinition profile) {
+                                                              final ProfileDefinition profile,
+                                                              final KpiResolutionContext resolutionContext) {
 
         final String inputMetricId = inputMetric.getId();
 
@@ -354,9 +559,26 @@ public class KPICalculator {
          * in the deployed KPI data store.
          */
         return inputMetricDtoFromProfile.isEmpty() ?
-                Optional.ofNullable(this.deployedKpiDefDAO.getDeployedKpiByAggregation(inputMetricId, profile.getContext()))
+                Optional.ofNullable(resolutionContext.getDeployedKpi(inputMetricId, profile.getContext()))
                 :
                 inputMetricDtoFromProfile;
     }
 
+    /**
+     * A runtime KPI planned for instantiation by the parallel calculation.
+     *
+     * @param profileIndex      index of the profile which instantiates the KPI, used to assign the KPI to a shard
+     * @param profile           the profile which instantiates the KPI
+     * @param kpiDefinition     the KPI definition
+     * @param key               the runtime KPI key
+     * @param aggregationFields the aggregation fields of the runtime KPI
+     * @param inputMetricKeys   the runtime KPI keys of the input metric KPIs by input metric id, or null for a simple KPI
+     */
+    private record PlannedKpi(int profileIndex, ProfileDefinition profile, KPIDefinition kpiDefinition, RuntimeKpiKey key,
+                              List<String> aggregationFields, Map<String, RuntimeKpiKey> inputMetricKeys) {
+
+        boolean isComplex() {
+            return Objects.nonNull(this.inputMetricKeys);
+        }
+    }
 }
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.ericsson.oss.air.csac.model.KPIDefinition;
+import com.ericsson.oss.air.csac.model.PMDefinition;
+import com.ericsson.oss.air.csac.model.pmsc.KpiDefinitionDTO;
+import lombok.Getter;
+
+/**
+ * Immutable snapshot of the data dictionary and runtime data store content required to resolve the runtime KPIs for a set of pending profiles.
+ * Lookups return {@code null} when the requested item was not found in the data store, consistent with the corresponding DAO methods.
+ */
+public final class KpiResolutionContext {
+
+    private final Map<String, KPIDefinition> kpiDefinitions;
+
+    private final Map<String, PMDefinition> pmDefinitions;
+
+    private final Map<String, String> pmSchemaNames;
+
+    private final Map<DeployedKpiKey, KpiDefinitionDTO> deployedKpis;
+
+    /**
+     * The number of data store queries issued to build this context
+     */
+    @Getter
+    private final int queryCount;
+
+    KpiResolutionContext(final Map<String, KPIDefinition> kpiDefinitions,
+                         final Map<String, PMDefinition> pmDefinitions,
+                         final Map<String, String> pmSchemaNames,
+                         final Map<DeployedKpiKey, KpiDefinitionDTO> deployedKpis,
+                         final int queryCount) {
+        this.kpiDefinitions = Map.copyOf(kpiDefinitions);
+        this.pmDefinitions = Map.copyOf(pmDefinitions);
+        this.pmSchemaNames = Map.copyOf(pmSchemaNames);
+        this.deployedKpis = Map.copyOf(deployedKpis);
+        this.queryCount = queryCount;
+    }
+
+    /**
+     * Returns the KPI definition with the specified name.
+     *
+     * @param kpiDefName KPI definition name
+     * @return the KPI definition or {@code null} if it does not exist
+     */
+    public KPIDefinition getKpiDefinition(final String kpiDefName) {
+        return this.kpiDefinitions.get(kpiDefName);
+    }
+
+    /**
+     * Returns all the KPI definitions in this context.
+     *
+     * @return unmodifiable collection of KPI definitions
+     */
+    public Collection<KPIDefinition> getKpiDefinitions() {
+        return this.kpiDefinitions.values();
+    }
+
+    /**
+     * Returns the PM definition with the specified name.
+     *
+     * @param pmDefName PM definition name
+     * @return the PM definition or {@code null} if it does not exist
+     */
+    public PMDefinition getPmDefinition(final String pmDefName) {
+        return this.pmDefinitions.get(pmDefName);
+    }
+
+    /**
+     * Returns the name of the schema containing the specified PM definition.
+     *
+     * @param pmDefName PM definition name
+     * @return the schema name or {@code null} if it does not exist
+     */
+    public String getPmSchemaName(final String pmDefName) {
+        return this.pmSchemaNames.get(pmDefName);
+    }
+
+    /**
+     * Returns the deployed runtime KPI definition instantiated from the specified KPI definition and aggregation fields.
+     *
+     * @param kpiDefName        KPI definition name
+     * @param aggregationFields aggregation fields of the runtime KPI
+     * @return the deployed runtime KPI definition or {@code null} if it does not exist
+     */
+    public KpiDefinitionDTO getDeployedKpi(final String kpiDefName, final List<String> aggregationFields) {
+        return this.deployedKpis.get(new DeployedKpiKey(kpiDefName, aggregationFields));
+    }
+
+    /**
+     * Lookup key for deployed runtime KPI definitions. The aggregation fields are order-sensitive, matching the runtime data store.
+     *
+     * @param kpiDefName        KPI definition name
+     * @param aggregationFields aggregation fields of the runtime KPI
+     */
+    record DeployedKpiKey(String kpiDefName, List<String> aggregationFields) {
+    }
+}
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import com.ericsson.oss.air.csac.handler.validation.KPIContextValidator;
+import com.ericsson.oss.air.csac.model.InputMetric;
+import com.ericsson.oss.air.csac.model.KPIDefinition;
+import com.ericsson.oss.air.csac.model.KPIReference;
+import com.ericsson.oss.air.csac.model.PMDefinition;
+import com.ericsson.oss.air.csac.model.ProfileDefinition;
+import com.ericsson.oss.air.csac.model.pmsc.KpiDefinitionDTO;
+import com.ericsson.oss.air.csac.model.runtime.RuntimeKpiInstance;
+import com.ericsson.oss.air.csac.repository.DeployedKpiDefDAO;
+import com.ericsson.oss.air.csac.repository.KPIDefinitionDAO;
+import com.ericsson.oss.air.csac.repository.PMDefinitionDAO;
+import com.ericsson.oss.air.csac.repository.impl.jdbc.util.StatementCountingJdbcTemplate;
+import com.ericsson.oss.air.csac.service.KpiResolutionContext.DeployedKpiKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds a {@link KpiResolutionContext} for a set of pending profiles. All KPI definitions, PM definitions, PM schemas and deployed runtime KPIs
+ * referenced by the profiles are fetched with set-based queries rather than one query per KPI reference.
+ * <p>
+ * The number of SQL statements issued while loading is counted by the {@link StatementCountingJdbcTemplate}, so it reflects the DAO implementations
+ * in use. No statements are counted for the in-memory DAO implementations.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KpiResolutionContextLoader {
+
+    private final PMDefinitionDAO pmDefinitionDAO;
+
+    private final KPIDefinitionDAO kpiDefinitionDAO;
+
+    private final DeployedKpiDefDAO deployedKpiDefDAO;
+
+    @Autowired
+    @Qualifier("provisioningKpiResolutionQueryCount")
+    private AtomicLong queryCounter;
+
+    /**
+     * Loads the resolution context for the provided pending profiles.
+     *
+     * @param pendingProfiles the pending profiles
+     * @return the resolution context for the provided pending profiles
+     */
+    public KpiResolutionContext load(final List<ProfileDefinition> pendingProfiles) {
+
+        final long initialStatementCount = StatementCountingJdbcTemplate.getStatementCount();
+
+        // KPI definitions referenced by the profiles
+        final Set<String> referencedKpiNames = pendingProfiles.stream()
+                .flatMap(profile -> profile.getKpis().stream())
+                .map(KPIReference::getRef)
+                .collect(Collectors.toSet());
+
+        final Map<String, KPIDefinition> kpiDefinitions = new HashMap<>();
+        if (!referencedKpiNames.isEmpty()) {
+            this.kpiDefinitionDAO.findByKPIDefNames(referencedKpiNames).forEach(kpiDef -> kpiDefinitions.put(kpiDef.getName(), kpiDef));
+        }
+
+        // input metric KPI definitions of the complex KPIs not already loaded
+        final Set<String> inputMetricKpiNames = kpiDefinitions.values().stream()
+                .filter(KPIContextValidator::isComplexKpi)
+                .flatMap(kpiDef -> kpiDef.getInputMetrics().stream())
+                .map(InputMetric::getId)
+                .filter(kpiName -> !kpiDefinitions.containsKey(kpiName))
+                .collect(Collectors.toSet());
+
+        if (!inputMetricKpiNames.isEmpty()) {
+            this.kpiDefinitionDAO.findByKPIDefNames(inputMetricKpiNames).forEach(kpiDef -> kpiDefinitions.put(kpiDef.getName(), kpiDef));
+        }
+
+        // PM definitions and schemas used by the simple KPIs
+        final Set<String> pmDefNames = kpiDefinitions.values().stream()
+                .filter(kpiDef -> !KPIContextValidator.isComplexKpi(kpiDef))
+                .map(kpiDef -> kpiDef.getInputMetrics().get(0).getId())
+                .collect(Collectors.toSet());
+
+        Map<String, PMDefinition> pmDefinitions = new HashMap<>();
+        Map<String, String> pmSchemaNames = new HashMap<>();
+        if (!pmDefNames.isEmpty()) {
+            pmDefinitions = this.pmDefinitionDAO.findByPMDefNames(pmDefNames);
+            pmSchemaNames = this.pmDefinitionDAO.findSchemasByPMDefNames(pmDefNames);
+        }
+
+        // deployed runtime KPIs matching both the loaded KPI definitions and any of the profile contexts
+        final Map<DeployedKpiKey, KpiDefinitionDTO> deployedKpis = new HashMap<>();
+        if (!kpiDefinitions.isEmpty()) {
+            final Set<List<String>> profileContexts = pendingProfiles.stream().map(ProfileDefinition::getContext).collect(Collectors.toSet());
+
+            final List<RuntimeKpiInstance> runtimeKpis = this.deployedKpiDefDAO.findAllRuntimeKpisByDefinitionNames(kpiDefinitions.keySet());
+
+            runtimeKpis.stream()
+                    .filter(runtimeKpi -> profileContexts.contains(runtimeKpi.getContextFieldList()))
+                    .forEach(runtimeKpi -> deployedKpis.putIfAbsent(
+                            new DeployedKpiKey(runtimeKpi.getKpDefinitionName(), runtimeKpi.getContextFieldList()),
+                            (KpiDefinitionDTO) runtimeKpi.getRuntimeDefinition()));
+        }
+
+        final int queryCount = (int) (StatementCountingJdbcTemplate.getStatementCount() - initialStatementCount);
+        this.queryCounter.set(queryCount);
+
+        log.debug("Loaded KPI resolution context for {} profiles: {} KPI definitions, {} PM definitions, {} deployed KPIs in {} queries",
+                pendingProfiles.size(), kpiDefinitions.size(), pmDefinitions.size(), deployedKpis.size(), queryCount);
+
+        return new KpiResolutionContext(kpiDefinitions, pmDefinitions, pmSchemaNames, deployedKpis, queryCount);
+    }
+}
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.service;
+
+import java.util.Set;
+
+import com.ericsson.oss.air.csac.model.AugmentationDefinition;
+import com.ericsson.oss.air.csac.model.KPIDefinition;
+import com.ericsson.oss.air.csac.model.PMDefinition;
+import com.ericsson.oss.air.csac.model.ProfileDefinition;
+import com.ericsson.oss.air.csac.model.ResourceSubmission;
+import com.ericsson.oss.air.util.ChangeSet;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * The changes in a {@link ResourceSubmission} relative to the data dictionary and the runtime data store, as calculated by
+ * {@link DiffCalculator#getChangeSet(ResourceSubmission)}. A resource change set reflects the data dictionary at the time it was calculated, so it
+ * is only reused for the affected profile calculation if the dictionary was not updated in between.
+ */
+@Getter
+@Builder
+public class ResourceChangeSet {
+
+    /**
+     * New or updated PM definitions.
+     */
+    private final Set<PMDefinition> changedPmDefs;
+
+    /**
+     * New or updated KPI definitions.
+     */
+    private final Set<KPIDefinition> changedKpiDefs;
+
+    /**
+     * True if any PM Schema definition is new or updated.
+     */
+    private final boolean pmSchemaDefsChanged;
+
+    /**
+     * Augmentation definitions compared with the data dictionary and the runtime data store. Deleted augmentations are not reported here as they
+     * are removed from the runtime data store by the augmentation provisioning handler.
+     */
+    private final ChangeSet<AugmentationDefinition> augmentationDefs;
+
+    /**
+     * Profile definitions compared with the deployed profiles. Deleted entries are the deployed profiles that are not in the resource submission.
+     */
+    private final ChangeSet<ProfileDefinition> profileDefs;
+
+    /**
+     * Returns true if the resource submission contains any new or updated resources.
+     *
+     * @return true if the resource submission contains any new or updated resources
+     */
+    public boolean hasChanges() {
+        return !this.changedPmDefs.isEmpty()
+                || !this.changedKpiDefs.isEmpty()
+                || this.pmSchemaDefsChanged
+                || !this.augmentationDefs.getChanged().isEmpty()
+                || !this.profileDefs.getChanged().isEmpty();
+    }
+}
@@ -10,14 +10,40 @@
 
 package com.ericsson.oss.air.csac.service;
 
+import static com.ericsson.oss.air.csac.model.ResourceSubmission.AUGMENTATIONS;
+import static com.ericsson.oss.air.csac.model.ResourceSubmission.KPI_DEFS;
+import static com.ericsson.oss.air.csac.model.ResourceSubmission.PM_DEFS;
+import static com.ericsson.oss.air.csac.model.ResourceSubmission.PM_SCHEMAS;
+import static com.ericsson.oss.air.csac.model.ResourceSubmission.PROFILE_DEFS;
+
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import com.ericsson.oss.air.csac.model.AugmentationDefinition;
+import com.ericsson.oss.air.csac.model.KPIDefinition;
+import com.ericsson.oss.air.csac.model.PMDefinition;
+import com.ericsson.oss.air.csac.model.PMSchemaDefinition;
+import com.ericsson.oss.air.csac.model.ProfileDefinition;
 import com.ericsson.oss.air.csac.model.ResourceSubmission;
+import com.ericsson.oss.air.exception.CsacValidationException;
 import com.ericsson.oss.air.exception.ResourceFileLoaderException;
 import com.ericsson.oss.air.util.codec.Codec;
+import com.ericsson.oss.air.util.logging.payload.PayloadLogFactory;
+import com.ericsson.oss.air.util.logging.payload.PayloadLogger;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
@@ -28,9 +54,27 @@ import org.springframework.stereotype.Service;
 @NoArgsConstructor
 public class ResourceFileLoader {
 
+    private static final PayloadLogger PAYLOAD_LOGGER = PayloadLogFactory.getLogger(ResourceFileLoader.class);
+
+    private static final Map<String, Class<?>> RESOURCE_ELEMENT_TYPES = Map.of(
+            PM_DEFS, PMDefinition.class,
+            KPI_DEFS, KPIDefinition.class,
+            PROFILE_DEFS, ProfileDefinition.class,
+            PM_SCHEMAS, PMSchemaDefinition.class,
+            AUGMENTATIONS, AugmentationDefinition.class);
+
     @Autowired
     private Codec codec;
 
+    @Autowired
+    private ResourceSnapshotStore snapshotStore;
+
+    /**
+     * The maximum number of resource files read and parsed concurrently.
+     */
+    @Getter(AccessLevel.PACKAGE) // Getter for unit tests only
+    private int parallelism = 4;
+
     /**
      * Constructs a {@code ResourceFileLoader} instance with the provided {@link Codec}. This constructor is intended for testing purposes only.
      *
@@ -41,7 +85,74 @@ public class ResourceFileLoader {
     }
 
     /**
-     * Load json file from disk.
+     * Constructs a {@code ResourceFileLoader} instance with the provided {@link Codec} and {@link ResourceSnapshotStore}. This constructor is
+     * intended for testing purposes only.
+     *
+     * @param codec         codec injected
+     * @param snapshotStore OOB resource snapshot store injected
+     */
+    protected ResourceFileLoader(final Codec codec, final ResourceSnapshotStore snapshotStore) {
+        this.codec = codec;
+        this.snapshotStore = snapshotStore;
+    }
+
+    @Autowired
+    public void setParallelism(
+            @Value("${csac.resource.load.parallelism:4}")
+            final Integer parallelism) {
+        if (Objects.isNull(parallelism) || parallelism < 1) {
+            throw new CsacValidationException(
+                    String.format("%s is not a permitted value for the resource file loading parallelism", parallelism));
+        }
+
+        this.parallelism = parallelism;
+        log.debug("The parallelism for the resource file loading is set to : " + this.parallelism);
+    }
+
+    /**
+     * Loads the provided json files from disk. The files are read and parsed concurrently and the deserialized resource submissions are returned
+     * in the same order as the provided files, so that they can be merged in a deterministic order.
+     * <p>
+     * If more than one file cannot be loaded, the exception for the first of these files in the provided order is thrown.
+     *
+     * @param resourceFiles ordered list of files to be loaded
+     * @return the objects deserialized from the resource files, in the same order as the files
+     * @throws ResourceFileLoaderException if any of the files cannot be loaded
+     */
+    public List<ResourceSubmission> loadResourceFilePaths(final List<Path> resourceFiles) {
+
+        if (this.parallelism == 1 || resourceFiles.size() <= 1) {
+            return resourceFiles.stream().map(this::loadResourceFilePath).toList();
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(this.parallelism, resourceFiles.size()));
+
+        try {
+            final List<CompletableFuture<ResourceSubmission>> tasks = resourceFiles.stream()
+                    .map(resourceFile -> CompletableFuture.supplyAsync(() -> this.loadResourceFilePath(resourceFile), executor))
+                    .toList();
+
+            // joining in file order keeps both the result order and the reported failure deterministic
+            final List<ResourceSubmission> resourceSubmissions = new ArrayList<>(tasks.size());
+            for (final CompletableFuture<ResourceSubmission> task : tasks) {
+                resourceSubmissions.add(task.join());
+            }
+
+            return resourceSubmissions;
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        } finally {
+            // files that have not started loading yet are not needed if an earlier file failed
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Load json file from disk. An OOB resource file is loaded from its compiled snapshot if snapshots are enabled and the file is unchanged since
+     * the snapshot was compiled. See {@link ResourceSnapshotStore}.
      *
      * @param resourceFile file to be loaded
      * @return an object deserialized from resource file
@@ -49,12 +160,33 @@ public class ResourceFileLoader {
      */
     public ResourceSubmission loadResourceFilePath(final Path resourceFile) {
 
+        if (Objects.nonNull(this.snapshotStore) && this.snapshotStore.isSnapshotEnabled(resourceFile)) {
+            try {
+                return this.snapshotStore.load(resourceFile, this::loadJsonResourceFile);
+            } catch (final IOException e) {
+                throw new ResourceFileLoaderException("Error reading resource file: " + resourceFile.toString() + ": " + e.getMessage(), e);
+            }
+        }
+
+        return this.loadJsonResourceFile(resourceFile);
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Loads, validates and logs the provided JSON resource file.
+     */
+    private ResourceSubmission loadJsonResourceFile(final Path resourceFile) {
+
         try {
             log.info("Loading resource from {}", resourceFile.toString());
 
-            final ResourceSubmission deserialized = this.codec.withValidation().readValue(resourceFile, ResourceSubmission.class);
+            final ResourceSubmission deserialized = this.readResourceSubmission(resourceFile);
 
-            log.info("Resource loaded: {}", this.codec.writeValueAsStringPretty(deserialized));
+            log.info("Resource loaded from {}: {} PM definitions, {} KPI definitions, {} profile definitions, {} PM schema definitions, "
+                            + "{} augmentation definitions", resourceFile, deserialized.getPmDefs().size(), deserialized.getKpiDefs().size(),
+                    deserialized.getProfileDefs().size(), deserialized.getPmSchemaDefs().size(), deserialized.getAugmentationDefinitions().size());
+            PAYLOAD_LOGGER.debug("Resource loaded: {}", deserialized);
 
             return deserialized;
         } catch (final Exception e) {
@@ -63,4 +195,37 @@ public class ResourceFileLoader {
 
     }
 
+    /*
+     * (non-javadoc)
+     *
+     * Streams the resource file, validating each resource as it is deserialized so that loading stops at the first invalid resource without
+     * reading the remainder of the file.
+     */
+    private ResourceSubmission readResourceSubmission(final Path resourceFile) throws IOException {
+
+        final List<PMDefinition> pmDefs = new ArrayList<>();
+        final List<KPIDefinition> kpiDefs = new ArrayList<>();
+        final List<ProfileDefinition> profileDefs = new ArrayList<>();
+        final List<PMSchemaDefinition> pmSchemaDefs = new ArrayList<>();
+        final List<AugmentationDefinition> augmentationDefs = new ArrayList<>();
+
+        this.codec.withValidation().readArrayElements(resourceFile, RESOURCE_ELEMENT_TYPES, (arrayName, element) -> {
+            switch (arrayName) {
+                case PM_DEFS -> pmDefs.add((PMDefinition) element);
+                case KPI_DEFS -> kpiDefs.add((KPIDefinition) element);
+                case PROFILE_DEFS -> profileDefs.add((ProfileDefinition) element);
+                case PM_SCHEMAS -> pmSchemaDefs.add((PMSchemaDefinition) element);
+                case AUGMENTATIONS -> augmentationDefs.add((AugmentationDefinition) element);
+                default -> throw new IllegalStateException("Unexpected resource type: " + arrayName);
+            }
+        });
+
+        return ResourceSubmission.builder()
+                .pmDefs(pmDefs)
+                .kpiDefs(kpiDefs)
+                .profileDefs(profileDefs)
+                .pmSchemaDefs(pmSchemaDefs)
+                .augmentationDefinitions(augmentationDefs)
+                .build();
+    }
 }
@@ -0,0 +1,333 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.ericsson.oss.air.csac.configuration.ResourceProperties;
+import com.ericsson.oss.air.csac.model.ResourceSubmission;
+import com.ericsson.oss.air.util.codec.Digest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.logging.log4j.util.Strings;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores compiled snapshots of the out-of-box (OOB) resource files. An OOB resource file is identical on every pod and every startup, so once it has
+ * been parsed and validated, its resource submission is written to a binary Smile snapshot. Later loads of the same file read the memory-mapped
+ * snapshot instead of parsing and validating the JSON again.
+ * <p>
+ * Each snapshot starts with a header containing a magic number, the snapshot format version, the version of the application that compiled it, the
+ * SHA-256 digest of the JSON resource file it was compiled from and the SHA-256 digest of the Smile payload. A snapshot is only used if its format
+ * version is current, it was compiled by the running application version and both digests match, so an upgrade, a changed resource file or a
+ * corrupted snapshot falls back to loading the JSON resource file, which then replaces the snapshot.
+ * <p>
+ * Snapshots are disabled unless {@code csac.resource.snapshot.path} is set. Custom resource files are never compiled to snapshots.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ResourceSnapshotStore {
+
+    static final String SNAPSHOT_SUFFIX = ".snapshot";
+
+    static final int FORMAT_VERSION = 2;
+
+    private static final byte[] MAGIC = "CSAC".getBytes(StandardCharsets.US_ASCII);
+
+    private static final int DIGEST_LENGTH = 32;
+
+    /*
+     * Length of the header, excluding the application version.
+     */
+    static final int FIXED_HEADER_LENGTH = MAGIC.length + Integer.BYTES + Short.BYTES + 2 * DIGEST_LENGTH;
+
+    private final ObjectMapper snapshotMapper = new ObjectMapper(new SmileFactory());
+
+    private final ResourceProperties resourceProperties;
+
+    /*
+     * Directory the snapshots are stored in, or null if snapshots are disabled.
+     */
+    @Getter(AccessLevel.PACKAGE) // Getter for unit tests only
+    private Path snapshotDirectory;
+
+    @Value("${info.app.version:}")
+    @Setter(AccessLevel.PACKAGE) // used only for unit tests
+    private String applicationVersion = "";
+
+    /**
+     * Sets the directory the OOB resource snapshots are stored in. If the path is empty, snapshots are disabled.
+     *
+     * @param snapshotPath snapshot directory path
+     */
+    @Autowired
+    public void setSnapshotPath(@Value("${csac.resource.snapshot.path:}") final String snapshotPath) {
+
+        this.snapshotDirectory = Strings.isBlank(snapshotPath) ? null : Path.of(snapshotPath);
+
+        log.debug("OOB resource snapshot directory: {}", this.snapshotDirectory);
+    }
+
+    /**
+     * Returns true if the provided resource file is an OOB resource file and snapshots are enabled.
+     *
+     * @param resourceFile resource file
+     * @return true if the provided resource file can be loaded from a snapshot
+     */
+    public boolean isSnapshotEnabled(final Path resourceFile) {
+        return Objects.nonNull(this.snapshotDirectory)
+                && this.resourceProperties.getOobResourceFilenames().contains(resourceFile.getFileName().toString());
+    }
+
+    /**
+     * Loads the provided resource file from its snapshot. If there is no valid snapshot for the current content of the resource file, the resource
+     * file is loaded using the provided JSON loader and a new snapshot is compiled from the result.
+     *
+     * @param resourceFile OOB resource file
+     * @param jsonLoader   loads and validates the JSON resource file
+     * @return the resource submission for the resource file
+     * @throws IOException if the resource file cannot be read
+     */
+    public ResourceSubmission load(final Path resourceFile, final Function<Path, ResourceSubmission> jsonLoader) throws IOException {
+
+        // the source digest is calculated once, so a snapshot always matches the content that was loaded
+        final byte[] sourceDigest = getSourceDigest(resourceFile);
+
+        final Optional<ResourceSubmission> snapshot = this.read(resourceFile, sourceDigest);
+
+        if (snapshot.isPresent()) {
+            log.info("Resource loaded from snapshot {}", this.getSnapshotFile(resourceFile));
+            return snapshot.get();
+        }
+
+        final ResourceSubmission resourceSubmission = jsonLoader.apply(resourceFile);
+
+        this.write(resourceFile, sourceDigest, resourceSubmission);
+
+        return resourceSubmission;
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Reads the memory-mapped snapshot of the provided resource file. Returns an empty optional if there is no snapshot or it does not match the
+     * provided source digest, format version, application version or its own payload digest.
+     */
+    private Optional<ResourceSubmission> read(final Path resourceFile, final byte[] sourceDigest) {
+
+        final Path snapshotFile = this.getSnapshotFile(resourceFile);
+
+        if (!Files.isRegularFile(snapshotFile)) {
+            log.info("No snapshot found for resource file {}", resourceFile);
+            return Optional.empty();
+        }
+
+        try (final FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+
+            final MappedByteBuffer snapshot = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (snapshot.remaining() < FIXED_HEADER_LENGTH || !Arrays.equals(MAGIC, getBytes(snapshot, MAGIC.length))
+                    || snapshot.getInt() != FORMAT_VERSION) {
+                log.info("Snapshot {} has an unsupported format. Loading resource file {}", snapshotFile, resourceFile);
+                return Optional.empty();
+            }
+
+            final int applicationVersionLength = Short.toUnsignedInt(snapshot.getShort());
+
+            if (snapshot.remaining() < applicationVersionLength + 2 * DIGEST_LENGTH) {
+                log.info("Snapshot {} has an unsupported format. Loading resource file {}", snapshotFile, resourceFile);
+                return Optional.empty();
+            }
+
+            final String snapshotApplicationVersion = new String(getBytes(snapshot, applicationVersionLength), StandardCharsets.UTF_8);
+
+            if (!snapshotApplicationVersion.equals(this.getApplicationVersion())) {
+                log.info("Snapshot {} was compiled by application version '{}'. Loading resource file {}", snapshotFile, snapshotApplicationVersion,
+                        resourceFile);
+                return Optional.empty();
+            }
+
+            if (!MessageDigest.isEqual(sourceDigest, getBytes(snapshot, DIGEST_LENGTH))) {
+                log.info("Resource file {} has changed since snapshot {} was compiled", resourceFile, snapshotFile);
+                return Optional.empty();
+            }
+
+            final byte[] payloadDigest = getBytes(snapshot, DIGEST_LENGTH);
+            final ByteBuffer payload = snapshot.slice();
+
+            if (!MessageDigest.isEqual(payloadDigest, getPayloadDigest(payload.duplicate()))) {
+                log.warn("Snapshot {} checksum does not match. Loading resource file {}", snapshotFile, resourceFile);
+                return Optional.empty();
+            }
+
+            try (final InputStream in = new ByteBufferBackedInputStream(payload)) {
+                return Optional.of(withEmptyLists(this.snapshotMapper.readValue(in, ResourceSubmission.class)));
+            }
+        } catch (final IOException | UnsupportedOperationException e) {
+            // memory mapping is not supported by every file system
+            log.warn("Unable to read snapshot {}. Loading resource file {}", snapshotFile, resourceFile, e);
+            return Optional.empty();
+        }
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Compiles the provided resource submission to a snapshot. The snapshot is written to a temporary file that then replaces any existing snapshot,
+     * so a partially written snapshot is never read. A failure to write the snapshot does not prevent the resource file from being loaded.
+     */
+    private void write(final Path resourceFile, final byte[] sourceDigest, final ResourceSubmission resourceSubmission) {
+
+        final Path snapshotFile = this.getSnapshotFile(resourceFile);
+
+        try {
+            final byte[] payload = this.snapshotMapper.writeValueAsBytes(resourceSubmission);
+
+            final byte[] applicationVersionBytes = this.getApplicationVersion().getBytes(StandardCharsets.UTF_8);
+
+            final ByteBuffer header = ByteBuffer.allocate(FIXED_HEADER_LENGTH + applicationVersionBytes.length)
+                    .put(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putShort((short) applicationVersionBytes.length)
+                    .put(applicationVersionBytes)
+                    .put(sourceDigest)
+                    .put(getPayloadDigest(ByteBuffer.wrap(payload)));
+
+            Files.createDirectories(this.snapshotDirectory);
+
+            final Path tempFile = Files.createTempFile(this.snapshotDirectory, snapshotFile.getFileName().toString(), ".tmp");
+
+            try (final OutputStream out = Files.newOutputStream(tempFile)) {
+                out.write(header.array());
+                out.write(payload);
+            }
+
+            Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            log.info("Compiled snapshot {} for resource file {}", snapshotFile, resourceFile);
+        } catch (final IOException e) {
+            log.warn("Unable to write snapshot {} for resource file {}", snapshotFile, resourceFile, e);
+        }
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns the snapshot file for the provided resource file.
+     */
+    private Path getSnapshotFile(final Path resourceFile) {
+        return this.snapshotDirectory.resolve(resourceFile.getFileName().toString() + SNAPSHOT_SUFFIX);
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns the running application version, or an empty string if it is unknown.
+     */
+    private String getApplicationVersion() {
+        return Objects.requireNonNullElse(this.applicationVersion, "");
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns the SHA-256 digest of the content of the provided resource file. The file is streamed through the digest and is not parsed.
+     */
+    private static byte[] getSourceDigest(final Path resourceFile) throws IOException {
+
+        final MessageDigest digest = Digest.newMessageDigest(Digest.Algorithm.SHA256);
+
+        try (final InputStream in = new DigestInputStream(Files.newInputStream(resourceFile), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+
+        return digest.digest();
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns the SHA-256 digest of the remaining bytes in the provided buffer.
+     */
+    private static byte[] getPayloadDigest(final ByteBuffer payload) {
+
+        final MessageDigest digest = Digest.newMessageDigest(Digest.Algorithm.SHA256);
+        digest.update(payload);
+
+        return digest.digest();
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Reads the specified number of bytes from the provided buffer.
+     */
+    private static byte[] getBytes(final ByteBuffer buffer, final int length) {
+
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+
+        return bytes;
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Replaces any resource list omitted from the snapshot with an empty list, as empty lists are not serialized.
+     */
+    private static ResourceSubmission withEmptyLists(final ResourceSubmission resourceSubmission) {
+
+        return ResourceSubmission.builder()
+                .pmDefs(orEmpty(resourceSubmission.getPmDefs()))
+                .kpiDefs(orEmpty(resourceSubmission.getKpiDefs()))
+                .profileDefs(orEmpty(resourceSubmission.getProfileDefs()))
+                .pmSchemaDefs(orEmpty(resourceSubmission.getPmSchemaDefs()))
+                .augmentationDefinitions(orEmpty(resourceSubmission.getAugmentationDefinitions()))
+                .build();
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns the provided list, or an empty list if it is null.
+     */
+    private static <T> List<T> orEmpty(final List<T> definitions) {
+        return Objects.isNull(definitions) ? Collections.emptyList() : definitions;
+    }
+
+}
@@ -19,9 +19,9 @@ import com.ericsson.oss.air.csac.service.exception.HttpResponseErrorHandler;
 import com.ericsson.oss.air.exception.http.InternalServerErrorException;
 import com.ericsson.oss.air.exception.http.ServiceUnavailableException;
 import com.ericsson.oss.air.exception.http.TooManyRequestsException;
-import com.ericsson.oss.air.util.codec.Codec;
+import com.ericsson.oss.air.util.logging.payload.PayloadLogFactory;
+import com.ericsson.oss.air.util.logging.payload.PayloadLogger;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
@@ -46,12 +46,12 @@ public class AugmentationRestClient {
 
     private static final String ARDQ_REGISTRATION_URI = "/v1/augmentation/registration/ardq";
 
+    private static final PayloadLogger PAYLOAD_LOGGER = PayloadLogFactory.getLogger(AugmentationRestClient.class);
+
     private final RestTemplate restTemplate;
 
     private final AugmentationProperties augmentationProperties;
 
-    private final Codec codec;
-
     /**
      * Creates provided augmentation in AAS.
      *
@@ -64,9 +64,8 @@ public class AugmentationRestClient {
                                   maxDelayExpression = "#{${resilience4j.retry.instances.aas.maxDelay}}"),
                retryFor = { InternalServerErrorException.class, TooManyRequestsException.class, ServiceUnavailableException.class,
                        ResourceAccessException.class })
-    @SneakyThrows
     public void create(final AugmentationRequestDto augmentationRequestDto) {
-        log.debug("Submitting new augmentation definition: {}", this.codec.writeValueAsString(augmentationRequestDto));
+        PAYLOAD_LOGGER.debug("Submitting new augmentation definition: {}", augmentationRequestDto);
 
         final HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -99,9 +98,8 @@ public class AugmentationRestClient {
                                   maxDelayExpression = "#{${resilience4j.retry.instances.aas.maxDelay}}"),
                retryFor = { InternalServerErrorException.class, TooManyRequestsException.class, ServiceUnavailableException.class,
                        ResourceAccessException.class })
-    @SneakyThrows
     public void update(final AugmentationRequestDto augmentationRequestDto) {
-        log.debug("Updating augmentation definition: {}", this.codec.writeValueAsString(augmentationRequestDto));
+        PAYLOAD_LOGGER.debug("Updating augmentation definition: {}", augmentationRequestDto);
 
         final HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.service.augmentation;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.ericsson.oss.air.exception.CsacValidationException;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of the schema mappings registered in the AAS for each ARDQ, scoped to a single provisioning run. Schema mappings are retrieved from the AAS
+ * at most once per ARDQ id during a run and remain cached until the ARDQ registration is created, updated or deleted by CSAC, or until the next run
+ * starts. The cache is cleared at the start of each run, so that schema mappings changed or deleted in the AAS in between runs are retrieved again.
+ */
+@Component
+@Slf4j
+public class AugmentationSchemaMappingCache {
+
+    private final Map<String, Map<String, String>> schemaMappings = new ConcurrentHashMap<>();
+
+    private final AugmentationProvisioningService augmentationProvisioningService;
+
+    /**
+     * The maximum number of ARDQ registrations retrieved concurrently from the AAS.
+     */
+    @Getter(AccessLevel.PACKAGE) // Getter for unit tests only
+    private int parallelism = 4;
+
+    @Autowired
+    @Qualifier("provisioningAasSchemaMappingCacheHits")
+    private AtomicLong hitCounter;
+
+    @Autowired
+    @Qualifier("provisioningAasSchemaMappingCacheMisses")
+    private AtomicLong missCounter;
+
+    /**
+     * Instantiates a new schema mapping cache.
+     *
+     * @param augmentationProvisioningService the augmentation provisioning service used to retrieve the schema mappings from the AAS
+     */
+    @Autowired
+    public AugmentationSchemaMappingCache(final AugmentationProvisioningService augmentationProvisioningService) {
+        this.augmentationProvisioningService = augmentationProvisioningService;
+    }
+
+    @Autowired
+    public void setParallelism(
+            @Value("${provisioning.aas.schemaMappings.parallelism:4}")
+            final Integer parallelism) {
+        if (Objects.isNull(parallelism) || parallelism < 1) {
+            throw new CsacValidationException(
+                    String.format("%s is not a permitted value for the schema mapping retrieval parallelism", parallelism));
+        }
+
+        this.parallelism = parallelism;
+        log.debug("The parallelism for the schema mapping retrieval is set to : " + this.parallelism);
+    }
+
+    /**
+     * Retrieves the schema mappings for all the specified ARDQ ids that are not already cached. The schema mappings are retrieved concurrently.
+     *
+     * @param ardqIds ARDQ ids to prefetch
+     */
+    public void prefetch(final Collection<String> ardqIds) {
+
+        final List<String> missingArdqIds = ardqIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .filter(ardqId -> !this.schemaMappings.containsKey(ardqId))
+                .toList();
+
+        if (missingArdqIds.isEmpty()) {
+            return;
+        }
+
+        log.debug("Prefetching schema mappings for ARDQ ids: {}", missingArdqIds);
+
+        if (this.parallelism == 1 || missingArdqIds.size() == 1) {
+            missingArdqIds.forEach(this::getSchemaMappings);
+            return;
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(this.parallelism, missingArdqIds.size()));
+
+        try {
+            final CompletableFuture<?>[] tasks = missingArdqIds.stream()
+                    .map(ardqId -> CompletableFuture.runAsync(() -> this.getSchemaMappings(ardqId), executor))
+                    .toArray(CompletableFuture[]::new);
+
+            CompletableFuture.allOf(tasks).join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Returns the schema mappings for the specified ARDQ id as a map of input schema reference/augmented schema reference values. The schema
+     * mappings are retrieved from the AAS if they are not already cached.
+     *
+     * @param ardqId unique identifier for the augmentation definition
+     * @return unmodifiable map of input/augmented schema references
+     */
+    public Map<String, String> getSchemaMappings(final String ardqId) {
+
+        final Map<String, String> cachedMappings = this.schemaMappings.get(ardqId);
+        if (Objects.nonNull(cachedMappings)) {
+            this.hitCounter.incrementAndGet();
+            return cachedMappings;
+        }
+
+        this.missCounter.incrementAndGet();
+
+        final Map<String, String> mappings = Collections.unmodifiableMap(
+                new HashMap<>(this.augmentationProvisioningService.getSchemaMappings(ardqId)));
+
+        final Map<String, String> existingMappings = this.schemaMappings.putIfAbsent(ardqId, mappings);
+        return Objects.isNull(existingMappings) ? mappings : existingMappings;
+    }
+
+    /**
+     * Removes the cached schema mappings for the specified ARDQ ids.
+     *
+     * @param ardqIds ARDQ ids whose registrations were created, updated or deleted
+     */
+    public void invalidate(final Collection<String> ardqIds) {
+        ardqIds.forEach(this.schemaMappings::remove);
+    }
+
+    /**
+     * Removes all cached schema mappings. Invoked at the start of each provisioning run and on configuration reset.
+     */
+    public void invalidateAll() {
+        this.schemaMappings.clear();
+    }
+
+    /**
+     * Returns the number of ARDQ ids with cached schema mappings.
+     *
+     * @return the number of cached ARDQ ids
+     */
+    public int size() {
+        return this.schemaMappings.size();
+    }
+}
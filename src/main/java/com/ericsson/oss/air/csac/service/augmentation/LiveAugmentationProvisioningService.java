@@ -20,10 +20,10 @@ import com.ericsson.oss.air.csac.model.augmentation.ArdqRegistrationResponseDto;
 import com.ericsson.oss.air.csac.model.augmentation.AugmentationRequestDto;
 import com.ericsson.oss.air.csac.model.augmentation.SchemaMappingResponseDto;
 import com.ericsson.oss.air.exception.CsacValidationException;
-import com.ericsson.oss.air.util.codec.Codec;
 import com.ericsson.oss.air.util.logging.FaultHandler;
+import com.ericsson.oss.air.util.logging.payload.PayloadLogFactory;
+import com.ericsson.oss.air.util.logging.payload.PayloadLogger;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.logging.log4j.util.Strings;
 import org.springframework.context.annotation.Primary;
@@ -41,14 +41,14 @@ import org.springframework.util.ObjectUtils;
 @RequiredArgsConstructor
 public class LiveAugmentationProvisioningService implements AugmentationProvisioningService {
 
+    private static final PayloadLogger PAYLOAD_LOGGER = PayloadLogFactory.getLogger(LiveAugmentationProvisioningService.class);
+
     private final ArdqRestClient ardqRestClient;
 
     private final AugmentationRestClient augmentationRestClient;
 
     private final AugmentationConfiguration augmentationConfiguration;
 
-    private final Codec codec;
-
     private final FaultHandler faultHandler;
 
     @Override
@@ -79,29 +79,29 @@ public class LiveAugmentationProvisioningService implements AugmentationProvisio
         }
     }
 
-    @SneakyThrows
     @Override
     public void create(final List<AugmentationRequestDto> augmentationRequestDtoList) {
-        log.info("Submitting new augmentation definitions: {}", this.codec.writeValueAsString(augmentationRequestDtoList));
+        log.info("Submitting {} new augmentation definitions", augmentationRequestDtoList.size());
+        PAYLOAD_LOGGER.debug("Submitting new augmentation definitions: {}", augmentationRequestDtoList);
 
         augmentationRequestDtoList.stream()
                 .forEach(this.augmentationRestClient::create);
 
     }
 
-    @SneakyThrows
     @Override
     public void update(final List<AugmentationRequestDto> augmentationRequestDtoList) {
-        log.info("Updating augmentation definitions: {}", this.codec.writeValueAsString(augmentationRequestDtoList));
+        log.info("Updating {} augmentation definitions", augmentationRequestDtoList.size());
+        PAYLOAD_LOGGER.debug("Updating augmentation definitions: {}", augmentationRequestDtoList);
 
         augmentationRequestDtoList.stream()
                 .forEach(this.augmentationRestClient::update);
     }
 
-    @SneakyThrows
     @Override
     public void delete(final List<AugmentationRequestDto> augmentationRequestDtoList) {
-        log.info("Deleting augmentation definitions: {}", this.codec.writeValueAsString(augmentationRequestDtoList));
+        log.info("Deleting {} augmentation definitions", augmentationRequestDtoList.size());
+        PAYLOAD_LOGGER.debug("Deleting augmentation definitions: {}", augmentationRequestDtoList);
 
         augmentationRequestDtoList.stream()
                 .forEach(augmentationRequestDto -> this.augmentationRestClient.delete(augmentationRequestDto.getArdqId()));
@@ -13,6 +13,7 @@ package com.ericsson.oss.air.csac.service.exception;
 import static org.springframework.http.HttpStatus.resolve;
 
 import java.io.IOException;
+import java.net.URI;
 import java.util.Objects;
 
 import com.ericsson.oss.air.exception.http.BadRequestException;
@@ -26,6 +27,7 @@ import com.ericsson.oss.air.util.logging.audit.AuditLogger;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.web.client.ResponseErrorHandler;
@@ -33,6 +35,9 @@ import org.springframework.web.client.ResponseErrorHandler;
 /**
  * Implementation of ResponseErrorHandler which will be injected into RestTemplate through RestTemplateBuilder.
  * This implementation handles the HTTP errors returned by remote APIs
+ * <p>
+ * A handler created without an endpoint derives the endpoint from the method and URL of each failed request, so it can be configured once on a
+ * RestTemplate that sends requests to several endpoints concurrently.
  */
 
 @Slf4j
@@ -48,6 +53,13 @@ public class HttpResponseErrorHandler implements ResponseErrorHandler {
 
     private final String endpoint;
 
+    /**
+     * Constructs an {@code HttpResponseErrorHandler} that derives the endpoint from each failed request.
+     */
+    public HttpResponseErrorHandler() {
+        this(null);
+    }
+
     /**
      * Delegates to HttpStatusCode with the response status code.
      *
@@ -58,16 +70,38 @@ public class HttpResponseErrorHandler implements ResponseErrorHandler {
         return (response.getStatusCode().is4xxClientError() || response.getStatusCode().is5xxServerError());
     }
 
+    /*
+     * Handles the error in the given response to a request sent to the given URL.
+     * @param url request URL
+     * @param method request method
+     * @param response client http response
+     */
+    @Override
+    public void handleError(final URI url, final HttpMethod method, final ClientHttpResponse response) throws IOException {
+        this.handleError(Objects.isNull(this.endpoint) ? method + " " + url : this.endpoint, response);
+    }
+
     /*
      * Handles the error in the given response with the given resolved status code.
      * @param response client http response
      */
     @Override
     public void handleError(final ClientHttpResponse response) throws IOException {
+        this.handleError(this.endpoint, response);
+    }
+
+    /**
+     * Handles the error in the given response to a request sent to the given endpoint.
+     *
+     * @param endpoint the endpoint of the REST request
+     * @param response client http response
+     * @throws IOException if the response cannot be read
+     */
+    protected void handleError(final String endpoint, final ClientHttpResponse response) throws IOException {
         final HttpStatus status = resolve(response.getStatusCode().value());
         Objects.requireNonNull(status);
 
-        final String message = this.endpoint + ": " + status.value() + " " + status.getReasonPhrase();
+        final String message = endpoint + ": " + status.value() + " " + status.getReasonPhrase();
 
         switch (status) {
             case NOT_FOUND -> {
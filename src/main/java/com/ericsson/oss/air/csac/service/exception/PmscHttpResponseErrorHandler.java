@@ -36,8 +36,15 @@ public class PmscHttpResponseErrorHandler extends HttpResponseErrorHandler {
         super(endpoint);
     }
 
+    /**
+     * Constructs a {@code PmscHttpResponseErrorHandler} that derives the endpoint from each failed request.
+     */
+    public PmscHttpResponseErrorHandler() {
+        super();
+    }
+
     @Override
-    public void handleError(final ClientHttpResponse response) throws IOException {
+    protected void handleError(final String endpoint, final ClientHttpResponse response) throws IOException {
         final String body = new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8);
 
         if (!ObjectUtils.isEmpty(body)) {
@@ -57,7 +64,7 @@ public class PmscHttpResponseErrorHandler extends HttpResponseErrorHandler {
 
         }
 
-        super.handleError(response);
+        super.handleError(endpoint, response);
     }
 
 }
@@ -20,18 +20,17 @@ import com.ericsson.oss.air.csac.service.exception.HttpResponseErrorHandler;
 import com.ericsson.oss.air.exception.http.InternalServerErrorException;
 import com.ericsson.oss.air.exception.http.ServiceUnavailableException;
 import com.ericsson.oss.air.exception.http.TooManyRequestsException;
-import com.ericsson.oss.air.util.codec.Codec;
+import com.ericsson.oss.air.util.StreamingJsonRequestCallback;
+import com.ericsson.oss.air.util.logging.payload.PayloadLogFactory;
+import com.ericsson.oss.air.util.logging.payload.PayloadLogger;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
@@ -53,7 +52,7 @@ public class LiveIndexerRestClient implements IndexerRestClient {
 
     static final String AIS_INDEXER_URI = "/v1/indexer-info/indexer";
 
-    private final Codec codec = new Codec();
+    private static final PayloadLogger PAYLOAD_LOGGER = PayloadLogFactory.getLogger(LiveIndexerRestClient.class);
 
     private final RestTemplate restTemplate;
 
@@ -65,6 +64,9 @@ public class LiveIndexerRestClient implements IndexerRestClient {
     @Value("${provisioning.index.legacy:true}")
     private boolean isLegacyIndexClient;
 
+    @Value("${provisioning.index.compressRequests:false}")
+    private boolean compressRequests;
+
     // Use resilience4j configuration as workaround for the ticket ESOA-4203
     @Override
     @Retryable(maxAttemptsExpression = "#{${resilience4j.retry.instances.index.max-attempts}}",
@@ -128,22 +130,22 @@ public class LiveIndexerRestClient implements IndexerRestClient {
         this.deleteById(ids);
     }
 
-    @SneakyThrows
     private ResponseEntity<Void> sendRequest(final String requestType, final DeployedIndexDefinitionDto indexDto) {
-        final HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        final HttpEntity<DeployedIndexDefinitionDto> entity = new HttpEntity<>(indexDto, headers);
+        // the index definition is serialized once, as it is streamed to the indexer, and logged from the streamed JSON
+        final StreamingJsonRequestCallback requestCallback = new StreamingJsonRequestCallback(indexDto, this.compressRequests,
+                PAYLOAD_LOGGER.capture("{} index definition {}: {}", requestType, indexDto.indexDefinitionName()));
 
         final HttpMethod httpMethod = isLegacyIndexClient ? HttpMethod.POST : HttpMethod.PUT;
 
-        log.info("{} index definition {}: {}", requestType, indexDto.indexDefinitionName(), this.codec.writeValueAsString(indexDto));
+        log.info("{} index definition {}", requestType, indexDto.indexDefinitionName());
 
         final String endpoint = httpMethod + " " + this.indexerUrl + AIS_INDEXER_URI;
 
         log.info("AIS request: {}", endpoint);
         this.restTemplate.setErrorHandler(new HttpResponseErrorHandler(endpoint));
 
-        final ResponseEntity<Void> response = this.restTemplate.exchange(this.indexerUrl + AIS_INDEXER_URI, httpMethod, entity, Void.class);
+        final ResponseEntity<Void> response = this.restTemplate.execute(this.indexerUrl + AIS_INDEXER_URI, httpMethod, requestCallback,
+                this.restTemplate.responseEntityExtractor(Void.class));
         log.info("AIS response : {} - {}", response.getStatusCode().value(), ((HttpStatus) response.getStatusCode()).getReasonPhrase());
 
         return response;
@@ -11,8 +11,10 @@
 package com.ericsson.oss.air.csac.service.kpi.pmsc;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -23,21 +25,28 @@ import com.ericsson.oss.air.csac.model.pmsc.KpiDefinitionSubmission;
 import com.ericsson.oss.air.csac.model.pmsc.KpiOutputTableDto;
 import com.ericsson.oss.air.csac.model.pmsc.KpiOutputTableListDto;
 import com.ericsson.oss.air.csac.model.pmsc.KpiSubmissionDto;
+import com.ericsson.oss.air.csac.model.pmsc.KpiTypeEnum;
 import com.ericsson.oss.air.csac.model.pmsc.LegacyKpiSubmissionDto;
 import com.ericsson.oss.air.csac.model.pmsc.PmscKpiDefinitionDto;
 import com.ericsson.oss.air.csac.model.pmsc.response.PmscComplexOutputTableDto;
 import com.ericsson.oss.air.csac.model.pmsc.response.PmscKpiResponseDto;
 import com.ericsson.oss.air.csac.model.pmsc.response.PmscSimpleOutputTableDto;
 import com.ericsson.oss.air.csac.service.exception.PmscHttpResponseErrorHandler;
+import com.ericsson.oss.air.exception.CsacValidationException;
 import com.ericsson.oss.air.exception.http.InternalServerErrorException;
 import com.ericsson.oss.air.exception.http.ServiceUnavailableException;
 import com.ericsson.oss.air.exception.http.TooManyRequestsException;
-import com.ericsson.oss.air.util.codec.Codec;
-import lombok.RequiredArgsConstructor;
+import com.ericsson.oss.air.util.StreamingJsonRequestCallback;
+import com.ericsson.oss.air.util.logging.payload.PayloadLogFactory;
+import com.ericsson.oss.air.util.logging.payload.PayloadLogger;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -54,21 +63,59 @@ import org.springframework.web.client.RestTemplate;
 
 @Service
 @Slf4j
-@RequiredArgsConstructor
 @ConditionalOnProperty(prefix = "provisioning.pmsc.restClient",
                        name = "url")
 @Profile({ "prod", "test" })
 public class LivePmscRestClient implements PmscRestClient {
 
-    private final Codec codec = new Codec();
+    private static final PayloadLogger PAYLOAD_LOGGER = PayloadLogFactory.getLogger(LivePmscRestClient.class);
 
+    @Getter(AccessLevel.PACKAGE) // Getter for unit tests only
     private final RestTemplate restTemplate;
 
     @Value("${provisioning.pmsc.restClient.url}")
     private String pmscUrl;
 
+    @Value("${provisioning.pmsc.restClient.compressRequests:false}")
+    private boolean compressRequests;
+
     static final String PMSC_KPIS_DEFINITIONS_API = "/kpi-handling/model/v1/definitions";
 
+    /**
+     * Inventory of the CSAC runtime KPI definitions in the PMSC, used to check for existing KPI definitions without retrieving all of them from
+     * the PMSC on every request.
+     */
+    @Getter(AccessLevel.PACKAGE) // Getter for unit tests only
+    private final PmscKpiInventory inventory = new PmscKpiInventory(this::getAll, 300000L);
+
+    /**
+     * Creates a PMSC REST client with its own RestTemplate. The KPI definition submissions may be sent concurrently, so the PMSC error handler is
+     * configured once on this RestTemplate rather than set on a shared RestTemplate before each request.
+     *
+     * @param restTemplateBuilder RestTemplateBuilder instance
+     */
+    @Autowired
+    public LivePmscRestClient(final RestTemplateBuilder restTemplateBuilder) {
+        this.restTemplate = restTemplateBuilder.errorHandler(new PmscHttpResponseErrorHandler()).build();
+    }
+
+    /**
+     * Sets the period in milliseconds after which the inventory of CSAC runtime KPI definitions is reloaded from the PMSC.
+     *
+     * @param refreshPeriod refresh period in milliseconds. 0 reloads the inventory on every request.
+     */
+    @Autowired
+    public void setInventoryRefreshPeriod(@Value("${provisioning.pmsc.inventory.refreshPeriod:300000}") final Long refreshPeriod) {
+
+        if (Objects.isNull(refreshPeriod) || refreshPeriod < 0) {
+            throw new CsacValidationException(String.format("%s is not a permitted value for the PMSC inventory refresh period", refreshPeriod));
+        }
+
+        log.debug("PMSC inventory refresh period: {} ms", refreshPeriod);
+
+        this.inventory.setRefreshPeriodMillis(refreshPeriod);
+    }
+
     /**
      * Submits a request to the PMSC to create a set of new KPI definitions in the provided {@link KpiDefinitionSubmission}.
      *
@@ -94,31 +141,32 @@ public class LivePmscRestClient implements PmscRestClient {
             return ResponseEntity.status(HttpStatus.CREATED).build();
         }
 
-        final HttpHeaders headers = new HttpHeaders();
-
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        final HttpEntity<KpiDefinitionSubmission> entity = new HttpEntity<>(kpiDefinitionSubmission, headers);
+        // the submission is serialized once, as it is streamed to the PMSC, and logged from the streamed JSON
+        final StreamingJsonRequestCallback requestCallback = new StreamingJsonRequestCallback(kpiDefinitionSubmission, this.compressRequests,
+                PAYLOAD_LOGGER.capture("Provisioning KPI submission: {}"));
 
-        log.info("Provisioning KPI submission: {}", this.codec.writeValueAsString(kpiDefinitionSubmission));
+        log.info("Provisioning KPI submission");
 
         final String url = this.pmscUrl + PMSC_KPIS_DEFINITIONS_API;
         final String endpoint = "POST " + url;
 
-        this.restTemplate.setErrorHandler(new PmscHttpResponseErrorHandler(endpoint));
-
         log.info("PMSC request: {}", endpoint);
 
         try {
-            final ResponseEntity<Void> response = this.restTemplate.exchange(url, HttpMethod.POST, entity,
-                    Void.class);
+            final ResponseEntity<Void> response = this.restTemplate.execute(url, HttpMethod.POST, requestCallback,
+                    this.restTemplate.responseEntityExtractor(Void.class));
 
             log.info("PMSC response: {} - {}", response.getStatusCode().value(), ((HttpStatus) response.getStatusCode()).getReasonPhrase());
 
             log.info("KPI submission provisioning successful");
 
+            this.inventory.putAll(getKpiTypes(kpiDefinitionSubmission));
+
             return response;
         } catch (final Exception reqEx) {
             log.error("Request error", reqEx);
+            // the PMSC may have created some or all of the KPI definitions
+            this.inventory.invalidate();
             throw reqEx;
         }
     }
@@ -147,12 +195,19 @@ public class LivePmscRestClient implements PmscRestClient {
         final String url = this.pmscUrl + PMSC_KPIS_DEFINITIONS_API;
         final String endpoint = "DELETE " + url;
 
-        this.restTemplate.setErrorHandler(new PmscHttpResponseErrorHandler(endpoint));
-
         log.info("PMSC request: {} with list of kpis {}", endpoint, ids);
 
-        final ResponseEntity<Void> response = this.restTemplate.exchange(url, HttpMethod.DELETE, entity,
-                Void.class);
+        final ResponseEntity<Void> response;
+
+        try {
+            response = this.restTemplate.exchange(url, HttpMethod.DELETE, entity, Void.class);
+        } catch (final RuntimeException e) {
+            // the PMSC may have deleted some or all of the KPI definitions
+            this.inventory.invalidate();
+            throw e;
+        }
+
+        this.inventory.removeAll(ids);
 
         log.info("PMSC response: {} - {}", response.getStatusCode().value(), ((HttpStatus) response.getStatusCode()).getReasonPhrase());
         log.info("Successfully deleted list of KPIs in PMSC");
@@ -167,8 +222,8 @@ public class LivePmscRestClient implements PmscRestClient {
                retryFor = { InternalServerErrorException.class, TooManyRequestsException.class, ServiceUnavailableException.class,
                        ResourceAccessException.class })
     public void deleteAll() {
-        // retrieves all KPIs from the PMSC using the ::getAll method
-        this.deleteById(this.getAll().stream().map(PmscKpiDefinitionDto::getName).collect(Collectors.toList()));
+        // retrieves all KPI names from the inventory, complex KPIs first to resolve dependency validation failure
+        this.deleteById(this.inventory.getAll());
     }
 
     @Override
@@ -179,7 +234,6 @@ public class LivePmscRestClient implements PmscRestClient {
         final String endpoint = "GET " + url;
 
         // retrieves all KPIs whose names match the CSAC convention for runtime KPI names
-        this.restTemplate.setErrorHandler(new PmscHttpResponseErrorHandler(endpoint));
         log.info("PMSC request: {}", endpoint);
         final ResponseEntity<PmscKpiResponseDto> allKpis = this.restTemplate.getForEntity(url,
                 PmscKpiResponseDto.class);
@@ -202,7 +256,8 @@ public class LivePmscRestClient implements PmscRestClient {
         simpleKpiTables.forEach(kpiOutputTableDto -> csacKpis.addAll(
                 kpiOutputTableDto.getKpiDefinitions().stream().filter(k -> k.getName().startsWith(KpiId.NAME_PREFIX + KpiId.STRING_JOINER_DELIMITER))
                         .collect(Collectors.toList())));
-        log.debug("Retrieved CSAC KPIs from PMSC: {} ", this.codec.writeValueAsString(csacKpis));
+        log.debug("Retrieved {} CSAC KPIs from PMSC", csacKpis.size());
+        PAYLOAD_LOGGER.debug("Retrieved CSAC KPIs from PMSC: {}", csacKpis);
         return csacKpis;
     }
 
@@ -211,21 +266,42 @@ public class LivePmscRestClient implements PmscRestClient {
 
         log.info("Checking for existing runtime KPIs");
 
-        final List<PmscKpiDefinitionDto> existingKpis = this.getAll();
+        return this.inventory.containsAll(getKpiIds(kpiDefinitionSubmission));
+    }
 
-        log.info("Found {} runtime KPIs", existingKpis.size());
+    /*
+     * (non-javadoc)
+     *
+     * Returns the names of the KPI definitions in the provided submission.
+     */
+    private Set<String> getKpiIds(final KpiDefinitionSubmission kpiDefinitionSubmission) {
+
+        if (kpiDefinitionSubmission instanceof KpiSubmissionDto submissionDto) {
+            return getKpiIdsFromSubmission(submissionDto);
+        }
 
-        final Set<String> existingIds = existingKpis.stream().map(PmscKpiDefinitionDto::getName).collect(Collectors.toSet());
+        return getKpiIdsFromLegacy((LegacyKpiSubmissionDto) kpiDefinitionSubmission);
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns the type of each KPI definition in the provided submission, keyed by name. On-demand KPI definitions are complex KPI definitions.
+     */
+    private Map<String, KpiTypeEnum> getKpiTypes(final KpiDefinitionSubmission kpiDefinitionSubmission) {
 
-        final Set<String> candidateIds;
+        final Map<String, KpiTypeEnum> kpiTypes = new HashMap<>();
 
         if (kpiDefinitionSubmission instanceof KpiSubmissionDto submissionDto) {
-            candidateIds = getKpiIdsFromSubmission(submissionDto);
+            getKpiIdsFromTables(submissionDto.getScheduledSimple()).forEach(name -> kpiTypes.put(name, KpiTypeEnum.SIMPLE));
+            getKpiIdsFromTables(submissionDto.getScheduledComplex()).forEach(name -> kpiTypes.put(name, KpiTypeEnum.COMPLEX));
+            getKpiIdsFromTables(submissionDto.getOnDemand()).forEach(name -> kpiTypes.put(name, KpiTypeEnum.COMPLEX));
         } else {
-            candidateIds = getKpiIdsFromLegacy((LegacyKpiSubmissionDto) kpiDefinitionSubmission);
+            ((LegacyKpiSubmissionDto) kpiDefinitionSubmission).getKpiDefinitionsList()
+                    .forEach(kpiDefinition -> kpiTypes.put(kpiDefinition.getName(), kpiDefinition.getKpiType()));
         }
 
-        return existingIds.containsAll(candidateIds);
+        return kpiTypes;
     }
 
     Set<String> getKpiIdsFromSubmission(final KpiSubmissionDto submissionDto) {
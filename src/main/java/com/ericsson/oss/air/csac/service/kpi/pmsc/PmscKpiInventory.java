@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.service.kpi.pmsc;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.ericsson.oss.air.csac.model.pmsc.ComplexPmscKpiDefinitionDto;
+import com.ericsson.oss.air.csac.model.pmsc.KpiTypeEnum;
+import com.ericsson.oss.air.csac.model.pmsc.PmscKpiDefinitionDto;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Inventory of the CSAC runtime KPI definitions in the PMSC, holding the name and type of each KPI definition. The inventory is loaded from the
+ * PMSC on first use and kept up to date with the KPI definitions created and deleted by CSAC, so that checking for existing KPI definitions does
+ * not require retrieving all the KPI definitions from the PMSC each time.
+ * <p>
+ * The inventory is reloaded from the PMSC once the refresh period has elapsed since it was last loaded, so that changes made to the PMSC by
+ * other means are picked up. It is also reloaded on next use after being invalidated, for example when the outcome of a PMSC request is unknown.
+ * A refresh period of 0 reloads the inventory on every use. This class is thread-safe.
+ */
+@Slf4j
+class PmscKpiInventory {
+
+    private final Supplier<List<PmscKpiDefinitionDto>> loader;
+
+    private final Map<String, KpiTypeEnum> kpiTypes = new HashMap<>();
+
+    private long refreshPeriodMillis;
+
+    private boolean loaded;
+
+    private long loadedAtNanos;
+
+    /**
+     * Creates an inventory loaded with the provided loader.
+     *
+     * @param loader              loader retrieving all the CSAC runtime KPI definitions from the PMSC
+     * @param refreshPeriodMillis period in milliseconds after which the inventory is reloaded
+     */
+    PmscKpiInventory(final Supplier<List<PmscKpiDefinitionDto>> loader, final long refreshPeriodMillis) {
+        this.loader = loader;
+        this.refreshPeriodMillis = refreshPeriodMillis;
+    }
+
+    /**
+     * Sets the period in milliseconds after which the inventory is reloaded from the PMSC.
+     *
+     * @param refreshPeriodMillis refresh period in milliseconds
+     */
+    synchronized void setRefreshPeriodMillis(final long refreshPeriodMillis) {
+        this.refreshPeriodMillis = refreshPeriodMillis;
+    }
+
+    /**
+     * Returns true if the inventory contains all the provided KPI names. The inventory is loaded from the PMSC first if required.
+     *
+     * @param names KPI names to check
+     * @return true if all the KPI names are in the inventory
+     */
+    synchronized boolean containsAll(final Collection<String> names) {
+        return this.getKpiTypes().keySet().containsAll(names);
+    }
+
+    /**
+     * Returns the names of all the KPI definitions in the inventory, complex KPI definitions first. The inventory is loaded from the PMSC first if
+     * required.
+     *
+     * @return the KPI names in the inventory
+     */
+    synchronized List<String> getAll() {
+
+        final Map<String, KpiTypeEnum> types = this.getKpiTypes();
+
+        return Stream.concat(
+                        types.keySet().stream().filter(name -> types.get(name) == KpiTypeEnum.COMPLEX),
+                        types.keySet().stream().filter(name -> types.get(name) != KpiTypeEnum.COMPLEX))
+                .toList();
+    }
+
+    /**
+     * Adds KPI definitions created in the PMSC. The KPI definitions are ignored if the inventory is not loaded, as they will be retrieved with all
+     * the other KPI definitions when it is loaded.
+     *
+     * @param createdKpiTypes type of each created KPI definition, keyed by name
+     */
+    synchronized void putAll(final Map<String, KpiTypeEnum> createdKpiTypes) {
+        if (this.loaded) {
+            this.kpiTypes.putAll(createdKpiTypes);
+        }
+    }
+
+    /**
+     * Removes KPI definitions deleted from the PMSC.
+     *
+     * @param names names of the deleted KPI definitions
+     */
+    synchronized void removeAll(final Collection<String> names) {
+        names.forEach(this.kpiTypes::remove);
+    }
+
+    /**
+     * Invalidates the inventory, so that it is reloaded from the PMSC on next use.
+     */
+    synchronized void invalidate() {
+        this.loaded = false;
+        this.kpiTypes.clear();
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns the type of each KPI definition in the inventory, reloading them from the PMSC if the inventory is not loaded or the refresh period
+     * has elapsed.
+     */
+    private Map<String, KpiTypeEnum> getKpiTypes() {
+
+        final long ageMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.loadedAtNanos);
+
+        if (!this.loaded || ageMillis >= this.refreshPeriodMillis) {
+
+            this.invalidate();
+
+            final List<PmscKpiDefinitionDto> kpiDefinitions = this.loader.get();
+
+            if (Objects.nonNull(kpiDefinitions)) {
+                kpiDefinitions.forEach(kpiDefinition -> this.kpiTypes.put(kpiDefinition.getName(),
+                        kpiDefinition instanceof ComplexPmscKpiDefinitionDto ? KpiTypeEnum.COMPLEX : KpiTypeEnum.SIMPLE));
+            }
+
+            this.loaded = true;
+            this.loadedAtNanos = System.nanoTime();
+
+            log.info("Loaded {} runtime KPIs in the PMSC inventory", this.kpiTypes.size());
+        }
+
+        return this.kpiTypes;
+    }
+}
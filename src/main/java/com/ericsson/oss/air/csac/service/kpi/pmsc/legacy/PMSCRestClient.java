@@ -16,7 +16,8 @@ import com.ericsson.oss.air.csac.service.exception.PmscHttpResponseErrorHandler;
 import com.ericsson.oss.air.exception.http.InternalServerErrorException;
 import com.ericsson.oss.air.exception.http.ServiceUnavailableException;
 import com.ericsson.oss.air.exception.http.TooManyRequestsException;
-import com.ericsson.oss.air.util.codec.Codec;
+import com.ericsson.oss.air.util.logging.payload.PayloadLogFactory;
+import com.ericsson.oss.air.util.logging.payload.PayloadLogger;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -51,7 +52,7 @@ public class PMSCRestClient implements PmscProvisioningService {
 
     static final String PMSC_KPIS_CALCULATION_API = "/son-om/kpi/v1/kpis/calculation";
 
-    final Codec codec = new Codec();
+    private static final PayloadLogger PAYLOAD_LOGGER = PayloadLogFactory.getLogger(PMSCRestClient.class);
 
     private final RestTemplate restTemplate;
 
@@ -80,7 +81,8 @@ public class PMSCRestClient implements PmscProvisioningService {
         headers.setContentType(MediaType.APPLICATION_JSON);
         final HttpEntity<KpiDefinitionSubmission> entity = new HttpEntity<>(kpiDefinitionSubmission, headers);
 
-        log.info("Provisioning KPI submission: {}", this.codec.writeValueAsString(kpiDefinitionSubmission));
+        log.info("Provisioning KPI submission");
+        PAYLOAD_LOGGER.debug("Provisioning KPI submission: {}", kpiDefinitionSubmission);
 
         final String url = this.pmscUrl + PMSC_KPIS_DEFINITIONS_API;
         final String endpoint = "PUT " + url;
@@ -120,7 +122,8 @@ public class PMSCRestClient implements PmscProvisioningService {
 
         final HttpEntity<KpiCalculationDTO> entity = new HttpEntity<>(kpiCalculationDTO, headers);
 
-        log.info("Submitting KPI calculation request: {}", this.codec.writeValueAsString(kpiCalculationDTO));
+        log.info("Submitting KPI calculation request");
+        PAYLOAD_LOGGER.debug("Submitting KPI calculation request: {}", kpiCalculationDTO);
 
         final String url = this.pmscUrl + PMSC_KPIS_CALCULATION_API;
         final String endpoint = "POST " + url;
@@ -0,0 +1,230 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable result of comparing a sequence of candidate resources with a sequence of existing resources. Each candidate resource is classified
+ * exactly once as added, updated or unchanged, and each existing resource that has no matching candidate is classified as deleted.
+ * <p>
+ * Optionally, a change set may also record the names of the top-level fields that differ for each updated resource, keyed by the resource
+ * identity.
+ *
+ * @param <T>
+ *         object type in the sequences being compared.
+ */
+public final class ChangeSet<T> {
+
+    private final List<T> added;
+
+    private final List<T> updated;
+
+    private final List<T> deleted;
+
+    private final List<T> unchanged;
+
+    private final Map<String, Set<String>> changedFields;
+
+    private ChangeSet(final ChangeSetBuilder<T> builder) {
+        this.added = Collections.unmodifiableList(builder.added);
+        this.updated = Collections.unmodifiableList(builder.updated);
+        this.deleted = Collections.unmodifiableList(builder.deleted);
+        this.unchanged = Collections.unmodifiableList(builder.unchanged);
+        this.changedFields = Collections.unmodifiableMap(builder.changedFields);
+    }
+
+    /**
+     * Returns a builder for a {@code ChangeSet}.
+     *
+     * @param <T>
+     *         object type in the sequences being compared.
+     * @return a builder for a {@code ChangeSet}
+     */
+    public static <T> ChangeSetBuilder<T> builder() {
+        return new ChangeSetBuilder<>();
+    }
+
+    /**
+     * Returns an empty change set.
+     *
+     * @param <T>
+     *         object type in the sequences being compared.
+     * @return an empty change set
+     */
+    public static <T> ChangeSet<T> empty() {
+        return new ChangeSetBuilder<T>().build();
+    }
+
+    /**
+     * Returns the candidate resources that do not exist in the existing resources.
+     *
+     * @return the candidate resources that do not exist in the existing resources
+     */
+    public List<T> getAdded() {
+        return this.added;
+    }
+
+    /**
+     * Returns the candidate resources that exist in the existing resources but are different from them.
+     *
+     * @return the candidate resources that exist in the existing resources but are different from them
+     */
+    public List<T> getUpdated() {
+        return this.updated;
+    }
+
+    /**
+     * Returns the existing resources that are not present in the candidate resources.
+     *
+     * @return the existing resources that are not present in the candidate resources
+     */
+    public List<T> getDeleted() {
+        return this.deleted;
+    }
+
+    /**
+     * Returns the candidate resources that are identical to the existing resources.
+     *
+     * @return the candidate resources that are identical to the existing resources
+     */
+    public List<T> getUnchanged() {
+        return this.unchanged;
+    }
+
+    /**
+     * Returns the added and updated candidate resources, in that order.
+     *
+     * @return the added and updated candidate resources
+     */
+    public List<T> getChanged() {
+
+        final List<T> changed = new ArrayList<>(this.added);
+        changed.addAll(this.updated);
+
+        return changed;
+    }
+
+    /**
+     * Returns the names of the top-level fields that differ for the updated resource with the specified identity. An empty set is returned if
+     * field changes were not recorded for this change set or if the resource was not updated.
+     *
+     * @param identity
+     *         identity of an updated resource
+     * @return the names of the top-level fields that differ for the updated resource with the specified identity
+     */
+    public Set<String> getChangedFields(final String identity) {
+        return this.changedFields.getOrDefault(identity, Collections.emptySet());
+    }
+
+    /**
+     * Returns true if any resource was added, updated or deleted.
+     *
+     * @return true if any resource was added, updated or deleted
+     */
+    public boolean hasChanges() {
+        return !this.added.isEmpty() || !this.updated.isEmpty() || !this.deleted.isEmpty();
+    }
+
+    /**
+     * Builder class for the {@code ChangeSet<T>} type.
+     *
+     * @param <T>
+     *         object type in the sequences being compared.
+     */
+    public static class ChangeSetBuilder<T> {
+
+        private final List<T> added = new ArrayList<>();
+        private final List<T> updated = new ArrayList<>();
+        private final List<T> deleted = new ArrayList<>();
+        private final List<T> unchanged = new ArrayList<>();
+        private final Map<String, Set<String>> changedFields = new LinkedHashMap<>();
+
+        private ChangeSetBuilder() {
+        }
+
+        /**
+         * Adds an added resource to the change set.
+         *
+         * @param resource
+         *         the added resource
+         * @return this builder
+         */
+        public ChangeSetBuilder<T> added(final T resource) {
+            this.added.add(resource);
+            return this;
+        }
+
+        /**
+         * Adds an updated resource to the change set.
+         *
+         * @param resource
+         *         the updated resource
+         * @return this builder
+         */
+        public ChangeSetBuilder<T> updated(final T resource) {
+            this.updated.add(resource);
+            return this;
+        }
+
+        /**
+         * Adds a deleted resource to the change set.
+         *
+         * @param resource
+         *         the deleted resource
+         * @return this builder
+         */
+        public ChangeSetBuilder<T> deleted(final T resource) {
+            this.deleted.add(resource);
+            return this;
+        }
+
+        /**
+         * Adds an unchanged resource to the change set.
+         *
+         * @param resource
+         *         the unchanged resource
+         * @return this builder
+         */
+        public ChangeSetBuilder<T> unchanged(final T resource) {
+            this.unchanged.add(resource);
+            return this;
+        }
+
+        /**
+         * Records the names of the top-level fields that differ for the updated resource with the specified identity.
+         *
+         * @param identity
+         *         identity of the updated resource
+         * @param fieldNames
+         *         names of the fields that differ
+         * @return this builder
+         */
+        public ChangeSetBuilder<T> changedFields(final String identity, final Set<String> fieldNames) {
+            this.changedFields.put(identity, Collections.unmodifiableSet(fieldNames));
+            return this;
+        }
+
+        /**
+         * Returns a {@code ChangeSet} instance containing the resources provided in the builder methods.
+         *
+         * @return a {@code ChangeSet} instance containing the resources provided in the builder methods
+         */
+        public ChangeSet<T> build() {
+            return new ChangeSet<>(this);
+        }
+    }
+}
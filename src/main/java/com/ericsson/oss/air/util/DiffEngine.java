@@ -12,15 +12,18 @@ package com.ericsson.oss.air.util;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
-import java.util.stream.Collectors;
-
 
 import com.ericsson.oss.air.csac.model.AugmentationDefinition;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * Generic difference utility that can generate lists of new, updated, and deleted resources when given two sequences of resources to compare. To
@@ -46,15 +49,27 @@ import com.ericsson.oss.air.csac.model.AugmentationDefinition;
  *      final List&lt;AugmentationDefinition&gt; deletedDefinitions = diffEngine.getDeleted(existingDefinitions);
  * </pre>
  *
+ * Each of the {@code getAdded}, {@code getUpdated} and {@code getDeleted} methods performs a full comparison. When more than one kind of change is
+ * needed, use {@link #diff(List)} instead, which classifies every resource in a single pass and returns the result as a {@link ChangeSet}.
+ *
+ * By default, a candidate resource is considered unchanged if it is equal to the existing resource with the same identity. A different
+ * equivalence, such as a content digest comparison, may be provided with {@link DiffEngineBuilder#equivalence(BiPredicate)}.
+ *
  * @param <T>
  *         object type in the sequences being compared.
  */
 public class DiffEngine<T> {
 
+    private static final ObjectMapper FIELD_MAPPER = new ObjectMapper();
+
     private final Map<String, T> existingResources;
 
     private final Function<T, String> identityFunction;
 
+    private final BiPredicate<T, T> equivalence;
+
+    private final boolean trackFieldChanges;
+
     /**
      * Builder class for the {@code DiffEngine<T>} type.
      *
@@ -65,6 +80,8 @@ public class DiffEngine<T> {
 
         private List<T> resourceList;
         private Function<T, String> identityFunction;
+        private BiPredicate<T, T> equivalence = Objects::equals;
+        private boolean trackFieldChanges;
 
         /**
          * Sets the sequence of existing elements for the comparison.
@@ -90,6 +107,32 @@ public class DiffEngine<T> {
             return this;
         }
 
+        /**
+         * Sets the predicate used to determine whether a candidate resource is unchanged from the existing resource with the same identity. The
+         * candidate resource is the first argument and the existing resource is the second. The default predicate is {@link Objects#equals}.
+         *
+         * @param equivalence
+         *         the predicate used to determine whether a candidate resource is unchanged from the existing resource with the same identity
+         * @return this builder
+         */
+        public DiffEngineBuilder<T> equivalence(final BiPredicate<T, T> equivalence) {
+            this.equivalence = equivalence;
+            return this;
+        }
+
+        /**
+         * Sets whether the names of the top-level fields that differ for each updated resource are recorded in the {@link ChangeSet} returned by
+         * {@link DiffEngine#diff(List)}. Field changes are not recorded by default.
+         *
+         * @param trackFieldChanges
+         *         true if field changes are to be recorded
+         * @return this builder
+         */
+        public DiffEngineBuilder<T> trackFieldChanges(final boolean trackFieldChanges) {
+            this.trackFieldChanges = trackFieldChanges;
+            return this;
+        }
+
         /**
          * Returns a {@code DiffEngine} instance using the source sequence and identity functions provided in the builder methods.
          *
@@ -99,7 +142,8 @@ public class DiffEngine<T> {
 
             checkForNull("existingResources", this.resourceList);
             checkForNull("identity", this.identityFunction);
-            return new DiffEngine<>(this.resourceList, this.identityFunction);
+            checkForNull("equivalence", this.equivalence);
+            return new DiffEngine<>(this);
         }
 
         private void checkForNull(final String elementName, final Object element) {
@@ -109,9 +153,12 @@ public class DiffEngine<T> {
         }
     }
 
-    private DiffEngine(final List<T> existingResources, final Function<T, String> identityFunction) {
-        this.existingResources = existingResources.stream().collect(Collectors.toMap(identityFunction, Function.identity()));
-        this.identityFunction = identityFunction;
+    private DiffEngine(final DiffEngineBuilder<T> builder) {
+        this.existingResources = new LinkedHashMap<>();
+        builder.resourceList.forEach(resource -> this.existingResources.put(builder.identityFunction.apply(resource), resource));
+        this.identityFunction = builder.identityFunction;
+        this.equivalence = builder.equivalence;
+        this.trackFieldChanges = builder.trackFieldChanges;
     }
 
     /**
@@ -124,24 +171,56 @@ public class DiffEngine<T> {
     }
 
     /**
-     * Returns a list of all resources in the provided candidate resource list that do not exist in the existing resource list.
+     * Compares the provided candidate resources with the existing resources in a single pass. The identity of each candidate resource is computed
+     * once and each existing resource is looked up once. Resources in the returned change set are in candidate order, and deleted resources are
+     * in source order.
      *
      * @param candidateResources
      *         list of candidate resources
-     * @return a list of all resources in the provided candidate resource list that do not exist in the existing resource list
+     * @return the change set for the provided candidate resources
      */
-    public List<T> getAdded(final List<T> candidateResources) {
+    public ChangeSet<T> diff(final List<T> candidateResources) {
 
-        final List<T> addedResources = new ArrayList<>();
+        final ChangeSet.ChangeSetBuilder<T> changeSet = ChangeSet.builder();
+        final Set<String> candidateIdentities = new HashSet<>();
 
         for (final T candidate : candidateResources) {
+
             final String candidateIdentity = this.identityFunction.apply(candidate);
-            if (!this.existingResources.containsKey(candidateIdentity)) {
-                addedResources.add(candidate);
+            candidateIdentities.add(candidateIdentity);
+
+            final T existing = this.existingResources.get(candidateIdentity);
+
+            if (Objects.isNull(existing)) {
+                changeSet.added(candidate);
+            } else if (this.equivalence.test(candidate, existing)) {
+                changeSet.unchanged(candidate);
+            } else {
+                changeSet.updated(candidate);
+                if (this.trackFieldChanges) {
+                    changeSet.changedFields(candidateIdentity, getChangedFields(candidate, existing));
+                }
             }
         }
 
-        return addedResources;
+        for (final Map.Entry<String, T> existingEntry : this.existingResources.entrySet()) {
+            if (!candidateIdentities.contains(existingEntry.getKey())) {
+                changeSet.deleted(existingEntry.getValue());
+            }
+        }
+
+        return changeSet.build();
+    }
+
+    /**
+     * Returns a list of all resources in the provided candidate resource list that do not exist in the existing resource list.
+     *
+     * @param candidateResources
+     *         list of candidate resources
+     * @return a list of all resources in the provided candidate resource list that do not exist in the existing resource list
+     */
+    public List<T> getAdded(final List<T> candidateResources) {
+        return this.diff(candidateResources).getAdded();
     }
 
     /**
@@ -154,17 +233,7 @@ public class DiffEngine<T> {
      *         resources
      */
     public List<T> getUpdated(final List<T> candidateResources) {
-
-        final List<T> updatedResources = new ArrayList<>();
-
-        for (final T candidate : candidateResources) {
-            final String candidateIdentity = this.identityFunction.apply(candidate);
-            if (this.existingResources.containsKey(candidateIdentity) && !candidate.equals(this.existingResources.get(candidateIdentity))) {
-                updatedResources.add(candidate);
-            }
-        }
-        
-        return updatedResources;
+        return this.diff(candidateResources).getUpdated();
     }
 
     /**
@@ -175,19 +244,38 @@ public class DiffEngine<T> {
      * @return a list of all resources that exist in the existing resource list but are not present in the candidate resource list
      */
     public List<T> getDeleted(final List<T> candidateResources) {
+        return this.diff(candidateResources).getDeleted();
+    }
 
-        final List<T> deletedResources = new ArrayList<>();
+    /*
+     * (non-javadoc)
+     *
+     * Returns the names of the top-level fields whose JSON values differ between the candidate and existing resources.
+     */
+    private static Set<String> getChangedFields(final Object candidate, final Object existing) {
+
+        final JsonNode candidateNode = FIELD_MAPPER.valueToTree(candidate);
+        final JsonNode existingNode = FIELD_MAPPER.valueToTree(existing);
 
-        final Set<String> candidateIdentities = candidateResources.stream().map(this.identityFunction).collect(Collectors.toSet());
-        final Set<String> deletedIdentities = new HashSet<>(this.existingResources.keySet());
+        final Set<String> changedFields = new HashSet<>();
 
-        deletedIdentities.removeAll(candidateIdentities);
+        final Iterator<String> candidateFields = candidateNode.fieldNames();
+        while (candidateFields.hasNext()) {
+            final String fieldName = candidateFields.next();
+            if (!candidateNode.get(fieldName).equals(existingNode.get(fieldName))) {
+                changedFields.add(fieldName);
+            }
+        }
 
-        for (final String deletedIdentity : deletedIdentities) {
-            deletedResources.add(this.existingResources.get(deletedIdentity));
+        final Iterator<String> existingFields = existingNode.fieldNames();
+        while (existingFields.hasNext()) {
+            final String fieldName = existingFields.next();
+            if (!candidateNode.has(fieldName)) {
+                changedFields.add(fieldName);
+            }
         }
 
-        return deletedResources;
+        return changedFields;
     }
 
 }
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.ericsson.oss.air.util.codec.Codec;
+import com.ericsson.oss.air.util.logging.payload.PayloadCapture;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.RequestCallback;
+
+/**
+ * A {@code RequestCallback} writing a request body as JSON directly to the connection as it is serialized, rather than serializing the complete
+ * body in memory first. The body can optionally be gzip-compressed, in which case the {@code Content-Encoding} header is set accordingly.
+ * <p>
+ * The body is serialized once. The uncompressed JSON is captured for logging by the provided {@link PayloadCapture} as it is written, and the
+ * capture is logged once the body has been written.
+ */
+public class StreamingJsonRequestCallback implements RequestCallback {
+
+    /**
+     * Content coding of a gzip-compressed request body.
+     */
+    public static final String GZIP_CONTENT_ENCODING = "gzip";
+
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    private static final Codec CODEC = new Codec();
+
+    private final Object body;
+
+    private final boolean compressed;
+
+    private final PayloadCapture payloadCapture;
+
+    /**
+     * Constructs a {@code StreamingJsonRequestCallback}.
+     *
+     * @param body           the request body
+     * @param compressed     true if the request body is to be gzip-compressed
+     * @param payloadCapture capture logging the request body once it has been written
+     */
+    public StreamingJsonRequestCallback(final Object body, final boolean compressed, final PayloadCapture payloadCapture) {
+        this.body = body;
+        this.compressed = compressed;
+        this.payloadCapture = payloadCapture;
+    }
+
+    @Override
+    public void doWithRequest(final ClientHttpRequest request) throws IOException {
+
+        final HttpHeaders headers = request.getHeaders();
+
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        if (this.compressed) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, GZIP_CONTENT_ENCODING);
+        }
+
+        if (request instanceof StreamingHttpOutputMessage streamingRequest) {
+            streamingRequest.setBody(new StreamingHttpOutputMessage.Body() {
+
+                @Override
+                public void writeTo(final OutputStream out) throws IOException {
+                    write(out);
+                }
+
+                @Override
+                public boolean repeatable() {
+                    return true;
+                }
+            });
+        } else {
+            this.write(request.getBody());
+        }
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Serializes the request body to the provided output stream, compressing it if required, and logs the captured payload.
+     */
+    private void write(final OutputStream out) throws IOException {
+
+        try {
+            if (this.compressed) {
+                // the connection stream is closed by the request itself
+                try (final GZIPOutputStream gzip = new GZIPOutputStream(StreamUtils.nonClosing(out), GZIP_BUFFER_SIZE)) {
+                    CODEC.writeValue(this.payloadCapture.tee(gzip), this.body);
+                }
+            } else {
+                CODEC.writeValue(this.payloadCapture.tee(out), this.body);
+            }
+        } finally {
+            this.payloadCapture.log();
+        }
+    }
+}
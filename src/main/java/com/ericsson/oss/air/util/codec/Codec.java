@@ -10,8 +10,14 @@
 
 package com.ericsson.oss.air.util.codec;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -21,9 +27,16 @@ import org.springframework.stereotype.Component;
 import jakarta.validation.Validator;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
 
 /**
  * A simple codec used for deserializing JSON to java beans. This codec provides a number of readValue(..) methods for deserializing JSON from sources
@@ -36,12 +49,21 @@ import java.nio.file.Path;
  * <li>byte []</li>
  * </ul>
  *
- * In addition, this codec can serialize an object to a JSON String in either minified or pretty-printed format.
+ * For large JSON documents consisting of a single object with array-valued fields, the {@code readArrayElements(..)} method streams the source and
+ * deserializes the arrays one element at a time.
+ *
+ * In addition, this codec can serialize an object to a JSON String in either minified or pretty-printed format, or stream it in either format to an
+ * {@code OutputStream}.
  */
 @Component
 @NoArgsConstructor
 public class Codec {
 
+    /**
+     * Suffix appended to a JSON string representation truncated by {@link #writeValueAsString(Object, int)}.
+     */
+    public static final String TRUNCATION_MARKER = "...";
+
     @Autowired private Validator validator;
 
     @Getter(value = AccessLevel.PRIVATE, lazy = true) private final ValidatingCodec validatingCodec = new ValidatingCodec(validator);
@@ -87,6 +109,64 @@ public class Codec {
         return this.mapper.writerWithDefaultPrettyPrinter().writeValueAsString(value);
     }
 
+    /**
+     * Returns a minified JSON string representation of the specified value, truncated to at most {@code maxLength} characters. Serialization stops
+     * shortly after the limit is reached, so the cost of serializing a large value is bounded by the limit rather than by the size of the value. A
+     * truncated representation is terminated with {@value #TRUNCATION_MARKER}.
+     *
+     * @param value
+     *     value to serialize to String
+     * @param maxLength
+     *     maximum number of characters of the JSON representation to return
+     * @return a minified JSON string representation of the specified value, truncated to {@code maxLength} characters
+     * @throws IOException
+     *     if an error occurs while serializing the value to JSON
+     */
+    public String writeValueAsString(final Object value, final int maxLength) throws IOException {
+
+        final BoundedWriter writer = new BoundedWriter(maxLength);
+
+        try {
+            this.mapper.writeValue(writer, value);
+        } catch (final IOException e) {
+            if (!writer.isTruncated()) {
+                throw e;
+            }
+        }
+
+        return writer.isTruncated() ? writer.toString() + TRUNCATION_MARKER : writer.toString();
+    }
+
+    /**
+     * Serializes the specified value as minified JSON to the provided output stream. The JSON is written as it is generated rather than built in
+     * memory first. The output stream is flushed but not closed.
+     *
+     * @param out
+     *     output stream to write to
+     * @param value
+     *     value to serialize
+     * @throws IOException
+     *     if an error occurs while serializing the value or writing to the output stream
+     */
+    public void writeValue(final OutputStream out, final Object value) throws IOException {
+        this.mapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(out, value);
+    }
+
+    /**
+     * Serializes the specified value as pretty-printed JSON to the provided output stream. The JSON is written as it is generated rather than built
+     * in memory first. The output stream is flushed but not closed.
+     *
+     * @param out
+     *     output stream to write to
+     * @param value
+     *     value to serialize
+     * @throws IOException
+     *     if an error occurs while serializing the value or writing to the output stream
+     */
+    public void writeValuePretty(final OutputStream out, final Object value) throws IOException {
+        this.mapper.writerWithDefaultPrettyPrinter().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(out, value);
+    }
+
     /**
      * Deserializes the provided JSON string to an object of type {@code clazz}.
      *
@@ -161,4 +241,108 @@ public class Codec {
     public <T> T readValue(final byte[] src, final Class<T> clazz) throws IOException {
         return this.mapper.readValue(src, clazz);
     }
+
+    /**
+     * Streams the JSON object specified by the provided {@code Path}, deserializing the elements of each of its array-valued fields one at a time and
+     * passing them to the provided consumer in document order. The source is never read into memory in full, so processing can stop at the first
+     * element that cannot be deserialized or that is rejected by the consumer.
+     * <p>
+     * Each field of the object must be mapped to an element type in {@code elementTypes}. Fields with a null value are skipped.
+     *
+     * @param src
+     *     source JSON to deserialize
+     * @param elementTypes
+     *     element type to deserialize to, keyed by array field name
+     * @param consumer
+     *     consumer of the array field name and deserialized element
+     * @throws IOException
+     *     if an error occurs while deserializing the source
+     */
+    public void readArrayElements(final Path src, final Map<String, Class<?>> elementTypes, final BiConsumer<String, Object> consumer)
+            throws IOException {
+
+        try (final JsonParser parser = this.mapper.createParser(Files.newInputStream(src))) {
+
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw MismatchedInputException.from(parser, Map.class, "Expected a JSON object but found " + parser.currentToken());
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+                final String arrayName = parser.currentName();
+                final Class<?> elementType = elementTypes.get(arrayName);
+
+                if (Objects.isNull(elementType)) {
+                    throw UnrecognizedPropertyException.from(parser, Map.class, arrayName, new ArrayList<>(elementTypes.keySet()));
+                }
+
+                final JsonToken token = parser.nextToken();
+
+                if (token == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+
+                if (token != JsonToken.START_ARRAY) {
+                    throw MismatchedInputException.from(parser, List.class, "Expected an array for field '" + arrayName + "' but found " + token);
+                }
+
+                final ObjectReader reader = this.mapper.readerFor(elementType);
+
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    consumer.accept(arrayName, reader.readValue(parser));
+                }
+            }
+        }
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Writer collecting at most a fixed number of characters. Any write beyond the limit fails, which aborts the serialization in progress.
+     */
+    private static class BoundedWriter extends Writer {
+
+        private final StringBuilder buffer = new StringBuilder();
+
+        private final int maxLength;
+
+        private boolean truncated;
+
+        BoundedWriter(final int maxLength) {
+            this.maxLength = Math.max(maxLength, 0);
+        }
+
+        @Override
+        public void write(final char[] chars, final int offset, final int length) throws IOException {
+
+            final int remaining = this.maxLength - this.buffer.length();
+
+            if (length > remaining) {
+                this.buffer.append(chars, offset, remaining);
+                this.truncated = true;
+                throw new IOException("Maximum length of " + this.maxLength + " characters exceeded");
+            }
+
+            this.buffer.append(chars, offset, length);
+        }
+
+        @Override
+        public void flush() {
+            // nothing to flush
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+
+        boolean isTruncated() {
+            return this.truncated;
+        }
+
+        @Override
+        public String toString() {
+            return this.buffer.toString();
+        }
+    }
 }
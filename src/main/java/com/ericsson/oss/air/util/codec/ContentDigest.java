@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.util.codec;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * Utility class for generating a content digest of a definition. The digest is the SHA-256 hex string of the canonical JSON form of the definition,
+ * in which object properties and map entries are sorted by name and set elements are sorted by their canonical JSON form. Two definitions that
+ * serialize to the same JSON content therefore have the same digest, regardless of property declaration, map insertion or set iteration order.
+ * Set iteration order must be ignored as it depends on element hash codes, which are not stable across JVM runs for elements with enum fields.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ContentDigest {
+
+    /**
+     * Length of a content digest in characters.
+     */
+    public static final int LENGTH = 64;
+
+    private static final ObjectMapper CANONICAL_MAPPER = JsonMapper.builder()
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .addModule(new SimpleModule().setSerializerModifier(new SortedSetSerializerModifier()))
+            .build();
+
+    private static final Digest DIGEST = Digest.withAlgorithm(Digest.Algorithm.SHA256);
+
+    /**
+     * Returns the content digest of the provided definition.
+     *
+     * @param definition
+     *         definition to digest
+     * @return a 64-character hexadecimal string representation of the content digest
+     */
+    @SneakyThrows
+    public static String of(final Object definition) {
+        return DIGEST.getDigestAsHex(CANONICAL_MAPPER.writeValueAsString(definition));
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Replaces the serializer of every set type with a serializer writing the set elements in sorted order.
+     */
+    private static class SortedSetSerializerModifier extends BeanSerializerModifier {
+
+        private static final JsonSerializer<Set<?>> SORTED_SET_SERIALIZER = new SortedSetSerializer();
+
+        @Override
+        public JsonSerializer<?> modifyCollectionSerializer(final SerializationConfig config, final CollectionType valueType,
+                                                            final BeanDescription beanDesc, final JsonSerializer<?> serializer) {
+            return valueType.isTypeOrSubTypeOf(Set.class) ? SORTED_SET_SERIALIZER : serializer;
+        }
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Serializes a set as a JSON array of its elements sorted by their canonical JSON form.
+     */
+    private static class SortedSetSerializer extends StdSerializer<Set<?>> {
+
+        SortedSetSerializer() {
+            super(Set.class, false);
+        }
+
+        @Override
+        public boolean isEmpty(final SerializerProvider provider, final Set<?> value) {
+            return value.isEmpty();
+        }
+
+        @Override
+        public void serialize(final Set<?> value, final JsonGenerator generator, final SerializerProvider provider) throws IOException {
+
+            final List<String> elements = new ArrayList<>(value.size());
+
+            for (final Object element : value) {
+                elements.add(CANONICAL_MAPPER.writeValueAsString(element));
+            }
+
+            Collections.sort(elements);
+
+            generator.writeStartArray();
+
+            for (final String element : elements) {
+                generator.writeRawValue(element);
+            }
+
+            generator.writeEndArray();
+        }
+    }
+}
@@ -12,8 +12,10 @@ package com.ericsson.oss.air.util.codec;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.util.EnumMap;
 import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 
 import lombok.SneakyThrows;
 
@@ -37,10 +39,19 @@ public class Digest {
     /*
      * (non-javadoc)
      *
-     * Inner class that provides the digest implementation.
+     * Inner class that provides the digest implementation.  MessageDigest instances are not thread-safe and are costly to look up, so one instance
+     * per algorithm is reused by each thread.
      */
     private static class DigestImpl {
 
+        private static final Map<Algorithm, ThreadLocal<MessageDigest>> MESSAGE_DIGESTS = new EnumMap<>(Algorithm.class);
+
+        static {
+            for (final Algorithm algo : Algorithm.values()) {
+                MESSAGE_DIGESTS.put(algo, ThreadLocal.withInitial(() -> newMessageDigest(algo)));
+            }
+        }
+
         private final Algorithm algorithm;
 
         DigestImpl(final Algorithm algorithm) {
@@ -52,10 +63,10 @@ public class Digest {
          *
          * Returns a byte [] containing the digest generated from the provided input strings.
          */
-        @SneakyThrows
         byte[] getDigest(final String... inputStrings) {
 
-            final MessageDigest digest = MessageDigest.getInstance(this.algorithm.name());
+            final MessageDigest digest = MESSAGE_DIGESTS.get(this.algorithm).get();
+            digest.reset();
 
             final String rawInput = String.join("", inputStrings);
             digest.update(rawInput.getBytes(StandardCharsets.UTF_8));
@@ -71,9 +82,19 @@ public class Digest {
         String getDigestAsHex(final String... inputStrings) {
             return HexFormat.of().formatHex(getDigest(inputStrings));
         }
+
+        /*
+         * (non-javadoc)
+         *
+         * Returns a new MessageDigest instance for the specified algorithm.
+         */
+        @SneakyThrows
+        private static MessageDigest newMessageDigest(final Algorithm algorithm) {
+            return MessageDigest.getInstance(algorithm.name());
+        }
     }
 
-    private final Algorithm algorithm;
+    private final DigestImpl digestImpl;
 
     /**
      * Constructs a {@code Digest} instance with the default SHA-1 algorithm.
@@ -88,7 +109,7 @@ public class Digest {
      * Constructs a Digest instance with the specified algorithm.
      */
     private Digest(final Algorithm algorithm) {
-        this.algorithm = algorithm;
+        this.digestImpl = new DigestImpl(algorithm);
     }
 
     /**
@@ -99,7 +120,7 @@ public class Digest {
      * @return fixed length hexadecimal string representation of the generated digest
      */
     public String getDigestAsHex(final String... inputStrings) {
-        return new DigestImpl(this.algorithm).getDigestAsHex(inputStrings);
+        return this.digestImpl.getDigestAsHex(inputStrings);
     }
 
     /**
@@ -113,7 +134,19 @@ public class Digest {
 
         final String[] rawInput = inputStrings.toArray(new String[inputStrings.size()]);
 
-        return new DigestImpl(this.algorithm).getDigestAsHex(rawInput);
+        return this.digestImpl.getDigestAsHex(rawInput);
+    }
+
+    /**
+     * Returns a new {@link MessageDigest} instance for the specified algorithm. Unlike a {@code Digest} instance, the returned message digest can be
+     * updated incrementally, for example by streaming a file through it. The returned message digest is not thread-safe.
+     *
+     * @param algorithm
+     *         algorithm of the message digest
+     * @return a new {@link MessageDigest} instance for the specified algorithm
+     */
+    public static MessageDigest newMessageDigest(final Algorithm algorithm) {
+        return DigestImpl.newMessageDigest(algorithm);
     }
 
     /**
@@ -14,7 +14,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
@@ -158,4 +163,39 @@ class ValidatingCodec extends Codec {
 
         return t;
     }
+
+    /**
+     * Streams the JSON object specified by the provided {@code Path}, validating each deserialized array element before it is passed to the
+     * consumer. Processing stops at the first invalid element.
+     *
+     * @param src          source JSON to deserialize
+     * @param elementTypes element type to deserialize to, keyed by array field name
+     * @param consumer     consumer of the array field name and validated element
+     * @throws IOException if an error occurs while deserializing the source
+     */
+    @Override
+    public void readArrayElements(final Path src, final Map<String, Class<?>> elementTypes, final BiConsumer<String, Object> consumer)
+            throws IOException {
+
+        final Map<String, Integer> elementCounts = new HashMap<>();
+
+        super.readArrayElements(src, elementTypes, (arrayName, element) -> {
+
+            final int index = elementCounts.merge(arrayName, 1, Integer::sum) - 1;
+
+            if (Objects.nonNull(element)) {
+
+                final Set<ConstraintViolation<Object>> violationSet = this.validator.validate(element);
+
+                if (!violationSet.isEmpty()) {
+                    final String message = violationSet.stream()
+                            .map(violation -> String.format("%s[%d].%s: %s", arrayName, index, violation.getPropertyPath(), violation.getMessage()))
+                            .collect(Collectors.joining(", "));
+                    throw new ConstraintViolationException(message, violationSet);
+                }
+            }
+
+            consumer.accept(arrayName, element);
+        });
+    }
 }
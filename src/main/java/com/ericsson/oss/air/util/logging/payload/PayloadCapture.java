@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.util.logging.payload;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import com.ericsson.oss.air.util.codec.Codec;
+
+/**
+ * Captures a JSON payload as it is written to an output stream, so that a payload streamed to its destination can be logged without being
+ * serialized a second time. A capture retains no more of the payload than can be logged by its {@link PayloadLogger}, and nothing at all if the
+ * payload would not be logged.
+ * <p>
+ * A capture is obtained from {@link PayloadLogger#capture(String, Object...)} and logged with {@link #log()} once the payload has been written.
+ */
+public class PayloadCapture {
+
+    private final PayloadLogger payloadLogger;
+
+    private final String message;
+
+    private final Object[] arguments;
+
+    private final int limit;
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+    private boolean truncated;
+
+    PayloadCapture(final PayloadLogger payloadLogger, final String message, final Object[] arguments, final int limit) {
+        this.payloadLogger = payloadLogger;
+        this.message = message;
+        this.arguments = arguments;
+        this.limit = limit;
+    }
+
+    /**
+     * Returns an output stream writing to the provided output stream and to this capture. Any payload previously captured is discarded, so a
+     * payload written again, for example when a request is retried, is captured only once. If the payload would not be logged, the provided
+     * output stream is returned as is.
+     *
+     * @param out output stream the payload is written to
+     * @return output stream writing to both the provided output stream and this capture
+     */
+    public OutputStream tee(final OutputStream out) {
+
+        this.buffer.reset();
+        this.truncated = false;
+
+        if (this.limit == 0) {
+            return out;
+        }
+
+        return new FilterOutputStream(out) {
+
+            @Override
+            public void write(final int b) throws IOException {
+                this.out.write(b);
+                capture(new byte[] { (byte) b }, 0, 1);
+            }
+
+            @Override
+            public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+                this.out.write(bytes, offset, length);
+                capture(bytes, offset, length);
+            }
+        };
+    }
+
+    /**
+     * Logs the captured payload as the last argument of this capture's message.
+     */
+    public void log() {
+
+        if (this.limit > 0) {
+            final Object[] withPayload = Arrays.copyOf(this.arguments, this.arguments.length + 1);
+            withPayload[this.arguments.length] = this;
+            this.payloadLogger.debug(this.message, withPayload);
+        }
+    }
+
+    /**
+     * Returns the captured payload truncated to the specified length. A truncated payload is terminated with {@value Codec#TRUNCATION_MARKER}.
+     *
+     * @param maxLength maximum number of characters of the payload to return
+     * @return the captured payload truncated to {@code maxLength} characters
+     */
+    String toString(final int maxLength) {
+
+        final String payload = this.buffer.toString(StandardCharsets.UTF_8);
+
+        if (payload.length() > maxLength) {
+            return payload.substring(0, maxLength) + Codec.TRUNCATION_MARKER;
+        }
+
+        return this.truncated ? payload + Codec.TRUNCATION_MARKER : payload;
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Retains the written bytes up to the capture limit.
+     */
+    private void capture(final byte[] bytes, final int offset, final int length) {
+
+        final int retained = Math.min(length, this.limit - this.buffer.size());
+
+        if (retained < length) {
+            this.truncated = true;
+        }
+
+        if (retained > 0) {
+            this.buffer.write(bytes, offset, retained);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.util.logging.payload;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Responsible for generating {@link PayloadLogger}'s.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class PayloadLogFactory {
+
+    /**
+     * Creates a {@link PayloadLogger} for the provided class.
+     *
+     * @param clazz the class that needs to log payloads
+     * @return a {@link PayloadLogger}
+     */
+    public static PayloadLogger getLogger(final Class<?> clazz) {
+        return new PayloadLogger(clazz);
+    }
+
+}
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.util.logging.payload;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.ericsson.oss.air.exception.CsacValidationException;
+import com.ericsson.oss.air.util.codec.Codec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Responsible for logging payloads such as resource submissions and request bodies. A payload is serialized only if it is logged, so the cost of
+ * logging a payload is only incurred when the DEBUG level is enabled.
+ * <p>
+ * A payload logged by the class logger is serialized as minified JSON truncated to the configured maximum length. If the {@value #DUMP_LOGGER_NAME}
+ * logger is enabled at the DEBUG level, the complete payload is also logged to it. This logger is directed to a dedicated rotating file, and is
+ * turned off unless one is configured.
+ * <p>
+ * A payload streamed to its destination, such as a request body, can be logged from the bytes already written using a {@link PayloadCapture}
+ * rather than being serialized again.
+ */
+public class PayloadLogger {
+
+    /**
+     * Name of the logger receiving the complete payloads.
+     */
+    public static final String DUMP_LOGGER_NAME = "csac.payload";
+
+    /**
+     * Default maximum length of a payload logged by the class logger.
+     */
+    public static final int DEFAULT_MAX_LENGTH = 2048;
+
+    private static final Logger DUMP_LOGGER = LoggerFactory.getLogger(DUMP_LOGGER_NAME);
+
+    private static final Codec CODEC = new Codec();
+
+    private static volatile int maxLength = DEFAULT_MAX_LENGTH;
+
+    private final Logger logger;
+
+    /**
+     * Constructs a {@code PayloadLogger}.
+     *
+     * @param clazz the class that needs to log payloads
+     */
+    public PayloadLogger(final Class<?> clazz) {
+        this.logger = LoggerFactory.getLogger(clazz);
+    }
+
+    /**
+     * Sets the maximum length of a payload logged by the class loggers. Payloads are truncated to this length.
+     *
+     * @param maxLength maximum payload length in characters
+     */
+    public static void setMaxLength(final Integer maxLength) {
+
+        if (Objects.isNull(maxLength) || maxLength < 1) {
+            throw new CsacValidationException(String.format("%s is not a permitted value for the maximum logged payload length", maxLength));
+        }
+
+        PayloadLogger.maxLength = maxLength;
+    }
+
+    /**
+     * Returns the maximum length of a payload logged by the class loggers.
+     *
+     * @return maximum payload length in characters
+     */
+    public static int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Returns true if a payload logged by this logger is written to any log.
+     *
+     * @return true if a payload logged by this logger is written to any log
+     */
+    public boolean isEnabled() {
+        return this.logger.isDebugEnabled() || DUMP_LOGGER.isDebugEnabled();
+    }
+
+    /**
+     * Logs a payload at the DEBUG level according to the specified format and arguments. The last argument is the payload, which is serialized to
+     * JSON only if it is logged.
+     *
+     * @param message   the string to be logged
+     * @param arguments the arguments of the formatted string, ending with the payload
+     */
+    public void debug(final String message, final Object... arguments) {
+
+        if (this.logger.isDebugEnabled()) {
+            this.logger.debug(message, withSerializedPayload(arguments, maxLength));
+        }
+
+        if (DUMP_LOGGER.isDebugEnabled()) {
+            DUMP_LOGGER.debug(this.logger.getName() + " - " + message, withSerializedPayload(arguments, Integer.MAX_VALUE));
+        }
+    }
+
+    /**
+     * Returns a capture of a payload to be logged at the DEBUG level according to the specified format and arguments once it has been written. The
+     * captured payload is appended to the arguments when logged. The capture retains nothing if the payload would not be logged.
+     *
+     * @param message   the string to be logged
+     * @param arguments the arguments of the formatted string, excluding the payload
+     * @return a capture of the payload
+     */
+    public PayloadCapture capture(final String message, final Object... arguments) {
+
+        final int limit;
+
+        if (DUMP_LOGGER.isDebugEnabled()) {
+            limit = Integer.MAX_VALUE;
+        } else if (this.logger.isDebugEnabled()) {
+            limit = maxLength;
+        } else {
+            limit = 0;
+        }
+
+        return new PayloadCapture(this, message, arguments, limit);
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Returns a copy of the provided arguments in which the last argument is replaced by its JSON representation truncated to the specified length.
+     * A captured payload is already JSON and is not serialized again.
+     */
+    private static Object[] withSerializedPayload(final Object[] arguments, final int length) {
+
+        if (arguments.length == 0) {
+            return arguments;
+        }
+
+        final Object[] serialized = Arrays.copyOf(arguments, arguments.length);
+        final Object payload = arguments[arguments.length - 1];
+
+        if (payload instanceof PayloadCapture capture) {
+            serialized[serialized.length - 1] = capture.toString(length);
+            return serialized;
+        }
+
+        try {
+            serialized[serialized.length - 1] = CODEC.writeValueAsString(payload, length);
+        } catch (final IOException e) {
+            serialized[serialized.length - 1] = "<payload cannot be serialized: " + e.getMessage() + ">";
+        }
+
+        return serialized;
+    }
+}
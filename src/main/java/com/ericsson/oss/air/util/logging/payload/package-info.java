@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+/**
+ * This package contains the classes to log request and resource payloads with a bounded cost. To log a payload, the client class needs a payload
+ * logger. For this example, the client class is LivePmscRestClient.class:
+ *
+ *<pre>
+ * private static final PayloadLogger PAYLOAD_LOGGER = PayloadLogFactory.getLogger(LivePmscRestClient.class);
+ *</pre>
+ *
+ * The payload is the last logging argument. It is serialized only if it is logged. See
+ * {@link com.ericsson.oss.air.util.logging.payload.PayloadLogger}.
+ * <p/>
+ * Example usage of a payload logger:
+ *
+ * <pre>
+ * PAYLOAD_LOGGER.debug("Provisioning KPI submission: {}", kpiDefinitionSubmission);
+ * </pre>
+ *
+ */
+package com.ericsson.oss.air.util.logging.payload;
@@ -0,0 +1,13 @@
+SET search_path TO "${dictionarySchemaName}";
+
+-- SHA-256 hex digest of the canonical JSON form of each definition, written by CSAC on every insert or update.
+-- Rows written before this migration have a NULL digest until they are next saved.
+ALTER TABLE IF EXISTS aug_def ADD COLUMN IF NOT EXISTS digest varchar(64);
+
+ALTER TABLE IF EXISTS prof_def ADD COLUMN IF NOT EXISTS digest varchar(64);
+
+SET search_path TO "${runtimeDatastoreSchemaName}";
+
+ALTER TABLE IF EXISTS rt_aug ADD COLUMN IF NOT EXISTS digest varchar(64);
+
+ALTER TABLE IF EXISTS rt_idx_def ADD COLUMN IF NOT EXISTS idx_digest varchar(64);
@@ -0,0 +1,5 @@
+SET search_path TO "${runtimeDatastoreSchemaName}";
+
+-- SHA-256 hex fingerprint of the ordered resource file set, recorded by CSAC against the latest COMPLETED provisioning state.
+-- CSAC skips the resource loading and provisioning flow on startup if the fingerprint of the current resource files matches.
+ALTER TABLE IF EXISTS rt_prov_state ADD COLUMN IF NOT EXISTS resource_fingerprint varchar(64);
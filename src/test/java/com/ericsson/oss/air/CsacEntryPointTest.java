@@ -13,7 +13,9 @@ package com.ericsson.oss.air;
 import static com.ericsson.oss.air.csac.model.TestResourcesUtils.PM_COUNTER;
 import static com.ericsson.oss.air.csac.model.TestResourcesUtils.PM_SCHEMA_NAME;
 import static com.ericsson.oss.air.csac.model.TestResourcesUtils.PM_SCHEMA_URI;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_PM_DEF_OBJ;
 import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_PM_SCHEMA_DEFINITION_PM_COUNTER;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_SIMPLE_KPI_DEF_OBJ;
 import static com.ericsson.oss.air.util.logging.TestLoggingUtils.FACILITY_KEY;
 import static com.ericsson.oss.air.util.logging.TestLoggingUtils.FACILITY_VALUE;
 import static com.ericsson.oss.air.util.logging.TestLoggingUtils.SUBJECT_KEY;
@@ -24,13 +26,17 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -38,6 +44,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
@@ -48,13 +56,19 @@ import com.ericsson.oss.air.csac.handler.DataDictionaryHandler;
 import com.ericsson.oss.air.csac.handler.ResourceSubmissionHandler;
 import com.ericsson.oss.air.csac.handler.ServiceUpdateHandler;
 import com.ericsson.oss.air.csac.handler.event.ConsistencyCheckHandler;
+import com.ericsson.oss.air.csac.handler.reload.ReloadStage;
+import com.ericsson.oss.air.csac.handler.status.ProvisioningLock;
 import com.ericsson.oss.air.csac.handler.status.ProvisioningTracker;
 import com.ericsson.oss.air.csac.handler.validation.ValidationHandler;
+import com.ericsson.oss.air.csac.handler.validation.ValidationIndex;
 import com.ericsson.oss.air.csac.model.PMDefinition;
 import com.ericsson.oss.air.csac.model.ProfileDefinition;
 import com.ericsson.oss.air.csac.model.ResourceSubmission;
+import com.ericsson.oss.air.csac.repository.cache.ResolvedKpiCache;
 import com.ericsson.oss.air.csac.service.DiffCalculator;
+import com.ericsson.oss.air.csac.service.ResourceChangeSet;
 import com.ericsson.oss.air.csac.service.ResourceFileLoader;
+import com.ericsson.oss.air.csac.service.augmentation.AugmentationSchemaMappingCache;
 import com.ericsson.oss.air.exception.CsacConsistencyCheckException;
 import com.ericsson.oss.air.exception.CsacProvisioningStateTransitionException;
 import com.ericsson.oss.air.exception.CsacValidationException;
@@ -115,6 +129,21 @@ class CsacEntryPointTest {
     @Mock
     private SequentialOperator<Void> forcedProvisioningOperator;
 
+    @Mock
+    private ResolvedKpiCache resolvedKpiCache;
+
+    @Mock
+    private AugmentationSchemaMappingCache schemaMappingCache;
+
+    @Spy
+    private ProvisioningLock provisioningLock;
+
+    @Mock
+    private ResourceChangeSet changeSet;
+
+    @Mock
+    private ValidationIndex validationIndex;
+
     @InjectMocks
     @Spy
     private CsacEntryPoint csacEntryPoint;
@@ -133,6 +162,9 @@ class CsacEntryPointTest {
         this.listAppender.start();
 
         this.log.addAppender(this.listAppender);
+
+        lenient().when(this.diffCalculator.getChangeSet(any())).thenReturn(this.changeSet);
+        lenient().when(this.validationHandler.newValidationIndex()).thenReturn(this.validationIndex);
     }
 
     @AfterEach
@@ -144,7 +176,7 @@ class CsacEntryPointTest {
     void bootstrap_validResources_Valid() throws IOException {
 
         Path mockFilePath = Path.of("tmp/config/junit");
-        when(resourceFileLoader.loadResourceFilePath(any())).thenReturn(resourceSubmission);
+        when(resourceFileLoader.loadResourceFilePaths(any())).thenReturn(List.of(resourceSubmission));
         when(resourceSubmission.hasPmSchemaDefs()).thenReturn(true);
         when(resourceSubmission.hasAugmentationDefs()).thenReturn(true);
         when(resourceSubmission.hasPmDefs()).thenReturn(true);
@@ -156,12 +188,14 @@ class CsacEntryPointTest {
 
         verify(validationHandler, times(1)).validateAppConfig();
         verify(schemaMigration, times(1)).migrate();
-        verify(resourceFileLoader, times(1)).loadResourceFilePath(any());
+        verify(resolvedKpiCache, times(1)).preload();
+        verify(schemaMappingCache, times(1)).invalidateAll();
+        verify(resourceFileLoader, times(1)).loadResourceFilePaths(any());
         verify(validationHandler, times(1)).validateAugmentations(any());
         verify(validationHandler, times(1)).getValidPMDefinitions(any());
-        verify(validationHandler, times(1)).validateKPIDefinitions(any());
-        verify(validationHandler, times(1)).validateProfileDefinitions(any());
-        verify(diffCalculator, times(1)).isChanged(any());
+        verify(validationHandler, times(1)).validateKPIDefinitions(any(), any());
+        verify(validationHandler, times(1)).validateProfileDefinitions(any(), any());
+        verify(diffCalculator, times(1)).getChangeSet(any());
         verify(diffCalculator, times(1)).getAffectedProfiles(any());
         verify(dataDictionaryHandler, times(0)).insertPMDefinitions(any());
         verify(dataDictionaryHandler, times(0)).insertKPIDefinitions(any());
@@ -180,7 +214,7 @@ class CsacEntryPointTest {
     void bootstrap_noPmSchemaDefs() throws IOException {
 
         Path mockFilePath = Path.of("tmp/config/junit");
-        when(resourceFileLoader.loadResourceFilePath(any())).thenReturn(resourceSubmission);
+        when(resourceFileLoader.loadResourceFilePaths(any())).thenReturn(List.of(resourceSubmission));
         when(resourceSubmission.hasPmSchemaDefs()).thenReturn(false);
         when(resourceSubmission.hasAugmentationDefs()).thenReturn(true);
         when(resourceSubmission.hasPmDefs()).thenReturn(true);
@@ -192,12 +226,12 @@ class CsacEntryPointTest {
 
         verify(validationHandler, times(1)).validateAppConfig();
         verify(schemaMigration, times(1)).migrate();
-        verify(resourceFileLoader, times(1)).loadResourceFilePath(any());
+        verify(resourceFileLoader, times(1)).loadResourceFilePaths(any());
         verify(validationHandler, times(1)).validateAugmentations(any());
         verify(validationHandler, times(1)).getValidPMDefinitions(any());
-        verify(validationHandler, times(1)).validateKPIDefinitions(any());
-        verify(validationHandler, times(1)).validateProfileDefinitions(any());
-        verify(diffCalculator, times(1)).isChanged(any());
+        verify(validationHandler, times(1)).validateKPIDefinitions(any(), any());
+        verify(validationHandler, times(1)).validateProfileDefinitions(any(), any());
+        verify(diffCalculator, times(1)).getChangeSet(any());
         verify(diffCalculator, times(1)).getAffectedProfiles(any());
         verify(dataDictionaryHandler, times(0)).insertPMDefinitions(any());
         verify(dataDictionaryHandler, times(0)).insertKPIDefinitions(any());
@@ -216,7 +250,7 @@ class CsacEntryPointTest {
     void testBootstrap_noAugmentationDefs() throws IOException {
 
         Path mockFilePath = Path.of("tmp/config/junit");
-        when(resourceFileLoader.loadResourceFilePath(any())).thenReturn(resourceSubmission);
+        when(resourceFileLoader.loadResourceFilePaths(any())).thenReturn(List.of(resourceSubmission));
         when(resourceSubmission.hasPmSchemaDefs()).thenReturn(true);
         when(resourceSubmission.hasAugmentationDefs()).thenReturn(false);
         when(resourceSubmission.hasPmDefs()).thenReturn(true);
@@ -227,18 +261,20 @@ class CsacEntryPointTest {
         csacEntryPoint.bootstrap();
         verify(validationHandler, times(1)).validateAppConfig();
         verify(schemaMigration, times(1)).migrate();
-        verify(resourceFileLoader, times(1)).loadResourceFilePath(any());
+        verify(resourceFileLoader, times(1)).loadResourceFilePaths(any());
         verify(validationHandler, times(0)).validateAugmentations(any());
         verify(validationHandler, times(1)).getValidPMDefinitions(any());
-        verify(validationHandler, times(1)).validateKPIDefinitions(any());
-        verify(validationHandler, times(1)).validateProfileDefinitions(any());
-        verify(diffCalculator, times(1)).isChanged(any());
+        verify(validationHandler, times(1)).validateKPIDefinitions(any(), any());
+        verify(validationHandler, times(1)).validateProfileDefinitions(any(), any());
+        verify(diffCalculator, times(1)).getChangeSet(any());
         verify(diffCalculator, times(1)).getAffectedProfiles(any());
         verify(dataDictionaryHandler, times(0)).insertPMDefinitions(any());
         verify(dataDictionaryHandler, times(0)).insertKPIDefinitions(any());
         verify(dataDictionaryHandler, times(0)).insertAugmentationDefinitions(any());
         verify(dataDictionaryHandler, times(0)).insertProfileDefinitions(any());
         verify(dataDictionaryHandler, times(0)).insertPMSchemaDefinitions(any());
+        verify(provisioningLock, times(2)).lock();
+        assertFalse(provisioningLock.isLocked());
 
     }
 
@@ -246,7 +282,7 @@ class CsacEntryPointTest {
     public void testBootstrap_NoPmDefs() throws Exception {
 
         Path mockFilePath = Path.of("tmp/config/junit");
-        when(resourceFileLoader.loadResourceFilePath(any())).thenReturn(resourceSubmission);
+        when(resourceFileLoader.loadResourceFilePaths(any())).thenReturn(List.of(resourceSubmission));
         when(resourceSubmission.hasPmSchemaDefs()).thenReturn(true);
         when(resourceSubmission.hasAugmentationDefs()).thenReturn(true);
         when(resourceSubmission.hasPmDefs()).thenReturn(false);
@@ -257,12 +293,12 @@ class CsacEntryPointTest {
         csacEntryPoint.bootstrap();
         verify(validationHandler, times(1)).validateAppConfig();
         verify(schemaMigration, times(1)).migrate();
-        verify(resourceFileLoader, times(1)).loadResourceFilePath(any());
+        verify(resourceFileLoader, times(1)).loadResourceFilePaths(any());
         verify(validationHandler, times(1)).validateAugmentations(any());
         verify(validationHandler, times(0)).getValidPMDefinitions(any());
-        verify(validationHandler, times(1)).validateKPIDefinitions(any());
-        verify(validationHandler, times(1)).validateProfileDefinitions(any());
-        verify(diffCalculator, times(1)).isChanged(any());
+        verify(validationHandler, times(1)).validateKPIDefinitions(any(), any());
+        verify(validationHandler, times(1)).validateProfileDefinitions(any(), any());
+        verify(diffCalculator, times(1)).getChangeSet(any());
         verify(diffCalculator, times(1)).getAffectedProfiles(any());
         verify(dataDictionaryHandler, times(0)).insertPMDefinitions(any());
         verify(dataDictionaryHandler, times(0)).insertKPIDefinitions(any());
@@ -276,7 +312,7 @@ class CsacEntryPointTest {
     public void testBootstrap_NoKpiDefs() throws IOException {
 
         Path mockFilePath = Path.of("tmp/config/junit");
-        when(resourceFileLoader.loadResourceFilePath(any())).thenReturn(resourceSubmission);
+        when(resourceFileLoader.loadResourceFilePaths(any())).thenReturn(List.of(resourceSubmission));
         when(resourceSubmission.hasPmSchemaDefs()).thenReturn(true);
         when(resourceSubmission.hasAugmentationDefs()).thenReturn(true);
         when(resourceSubmission.hasPmDefs()).thenReturn(true);
@@ -287,12 +323,12 @@ class CsacEntryPointTest {
         csacEntryPoint.bootstrap();
         verify(validationHandler, times(1)).validateAppConfig();
         verify(schemaMigration, times(1)).migrate();
-        verify(resourceFileLoader, times(1)).loadResourceFilePath(any());
+        verify(resourceFileLoader, times(1)).loadResourceFilePaths(any());
         verify(validationHandler, times(1)).validateAugmentations(any());
         verify(validationHandler, times(1)).getValidPMDefinitions(any());
-        verify(validationHandler, times(0)).validateKPIDefinitions(any());
-        verify(validationHandler, times(1)).validateProfileDefinitions(any());
-        verify(diffCalculator, times(1)).isChanged(any());
+        verify(validationHandler, times(0)).validateKPIDefinitions(any(), any());
+        verify(validationHandler, times(1)).validateProfileDefinitions(any(), any());
+        verify(diffCalculator, times(1)).getChangeSet(any());
         verify(diffCalculator, times(1)).getAffectedProfiles(any());
         verify(dataDictionaryHandler, times(0)).insertPMDefinitions(any());
         verify(dataDictionaryHandler, times(0)).insertKPIDefinitions(any());
@@ -306,7 +342,7 @@ class CsacEntryPointTest {
     public void testBootstrap_NoProfileDefs() throws Exception {
 
         Path mockFilePath = Path.of("tmp/config/junit");
-        when(resourceFileLoader.loadResourceFilePath(any())).thenReturn(resourceSubmission);
+        when(resourceFileLoader.loadResourceFilePaths(any())).thenReturn(List.of(resourceSubmission));
         when(resourceSubmission.hasPmSchemaDefs()).thenReturn(true);
         when(resourceSubmission.hasAugmentationDefs()).thenReturn(true);
         when(resourceSubmission.hasPmDefs()).thenReturn(true);
@@ -317,12 +353,12 @@ class CsacEntryPointTest {
         csacEntryPoint.bootstrap();
         verify(validationHandler, times(1)).validateAppConfig();
         verify(schemaMigration, times(1)).migrate();
-        verify(resourceFileLoader, times(1)).loadResourceFilePath(any());
+        verify(resourceFileLoader, times(1)).loadResourceFilePaths(any());
         verify(validationHandler, times(1)).validateAugmentations(any());
         verify(validationHandler, times(1)).getValidPMDefinitions(any());
-        verify(validationHandler, times(1)).validateKPIDefinitions(any());
-        verify(validationHandler, times(0)).validateProfileDefinitions(any());
-        verify(diffCalculator, times(1)).isChanged(any());
+        verify(validationHandler, times(1)).validateKPIDefinitions(any(), any());
+        verify(validationHandler, times(0)).validateProfileDefinitions(any(), any());
+        verify(diffCalculator, times(1)).getChangeSet(any());
         verify(diffCalculator, times(1)).getAffectedProfiles(any());
         verify(dataDictionaryHandler, times(0)).insertPMDefinitions(any());
         verify(dataDictionaryHandler, times(0)).insertKPIDefinitions(any());
@@ -341,8 +377,8 @@ class CsacEntryPointTest {
         when(resourceSubmission.hasPmDefs()).thenReturn(true);
         when(resourceSubmission.hasKpiDefs()).thenReturn(true);
         when(resourceSubmission.hasProfileDefs()).thenReturn(true);
-        when(diffCalculator.isChanged(any())).thenReturn(true);
-        when(resourceFileLoader.loadResourceFilePath(any())).thenReturn(resourceSubmission);
+        when(this.changeSet.hasChanges()).thenReturn(true);
+        when(resourceFileLoader.loadResourceFilePaths(any())).thenReturn(List.of(resourceSubmission));
         when(resourceSubmissionHandler.getOrderedResourceList()).thenReturn(List.of(mockFilePath));
 
         csacEntryPoint.bootstrap();
@@ -350,9 +386,9 @@ class CsacEntryPointTest {
         verify(schemaMigration, times(1)).migrate();
         verify(validationHandler, times(1)).validateAugmentations(any());
         verify(validationHandler, times(1)).getValidPMDefinitions(any());
-        verify(validationHandler, times(1)).validateKPIDefinitions(any());
-        verify(validationHandler, times(1)).validateProfileDefinitions(any());
-        verify(diffCalculator, times(1)).isChanged(any());
+        verify(validationHandler, times(1)).validateKPIDefinitions(any(), any());
+        verify(validationHandler, times(1)).validateProfileDefinitions(any(), any());
+        verify(diffCalculator, times(2)).getChangeSet(any());
         verify(diffCalculator, times(1)).getAffectedProfiles(any());
         verify(dataDictionaryHandler, times(1)).insertPMDefinitions(any());
         verify(dataDictionaryHandler, times(1)).insertKPIDefinitions(any());
@@ -366,7 +402,7 @@ class CsacEntryPointTest {
     void bootstrap_InvalidConfigFile_Valid() throws IOException {
 
         final Path mockFilePath = Path.of("tmp/config/junit");
-        when(this.resourceFileLoader.loadResourceFilePath(any())).thenThrow(ResourceFileLoaderException.class);
+        when(this.resourceFileLoader.loadResourceFilePaths(any())).thenThrow(ResourceFileLoaderException.class);
         when(this.resourceSubmissionHandler.getOrderedResourceList()).thenReturn(List.of(mockFilePath));
 
         this.csacEntryPoint.setFileLoadErrorCounter(this.fileLoadErrorCounter);
@@ -391,24 +427,24 @@ class CsacEntryPointTest {
 
         Path mockFilePath_1 = Path.of("tmp/config/oob");
         Path mockFilePath_2 = Path.of("tmp/config/junit");
-        when(resourceFileLoader.loadResourceFilePath(any())).thenReturn(resourceSubmission);
+        when(resourceFileLoader.loadResourceFilePaths(any())).thenReturn(List.of(resourceSubmission, resourceSubmission));
         when(resourceSubmission.hasAugmentationDefs()).thenReturn(true);
         when(resourceSubmission.hasPmDefs()).thenReturn(true);
         when(resourceSubmission.hasKpiDefs()).thenReturn(true);
         when(resourceSubmission.hasProfileDefs()).thenReturn(true);
         when(resourceSubmissionHandler.getOrderedResourceList()).thenReturn(List.of(mockFilePath_1, mockFilePath_2));
-        when(diffCalculator.isChanged(any())).thenReturn(true);
+        when(this.changeSet.hasChanges()).thenReturn(true);
 
         csacEntryPoint.bootstrap();
 
         verify(validationHandler, times(1)).validateAppConfig();
         verify(schemaMigration, times(1)).migrate();
-        verify(resourceFileLoader, times(2)).loadResourceFilePath(any());
+        verify(resourceFileLoader, times(1)).loadResourceFilePaths(any());
         verify(validationHandler, times(2)).validateAugmentations(any());
         verify(validationHandler, times(2)).getValidPMDefinitions(any());
-        verify(validationHandler, times(2)).validateKPIDefinitions(any());
-        verify(validationHandler, times(2)).validateProfileDefinitions(any());
-        verify(diffCalculator, times(1)).isChanged(any());
+        verify(validationHandler, times(2)).validateKPIDefinitions(any(), any());
+        verify(validationHandler, times(2)).validateProfileDefinitions(any(), any());
+        verify(diffCalculator, times(2)).getChangeSet(any());
         verify(diffCalculator, times(1)).getAffectedProfiles(any());
         verify(dataDictionaryHandler, times(1)).insertPMDefinitions(any());
         verify(dataDictionaryHandler, times(1)).insertKPIDefinitions(any());
@@ -475,7 +511,7 @@ class CsacEntryPointTest {
         final Map<String, List<PMDefinition>> validPms2 = new HashMap<>();
         validPms2.put("PM_SCHEMA_1", pmDefs2);
 
-        when(resourceFileLoader.loadResourceFilePath(any())).thenReturn(sub1, sub2);
+        when(resourceFileLoader.loadResourceFilePaths(any())).thenReturn(List.of(sub1, sub2));
         when(resourceSubmissionHandler.getOrderedResourceList()).thenReturn(List.of(Path.of("path1"), Path.of("path2")));
         when(validationHandler.getValidPMDefinitions(any())).thenReturn(validPms1, validPms2);
 
@@ -493,7 +529,7 @@ class CsacEntryPointTest {
     @Test
     void startProvisioning_trackingErrorOnStarting() throws Exception {
 
-        when(this.diffCalculator.getAffectedProfiles(any())).thenReturn(Set.of(new ProfileDefinition()));
+        when(this.diffCalculator.getAffectedProfiles(this.changeSet)).thenReturn(Set.of(new ProfileDefinition()));
 
         doThrow(new CsacProvisioningStateTransitionException()).when(this.provisioningTracker).startProvisioning();
 
@@ -504,27 +540,28 @@ class CsacEntryPointTest {
         verify(this.provisioningTracker, times(0)).stopProvisioning();
         verify(this.provisioningTracker, times(1)).stopProvisioning(any(CsacProvisioningStateTransitionException.class));
         verify(this.consistencyCheckHandler, times(1)).notifyCheckFailure(any());
+        assertFalse(this.provisioningLock.isLocked());
     }
 
     @Test
     void startProvisioning_AuditableDatabaseException() throws Exception {
 
         final Path mockFilePath = Path.of("tmp/config/junit");
-        when(this.resourceFileLoader.loadResourceFilePath(any())).thenReturn(resourceSubmission);
+        when(this.resourceFileLoader.loadResourceFilePaths(any())).thenReturn(List.of(resourceSubmission));
         when(this.resourceSubmission.hasAugmentationDefs()).thenReturn(true);
         when(this.resourceSubmission.hasPmDefs()).thenReturn(true);
         when(this.resourceSubmission.hasKpiDefs()).thenReturn(true);
         when(this.resourceSubmission.hasProfileDefs()).thenReturn(true);
         when(this.resourceSubmissionHandler.getOrderedResourceList()).thenReturn(List.of(mockFilePath));
-        doThrow(CannotGetJdbcConnectionException.class).when(this.validationHandler).validateKPIDefinitions(any());
+        doThrow(CannotGetJdbcConnectionException.class).when(this.validationHandler).validateKPIDefinitions(any(), any());
 
         assertThrows(CannotGetJdbcConnectionException.class, () -> this.csacEntryPoint.startProvisioning());
 
-        verify(this.resourceFileLoader, times(1)).loadResourceFilePath(any());
+        verify(this.resourceFileLoader, times(1)).loadResourceFilePaths(any());
         verify(this.validationHandler, times(1)).validateAugmentations(any());
         verify(this.validationHandler, times(1)).getValidPMDefinitions(any());
-        verify(this.validationHandler, times(1)).validateKPIDefinitions(any());
-        verify(this.validationHandler, never()).validateProfileDefinitions(any());
+        verify(this.validationHandler, times(1)).validateKPIDefinitions(any(), any());
+        verify(this.validationHandler, never()).validateProfileDefinitions(any(), any());
         verify(this.provisioningTracker, times(1)).stopProvisioning(any(CannotGetJdbcConnectionException.class));
 
         final List<ILoggingEvent> loggingEventList = this.listAppender.list;
@@ -553,21 +590,21 @@ class CsacEntryPointTest {
     void startProvisioning_NotAuditableException() throws Exception {
 
         final Path mockFilePath = Path.of("tmp/config/junit");
-        when(this.resourceFileLoader.loadResourceFilePath(any())).thenReturn(resourceSubmission);
+        when(this.resourceFileLoader.loadResourceFilePaths(any())).thenReturn(List.of(resourceSubmission));
         when(this.resourceSubmission.hasAugmentationDefs()).thenReturn(true);
         when(this.resourceSubmission.hasPmDefs()).thenReturn(true);
         when(this.resourceSubmission.hasKpiDefs()).thenReturn(true);
         when(this.resourceSubmission.hasProfileDefs()).thenReturn(true);
         when(this.resourceSubmissionHandler.getOrderedResourceList()).thenReturn(List.of(mockFilePath));
-        doThrow(CsacValidationException.class).when(this.validationHandler).validateKPIDefinitions(any());
+        doThrow(CsacValidationException.class).when(this.validationHandler).validateKPIDefinitions(any(), any());
 
         assertThrows(CsacValidationException.class, () -> this.csacEntryPoint.startProvisioning());
 
-        verify(this.resourceFileLoader, times(1)).loadResourceFilePath(any());
+        verify(this.resourceFileLoader, times(1)).loadResourceFilePaths(any());
         verify(this.validationHandler, times(1)).validateAugmentations(any());
         verify(this.validationHandler, times(1)).getValidPMDefinitions(any());
-        verify(this.validationHandler, times(1)).validateKPIDefinitions(any());
-        verify(this.validationHandler, never()).validateProfileDefinitions(any());
+        verify(this.validationHandler, times(1)).validateKPIDefinitions(any(), any());
+        verify(this.validationHandler, never()).validateProfileDefinitions(any(), any());
         verify(this.provisioningTracker, times(1)).stopProvisioning(any(CsacValidationException.class));
 
         final List<ILoggingEvent> loggingEventList = this.listAppender.list;
@@ -583,23 +620,23 @@ class CsacEntryPointTest {
     void startCsacDataFlow_noNewResources() throws IOException {
 
         Path mockFilePath = Path.of("tmp/config/junit");
-        when(resourceFileLoader.loadResourceFilePath(any())).thenReturn(resourceSubmission);
+        when(resourceFileLoader.loadResourceFilePaths(any())).thenReturn(List.of(resourceSubmission));
         when(resourceSubmission.hasAugmentationDefs()).thenReturn(true);
         when(resourceSubmission.hasPmDefs()).thenReturn(true);
         when(resourceSubmission.hasKpiDefs()).thenReturn(true);
         when(resourceSubmission.hasProfileDefs()).thenReturn(true);
-        when(diffCalculator.isChanged(any())).thenReturn(false);
-        when(diffCalculator.getAffectedProfiles(any())).thenReturn(Set.of());
+        when(this.changeSet.hasChanges()).thenReturn(false);
+        when(diffCalculator.getAffectedProfiles(this.changeSet)).thenReturn(Set.of());
         when(resourceSubmissionHandler.getOrderedResourceList()).thenReturn(List.of(mockFilePath));
 
         csacEntryPoint.startCsacDataFlow();
 
-        verify(resourceFileLoader, times(1)).loadResourceFilePath(any());
+        verify(resourceFileLoader, times(1)).loadResourceFilePaths(any());
         verify(validationHandler, times(1)).validateAugmentations(any());
         verify(validationHandler, times(1)).getValidPMDefinitions(any());
-        verify(validationHandler, times(1)).validateKPIDefinitions(any());
-        verify(validationHandler, times(1)).validateProfileDefinitions(any());
-        verify(diffCalculator, times(1)).isChanged(any());
+        verify(validationHandler, times(1)).validateKPIDefinitions(any(), any());
+        verify(validationHandler, times(1)).validateProfileDefinitions(any(), any());
+        verify(diffCalculator, times(1)).getChangeSet(any());
         verify(diffCalculator, times(1)).getAffectedProfiles(any());
         verify(dataDictionaryHandler, times(0)).insertPMDefinitions(any());
         verify(dataDictionaryHandler, times(0)).insertKPIDefinitions(any());
@@ -607,9 +644,146 @@ class CsacEntryPointTest {
         verify(dataDictionaryHandler, times(0)).insertProfileDefinitions(any());
         verify(provisioningTracker, times(0)).startProvisioning();
         verify(provisioningTracker, times(0)).stopProvisioning();
+        verify(provisioningTracker, times(1)).recordResourceFingerprint(any());
         verify(forcedProvisioningOperator, times(1)).apply(any());
     }
 
+    @Test
+    void startCsacDataFlow_dictionaryUpdated_affectedProfilesRecalculated() throws IOException {
+
+        final ResourceChangeSet updatedChangeSet = mock(ResourceChangeSet.class);
+        when(this.resourceSubmissionHandler.getOrderedResourceList()).thenReturn(List.of(Path.of("path1")));
+        when(this.resourceFileLoader.loadResourceFilePaths(any())).thenReturn(List.of(ResourceSubmission.builder().build()));
+        when(this.diffCalculator.getChangeSet(any())).thenReturn(this.changeSet, updatedChangeSet);
+        when(this.changeSet.hasChanges()).thenReturn(true);
+
+        this.csacEntryPoint.startCsacDataFlow();
+
+        // the affected profiles are calculated relative to the updated dictionary
+        verify(this.dataDictionaryHandler, times(1)).insertKPIDefinitions(any());
+        verify(this.diffCalculator, times(2)).getChangeSet(any());
+        verify(this.diffCalculator, times(1)).getAffectedProfiles(updatedChangeSet);
+        verify(this.diffCalculator, times(0)).getAffectedProfiles(this.changeSet);
+    }
+
+    @Test
+    void bootstrap_unchangedResourceFiles_provisioningSkipped() throws IOException {
+
+        final List<Path> resourceFiles = List.of(Path.of("tmp/config/junit"));
+        when(this.resourceSubmissionHandler.getOrderedResourceList()).thenReturn(resourceFiles);
+        when(this.resourceSubmissionHandler.getResourceFingerprint(resourceFiles)).thenReturn("fingerprint");
+        when(this.provisioningTracker.isProvisioned("fingerprint")).thenReturn(true);
+
+        this.csacEntryPoint.bootstrap();
+
+        verify(this.resolvedKpiCache, times(1)).preload();
+        verify(this.resourceFileLoader, times(0)).loadResourceFilePaths(any());
+        verify(this.diffCalculator, times(0)).getChangeSet(any());
+        verify(this.provisioningTracker, times(0)).startProvisioning();
+        verify(this.forcedProvisioningOperator, times(1)).apply(any());
+        verify(this.faultHandler, times(0)).fatal(any());
+    }
+
+    @Test
+    void bootstrap_unchangedResourceFiles_forced() throws IOException {
+
+        final List<Path> resourceFiles = List.of(Path.of("tmp/config/junit"));
+        final Map<Path, String> contentDigests = Map.of(resourceFiles.get(0), "digest");
+        when(this.resourceSubmissionHandler.getOrderedResourceList()).thenReturn(resourceFiles);
+        when(this.resourceSubmissionHandler.getContentDigests(resourceFiles)).thenReturn(contentDigests);
+        when(this.resourceSubmissionHandler.getResourceFingerprint(contentDigests)).thenReturn("fingerprint");
+        when(this.resourceFileLoader.loadResourceFilePaths(any())).thenReturn(List.of(this.resourceSubmission));
+        when(this.changeSet.hasChanges()).thenReturn(true);
+
+        this.csacEntryPoint.setForceProvisioning(true);
+        this.csacEntryPoint.bootstrap();
+
+        verify(this.provisioningTracker, times(0)).isProvisioned(any());
+        verify(this.resourceFileLoader, times(1)).loadResourceFilePaths(any());
+        verify(this.provisioningTracker, times(1)).startProvisioning();
+        verify(this.provisioningTracker, times(1)).stopProvisioning();
+        verify(this.provisioningTracker, times(1)).recordResourceFingerprint("fingerprint");
+    }
+
+    @Test
+    void startProvisioning_stagesReported() throws IOException {
+
+        when(this.resourceSubmissionHandler.getOrderedResourceList()).thenReturn(List.of(Path.of("path1")));
+        when(this.resourceFileLoader.loadResourceFilePaths(any())).thenReturn(List.of(ResourceSubmission.builder().build()));
+        when(this.changeSet.hasChanges()).thenReturn(true);
+
+        final List<ReloadStage> stages = new ArrayList<>();
+
+        this.csacEntryPoint.startProvisioning(stages::add);
+
+        assertEquals(List.of(ReloadStage.LOADING, ReloadStage.VALIDATING, ReloadStage.UPDATING_DICTIONARY, ReloadStage.PROVISIONING), stages);
+        verify(this.provisioningTracker, times(1)).stopProvisioning();
+    }
+
+    @Test
+    void reloadChangedResources_waitsForProvisioningLock() throws Exception {
+
+        when(this.resourceSubmissionHandler.getOrderedResourceList()).thenReturn(List.of(Path.of("path1")));
+        when(this.resourceFileLoader.loadResourceFilePaths(any())).thenReturn(List.of(ResourceSubmission.builder().build()));
+
+        this.provisioningLock.lock();
+
+        final CompletableFuture<Void> reload = CompletableFuture.runAsync(() -> {
+            try {
+                this.csacEntryPoint.reloadChangedResources();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        // the reload does not start while a data flow, a configuration reset or a drift reconciliation holds the lock
+        verify(this.resourceSubmissionHandler, after(200).never()).getOrderedResourceList();
+
+        this.provisioningLock.unlock();
+        reload.get(10, TimeUnit.SECONDS);
+
+        verify(this.resourceSubmissionHandler, times(1)).getOrderedResourceList();
+        assertFalse(this.provisioningLock.isLocked());
+    }
+
+    @Test
+    void reloadChangedResources_onlyChangedFilesLoaded() throws IOException {
+
+        final Path path1 = Path.of("path1");
+        final Path path2 = Path.of("path2");
+
+        final ResourceSubmission sub1 = ResourceSubmission.builder().pmDefs(List.of(VALID_PM_DEF_OBJ)).build();
+        final ResourceSubmission sub2 = ResourceSubmission.builder().kpiDefs(List.of(VALID_SIMPLE_KPI_DEF_OBJ)).build();
+        final ResourceSubmission updatedSub2 = ResourceSubmission.builder()
+                .kpiDefs(List.of(VALID_SIMPLE_KPI_DEF_OBJ.toBuilder().displayName("new display name").build()))
+                .build();
+
+        when(this.resourceSubmissionHandler.getOrderedResourceList()).thenReturn(List.of(path1, path2));
+        when(this.resourceSubmissionHandler.getContentDigests(any())).thenReturn(Map.of(path1, "digest1", path2, "digest2"),
+                Map.of(path1, "digest1", path2, "digest3"));
+        when(this.resourceFileLoader.loadResourceFilePaths(List.of(path1, path2))).thenReturn(List.of(sub1, sub2));
+        when(this.resourceFileLoader.loadResourceFilePaths(List.of(path2))).thenReturn(List.of(updatedSub2));
+        when(this.validationHandler.getValidPMDefinitions(any())).thenReturn(Map.of(PM_SCHEMA_NAME, List.of(VALID_PM_DEF_OBJ)));
+
+        this.csacEntryPoint.startProvisioning();
+        this.csacEntryPoint.reloadChangedResources();
+
+        verify(this.resourceFileLoader, times(1)).loadResourceFilePaths(List.of(path1, path2));
+        verify(this.resourceFileLoader, times(1)).loadResourceFilePaths(List.of(path2));
+        verify(this.validationHandler, times(1)).getValidPMDefinitions(any());
+        verify(this.validationHandler, times(2)).validateKPIDefinitions(any(), any());
+        verify(this.validationIndex, times(1)).addValidated(sub1);
+        verify(this.validationIndex, times(1)).add(updatedSub2);
+
+        // the unchanged file still contributes its valid PM definitions to the data dictionary update
+        assertEquals(List.of(VALID_PM_DEF_OBJ), this.csacEntryPoint.getValidPMDefinitions().get(PM_SCHEMA_NAME));
+
+        // a full reload loads every resource file again
+        this.csacEntryPoint.startProvisioning();
+
+        verify(this.resourceFileLoader, times(2)).loadResourceFilePaths(List.of(path1, path2));
+    }
+
     @Test
     void startCsacDataFlow_addPmCountersToPmDefList() throws Exception {
 
@@ -635,7 +809,7 @@ class CsacEntryPointTest {
         final Map<String, List<PMDefinition>> validPmDefs2 = new HashMap<>();
         validPmDefs2.put(PM_SCHEMA_NAME, List.of(def2));
 
-        when(resourceFileLoader.loadResourceFilePath(any())).thenReturn(sub1, sub2);
+        when(resourceFileLoader.loadResourceFilePaths(any())).thenReturn(List.of(sub1, sub2));
         when(resourceSubmissionHandler.getOrderedResourceList()).thenReturn(List.of(Path.of("path1"), Path.of("path2")));
         when(validationHandler.getValidPMDefinitions(any())).thenReturn(validPmDefs1, validPmDefs2);
 
@@ -12,9 +12,11 @@ package com.ericsson.oss.air.csac.configuration;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 
 import javax.sql.DataSource;
 
+import com.ericsson.oss.air.csac.repository.impl.jdbc.util.StatementCountingJdbcTemplate;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -40,6 +42,10 @@ class JdbcConfigTest {
         assertDoesNotThrow(() -> this.applicationContext.getBean(DataSource.class));
         assertDoesNotThrow(() -> this.applicationContext.getBean(JdbcTemplate.class));
         assertDoesNotThrow(() -> this.applicationContext.getBean(NamedParameterJdbcTemplate.class));
+
+        // statements are counted by both templates
+        assertInstanceOf(StatementCountingJdbcTemplate.class, this.applicationContext.getBean(JdbcTemplate.class));
+        assertInstanceOf(StatementCountingJdbcTemplate.class, this.applicationContext.getBean(NamedParameterJdbcTemplate.class).getJdbcTemplate());
     }
 
     @Test
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import ch.qos.logback.core.util.FileSize;
+import com.ericsson.oss.air.exception.CsacValidationException;
+import com.ericsson.oss.air.util.logging.payload.PayloadLogFactory;
+import com.ericsson.oss.air.util.logging.payload.PayloadLogger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+
+class PayloadLoggingConfigurationTest {
+
+    @TempDir
+    private Path dumpDirectory;
+
+    private PayloadLoggingConfiguration configuration;
+
+    @BeforeEach
+    void setUp() {
+
+        this.configuration = new PayloadLoggingConfiguration();
+        this.configuration.setMaxLength(PayloadLogger.DEFAULT_MAX_LENGTH);
+        this.configuration.setDumpPath("");
+        this.configuration.setDumpMaxFileSize("10MB");
+        this.configuration.setDumpMaxFiles(5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.configuration.destroy();
+        PayloadLogger.setMaxLength(PayloadLogger.DEFAULT_MAX_LENGTH);
+    }
+
+    @Test
+    void setMaxLength() {
+
+        this.configuration.setMaxLength(100);
+
+        assertEquals(100, PayloadLogger.getMaxLength());
+        assertThrows(CsacValidationException.class, () -> this.configuration.setMaxLength(0));
+    }
+
+    @Test
+    void setDumpMaxFileSize() {
+
+        assertEquals(FileSize.valueOf("10MB").getSize(), this.configuration.getDumpMaxFileSize().getSize());
+
+        assertThrows(CsacValidationException.class, () -> this.configuration.setDumpMaxFileSize("invalid"));
+        assertThrows(CsacValidationException.class, () -> this.configuration.setDumpMaxFileSize(null));
+    }
+
+    @Test
+    void setDumpMaxFiles() {
+
+        assertEquals(5, this.configuration.getDumpMaxFiles());
+
+        assertThrows(CsacValidationException.class, () -> this.configuration.setDumpMaxFiles(0));
+        assertThrows(CsacValidationException.class, () -> this.configuration.setDumpMaxFiles(21));
+        assertThrows(CsacValidationException.class, () -> this.configuration.setDumpMaxFiles(null));
+    }
+
+    @Test
+    void init_noDumpPath() {
+
+        final Logger rootLogger = (Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME);
+        final Level rootLevel = rootLogger.getLevel();
+        final ListAppender<ILoggingEvent> rootAppender = new ListAppender<>();
+        rootAppender.start();
+        rootLogger.addAppender(rootAppender);
+        rootLogger.setLevel(Level.DEBUG);
+
+        try {
+            this.configuration.setMaxLength(5);
+            this.configuration.init();
+
+            final Logger dumpLogger = (Logger) LoggerFactory.getLogger(PayloadLogger.DUMP_LOGGER_NAME);
+
+            assertEquals(Level.OFF, dumpLogger.getLevel());
+            assertFalse(dumpLogger.isAdditive());
+
+            PayloadLogFactory.getLogger(PayloadLoggingConfigurationTest.class).debug("Payload: {}", List.of("first", "second"));
+
+            // only the truncated payload reaches the appenders of the root logger
+            assertEquals(1, rootAppender.list.size());
+            assertEquals(PayloadLoggingConfigurationTest.class.getName(), rootAppender.list.get(0).getLoggerName());
+            assertFalse(rootAppender.list.get(0).getFormattedMessage().contains("second"));
+
+            this.configuration.destroy();
+
+            assertNull(dumpLogger.getLevel());
+            assertTrue(dumpLogger.isAdditive());
+        } finally {
+            rootLogger.detachAppender(rootAppender);
+            rootLogger.setLevel(rootLevel);
+        }
+    }
+
+    @Test
+    void init_dumpPath() throws Exception {
+
+        final Path dumpFile = this.dumpDirectory.resolve("payload.log");
+
+        this.configuration.setDumpPath(dumpFile.toString());
+        this.configuration.init();
+
+        final Logger dumpLogger = (Logger) LoggerFactory.getLogger(PayloadLogger.DUMP_LOGGER_NAME);
+
+        assertFalse(dumpLogger.isAdditive());
+
+        PayloadLogFactory.getLogger(PayloadLoggingConfigurationTest.class).debug("Payload: {}", List.of("first", "second"));
+
+        this.configuration.destroy();
+
+        assertTrue(dumpLogger.isAdditive());
+        assertTrue(Files.readString(dumpFile).contains(PayloadLoggingConfigurationTest.class.getName() + " - Payload: [\"first\",\"second\"]"));
+    }
+}
@@ -144,6 +144,162 @@ class CustomMetricsRegistryTest {
         assertEquals(Math.PI, actual.value());
     }
 
+    @Test
+    void provisioningKpiResolutionQueryCount() {
+
+        final AtomicLong expected = this.metricsRegister.provisioningKpiResolutionQueryCount();
+
+        final Gauge actual = this.registry.find(CustomMetrics.PROVISIONING_KPI_RESOLUTION_QUERIES.getMetricName()).gauge();
+
+        assertNotNull(actual);
+
+        expected.set(5L);
+        assertEquals(expected.doubleValue(), actual.value());
+    }
+
+    @Test
+    void provisioningAasSchemaMappingCacheHits() {
+
+        final AtomicLong expected = this.metricsRegister.provisioningAasSchemaMappingCacheHits();
+
+        final Gauge actual = this.registry.find(CustomMetrics.PROVISIONING_AAS_SCHEMA_MAPPING_CACHE_HITS.getMetricName()).gauge();
+
+        assertNotNull(actual);
+
+        expected.set(3L);
+        assertEquals(expected.doubleValue(), actual.value());
+    }
+
+    @Test
+    void provisioningAasSchemaMappingCacheMisses() {
+
+        final AtomicLong expected = this.metricsRegister.provisioningAasSchemaMappingCacheMisses();
+
+        final Gauge actual = this.registry.find(CustomMetrics.PROVISIONING_AAS_SCHEMA_MAPPING_CACHE_MISSES.getMetricName()).gauge();
+
+        assertNotNull(actual);
+
+        expected.set(2L);
+        assertEquals(expected.doubleValue(), actual.value());
+    }
+
+    @Test
+    void provisioningKpiCacheHits() {
+
+        final AtomicLong expected = this.metricsRegister.provisioningKpiCacheHits();
+
+        final Gauge actual = this.registry.find(CustomMetrics.PROVISIONING_KPI_CACHE_HITS.getMetricName()).gauge();
+
+        assertNotNull(actual);
+
+        expected.set(2L);
+        assertEquals(expected.doubleValue(), actual.value());
+    }
+
+    @Test
+    void provisioningKpiCacheMisses() {
+
+        final AtomicLong expected = this.metricsRegister.provisioningKpiCacheMisses();
+
+        final Gauge actual = this.registry.find(CustomMetrics.PROVISIONING_KPI_CACHE_MISSES.getMetricName()).gauge();
+
+        assertNotNull(actual);
+
+        expected.set(2L);
+        assertEquals(expected.doubleValue(), actual.value());
+    }
+
+    @Test
+    void provisioningKpiCacheSize() {
+
+        final AtomicLong expected = this.metricsRegister.provisioningKpiCacheSize();
+
+        final Gauge actual = this.registry.find(CustomMetrics.PROVISIONING_KPI_CACHE_SIZE.getMetricName()).gauge();
+
+        assertNotNull(actual);
+
+        expected.set(2L);
+        assertEquals(expected.doubleValue(), actual.value());
+    }
+
+    @Test
+    void provisioningKpiCacheLoadTime() {
+
+        final AtomicDouble expected = this.metricsRegister.provisioningKpiCacheLoadTime();
+
+        final Gauge actual = this.registry.find(CustomMetrics.PROVISIONING_KPI_CACHE_LOAD_TIME_SECONDS.getMetricName()).gauge();
+
+        assertNotNull(actual);
+
+        expected.set(1.5);
+        assertEquals(expected.get(), actual.value());
+    }
+
+    @Test
+    void reconciliationKpiDrift() {
+
+        final AtomicLong expected = this.metricsRegister.reconciliationKpiDrift();
+
+        final Gauge actual = this.registry.find(CustomMetrics.RECONCILIATION_KPI_DRIFT.getMetricName()).gauge();
+
+        assertNotNull(actual);
+
+        expected.set(2L);
+        assertEquals(expected.doubleValue(), actual.value());
+    }
+
+    @Test
+    void reconciliationAugmentationDrift() {
+
+        final AtomicLong expected = this.metricsRegister.reconciliationAugmentationDrift();
+
+        final Gauge actual = this.registry.find(CustomMetrics.RECONCILIATION_AUG_DRIFT.getMetricName()).gauge();
+
+        assertNotNull(actual);
+
+        expected.set(2L);
+        assertEquals(expected.doubleValue(), actual.value());
+    }
+
+    @Test
+    void reconciliationRepairs() {
+
+        final AtomicLong expected = this.metricsRegister.reconciliationRepairs();
+
+        final Gauge actual = this.registry.find(CustomMetrics.RECONCILIATION_REPAIRS.getMetricName()).gauge();
+
+        assertNotNull(actual);
+
+        expected.set(2L);
+        assertEquals(expected.doubleValue(), actual.value());
+    }
+
+    @Test
+    void reconciliationErrors() {
+
+        final AtomicLong expected = this.metricsRegister.reconciliationErrors();
+
+        final Gauge actual = this.registry.find(CustomMetrics.RECONCILIATION_ERRORS.getMetricName()).gauge();
+
+        assertNotNull(actual);
+
+        expected.set(2L);
+        assertEquals(expected.doubleValue(), actual.value());
+    }
+
+    @Test
+    void reconciliationTime() {
+
+        final AtomicDouble expected = this.metricsRegister.reconciliationTime();
+
+        final Gauge actual = this.registry.find(CustomMetrics.RECONCILIATION_TIME_SECONDS.getMetricName()).gauge();
+
+        assertNotNull(actual);
+
+        expected.set(1.5);
+        assertEquals(expected.get(), actual.value());
+    }
+
     @Test
     void registerAugmentationCountTest() {
         final AugmentationDefinitionDAO augmentationDefinitionDAO = new AugmentationDefinitionDAOImpl();
@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.ericsson.oss.air.csac.model.AugmentationDefinition;
 import com.ericsson.oss.air.csac.model.PMDefinition;
@@ -39,6 +40,7 @@ import com.ericsson.oss.air.csac.repository.AugmentationDefinitionDAO;
 import com.ericsson.oss.air.csac.service.DataCatalogService;
 import com.ericsson.oss.air.csac.service.SchemaRegistryService;
 import com.ericsson.oss.air.csac.service.augmentation.AugmentationProvisioningService;
+import com.ericsson.oss.air.csac.service.augmentation.AugmentationSchemaMappingCache;
 import com.ericsson.oss.air.exception.CsacValidationException;
 import com.ericsson.oss.air.util.logging.FaultHandler;
 import org.junit.jupiter.api.BeforeEach;
@@ -47,6 +49,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 public class LiveInputSchemaProviderTest {
@@ -70,10 +73,18 @@ public class LiveInputSchemaProviderTest {
 
     private final FaultHandler faultHandler = new FaultHandler();
 
+    private final AtomicLong cacheHits = new AtomicLong();
+
+    private final AtomicLong cacheMisses = new AtomicLong();
+
     @BeforeEach
     void setUp() {
+        final AugmentationSchemaMappingCache schemaMappingCache = new AugmentationSchemaMappingCache(augmentationService);
+        ReflectionTestUtils.setField(schemaMappingCache, "hitCounter", this.cacheHits);
+        ReflectionTestUtils.setField(schemaMappingCache, "missCounter", this.cacheMisses);
+
         this.inputSchemaProvider = new LiveInputSchemaProvider(dataCatalogService, schemaRegistryService, faultHandler, augmentationDefinitionDAO,
-                augmentationService);
+                schemaMappingCache);
     }
 
     @Test
@@ -187,6 +198,45 @@ public class LiveInputSchemaProviderTest {
         assertEquals(actualSchemaRef, expectedSchemaRef);
     }
 
+    @Test
+    void getSchemaReference_profileAugmented_schemaMappingsRetrievedOnce() {
+        when(this.augmentationDefinitionDAO.findById("cardq")).thenReturn(
+                Optional.of(AugmentationDefinition.builder().name("cardq").url("localhost:8080").build()));
+        when(this.augmentationService.getSchemaMappings("cardq")).thenReturn(Map.of(VALID_PM_DEF_SOURCE, "cardq_AMF_Mobility_NetworkSlice_1"));
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("cardq_AMF_Mobility_NetworkSlice_1", this.inputSchemaProvider.getSchemaReference(
+                    AUGMENTED_PROFILE_DEF_OBJ, VALID_PM_DEF_OBJ));
+        }
+
+        verify(this.augmentationService, times(1)).getSchemaMappings("cardq");
+        assertEquals(2L, this.cacheHits.get());
+        assertEquals(1L, this.cacheMisses.get());
+    }
+
+    @Test
+    void prefetchSchemaMappings() {
+        final ProfileDefinition unknownAugmentationProfile = AUGMENTED_PROFILE_DEF_OBJ.toBuilder().name("other").augmentation("unknown").build();
+        final ProfileDefinition notAugmentedProfile = AUGMENTED_PROFILE_DEF_OBJ.toBuilder().name("notAugmented").augmentation(null).build();
+
+        when(this.augmentationDefinitionDAO.findById("cardq")).thenReturn(
+                Optional.of(AugmentationDefinition.builder().name("cardq").url("localhost:8080").build()));
+        when(this.augmentationDefinitionDAO.findById("unknown")).thenReturn(Optional.empty());
+        when(this.augmentationService.getSchemaMappings("cardq")).thenReturn(Map.of(VALID_PM_DEF_SOURCE, "cardq_AMF_Mobility_NetworkSlice_1"));
+
+        this.inputSchemaProvider.prefetchSchemaMappings(
+                List.of(AUGMENTED_PROFILE_DEF_OBJ, AUGMENTED_PROFILE_DEF_OBJ, unknownAugmentationProfile, notAugmentedProfile));
+
+        verify(this.augmentationService, times(1)).getSchemaMappings(anyString());
+        verify(this.augmentationDefinitionDAO, times(1)).findById("cardq");
+        assertEquals(1L, this.cacheMisses.get());
+
+        assertEquals("cardq_AMF_Mobility_NetworkSlice_1", this.inputSchemaProvider.getSchemaReference(
+                AUGMENTED_PROFILE_DEF_OBJ, VALID_PM_DEF_OBJ));
+        verify(this.augmentationService, times(1)).getSchemaMappings(anyString());
+        assertEquals(1L, this.cacheHits.get());
+    }
+
     @Test
     void prefetchInputSchema_nullMessageSchema_throwException() {
         final Set<String> schemaReferenceSet = new HashSet<>();
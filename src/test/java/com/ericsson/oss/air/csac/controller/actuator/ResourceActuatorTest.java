@@ -17,10 +17,14 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.ericsson.oss.air.CsacEntryPoint;
+import java.util.Optional;
+
+import com.ericsson.oss.air.csac.handler.reload.ReloadJob;
+import com.ericsson.oss.air.csac.handler.reload.ReloadJobHandler;
 import com.ericsson.oss.air.csac.handler.reset.ResetConfigurationHandler;
 import com.ericsson.oss.air.csac.handler.status.ProvisioningTracker;
 import com.ericsson.oss.air.csac.model.runtime.ProvisioningState;
+import com.ericsson.oss.air.exception.CsacNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -28,12 +32,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 
 @ExtendWith(MockitoExtension.class)
 class ResourceActuatorTest {
 
     @Mock
-    private CsacEntryPoint csacEntryPoint;
+    private ReloadJobHandler reloadJobHandler;
 
     @Mock
     private ResetConfigurationHandler resetHandler;
@@ -50,19 +55,35 @@ class ResourceActuatorTest {
     }
 
     @Test
-    void reloadResources() throws Exception {
+    void reloadResources() {
+
+        final ReloadJob job = new ReloadJob();
+        when(this.reloadJobHandler.submit()).thenReturn(job);
 
-        assertEquals(HttpStatus.OK, this.testActuator.reloadResources().getStatusCode());
+        final ResponseEntity<ReloadJob> response = this.testActuator.reloadResources();
 
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals(job, response.getBody());
     }
 
     @Test
-    void reloadResources_provisioningStateConflict() throws Exception {
+    void getReloadJob() {
 
-        when(this.provisioningTracker.currentProvisioningState()).thenReturn(ProvisioningState.started());
+        final ReloadJob job = new ReloadJob();
+        when(this.reloadJobHandler.getJob(job.getId())).thenReturn(Optional.of(job));
+
+        final ResponseEntity<ReloadJob> response = this.testActuator.getReloadJob(job.getId());
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(job, response.getBody());
+    }
+
+    @Test
+    void getReloadJob_notFound() {
 
-        assertThrows(UnsupportedOperationException.class, () -> this.testActuator.reloadResources());
+        when(this.reloadJobHandler.getJob("unknown")).thenReturn(Optional.empty());
 
+        assertThrows(CsacNotFoundException.class, () -> this.testActuator.getReloadJob("unknown"));
     }
 
     @Test
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.ericsson.oss.air.csac.configuration.ResourceProperties;
+import com.ericsson.oss.air.csac.handler.reload.ReloadJob;
+import com.ericsson.oss.air.csac.handler.reload.ReloadJobHandler;
+import com.ericsson.oss.air.exception.CsacValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceDirectoryWatcherTest {
+
+    private static final long DEBOUNCE_MILLIS = 500L;
+
+    @TempDir
+    private Path resourceDirectory;
+
+    @Mock
+    private ResourceProperties resourceProperties;
+
+    @Mock
+    private ReloadJobHandler reloadJobHandler;
+
+    private ResourceDirectoryWatcher resourceDirectoryWatcher;
+
+    @BeforeEach
+    void setUp() throws Exception {
+
+        when(this.resourceProperties.getResourcePath()).thenReturn(this.resourceDirectory);
+
+        this.resourceDirectoryWatcher = new ResourceDirectoryWatcher(this.resourceProperties, this.reloadJobHandler);
+        this.resourceDirectoryWatcher.setDebounceMillis(DEBOUNCE_MILLIS);
+        this.resourceDirectoryWatcher.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        this.resourceDirectoryWatcher.destroy();
+    }
+
+    @Test
+    void watch_changesDebounced() throws Exception {
+
+        when(this.reloadJobHandler.submit(true)).thenReturn(new ReloadJob());
+
+        Files.writeString(this.resourceDirectory.resolve("custom_1.json"), "{}");
+        Files.writeString(this.resourceDirectory.resolve("custom_2.json"), "{}");
+        Files.writeString(this.resourceDirectory.resolve("custom_1.json"), "{ }");
+
+        verify(this.reloadJobHandler, timeout(10000).times(1)).submit(true);
+        verify(this.reloadJobHandler, after(2 * DEBOUNCE_MILLIS).times(1)).submit(true);
+
+        Files.delete(this.resourceDirectory.resolve("custom_2.json"));
+
+        verify(this.reloadJobHandler, timeout(10000).times(2)).submit(true);
+    }
+
+    @Test
+    void setDebounceMillis() {
+
+        assertEquals(DEBOUNCE_MILLIS, this.resourceDirectoryWatcher.getDebounceMillis());
+
+        assertThrows(CsacValidationException.class, () -> this.resourceDirectoryWatcher.setDebounceMillis(0L));
+        assertThrows(CsacValidationException.class, () -> this.resourceDirectoryWatcher.setDebounceMillis(null));
+    }
+}
@@ -11,6 +11,7 @@
 package com.ericsson.oss.air.csac.handler;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.File;
@@ -39,6 +40,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.ResourceUtils;
 
 @ActiveProfiles("test")
@@ -290,4 +292,114 @@ class ResourceSubmissionHandlerTest {
 
         assertEquals(expectedOrderedNames, orderedList.stream().map(Path::toString).collect(Collectors.toList()));
     }
+
+    @Test
+    void getResourceFingerprint() throws Exception {
+
+        final Map<String, String> fixtureMap = new HashMap<>();
+        fixtureMap.put(CUSTOM_FILE_NAME_1, VALID_FILE_CONTENTS_PM_ONLY);
+        fixtureMap.put(CUSTOM_FILE_NAME_2, VALID_FILE_CONTENTS_KPI_ONLY);
+        createResourceFiles(fixtureMap);
+
+        final List<Path> resources = this.resourceSubmissionHandler.getOrderedResourceList();
+
+        final String fingerprint = this.resourceSubmissionHandler.getResourceFingerprint(resources);
+
+        assertEquals(64, fingerprint.length());
+        assertEquals(fingerprint, this.resourceSubmissionHandler.getResourceFingerprint(resources));
+
+        // order is significant
+        assertNotEquals(fingerprint, this.resourceSubmissionHandler.getResourceFingerprint(List.of(resources.get(1), resources.get(0))));
+
+        // a removed file changes the fingerprint
+        assertNotEquals(fingerprint, this.resourceSubmissionHandler.getResourceFingerprint(List.of(resources.get(0))));
+
+        // modified content changes the fingerprint
+        Files.writeString(resources.get(1), VALID_FILE_CONTENTS_1);
+        assertNotEquals(fingerprint, this.resourceSubmissionHandler.getResourceFingerprint(resources));
+    }
+
+    @Test
+    void getResourceFingerprint_renamedFile() throws Exception {
+
+        final List<Path> resources = createResourceFiles(Map.of(CUSTOM_FILE_NAME_1, VALID_FILE_CONTENTS_PM_ONLY));
+        final String fingerprint = this.resourceSubmissionHandler.getResourceFingerprint(resources);
+
+        final Path renamed = Files.move(resources.get(0), resources.get(0).resolveSibling(CUSTOM_FILE_NAME_2));
+
+        assertNotEquals(fingerprint, this.resourceSubmissionHandler.getResourceFingerprint(List.of(renamed)));
+    }
+
+    @Test
+    void getResourceFingerprint_provisioningTargetEnabled() throws Exception {
+
+        final List<Path> resources = createResourceFiles(Map.of(CUSTOM_FILE_NAME_1, VALID_FILE_CONTENTS_PM_ONLY));
+        final String fingerprint = this.resourceSubmissionHandler.getResourceFingerprint(resources);
+
+        ReflectionTestUtils.setField(this.resourceSubmissionHandler, "isIndexEnabled", true);
+
+        assertNotEquals(fingerprint, this.resourceSubmissionHandler.getResourceFingerprint(resources));
+    }
+
+    @Test
+    void getResourceFingerprint_defaultAggregationPeriodChanged() throws Exception {
+
+        final List<Path> resources = createResourceFiles(Map.of(CUSTOM_FILE_NAME_1, VALID_FILE_CONTENTS_PM_ONLY));
+
+        ReflectionTestUtils.setField(this.resourceSubmissionHandler, "defaultAggregationPeriod", 15);
+        final String fingerprint = this.resourceSubmissionHandler.getResourceFingerprint(resources);
+
+        ReflectionTestUtils.setField(this.resourceSubmissionHandler, "defaultAggregationPeriod", 60);
+
+        assertNotEquals(fingerprint, this.resourceSubmissionHandler.getResourceFingerprint(resources));
+    }
+
+    @Test
+    void getResourceFingerprint_dataReliabilityOffsetChanged() throws Exception {
+
+        final List<Path> resources = createResourceFiles(Map.of(CUSTOM_FILE_NAME_1, VALID_FILE_CONTENTS_PM_ONLY));
+        final String fingerprint = this.resourceSubmissionHandler.getResourceFingerprint(resources);
+
+        ReflectionTestUtils.setField(this.resourceSubmissionHandler, "dataReliabilityOffset", 5);
+
+        assertNotEquals(fingerprint, this.resourceSubmissionHandler.getResourceFingerprint(resources));
+    }
+
+    @Test
+    void getResourceFingerprint_applicationUpgraded() throws Exception {
+
+        final List<Path> resources = createResourceFiles(Map.of(CUSTOM_FILE_NAME_1, VALID_FILE_CONTENTS_PM_ONLY));
+
+        ReflectionTestUtils.setField(this.resourceSubmissionHandler, "applicationVersion", "1.0.0");
+        final String fingerprint = this.resourceSubmissionHandler.getResourceFingerprint(resources);
+
+        ReflectionTestUtils.setField(this.resourceSubmissionHandler, "applicationVersion", "1.1.0");
+
+        assertNotEquals(fingerprint, this.resourceSubmissionHandler.getResourceFingerprint(resources));
+    }
+
+    @Test
+    void getContentDigests() throws Exception {
+
+        final Map<String, String> fixtureMap = new HashMap<>();
+        fixtureMap.put(CUSTOM_FILE_NAME_1, VALID_FILE_CONTENTS_PM_ONLY);
+        fixtureMap.put(CUSTOM_FILE_NAME_2, VALID_FILE_CONTENTS_KPI_ONLY);
+        createResourceFiles(fixtureMap);
+
+        final List<Path> resources = this.resourceSubmissionHandler.getOrderedResourceList();
+
+        final Map<Path, String> contentDigests = this.resourceSubmissionHandler.getContentDigests(resources);
+
+        assertEquals(resources, new ArrayList<>(contentDigests.keySet()));
+        assertEquals(64, contentDigests.get(resources.get(0)).length());
+        assertEquals(this.resourceSubmissionHandler.getResourceFingerprint(resources),
+                this.resourceSubmissionHandler.getResourceFingerprint(contentDigests));
+
+        // only the digest of the modified file changes
+        Files.writeString(resources.get(1), VALID_FILE_CONTENTS_1);
+        final Map<Path, String> updatedDigests = this.resourceSubmissionHandler.getContentDigests(resources);
+
+        assertEquals(contentDigests.get(resources.get(0)), updatedDigests.get(resources.get(0)));
+        assertNotEquals(contentDigests.get(resources.get(1)), updatedDigests.get(resources.get(1)));
+    }
 }
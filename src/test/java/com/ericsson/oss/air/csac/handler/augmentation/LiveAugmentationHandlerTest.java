@@ -39,9 +39,9 @@ import com.ericsson.oss.air.csac.model.augmentation.AugmentationRuleRequestDto;
 import com.ericsson.oss.air.csac.repository.AugmentationDefinitionDAO;
 import com.ericsson.oss.air.csac.repository.EffectiveAugmentationDAO;
 import com.ericsson.oss.air.csac.service.augmentation.AugmentationProvisioningService;
+import com.ericsson.oss.air.csac.service.augmentation.AugmentationSchemaMappingCache;
 import com.ericsson.oss.air.exception.CsacConsistencyCheckException;
 import com.ericsson.oss.air.exception.CsacValidationException;
-import com.ericsson.oss.air.util.codec.Codec;
 import com.ericsson.oss.air.util.logging.FaultHandler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -221,12 +221,13 @@ public class LiveAugmentationHandlerTest {
     @Mock
     private AugmentationProvisioningService provisioningService;
 
+    @Mock
+    private AugmentationSchemaMappingCache schemaMappingCache;
+
     private final FaultHandler faultHandler = new FaultHandler();
 
     private final AugmentationDiffCalculator calculator = new AugmentationDiffCalculator();
 
-    private final Codec codec = new Codec();
-
     private ListAppender<ILoggingEvent> listAppender;
 
     @InjectMocks
@@ -240,8 +241,8 @@ public class LiveAugmentationHandlerTest {
                 faultHandler,
                 calculator,
                 provisioningService,
-                codec,
-                consistencyCheckHandler);
+                consistencyCheckHandler,
+                schemaMappingCache);
 
         final Logger logger = (Logger) LoggerFactory.getLogger(LiveAugmentationHandler.class);
         logger.setLevel(Level.INFO);
@@ -530,6 +531,7 @@ public class LiveAugmentationHandlerTest {
 
         verify(effectiveAugmentationDAO, times(1)).save(augDefinition1, List.of(profileDefinition1.getName()));
         verify(effectiveAugmentationDAO, times(1)).save(augDefinition2, List.of(profileDefinition2.getName()));
+        verify(schemaMappingCache, times(1)).invalidate(List.of(augDefinition1.getName(), augDefinition2.getName()));
         //assert number of augmentations created from log messages.
         assertEquals(2, this.listAppender.list.get(0).getArgumentArray()[0]);
     }
@@ -581,6 +583,7 @@ public class LiveAugmentationHandlerTest {
 
         verify(effectiveAugmentationDAO, times(1)).save(augDefinition1, List.of(profileDefinition1.getName()));
         verify(effectiveAugmentationDAO, times(1)).save(augDefinition2, List.of(profileDefinition2.getName()));
+        verify(schemaMappingCache, times(1)).invalidate(List.of(augDefinition1.getName(), augDefinition2.getName()));
         //assert number of augmentations created from log messages.
         assertEquals(2, this.listAppender.list.get(0).getArgumentArray()[0]);
     }
@@ -629,6 +632,7 @@ public class LiveAugmentationHandlerTest {
 
         verify(effectiveAugmentationDAO, times(1)).delete(augDefinition1.getName());
         verify(effectiveAugmentationDAO, times(1)).delete(augDefinition2.getName());
+        verify(schemaMappingCache, times(1)).invalidate(List.of(augDefinition1.getName(), augDefinition2.getName()));
         //assert number of augmentations created from log messages.
         assertEquals(2, this.listAppender.list.get(0).getArgumentArray()[0]);
     }
@@ -48,6 +48,7 @@ import com.ericsson.oss.air.csac.repository.KPIDefinitionDAO;
 import com.ericsson.oss.air.csac.service.index.IndexerProvisioningService;
 import com.ericsson.oss.air.exception.CsacConsistencyCheckException;
 import com.ericsson.oss.air.util.codec.Codec;
+import com.ericsson.oss.air.util.codec.ContentDigest;
 import com.ericsson.oss.air.util.operator.StatefulSequentialOperator;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
@@ -460,7 +461,7 @@ class LiveIndexProvisioningHandlerTest {
 
         final DeployedIndexDefinitionDto expected = CODEC.readValue(validIndexDefinitionStr, DeployedIndexDefinitionDto.class);
 
-        when(this.indexDefinitionDao.findById(anyString())).thenReturn(Optional.of(expected));
+        when(this.indexDefinitionDao.findDigestById(anyString())).thenReturn(Optional.of(ContentDigest.of(expected)));
 
         assertEquals(ServiceUpdateHandler.ServiceUpdateType.NO_OP, ((LiveIndexProvisioningHandler) this.testHandler).getUpdateType(expected));
     }
@@ -470,7 +471,7 @@ class LiveIndexProvisioningHandlerTest {
 
         final DeployedIndexDefinitionDto expected = CODEC.readValue(validIndexDefinitionStr, DeployedIndexDefinitionDto.class);
 
-        when(this.indexDefinitionDao.findById(anyString())).thenReturn(Optional.empty());
+        when(this.indexDefinitionDao.findDigestById(anyString())).thenReturn(Optional.empty());
 
         assertEquals(ServiceUpdateHandler.ServiceUpdateType.CREATE, ((LiveIndexProvisioningHandler) this.testHandler).getUpdateType(expected));
     }
@@ -483,7 +484,7 @@ class LiveIndexProvisioningHandlerTest {
         final DeployedIndexDefinitionDto existing = CODEC.readValue(validIndexDefinitionStr, DeployedIndexDefinitionDto.class);
         existing.indexDefinitionName("otherIndex");
 
-        when(this.indexDefinitionDao.findById(anyString())).thenReturn(Optional.of(existing));
+        when(this.indexDefinitionDao.findDigestById(anyString())).thenReturn(Optional.of(ContentDigest.of(existing)));
 
         assertEquals(ServiceUpdateHandler.ServiceUpdateType.UPDATE, ((LiveIndexProvisioningHandler) this.testHandler).getUpdateType(expected));
     }
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.handler.plan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import com.ericsson.oss.air.csac.handler.reload.ReloadStage;
+import com.ericsson.oss.air.exception.CsacValidationException;
+import com.ericsson.oss.air.util.codec.Codec;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ConfigurableApplicationContext;
+
+@ExtendWith(MockitoExtension.class)
+class PlanRunnerTest {
+
+    private static final ProvisioningPlan PLAN = ProvisioningPlan.builder()
+            .statistics(PlanStatistics.builder().resourceFiles(1).stageMillis(Map.of(ReloadStage.LOADING, 5L)).totalMillis(5L).build())
+            .runtimeKpis(List.of())
+            .outputTables(List.of())
+            .augmentations(List.of())
+            .indexes(List.of())
+            .build();
+
+    @TempDir
+    private Path outputDirectory;
+
+    @Mock
+    private ProvisioningPlanner provisioningPlanner;
+
+    @Mock
+    private ConfigurableApplicationContext applicationContext;
+
+    private PlanRunner planRunner;
+
+    @BeforeEach
+    void setUp() {
+        this.planRunner = new PlanRunner(this.provisioningPlanner, new Codec(), this.applicationContext);
+    }
+
+    @Test
+    void execute_planWrittenToFile() throws Exception {
+
+        final Path outputFile = this.outputDirectory.resolve("plan.json");
+        this.planRunner.setOutput(outputFile.toString());
+
+        when(this.provisioningPlanner.plan()).thenReturn(PLAN);
+
+        assertEquals(PlanRunner.EXIT_SUCCESS, this.planRunner.execute());
+
+        final JsonNode plan = new ObjectMapper().readTree(outputFile.toFile());
+
+        assertEquals(1, plan.get("statistics").get("resourceFiles").asInt());
+        assertEquals(5, plan.get("statistics").get("stageMillis").get("LOADING").asInt());
+        assertEquals(0, plan.get("runtimeKpis").size());
+    }
+
+    @Test
+    void execute_planWrittenToStandardOutput() throws Exception {
+
+        final ByteArrayOutputStream standardOutput = new ByteArrayOutputStream();
+        this.planRunner.setStandardOutput(standardOutput);
+
+        when(this.provisioningPlanner.plan()).thenReturn(PLAN);
+
+        assertEquals(PlanRunner.EXIT_SUCCESS, this.planRunner.execute());
+
+        // the stream contains only the plan
+        final JsonNode plan = new ObjectMapper().readTree(standardOutput.toByteArray());
+
+        assertEquals(1, plan.get("statistics").get("resourceFiles").asInt());
+        assertEquals(0, plan.get("runtimeKpis").size());
+    }
+
+    @Test
+    void execute_invalidResources_failureExitCode() throws Exception {
+
+        final Path outputFile = this.outputDirectory.resolve("plan.json");
+        this.planRunner.setOutput(outputFile.toString());
+
+        when(this.provisioningPlanner.plan()).thenThrow(CsacValidationException.class);
+
+        assertEquals(PlanRunner.EXIT_FAILURE, this.planRunner.execute());
+        assertFalse(Files.exists(outputFile));
+    }
+}
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.handler.plan;
+
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.DEPLOYED_COMPLEX_KPI_OBJ;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.DEPLOYED_INDEX_DEFINITION_DTO_A;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.DEPLOYED_SIMPLE_KPI_OBJ;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.DEPLOYED_SIMPLE_KPI_OBJ_2;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_AUGMENTATION_DEF_OBJ;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.ericsson.oss.air.CsacEntryPoint;
+import com.ericsson.oss.air.csac.handler.ResourceSubmissionHandler;
+import com.ericsson.oss.air.csac.handler.plan.ProvisioningPlan.OutputTable;
+import com.ericsson.oss.air.csac.handler.reload.ReloadStage;
+import com.ericsson.oss.air.csac.model.pmsc.KpiDefinitionDTO;
+import com.ericsson.oss.air.csac.model.pmsc.KpiTypeEnum;
+import com.ericsson.oss.air.csac.model.runtime.RuntimeKpiInstance;
+import com.ericsson.oss.air.csac.repository.AugmentationDefinitionDAO;
+import com.ericsson.oss.air.csac.repository.DeployedIndexDefinitionDao;
+import com.ericsson.oss.air.csac.repository.DeployedKpiDefDAO;
+import com.ericsson.oss.air.csac.repository.EffectiveAugmentationDAO;
+import com.ericsson.oss.air.csac.repository.KPIDefinitionDAO;
+import com.ericsson.oss.air.csac.repository.PMDefinitionDAO;
+import com.ericsson.oss.air.csac.repository.ProfileDefinitionDAO;
+import com.ericsson.oss.air.exception.CsacValidationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ProvisioningPlannerTest {
+
+    @Mock
+    private CsacEntryPoint csacEntryPoint;
+
+    @Mock
+    private ResourceSubmissionHandler resourceSubmissionHandler;
+
+    @Mock
+    private PMDefinitionDAO pmDefinitionDAO;
+
+    @Mock
+    private KPIDefinitionDAO kpiDefinitionDAO;
+
+    @Mock
+    private ProfileDefinitionDAO profileDefinitionDAO;
+
+    @Mock
+    private AugmentationDefinitionDAO augmentationDefinitionDAO;
+
+    @Mock
+    private DeployedKpiDefDAO deployedKpiDefDAO;
+
+    @Mock
+    private EffectiveAugmentationDAO effectiveAugmentationDAO;
+
+    @Mock
+    private DeployedIndexDefinitionDao deployedIndexDefinitionDao;
+
+    @InjectMocks
+    private ProvisioningPlanner provisioningPlanner;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void plan() throws Exception {
+
+        // copies are used as the KPI alias is generated and cached on first use
+        final KpiDefinitionDTO simpleKpi = DEPLOYED_SIMPLE_KPI_OBJ.toBuilder().build();
+        final KpiDefinitionDTO simpleKpiSameTable = DEPLOYED_SIMPLE_KPI_OBJ.toBuilder().withName("csac_simple_kpi_same_table").build();
+        final KpiDefinitionDTO simpleKpiOtherTable = DEPLOYED_SIMPLE_KPI_OBJ_2.toBuilder().build();
+        final KpiDefinitionDTO complexKpi = DEPLOYED_COMPLEX_KPI_OBJ.toBuilder().build();
+        final List<KpiDefinitionDTO> deployedKpis = List.of(simpleKpi, simpleKpiSameTable, simpleKpiOtherTable, complexKpi);
+        final List<RuntimeKpiInstance> runtimeKpis = deployedKpis.stream()
+                .map(kpi -> RuntimeKpiInstance.builder().withInstanceId(kpi.getName()).withRuntimeDefinition(kpi).build())
+                .toList();
+
+        doAnswer(invocation -> {
+            final Consumer<ReloadStage> stageListener = invocation.getArgument(0);
+            List.of(ReloadStage.values()).forEach(stageListener);
+            return null;
+        }).when(this.csacEntryPoint).startProvisioning(any(Consumer.class));
+
+        when(this.resourceSubmissionHandler.getOrderedResourceList()).thenReturn(List.of(Path.of("oob.json"), Path.of("custom.json")));
+        when(this.pmDefinitionDAO.getAllPmDefNames()).thenReturn(Set.of("pm1", "pm2", "pm3"));
+        when(this.kpiDefinitionDAO.getAllKpiDefNames()).thenReturn(Set.of("kpi1", "kpi2"));
+        when(this.profileDefinitionDAO.totalProfileDefinitions()).thenReturn(1);
+        when(this.augmentationDefinitionDAO.totalAugmentationDefinitions()).thenReturn(1);
+        when(this.deployedKpiDefDAO.findAllRuntimeKpis()).thenReturn(runtimeKpis);
+        when(this.deployedKpiDefDAO.getAllDeployedKpis()).thenReturn(deployedKpis);
+        when(this.effectiveAugmentationDAO.findAll()).thenReturn(List.of(VALID_AUGMENTATION_DEF_OBJ));
+        when(this.deployedIndexDefinitionDao.findAll()).thenReturn(List.of(DEPLOYED_INDEX_DEFINITION_DTO_A));
+
+        final ProvisioningPlan plan = this.provisioningPlanner.plan();
+
+        assertEquals(runtimeKpis, plan.getRuntimeKpis());
+        assertEquals(List.of(VALID_AUGMENTATION_DEF_OBJ), plan.getAugmentations());
+        assertEquals(List.of(DEPLOYED_INDEX_DEFINITION_DTO_A), plan.getIndexes());
+
+        assertEquals(List.of(
+                new OutputTable(simpleKpi.getFactTableName(), KpiTypeEnum.SIMPLE, List.of(simpleKpi.getName(), simpleKpiSameTable.getName())),
+                new OutputTable(simpleKpiOtherTable.getFactTableName(), KpiTypeEnum.SIMPLE, List.of(simpleKpiOtherTable.getName())),
+                new OutputTable(complexKpi.getFactTableName(), KpiTypeEnum.COMPLEX, List.of(complexKpi.getName()))),
+                plan.getOutputTables());
+
+        final PlanStatistics statistics = plan.getStatistics();
+
+        assertEquals(2, statistics.getResourceFiles());
+        assertEquals(3, statistics.getPmDefinitions());
+        assertEquals(2, statistics.getKpiDefinitions());
+        assertEquals(1, statistics.getProfileDefinitions());
+        assertEquals(1, statistics.getAugmentationDefinitions());
+        assertEquals(4, statistics.getRuntimeKpis());
+        assertEquals(3, statistics.getOutputTables());
+        assertEquals(2, statistics.getMaxTableFanOut());
+        assertEquals(4.0 / 3, statistics.getMeanTableFanOut());
+        assertEquals(1, statistics.getAugmentations());
+        assertEquals(1, statistics.getIndexes());
+        assertEquals(DEPLOYED_INDEX_DEFINITION_DTO_A.indexWriters().size(), statistics.getIndexWriters());
+        assertEquals(Set.of(ReloadStage.values()), statistics.getStageMillis().keySet());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void plan_invalidResources_exceptionThrown() throws Exception {
+
+        doThrow(CsacValidationException.class).when(this.csacEntryPoint).startProvisioning(any(Consumer.class));
+
+        assertThrows(CsacValidationException.class, () -> this.provisioningPlanner.plan());
+    }
+}
@@ -15,22 +15,40 @@ import static com.ericsson.oss.air.csac.model.TestResourcesUtils.DEPLOYED_SIMPLE
 import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_PROFILE_DEF_OBJ;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.ericsson.oss.air.csac.handler.event.ConsistencyCheckEvent;
 import com.ericsson.oss.air.csac.handler.event.ConsistencyCheckHandler;
+import com.ericsson.oss.air.csac.handler.pmsc.transform.KpiSubmissionPlanner;
 import com.ericsson.oss.air.csac.handler.pmsc.transform.KpiSubmissionTransformer;
+import com.ericsson.oss.air.csac.model.pmsc.AggregationPeriod;
+import com.ericsson.oss.air.csac.model.pmsc.ComplexKpiOutputTableDto;
+import com.ericsson.oss.air.csac.model.pmsc.ComplexPmscKpiDefinitionDto;
 import com.ericsson.oss.air.csac.model.pmsc.KpiDefinitionDTOWithRelationship;
+import com.ericsson.oss.air.csac.model.pmsc.KpiOutputTableDto;
+import com.ericsson.oss.air.csac.model.pmsc.KpiOutputTableListDto;
+import com.ericsson.oss.air.csac.model.pmsc.KpiSubmissionDto;
+import com.ericsson.oss.air.csac.model.pmsc.SimpleKpiOutputTableDto;
+import com.ericsson.oss.air.csac.model.pmsc.SimplePmscKpiDefinitionDto;
 import com.ericsson.oss.air.csac.repository.DeployedProfileDAO;
+import com.ericsson.oss.air.csac.repository.cache.KpiOutputTableDigestCache;
 import com.ericsson.oss.air.csac.repository.cache.ResolvedKpiCache;
 import com.ericsson.oss.air.csac.service.kpi.pmsc.PmscRestClient;
 import com.ericsson.oss.air.csac.service.kpi.pmsc.legacy.PMSCRestClient;
 import com.ericsson.oss.air.exception.CsacConsistencyCheckException;
+import com.ericsson.oss.air.exception.CsacInternalErrorException;
+import com.ericsson.oss.air.exception.CsacValidationException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -42,6 +60,27 @@ import org.springframework.test.util.ReflectionTestUtils;
 @ExtendWith(MockitoExtension.class)
 class LiveProvisionerTest {
 
+    private static final KpiOutputTableDto SIMPLE_TABLE_1 = createSimpleTable("simple_1");
+
+    private static final KpiOutputTableDto SIMPLE_TABLE_2 = createSimpleTable("simple_2");
+
+    private static final KpiOutputTableDto COMPLEX_TABLE = ComplexKpiOutputTableDto.customComplexKpiOutputTableDtoBuilder()
+            .aggregationPeriod(AggregationPeriod.FIFTEEN)
+            .alias("complex_1")
+            .aggregationElements(List.of("snssai"))
+            .kpiDefinitions(List.of(ComplexPmscKpiDefinitionDto.builder()
+                    .name("complex_kpi")
+                    .expression("SUM(kpi_simple_1_15.simple_kpi) FROM kpi_db://kpi_simple_1_15")
+                    .objectType("FLOAT")
+                    .aggregationType("SUM")
+                    .build()))
+            .build();
+
+    private static final KpiSubmissionDto KPI_SUBMISSION = KpiSubmissionDto.builder()
+            .scheduledSimple(new KpiOutputTableListDto(List.of(SIMPLE_TABLE_1, SIMPLE_TABLE_2)))
+            .scheduledComplex(new KpiOutputTableListDto(List.of(COMPLEX_TABLE)))
+            .build();
+
     private LiveProvisioner liveProvisioner;
 
     @Mock
@@ -62,11 +101,20 @@ class LiveProvisionerTest {
     @Mock
     private ConsistencyCheckHandler consistencyCheckHandler;
 
+    private KpiSubmissionPlanner kpiSubmissionPlanner;
+
     @BeforeEach
     void setUp() {
-        this.liveProvisioner = new LiveProvisioner(this.deployedProfileDAO, this.kpiSubmissionTransformer, this.legacyRestClient,
-                this.pmscRestClient, this.resolvedKpiCache, this.consistencyCheckHandler);
+        this.kpiSubmissionPlanner = new KpiSubmissionPlanner();
+        this.liveProvisioner = new LiveProvisioner(this.deployedProfileDAO, this.kpiSubmissionTransformer, this.kpiSubmissionPlanner,
+                new KpiOutputTableDigestCache(), this.legacyRestClient, this.pmscRestClient, this.resolvedKpiCache, this.consistencyCheckHandler);
         ReflectionTestUtils.setField(this.liveProvisioner, "isLegacyPmscClient", true);
+        this.liveProvisioner.setParallelism(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.liveProvisioner.destroy();
     }
 
     @Test
@@ -139,4 +187,123 @@ class LiveProvisionerTest {
         assertEquals(ConsistencyCheckEvent.Payload.Type.SUSPECT, payloadArgumentCaptor.getValue().getType());
         assertEquals(1, payloadArgumentCaptor.getValue().getCount());
     }
+
+    @Test
+    void provision_newPmscClient_submittedInChunks() {
+
+        ReflectionTestUtils.setField(this.liveProvisioner, "isLegacyPmscClient", false);
+        this.kpiSubmissionPlanner.setMaxChunkSize(1);
+
+        when(this.kpiSubmissionTransformer.apply(any())).thenReturn(KPI_SUBMISSION);
+
+        final List<KpiDefinitionDTOWithRelationship> kpi = List.of(
+                new KpiDefinitionDTOWithRelationship(DEPLOYED_SIMPLE_KPI_OBJ, "name", VALID_PROFILE_DEF_OBJ));
+
+        this.liveProvisioner.provision(kpi, List.of(VALID_PROFILE_DEF_OBJ));
+
+        final ArgumentCaptor<KpiSubmissionDto> chunkCaptor = ArgumentCaptor.forClass(KpiSubmissionDto.class);
+        verify(this.pmscRestClient, times(3)).create(chunkCaptor.capture());
+
+        final List<KpiSubmissionDto> chunks = chunkCaptor.getAllValues();
+
+        // the simple chunks are submitted concurrently, in any order, before the complex chunk
+        assertEquals(Set.of(createSimpleChunk(SIMPLE_TABLE_1), createSimpleChunk(SIMPLE_TABLE_2)), Set.of(chunks.get(0), chunks.get(1)));
+        assertEquals(KpiSubmissionDto.builder().scheduledComplex(new KpiOutputTableListDto(List.of(COMPLEX_TABLE))).build(), chunks.get(2));
+
+        verify(this.deployedProfileDAO, times(1)).insertProfileDefinitions(any());
+    }
+
+    @Test
+    void provision_newPmscClient_failedChunk() {
+
+        ReflectionTestUtils.setField(this.liveProvisioner, "isLegacyPmscClient", false);
+        this.kpiSubmissionPlanner.setMaxChunkSize(1);
+
+        when(this.kpiSubmissionTransformer.apply(any())).thenReturn(KPI_SUBMISSION);
+        doThrow(new CsacInternalErrorException("test")).doNothing().when(this.pmscRestClient).create(any());
+
+        final List<KpiDefinitionDTOWithRelationship> kpi = List.of(
+                new KpiDefinitionDTOWithRelationship(DEPLOYED_SIMPLE_KPI_OBJ, "name", VALID_PROFILE_DEF_OBJ));
+
+        assertThrows(CsacInternalErrorException.class, () -> this.liveProvisioner.provision(kpi, List.of(VALID_PROFILE_DEF_OBJ)));
+
+        // the other chunk in the failed stage is still submitted, but the next stage is not
+        verify(this.pmscRestClient, times(2)).create(any());
+        verify(this.deployedProfileDAO, times(0)).insertProfileDefinitions(any());
+    }
+
+    @Test
+    void provision_newPmscClient_unchangedTablesSkipped() {
+
+        ReflectionTestUtils.setField(this.liveProvisioner, "isLegacyPmscClient", false);
+        this.kpiSubmissionPlanner.setMaxChunkSize(1);
+
+        when(this.kpiSubmissionTransformer.apply(any())).thenReturn(KPI_SUBMISSION);
+        doThrow(new CsacInternalErrorException("test")).doNothing().when(this.pmscRestClient).create(any());
+
+        final List<KpiDefinitionDTOWithRelationship> kpi = List.of(
+                new KpiDefinitionDTOWithRelationship(DEPLOYED_SIMPLE_KPI_OBJ, "name", VALID_PROFILE_DEF_OBJ));
+
+        assertThrows(CsacInternalErrorException.class, () -> this.liveProvisioner.provision(kpi, List.of(VALID_PROFILE_DEF_OBJ)));
+
+        // only the failed simple table and the complex table are submitted again
+        this.liveProvisioner.provision(kpi, List.of(VALID_PROFILE_DEF_OBJ));
+        verify(this.pmscRestClient, times(4)).create(any());
+
+        // nothing has changed since the last submission
+        this.liveProvisioner.provision(kpi, List.of(VALID_PROFILE_DEF_OBJ));
+        verify(this.pmscRestClient, times(4)).create(any());
+        verify(this.deployedProfileDAO, times(2)).insertProfileDefinitions(any());
+    }
+
+    @Test
+    void provision_newPmscClient_sharedPool() {
+
+        ReflectionTestUtils.setField(this.liveProvisioner, "isLegacyPmscClient", false);
+        this.kpiSubmissionPlanner.setMaxChunkSize(1);
+        this.liveProvisioner.setParallelism(2);
+
+        when(this.kpiSubmissionTransformer.apply(any())).thenReturn(KPI_SUBMISSION);
+
+        final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> threadNames.add(Thread.currentThread().getName())).when(this.pmscRestClient).create(any());
+
+        final List<KpiDefinitionDTOWithRelationship> kpi = List.of(
+                new KpiDefinitionDTOWithRelationship(DEPLOYED_SIMPLE_KPI_OBJ, "name", VALID_PROFILE_DEF_OBJ));
+
+        this.liveProvisioner.provision(kpi, List.of(VALID_PROFILE_DEF_OBJ));
+
+        // the concurrent simple chunks are submitted on the bounded pool, the single complex chunk on the calling thread
+        assertTrue(threadNames.contains(Thread.currentThread().getName()));
+        assertTrue(threadNames.stream().filter(name -> name.startsWith("csac-pmsc-submission-")).count() <= 2);
+        assertTrue(threadNames.stream().anyMatch(name -> name.startsWith("csac-pmsc-submission-")));
+    }
+
+    @Test
+    void setParallelism() {
+
+        assertEquals(4, this.liveProvisioner.getParallelism());
+
+        assertThrows(CsacValidationException.class, () -> this.liveProvisioner.setParallelism(0));
+        assertThrows(CsacValidationException.class, () -> this.liveProvisioner.setParallelism(null));
+    }
+
+    private static KpiOutputTableDto createSimpleTable(final String alias) {
+        return SimpleKpiOutputTableDto.customSimpleKpiOutputTableDtoBuilder()
+                .aggregationPeriod(AggregationPeriod.FIFTEEN)
+                .alias(alias)
+                .aggregationElements(List.of("snssai"))
+                .kpiDefinitions(List.of(SimplePmscKpiDefinitionDto.builder()
+                        .name("simple_kpi")
+                        .expression("SUM(pm_counter)")
+                        .objectType("FLOAT")
+                        .aggregationType("SUM")
+                        .build()))
+                .inputDataIdentifier("5G|PM_COUNTERS|schema")
+                .build();
+    }
+
+    private static KpiSubmissionDto createSimpleChunk(final KpiOutputTableDto table) {
+        return KpiSubmissionDto.builder().scheduledSimple(new KpiOutputTableListDto(List.of(table))).build();
+    }
 }
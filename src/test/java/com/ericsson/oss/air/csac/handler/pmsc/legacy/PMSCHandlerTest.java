@@ -31,9 +31,6 @@ import org.springframework.test.context.ActiveProfiles;
 import com.ericsson.oss.air.csac.model.ProfileDefinition;
 import com.ericsson.oss.air.csac.model.pmsc.KpiDefinitionDTOWithRelationship;
 import com.ericsson.oss.air.csac.service.KPICalculator;
-import com.ericsson.oss.air.util.codec.Codec;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.exc.InputCoercionException;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -45,14 +42,11 @@ class PMSCHandlerTest {
     @MockBean
     private KPICalculator kpiCalculator;
 
-    @MockBean
-    private Codec codec;
-
     private PMSCHandler pmscHandler;
 
     @BeforeEach
     void setUp() {
-        this.pmscHandler = new PMSCHandler(this.kpiCalculator, this.provisioner, this.codec);
+        this.pmscHandler = new PMSCHandler(this.kpiCalculator, this.provisioner);
     }
 
     @Test
@@ -90,9 +84,8 @@ class PMSCHandlerTest {
     }
 
     @Test
-    void submit_serializeException() throws JsonProcessingException {
+    void submit_noCalculatedKpis() {
 
-        when(this.codec.writeValueAsStringPretty(any())).thenThrow(new InputCoercionException(null, "my mock exception", null, null));
         when(this.kpiCalculator.calculateAffectedKPIs(any())).thenReturn(new ArrayList<>());
         final List<ProfileDefinition> defs = List.of(ProfileDefinition.builder().build());
         this.pmscHandler.submit(defs);
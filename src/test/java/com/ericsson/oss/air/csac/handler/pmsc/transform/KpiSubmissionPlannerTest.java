@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.handler.pmsc.transform;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import com.ericsson.oss.air.csac.model.pmsc.AggregationPeriod;
+import com.ericsson.oss.air.csac.model.pmsc.ComplexKpiOutputTableDto;
+import com.ericsson.oss.air.csac.model.pmsc.ComplexPmscKpiDefinitionDto;
+import com.ericsson.oss.air.csac.model.pmsc.KpiOutputTableDto;
+import com.ericsson.oss.air.csac.model.pmsc.KpiOutputTableListDto;
+import com.ericsson.oss.air.csac.model.pmsc.KpiSubmissionDto;
+import com.ericsson.oss.air.csac.model.pmsc.PmscKpiDefinitionDto;
+import com.ericsson.oss.air.csac.model.pmsc.SimpleKpiOutputTableDto;
+import com.ericsson.oss.air.csac.model.pmsc.SimplePmscKpiDefinitionDto;
+import com.ericsson.oss.air.exception.CsacValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class KpiSubmissionPlannerTest {
+
+    private KpiSubmissionPlanner kpiSubmissionPlanner;
+
+    @BeforeEach
+    void setUp() {
+        this.kpiSubmissionPlanner = new KpiSubmissionPlanner();
+        this.kpiSubmissionPlanner.setMaxChunkSize(3);
+    }
+
+    @Test
+    void plan_simpleTables_packedInChunks() {
+
+        final KpiOutputTableDto table1 = simpleTable("simple_1", 2);
+        final KpiOutputTableDto table2 = simpleTable("simple_2", 1);
+        final KpiOutputTableDto table3 = simpleTable("simple_3", 2);
+
+        final List<List<KpiSubmissionDto>> stages = this.kpiSubmissionPlanner.plan(
+                KpiSubmissionDto.builder().scheduledSimple(new KpiOutputTableListDto(List.of(table1, table2, table3))).build());
+
+        assertEquals(1, stages.size());
+        assertEquals(2, stages.get(0).size());
+        assertEquals(List.of(table1, table2), stages.get(0).get(0).getScheduledSimple().getKpiOutputTables());
+        assertEquals(List.of(table3), stages.get(0).get(1).getScheduledSimple().getKpiOutputTables());
+        assertNull(stages.get(0).get(0).getScheduledComplex());
+    }
+
+    @Test
+    void plan_oversizeTable_notSplit() {
+
+        final KpiOutputTableDto table1 = simpleTable("simple_1", 1);
+        final KpiOutputTableDto table2 = simpleTable("simple_2", 5);
+
+        final List<List<KpiSubmissionDto>> stages = this.kpiSubmissionPlanner.plan(
+                KpiSubmissionDto.builder().scheduledSimple(new KpiOutputTableListDto(List.of(table1, table2))).build());
+
+        assertEquals(1, stages.size());
+        assertEquals(List.of(table1), stages.get(0).get(0).getScheduledSimple().getKpiOutputTables());
+        assertEquals(List.of(table2), stages.get(0).get(1).getScheduledSimple().getKpiOutputTables());
+    }
+
+    @Test
+    void plan_complexTables_orderedByDependency() {
+
+        final KpiOutputTableDto simple = simpleTable("simple_1", 1);
+        final KpiOutputTableDto dependent = complexTable("complex_2", "SUM(kpi_complex_1_15.kpi_0) FROM kpi_db://kpi_complex_1_15");
+        final KpiOutputTableDto independent = complexTable("complex_1", "SUM(kpi_simple_1_15.kpi_0) FROM kpi_db://kpi_simple_1_15");
+        final KpiOutputTableDto unrelated = complexTable("complex_10", "SUM(kpi_complex_1_150.kpi_0) FROM kpi_db://kpi_complex_1_150");
+
+        final List<List<KpiSubmissionDto>> stages = this.kpiSubmissionPlanner.plan(KpiSubmissionDto.builder()
+                .scheduledSimple(new KpiOutputTableListDto(List.of(simple)))
+                .scheduledComplex(new KpiOutputTableListDto(List.of(dependent, independent, unrelated)))
+                .build());
+
+        assertEquals(3, stages.size());
+        assertEquals(List.of(simple), stages.get(0).get(0).getScheduledSimple().getKpiOutputTables());
+        assertEquals(List.of(independent, unrelated), stages.get(1).get(0).getScheduledComplex().getKpiOutputTables());
+        assertEquals(List.of(dependent), stages.get(2).get(0).getScheduledComplex().getKpiOutputTables());
+    }
+
+    @Test
+    void plan_circularDependency_singleChunk() {
+
+        final KpiOutputTableDto table1 = complexTable("complex_1", "SUM(kpi_complex_2_15.kpi_0) FROM kpi_db://kpi_complex_2_15", 2);
+        final KpiOutputTableDto table2 = complexTable("complex_2", "SUM(kpi_complex_1_15.kpi_0) FROM kpi_db://kpi_complex_1_15", 2);
+
+        final List<List<KpiSubmissionDto>> stages = this.kpiSubmissionPlanner.plan(
+                KpiSubmissionDto.builder().scheduledComplex(new KpiOutputTableListDto(List.of(table1, table2))).build());
+
+        assertEquals(1, stages.size());
+        assertEquals(1, stages.get(0).size());
+        assertEquals(List.of(table1, table2), stages.get(0).get(0).getScheduledComplex().getKpiOutputTables());
+    }
+
+    @Test
+    void plan_selfReference_notDependency() {
+
+        final KpiOutputTableDto table1 = complexTable("complex_1", "SUM(kpi_complex_1_15.kpi_0) FROM kpi_db://kpi_complex_1_15");
+        final KpiOutputTableDto table2 = complexTable("complex_2", "SUM(kpi_complex_1_15.kpi_0) FROM kpi_db://kpi_complex_1_15");
+
+        final List<List<KpiSubmissionDto>> stages = this.kpiSubmissionPlanner.plan(
+                KpiSubmissionDto.builder().scheduledComplex(new KpiOutputTableListDto(List.of(table2, table1))).build());
+
+        assertEquals(2, stages.size());
+        assertEquals(List.of(table1), stages.get(0).get(0).getScheduledComplex().getKpiOutputTables());
+        assertEquals(List.of(table2), stages.get(1).get(0).getScheduledComplex().getKpiOutputTables());
+    }
+
+    @Test
+    void plan_onDemandTables_lastStage() {
+
+        final KpiOutputTableListDto onDemand = new KpiOutputTableListDto(List.of(complexTable("on_demand_1", "SUM(a)", 5)));
+        final KpiOutputTableDto simple = simpleTable("simple_1", 1);
+
+        final List<List<KpiSubmissionDto>> stages = this.kpiSubmissionPlanner.plan(KpiSubmissionDto.builder()
+                .onDemand(onDemand)
+                .scheduledSimple(new KpiOutputTableListDto(List.of(simple)))
+                .build());
+
+        assertEquals(2, stages.size());
+        assertEquals(List.of(KpiSubmissionDto.builder().onDemand(onDemand).build()), stages.get(1));
+    }
+
+    @Test
+    void plan_emptySubmission() {
+        assertTrue(this.kpiSubmissionPlanner.plan(new KpiSubmissionDto()).isEmpty());
+    }
+
+    @Test
+    void setMaxChunkSize() {
+
+        assertEquals(3, this.kpiSubmissionPlanner.getMaxChunkSize());
+
+        assertThrows(CsacValidationException.class, () -> this.kpiSubmissionPlanner.setMaxChunkSize(0));
+        assertThrows(CsacValidationException.class, () -> this.kpiSubmissionPlanner.setMaxChunkSize(null));
+    }
+
+    private static KpiOutputTableDto simpleTable(final String alias, final int size) {
+
+        final List<PmscKpiDefinitionDto> kpiDefinitions = IntStream.range(0, size)
+                .mapToObj(i -> (PmscKpiDefinitionDto) SimplePmscKpiDefinitionDto.builder()
+                        .name("kpi_" + i)
+                        .expression("SUM(pm_counter)")
+                        .objectType("FLOAT")
+                        .aggregationType("SUM")
+                        .build())
+                .toList();
+
+        return SimpleKpiOutputTableDto.customSimpleKpiOutputTableDtoBuilder()
+                .aggregationPeriod(AggregationPeriod.FIFTEEN)
+                .alias(alias)
+                .aggregationElements(List.of("snssai"))
+                .kpiDefinitions(kpiDefinitions)
+                .inputDataIdentifier("5G|PM_COUNTERS|schema")
+                .build();
+    }
+
+    private static KpiOutputTableDto complexTable(final String alias, final String expression) {
+        return complexTable(alias, expression, 1);
+    }
+
+    private static KpiOutputTableDto complexTable(final String alias, final String expression, final int size) {
+
+        final List<PmscKpiDefinitionDto> kpiDefinitions = IntStream.range(0, size)
+                .mapToObj(i -> (PmscKpiDefinitionDto) ComplexPmscKpiDefinitionDto.builder()
+                        .name("kpi_" + i)
+                        .expression(expression)
+                        .objectType("FLOAT")
+                        .aggregationType("SUM")
+                        .executionGroup("csac_execution_group")
+                        .build())
+                .toList();
+
+        return ComplexKpiOutputTableDto.customComplexKpiOutputTableDtoBuilder()
+                .aggregationPeriod(AggregationPeriod.FIFTEEN)
+                .alias(alias)
+                .aggregationElements(List.of("snssai"))
+                .kpiDefinitions(kpiDefinitions)
+                .build();
+    }
+}
@@ -0,0 +1,384 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.handler.reconcile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.ericsson.oss.air.csac.handler.pmsc.transform.KpiSubmissionPlanner;
+import com.ericsson.oss.air.csac.handler.pmsc.transform.KpiSubmissionTransformer;
+import com.ericsson.oss.air.csac.handler.status.ProvisioningLock;
+import com.ericsson.oss.air.csac.handler.status.ProvisioningTracker;
+import com.ericsson.oss.air.csac.model.pmsc.AggregationPeriod;
+import com.ericsson.oss.air.csac.model.pmsc.KpiDefinitionDTO;
+import com.ericsson.oss.air.csac.model.pmsc.KpiOutputTableDto;
+import com.ericsson.oss.air.csac.model.pmsc.KpiOutputTableListDto;
+import com.ericsson.oss.air.csac.model.pmsc.KpiSubmissionDto;
+import com.ericsson.oss.air.csac.model.pmsc.LegacyKpiSubmissionDto;
+import com.ericsson.oss.air.csac.model.pmsc.PmscKpiDefinitionDto;
+import com.ericsson.oss.air.csac.model.pmsc.SimpleKpiOutputTableDto;
+import com.ericsson.oss.air.csac.model.pmsc.SimplePmscKpiDefinitionDto;
+import com.ericsson.oss.air.csac.model.runtime.ProvisioningState;
+import com.ericsson.oss.air.csac.repository.DeployedKpiDefDAO;
+import com.ericsson.oss.air.csac.repository.EffectiveAugmentationDAO;
+import com.ericsson.oss.air.csac.repository.cache.KpiOutputTableDigestCache;
+import com.ericsson.oss.air.csac.service.augmentation.AugmentationRestClient;
+import com.ericsson.oss.air.csac.service.kpi.pmsc.PmscRestClient;
+import com.ericsson.oss.air.exception.CsacValidationException;
+import com.ericsson.oss.air.util.concurrent.AtomicDouble;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class DriftReconcilerTest {
+
+    private static final ProvisioningState COMPLETED = ProvisioningState.builder()
+            .withId(1)
+            .withProvisioningState(ProvisioningState.State.COMPLETED)
+            .build();
+
+    private static final ProvisioningState STARTED = ProvisioningState.builder().withProvisioningState(ProvisioningState.State.STARTED).build();
+
+    private static final PmscKpiDefinitionDto KPI_SAME = kpi("csac_same", "SUM(a)");
+
+    private static final PmscKpiDefinitionDto KPI_CHANGED = kpi("csac_changed", "SUM(b)");
+
+    private static final PmscKpiDefinitionDto KPI_MISSING = kpi("csac_missing", "SUM(c)");
+
+    private static final PmscKpiDefinitionDto KPI_UNEXPECTED = kpi("csac_unexpected", "SUM(d)");
+
+    private static final KpiSubmissionDto EXPECTED_SUBMISSION = KpiSubmissionDto.builder()
+            .scheduledSimple(new KpiOutputTableListDto(List.of(SimpleKpiOutputTableDto.customSimpleKpiOutputTableDtoBuilder()
+                    .aggregationPeriod(AggregationPeriod.FIFTEEN)
+                    .alias("csac_table")
+                    .aggregationElements(List.of("snssai"))
+                    .kpiDefinitions(List.of(KPI_SAME, KPI_CHANGED, KPI_MISSING))
+                    .inputDataIdentifier("5G|PM_COUNTERS|AMF")
+                    .build())))
+            .build();
+
+    private static final List<PmscKpiDefinitionDto> ACTUAL_KPIS = List.of(KPI_SAME, kpi("csac_changed", "MAX(b)"), KPI_UNEXPECTED);
+
+    @Mock
+    private ProvisioningTracker provisioningTracker;
+
+    @Mock
+    private DeployedKpiDefDAO deployedKpiDefDAO;
+
+    @Mock
+    private KpiSubmissionTransformer kpiSubmissionTransformer;
+
+    @Mock
+    private KpiSubmissionPlanner kpiSubmissionPlanner;
+
+    @Mock
+    private PmscRestClient pmscRestClient;
+
+    @Mock
+    private KpiOutputTableDigestCache kpiOutputTableDigestCache;
+
+    @Mock
+    private EffectiveAugmentationDAO effectiveAugmentationDAO;
+
+    @Mock
+    private AugmentationRestClient augmentationRestClient;
+
+    private final ProvisioningLock provisioningLock = new ProvisioningLock();
+
+    private final AtomicLong reconciliationKpiDrift = new AtomicLong();
+
+    private final AtomicLong reconciliationAugmentationDrift = new AtomicLong();
+
+    private final AtomicLong reconciliationRepairs = new AtomicLong();
+
+    private final AtomicLong reconciliationErrors = new AtomicLong();
+
+    private final AtomicDouble reconciliationTime = new AtomicDouble(-1);
+
+    private DriftReconciler driftReconciler;
+
+    @BeforeEach
+    void setUp() {
+
+        this.driftReconciler = new DriftReconciler(this.provisioningTracker, this.provisioningLock, this.deployedKpiDefDAO,
+                this.kpiSubmissionTransformer, this.kpiSubmissionPlanner, this.pmscRestClient, this.kpiOutputTableDigestCache,
+                this.effectiveAugmentationDAO, this.augmentationRestClient);
+
+        this.driftReconciler.setRequestInterval(0L);
+
+        ReflectionTestUtils.setField(this.driftReconciler, "reconciliationKpiDrift", this.reconciliationKpiDrift);
+        ReflectionTestUtils.setField(this.driftReconciler, "reconciliationAugmentationDrift", this.reconciliationAugmentationDrift);
+        ReflectionTestUtils.setField(this.driftReconciler, "reconciliationRepairs", this.reconciliationRepairs);
+        ReflectionTestUtils.setField(this.driftReconciler, "reconciliationErrors", this.reconciliationErrors);
+        ReflectionTestUtils.setField(this.driftReconciler, "reconciliationTime", this.reconciliationTime);
+    }
+
+    @Test
+    void reconcile_provisioningNotCompleted_skipped() throws Exception {
+
+        ReflectionTestUtils.setField(this.driftReconciler, "isPmscEnabled", true);
+        when(this.provisioningTracker.currentProvisioningState()).thenReturn(STARTED);
+
+        assertTrue(this.driftReconciler.reconcile().isEmpty());
+
+        verifyNoInteractions(this.deployedKpiDefDAO, this.pmscRestClient);
+        assertEquals(-1, this.reconciliationTime.get());
+    }
+
+    @Test
+    void reconcile_provisioningInProgress_skipped() throws Exception {
+
+        ReflectionTestUtils.setField(this.driftReconciler, "isPmscEnabled", true);
+
+        final CountDownLatch locked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final Thread provisioning = new Thread(() -> {
+            this.provisioningLock.lock();
+            try {
+                locked.countDown();
+                release.await(10, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                this.provisioningLock.unlock();
+            }
+        });
+
+        provisioning.start();
+        assertTrue(locked.await(10, TimeUnit.SECONDS));
+
+        try {
+            assertTrue(this.driftReconciler.reconcile().isEmpty());
+        } finally {
+            release.countDown();
+            provisioning.join(10000L);
+        }
+
+        verifyNoInteractions(this.provisioningTracker, this.deployedKpiDefDAO, this.pmscRestClient);
+        assertEquals(-1, this.reconciliationTime.get());
+    }
+
+    @Test
+    void reconcile_kpiDrift_reported() throws Exception {
+
+        ReflectionTestUtils.setField(this.driftReconciler, "isPmscEnabled", true);
+        this.stubKpis();
+
+        final List<DriftReport> reports = this.driftReconciler.reconcile();
+
+        assertEquals(1, reports.size());
+
+        final DriftReport report = reports.get(0);
+
+        assertEquals(DriftReconciler.PMSC_TARGET, report.getTarget());
+        assertEquals(Set.of("csac_missing"), report.getMissing());
+        assertEquals(Set.of("csac_unexpected"), report.getUnexpected());
+        assertEquals(Set.of("csac_changed"), report.getChanged());
+        assertEquals(3, this.reconciliationKpiDrift.get());
+        assertEquals(0, this.reconciliationRepairs.get());
+        assertTrue(this.reconciliationTime.get() >= 0);
+
+        verify(this.kpiOutputTableDigestCache).deleteAll();
+        verify(this.pmscRestClient, never()).deleteById(any());
+        verify(this.pmscRestClient, never()).create(any());
+    }
+
+    @Test
+    void reconcile_kpiDrift_repaired() throws Exception {
+
+        ReflectionTestUtils.setField(this.driftReconciler, "isPmscEnabled", true);
+        ReflectionTestUtils.setField(this.driftReconciler, "isRepairEnabled", true);
+        this.stubKpis();
+
+        final KpiSubmissionDto chunk = KpiSubmissionDto.builder().build();
+        final ArgumentCaptor<KpiSubmissionDto> missingCaptor = ArgumentCaptor.forClass(KpiSubmissionDto.class);
+        when(this.kpiSubmissionPlanner.plan(missingCaptor.capture())).thenReturn(List.of(List.of(chunk)));
+
+        this.driftReconciler.reconcile();
+
+        // only the missing KPI definition is submitted, in a copy of its output table
+        final List<KpiOutputTableDto> missingTables = missingCaptor.getValue().getScheduledSimple().getKpiOutputTables();
+
+        assertEquals(1, missingTables.size());
+        assertEquals(List.of(KPI_MISSING), missingTables.get(0).getKpiDefinitions());
+        assertEquals("5G|PM_COUNTERS|AMF", ((SimpleKpiOutputTableDto) missingTables.get(0)).getInputDataIdentifier());
+
+        verify(this.pmscRestClient).deleteById(List.of("csac_unexpected"));
+        verify(this.pmscRestClient).create(chunk);
+        assertEquals(2, this.reconciliationRepairs.get());
+        assertFalse(this.provisioningLock.isLocked());
+    }
+
+    @Test
+    void reconcile_provisioningUnchanged_expectedKpisReused() throws Exception {
+
+        ReflectionTestUtils.setField(this.driftReconciler, "isPmscEnabled", true);
+        this.stubKpis();
+
+        this.driftReconciler.reconcile();
+        this.driftReconciler.reconcile();
+
+        verify(this.deployedKpiDefDAO, times(1)).getAllDeployedKpis();
+        verify(this.pmscRestClient, times(2)).getAll();
+
+        // a new provisioning operation has completed since the last reconciliation
+        when(this.provisioningTracker.currentProvisioningState()).thenReturn(COMPLETED.toBuilder().withId(2).build());
+
+        this.driftReconciler.reconcile();
+
+        verify(this.deployedKpiDefDAO, times(2)).getAllDeployedKpis();
+    }
+
+    @Test
+    void reconcile_legacyKpiModel_skipped() throws Exception {
+
+        ReflectionTestUtils.setField(this.driftReconciler, "isPmscEnabled", true);
+        when(this.provisioningTracker.currentProvisioningState()).thenReturn(COMPLETED);
+        when(this.deployedKpiDefDAO.getAllDeployedKpis()).thenReturn(List.of(new KpiDefinitionDTO()));
+        when(this.kpiSubmissionTransformer.apply(any())).thenReturn(new LegacyKpiSubmissionDto());
+
+        assertTrue(this.driftReconciler.reconcile().isEmpty());
+
+        verify(this.pmscRestClient, never()).getAll();
+    }
+
+    @Test
+    void reconcile_provisioningPending_abandoned() throws Exception {
+
+        ReflectionTestUtils.setField(this.driftReconciler, "isPmscEnabled", true);
+        ReflectionTestUtils.setField(this.driftReconciler, "isAasEnabled", true);
+        when(this.provisioningTracker.currentProvisioningState()).thenReturn(COMPLETED);
+
+        final Thread provisioning = new Thread(() -> {
+            this.provisioningLock.lock();
+            this.provisioningLock.unlock();
+        });
+
+        // provisioning is requested while the expected KPI definitions are computed
+        when(this.deployedKpiDefDAO.getAllDeployedKpis()).thenAnswer(invocation -> {
+            provisioning.start();
+            while (!this.provisioningLock.hasQueuedThreads()) {
+                TimeUnit.MILLISECONDS.sleep(10L);
+            }
+            return List.of();
+        });
+
+        assertTrue(this.driftReconciler.reconcile().isEmpty());
+
+        provisioning.join(10000L);
+        assertFalse(provisioning.isAlive());
+
+        verify(this.pmscRestClient, never()).getAll();
+        verifyNoInteractions(this.effectiveAugmentationDAO, this.augmentationRestClient);
+        assertEquals(0, this.reconciliationErrors.get());
+    }
+
+    @Test
+    void reconcile_targetFails_remainingTargetsReconciled() throws Exception {
+
+        ReflectionTestUtils.setField(this.driftReconciler, "isPmscEnabled", true);
+        ReflectionTestUtils.setField(this.driftReconciler, "isAasEnabled", true);
+        when(this.provisioningTracker.currentProvisioningState()).thenReturn(COMPLETED);
+        when(this.deployedKpiDefDAO.getAllDeployedKpis()).thenReturn(List.of());
+        when(this.pmscRestClient.getAll()).thenThrow(new IllegalStateException("PMSC unavailable"));
+        when(this.effectiveAugmentationDAO.findAllDigests()).thenReturn(Map.of("ardq1", "d1"));
+        when(this.augmentationRestClient.getAllArdqIds()).thenReturn(List.of("ardq1"));
+
+        final List<DriftReport> reports = this.driftReconciler.reconcile();
+
+        assertEquals(1, reports.size());
+        assertEquals(DriftReconciler.AAS_TARGET, reports.get(0).getTarget());
+        assertTrue(reports.get(0).isEmpty());
+        assertEquals(1, this.reconciliationErrors.get());
+    }
+
+    @Test
+    void reconcile_augmentationDrift_repaired() throws Exception {
+
+        ReflectionTestUtils.setField(this.driftReconciler, "isAasEnabled", true);
+        ReflectionTestUtils.setField(this.driftReconciler, "isRepairEnabled", true);
+        when(this.provisioningTracker.currentProvisioningState()).thenReturn(COMPLETED);
+        when(this.effectiveAugmentationDAO.findAllDigests()).thenReturn(Map.of("ardq1", "d1", "ardq2", "d2"));
+        when(this.augmentationRestClient.getAllArdqIds()).thenReturn(List.of("ardq1", "ardq3"));
+
+        final DriftReport report = this.driftReconciler.reconcile().get(0);
+
+        assertEquals(Set.of("ardq2"), report.getMissing());
+        assertEquals(Set.of("ardq3"), report.getUnexpected());
+        assertEquals(2, this.reconciliationAugmentationDrift.get());
+
+        // missing registrations are reported only
+        verify(this.augmentationRestClient).delete("ardq3");
+        verify(this.augmentationRestClient, never()).delete("ardq2");
+        assertEquals(1, this.reconciliationRepairs.get());
+    }
+
+    @Test
+    void setPeriod() {
+
+        this.driftReconciler.setPeriod(60000L);
+        assertEquals(60000L, this.driftReconciler.getPeriod());
+
+        assertThrows(CsacValidationException.class, () -> this.driftReconciler.setPeriod(0L));
+        assertThrows(CsacValidationException.class, () -> this.driftReconciler.setPeriod(null));
+    }
+
+    @Test
+    void setRequestInterval() {
+
+        this.driftReconciler.setRequestInterval(500L);
+        assertEquals(500L, this.driftReconciler.getRequestInterval());
+
+        assertThrows(CsacValidationException.class, () -> this.driftReconciler.setRequestInterval(-1L));
+        assertThrows(CsacValidationException.class, () -> this.driftReconciler.setRequestInterval(null));
+    }
+
+    private void stubKpis() {
+
+        final List<KpiDefinitionDTO> deployedKpis = List.of(new KpiDefinitionDTO());
+
+        when(this.provisioningTracker.currentProvisioningState()).thenReturn(COMPLETED);
+        when(this.deployedKpiDefDAO.getAllDeployedKpis()).thenReturn(deployedKpis);
+        when(this.kpiSubmissionTransformer.apply(deployedKpis)).thenReturn(EXPECTED_SUBMISSION);
+        when(this.pmscRestClient.getAll()).thenReturn(ACTUAL_KPIS);
+    }
+
+    private static PmscKpiDefinitionDto kpi(final String name, final String expression) {
+        return SimplePmscKpiDefinitionDto.builder()
+                .name(name)
+                .expression(expression)
+                .objectType("FLOAT")
+                .aggregationType("SUM")
+                .build();
+    }
+
+}
@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.handler.reconcile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class DriftReportTest {
+
+    @Test
+    void compare() {
+
+        final Map<String, String> expected = Map.of("same", "d1", "changed", "d2", "missing", "d3");
+        final Map<String, String> actual = Map.of("same", "d1", "changed", "d4", "unexpected", "d5");
+
+        final DriftReport report = DriftReport.compare("PMSC", expected, actual);
+
+        assertEquals("PMSC", report.getTarget());
+        assertEquals(Set.of("missing"), report.getMissing());
+        assertEquals(Set.of("unexpected"), report.getUnexpected());
+        assertEquals(Set.of("changed"), report.getChanged());
+        assertEquals(3, report.getTotal());
+        assertFalse(report.isEmpty());
+    }
+
+    @Test
+    void compare_nullDigest_presenceOnly() {
+
+        final Map<String, String> expected = new HashMap<>();
+        expected.put("ardq1", null);
+
+        final DriftReport report = DriftReport.compare("AAS", expected, Map.of("ardq1", "d1"));
+
+        assertTrue(report.isEmpty());
+        assertEquals(0, report.getTotal());
+    }
+
+    @Test
+    void compare_noItems() {
+        assertTrue(DriftReport.compare("Indexer", Map.of(), Map.of()).isEmpty());
+    }
+}
@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.handler.reload;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.ericsson.oss.air.CsacEntryPoint;
+import com.ericsson.oss.air.exception.ResourceFileLoaderException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReloadJobHandlerTest {
+
+    @Mock
+    private CsacEntryPoint csacEntryPoint;
+
+    private ReloadJobHandler reloadJobHandler;
+
+    @BeforeEach
+    void setUp() {
+        this.reloadJobHandler = new ReloadJobHandler(this.csacEntryPoint, Executors.newSingleThreadExecutor());
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.reloadJobHandler.destroy();
+    }
+
+    @Test
+    void submit_stageProgressReported() throws Exception {
+
+        doAnswer(invocation -> {
+            final Consumer<ReloadStage> stageListener = invocation.getArgument(0);
+            stageListener.accept(ReloadStage.LOADING);
+            stageListener.accept(ReloadStage.VALIDATING);
+            return null;
+        }).when(this.csacEntryPoint).startProvisioning(any());
+
+        final ReloadJob job = this.reloadJobHandler.submit();
+
+        awaitStatus(job, ReloadJob.Status.COMPLETED);
+
+        assertEquals(1, job.getRequests());
+        assertNotNull(job.getStarted());
+        assertNotNull(job.getCompleted());
+        assertNull(job.getError());
+        assertEquals(List.of(ReloadStage.LOADING, ReloadStage.VALIDATING), job.getStages().stream().map(ReloadJob.StageProgress::stage).toList());
+        assertSame(job, this.reloadJobHandler.getJob(job.getId()).orElseThrow());
+    }
+
+    @Test
+    void submit_requestsCoalesced() throws Exception {
+
+        final CountDownLatch running = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        doAnswer(invocation -> {
+            running.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return null;
+        }).doNothing().when(this.csacEntryPoint).startProvisioning(any());
+
+        final ReloadJob runningJob = this.reloadJobHandler.submit();
+        assertTrue(running.await(10, TimeUnit.SECONDS));
+
+        // requests received while a job is running are queued as a single job
+        final ReloadJob queuedJob = this.reloadJobHandler.submit();
+        assertSame(queuedJob, this.reloadJobHandler.submit());
+        assertSame(queuedJob, this.reloadJobHandler.submit());
+
+        assertNotEquals(runningJob.getId(), queuedJob.getId());
+        assertEquals(ReloadJob.Status.RUNNING, runningJob.getStatus());
+        assertEquals(ReloadJob.Status.QUEUED, queuedJob.getStatus());
+        assertEquals(3, queuedJob.getRequests());
+
+        release.countDown();
+
+        awaitStatus(queuedJob, ReloadJob.Status.COMPLETED);
+
+        assertEquals(ReloadJob.Status.COMPLETED, runningJob.getStatus());
+        verify(this.csacEntryPoint, times(2)).startProvisioning(any());
+    }
+
+    @Test
+    void submit_incremental() throws Exception {
+
+        doAnswer(invocation -> {
+            final Consumer<ReloadStage> stageListener = invocation.getArgument(0);
+            stageListener.accept(ReloadStage.LOADING);
+            return null;
+        }).when(this.csacEntryPoint).reloadChangedResources(any());
+
+        final ReloadJob job = this.reloadJobHandler.submit(true);
+
+        awaitStatus(job, ReloadJob.Status.COMPLETED);
+
+        assertTrue(job.isIncremental());
+        assertEquals(List.of(ReloadStage.LOADING), job.getStages().stream().map(ReloadJob.StageProgress::stage).toList());
+        verify(this.csacEntryPoint, never()).startProvisioning(any());
+    }
+
+    @Test
+    void submit_fullRequestCoalescedIntoIncrementalJob() throws Exception {
+
+        final CountDownLatch running = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        doAnswer(invocation -> {
+            running.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return null;
+        }).when(this.csacEntryPoint).reloadChangedResources(any());
+
+        final ReloadJob runningJob = this.reloadJobHandler.submit(true);
+        assertTrue(running.await(10, TimeUnit.SECONDS));
+
+        // a full reload request makes the queued incremental job a full job
+        final ReloadJob queuedJob = this.reloadJobHandler.submit(true);
+        assertTrue(queuedJob.isIncremental());
+        assertSame(queuedJob, this.reloadJobHandler.submit());
+        assertFalse(queuedJob.isIncremental());
+
+        release.countDown();
+
+        awaitStatus(queuedJob, ReloadJob.Status.COMPLETED);
+
+        assertEquals(2, queuedJob.getRequests());
+        verify(this.csacEntryPoint, times(1)).reloadChangedResources(any());
+        verify(this.csacEntryPoint, times(1)).startProvisioning(any());
+    }
+
+    @Test
+    void submit_failedJob() throws Exception {
+
+        doThrow(new ResourceFileLoaderException("invalid resource file", null)).when(this.csacEntryPoint).startProvisioning(any());
+
+        final ReloadJob job = this.reloadJobHandler.submit();
+
+        awaitStatus(job, ReloadJob.Status.FAILED);
+
+        assertEquals("invalid resource file", job.getError());
+        assertNotNull(job.getCompleted());
+
+        // a failed job does not prevent further reloads
+        assertNotEquals(job.getId(), this.reloadJobHandler.submit().getId());
+    }
+
+    @Test
+    void getJob_retainedJobsLimited() throws Exception {
+
+        final ReloadJob firstJob = this.reloadJobHandler.submit();
+        awaitStatus(firstJob, ReloadJob.Status.COMPLETED);
+
+        ReloadJob lastJob = null;
+
+        for (int i = 0; i < ReloadJobHandler.MAX_RETAINED_JOBS; i++) {
+            lastJob = this.reloadJobHandler.submit();
+            awaitStatus(lastJob, ReloadJob.Status.COMPLETED);
+        }
+
+        assertTrue(this.reloadJobHandler.getJob(firstJob.getId()).isEmpty());
+        assertTrue(this.reloadJobHandler.getJob(lastJob.getId()).isPresent());
+        assertTrue(this.reloadJobHandler.getJob("unknown").isEmpty());
+    }
+
+    /*
+     * (non-javadoc)
+     *
+     * Waits for the provided job to reach the expected status.
+     */
+    private static void awaitStatus(final ReloadJob job, final ReloadJob.Status expectedStatus) throws InterruptedException {
+
+        final Instant deadline = Instant.now().plus(Duration.ofSeconds(10));
+
+        while (job.getStatus() != expectedStatus && Instant.now().isBefore(deadline)) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(expectedStatus, job.getStatus());
+    }
+}
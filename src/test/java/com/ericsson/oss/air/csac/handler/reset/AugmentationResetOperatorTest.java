@@ -19,6 +19,7 @@ import static org.mockito.Mockito.verify;
 import java.util.concurrent.atomic.AtomicLong;
 
 import com.ericsson.oss.air.csac.service.augmentation.AugmentationProvisioningService;
+import com.ericsson.oss.air.csac.service.augmentation.AugmentationSchemaMappingCache;
 import com.ericsson.oss.air.util.concurrent.AtomicDouble;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -41,6 +42,9 @@ class AugmentationResetOperatorTest {
     @Mock
     private AugmentationProvisioningService augService;
 
+    @Mock
+    private AugmentationSchemaMappingCache schemaMappingCache;
+
     @InjectMocks
     private AugmentationResetOperator resetOperator;
 
@@ -57,6 +61,7 @@ class AugmentationResetOperatorTest {
         this.resetOperator.apply();
 
         verify(this.augService, times(1)).deleteAll();
+        verify(this.schemaMappingCache, times(1)).invalidateAll();
         verify(this.elapsedTime, times(1)).set(anyDouble());
         verify(this.errorCountMetric, times(0)).incrementAndGet();
     }
@@ -69,6 +74,7 @@ class AugmentationResetOperatorTest {
         assertThrows(RuntimeException.class, () -> this.resetOperator.apply());
 
         verify(this.augService, times(1)).deleteAll();
+        verify(this.schemaMappingCache, times(0)).invalidateAll();
         verify(this.elapsedTime, times(1)).set(anyDouble());
         verify(this.errorCountMetric, times(1)).incrementAndGet();
 
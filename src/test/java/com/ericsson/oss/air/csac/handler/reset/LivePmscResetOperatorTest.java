@@ -18,6 +18,7 @@ import static org.mockito.Mockito.verify;
 
 import java.util.concurrent.atomic.AtomicLong;
 
+import com.ericsson.oss.air.csac.repository.cache.KpiOutputTableDigestCache;
 import com.ericsson.oss.air.csac.repository.cache.ResolvedKpiCache;
 import com.ericsson.oss.air.csac.service.kpi.pmsc.PmscRestClient;
 import com.ericsson.oss.air.util.concurrent.AtomicDouble;
@@ -39,6 +40,9 @@ public class LivePmscResetOperatorTest {
     @Mock
     private ResolvedKpiCache resolvedKpiCache;
 
+    @Mock
+    private KpiOutputTableDigestCache kpiOutputTableDigestCache;
+
     @Spy
     private AtomicLong errorCounter;
 
@@ -61,6 +65,7 @@ public class LivePmscResetOperatorTest {
 
         verify(this.pmscRestClient, times(1)).deleteAll();
         verify(this.resolvedKpiCache, times(1)).deleteAll();
+        verify(this.kpiOutputTableDigestCache, times(1)).deleteAll();
         verify(this.elapsedTime, times(1)).set(anyDouble());
         verify(this.errorCounter, times(0)).incrementAndGet();
     }
@@ -74,6 +79,7 @@ public class LivePmscResetOperatorTest {
 
         verify(this.pmscRestClient, times(1)).deleteAll();
         verify(this.resolvedKpiCache, times(0)).deleteAll();
+        verify(this.kpiOutputTableDigestCache, times(1)).deleteAll();
         verify(this.elapsedTime, times(1)).set(anyDouble());
         verify(this.errorCounter, times(1)).incrementAndGet();
 
@@ -88,6 +94,7 @@ public class LivePmscResetOperatorTest {
 
         verify(this.pmscRestClient, times(1)).deleteAll();
         verify(this.resolvedKpiCache, times(1)).deleteAll();
+        verify(this.kpiOutputTableDigestCache, times(1)).deleteAll();
         verify(this.elapsedTime, times(1)).set(anyDouble());
         verify(this.errorCounter, times(1)).incrementAndGet();
 
@@ -33,6 +33,7 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.ericsson.oss.air.csac.handler.status.ProvisioningLock;
 import com.ericsson.oss.air.csac.handler.status.ProvisioningTracker;
 import com.ericsson.oss.air.csac.handler.util.VoidOperator;
 import com.ericsson.oss.air.util.concurrent.AtomicDouble;
@@ -77,6 +78,9 @@ class ResetConfigurationHandlerTest {
     @Mock
     private ProvisioningTracker provisioningTracker;
 
+    @Spy
+    private ProvisioningLock provisioningLock;
+
     @InjectMocks
     private ResetConfigurationHandler resetConfigurationHandler;
 
@@ -106,6 +110,8 @@ class ResetConfigurationHandlerTest {
         verify(this.configurationResetDbErrorCounter, times(1)).get();
         verify(this.configurationResetKpiErrorCounter, times(1)).get();
         verify(this.configurationResetIndexErrorCounter, times(1)).get();
+        verify(this.provisioningLock, times(1)).lock();
+        verify(this.provisioningLock, times(1)).unlock();
     }
 
     @Test
@@ -116,6 +122,7 @@ class ResetConfigurationHandlerTest {
         assertThrows(RuntimeException.class, () -> this.resetConfigurationHandler.apply());
 
         verify(this.faultHandler, times(1)).error(eq("Unable to complete reset operation: "), any(RuntimeException.class));
+        verify(this.provisioningLock, times(1)).unlock();
     }
 
     @Test
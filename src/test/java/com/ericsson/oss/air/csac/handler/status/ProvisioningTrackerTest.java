@@ -11,6 +11,8 @@
 package com.ericsson.oss.air.csac.handler.status;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -137,4 +139,32 @@ class ProvisioningTrackerTest {
 
         verify(this.provisioningStateDao, times(1)).save(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void recordResourceFingerprint() {
+
+        this.provisioningTracker.recordResourceFingerprint("fingerprint");
+
+        verify(this.provisioningStateDao, times(1)).updateResourceFingerprint("fingerprint");
+    }
+
+    @Test
+    void isProvisioned() {
+
+        final ProvisioningState completed = ProvisioningState.completed().toBuilder().withResourceFingerprint("fingerprint").build();
+        when(this.provisioningStateDao.findLatest()).thenReturn(completed);
+
+        assertTrue(this.provisioningTracker.isProvisioned("fingerprint"));
+        assertFalse(this.provisioningTracker.isProvisioned("other"));
+        assertFalse(this.provisioningTracker.isProvisioned(null));
+    }
+
+    @Test
+    void isProvisioned_notCompleted() {
+
+        final ProvisioningState error = ProvisioningState.error().toBuilder().withResourceFingerprint("fingerprint").build();
+        when(this.provisioningStateDao.findLatest()).thenReturn(error);
+
+        assertFalse(this.provisioningTracker.isProvisioned("fingerprint"));
+    }
+}
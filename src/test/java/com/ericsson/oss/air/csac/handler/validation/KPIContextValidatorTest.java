@@ -170,4 +170,31 @@ public class KPIContextValidatorTest {
     void validateKPIDefinitions_Failed() {
         assertThrows(CsacValidationException.class, () -> this.kpiValidator.validateKPIDefinitions(RS_4));
     }
+
+    @Test
+    void validateKPIDefinitions_incremental_validatesNewDefinitionsOnly() {
+
+        final ValidationIndex validationIndex = new ValidationIndex(this.kpiDefinitionDAO, this.pmDefinitionDAO);
+        validationIndex.add(RS_1);
+
+        this.kpiValidator.validateKPIDefinitions(RS_1, validationIndex);
+        assertTrue(validationIndex.isValidated(KPI_DEFN_PM_A));
+
+        // the submitted PM definition is found without reading the dictionary
+        Mockito.verify(this.pmDefinitionDAO, Mockito.never()).getAllPmDefNames();
+
+        validationIndex.add(RS_3);
+
+        this.kpiValidator.validateKPIDefinitions(RS_3, validationIndex);
+        Mockito.verify(this.kpiDefinitionDAO, Mockito.never()).getAllKpiDefNames();
+    }
+
+    @Test
+    void validateKPIDefinitions_incremental_Failed() {
+
+        final ValidationIndex validationIndex = new ValidationIndex(this.kpiDefinitionDAO, this.pmDefinitionDAO);
+        validationIndex.add(RS_4);
+
+        assertThrows(CsacValidationException.class, () -> this.kpiValidator.validateKPIDefinitions(RS_4, validationIndex));
+    }
 }
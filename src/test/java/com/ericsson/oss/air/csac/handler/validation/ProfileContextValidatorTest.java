@@ -14,6 +14,7 @@ import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_COMPLEX_K
 import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_SIMPLE_KPI_DEF_NAME;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -305,4 +306,44 @@ public class ProfileContextValidatorTest {
 
         assertDoesNotThrow(() -> this.profileContextValidator.validate(resourceSubmission));
     }
+
+    @Test
+    void validateProfileDefinitions_incremental_validatesChangedProfilesOnly() {
+        Mockito.when(kpiDefinitionDAO.findAll()).thenReturn(List.of(TestResourcesUtils.VALID_COMPLEX_KPI_DEF_OBJ));
+
+        final ProfileDefinition profileDefinition = getIncrementalProfile();
+        rs.setProfileDefs(List.of(profileDefinition));
+
+        final ValidationIndex validationIndex = new ValidationIndex(this.kpiDefinitionDAO, null);
+        validationIndex.add(rs);
+
+        this.profileContextValidator.validateProfileDefinitions(rs, validationIndex);
+        assertTrue(validationIndex.isValidated(profileDefinition));
+
+        this.profileContextValidator.validateProfileDefinitions(rs, validationIndex);
+
+        Mockito.verify(kpiDefinitionDAO, Mockito.times(1)).findAll();
+    }
+
+    @Test
+    void validateProfileDefinitions_incremental_missingKpi_throwException() {
+        Mockito.when(kpiDefinitionDAO.findAll()).thenReturn(List.of());
+
+        rs.setProfileDefs(List.of(getIncrementalProfile()));
+
+        final ValidationIndex validationIndex = new ValidationIndex(this.kpiDefinitionDAO, null);
+        validationIndex.add(rs);
+
+        assertThrows(CsacValidationException.class, () -> this.profileContextValidator.validateProfileDefinitions(rs, validationIndex));
+    }
+
+    private static ProfileDefinition getIncrementalProfile() {
+        return ProfileDefinition.builder()
+                .name("incremental_profile")
+                .augmentation(TestResourcesUtils.VALID_AUGMENTATION_NAME)
+                .context(List.of("field1", "field2"))
+                .kpis(List.of(KPIReference.builder().ref(VALID_SIMPLE_KPI_DEF_NAME).build(),
+                        KPIReference.builder().ref(VALID_COMPLEX_KPI_DEF_NAME).build()))
+                .build();
+    }
 }
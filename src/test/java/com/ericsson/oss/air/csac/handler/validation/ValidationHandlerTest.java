@@ -112,6 +112,30 @@ class ValidationHandlerTest {
         verify(profileContextValidator, times(1)).validateProfileDefinitions(resourceSubmission);
     }
 
+    @Test
+    void ValidateKPIDefinitions_incremental_ValidResourceSubmission() {
+        final ValidationIndex validationIndex = validationHandler.newValidationIndex();
+
+        validationHandler.validateKPIDefinitions(resourceSubmission, validationIndex);
+        verify(kpiContextValidator, times(1)).validateKPIDefinitions(resourceSubmission, validationIndex);
+    }
+
+    @Test
+    void ValidateKPIDefinitions_incremental_validationError_exceptionThrown() {
+        doThrow(CsacValidationException.class).when(kpiContextValidator).validateKPIDefinitions(any(), any());
+
+        assertThrows(CsacValidationException.class,
+                () -> validationHandler.validateKPIDefinitions(new ResourceSubmission(), validationHandler.newValidationIndex()));
+    }
+
+    @Test
+    void ValidateProfileDefinitions_incremental_ValidResourceSubmission() {
+        final ValidationIndex validationIndex = validationHandler.newValidationIndex();
+
+        validationHandler.validateProfileDefinitions(resourceSubmission, validationIndex);
+        verify(profileContextValidator, times(1)).validateProfileDefinitions(resourceSubmission, validationIndex);
+    }
+
     @Test
     void ValidatePMDefinitions_validationError_exceptionThrown() throws IOException {
         when(pmValidator.getValidPMDefinitions(any())).thenThrow(CsacValidationException.class);
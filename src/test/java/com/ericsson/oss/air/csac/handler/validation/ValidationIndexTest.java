@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.handler.validation;
+
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_AUGMENTATION_NAME;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_COMPLEX_KPI_DEF_NAME;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_COMPLEX_KPI_DEF_OBJ;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_PM_DEF_NAME;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_PROFILE_DEF_OBJ;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_RESOURCE_SUBMISSION;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_SIMPLE_KPI_DEF_NAME;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_SIMPLE_KPI_DEF_OBJ;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+
+import com.ericsson.oss.air.csac.model.KPIDefinition;
+import com.ericsson.oss.air.csac.model.ResourceSubmission;
+import com.ericsson.oss.air.csac.repository.KPIDefinitionDAO;
+import com.ericsson.oss.air.csac.repository.PMDefinitionDAO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ValidationIndexTest {
+
+    @Mock
+    private KPIDefinitionDAO kpiDefinitionDAO;
+
+    @Mock
+    private PMDefinitionDAO pmDefinitionDAO;
+
+    private ValidationIndex validationIndex;
+
+    @BeforeEach
+    void setUp() {
+        this.validationIndex = new ValidationIndex(this.kpiDefinitionDAO, this.pmDefinitionDAO);
+    }
+
+    @Test
+    void add_submittedDefinitions_dictionaryNotRead() {
+
+        this.validationIndex.add(VALID_RESOURCE_SUBMISSION);
+
+        assertTrue(this.validationIndex.containsKpi(VALID_SIMPLE_KPI_DEF_NAME));
+        assertTrue(this.validationIndex.containsPm(VALID_PM_DEF_NAME));
+        assertTrue(this.validationIndex.containsAugmentation(VALID_AUGMENTATION_NAME));
+        assertEquals(VALID_SIMPLE_KPI_DEF_OBJ, this.validationIndex.findKpi(VALID_SIMPLE_KPI_DEF_NAME));
+
+        verify(this.kpiDefinitionDAO, never()).getAllKpiDefNames();
+        verify(this.kpiDefinitionDAO, never()).findAll();
+        verify(this.pmDefinitionDAO, never()).getAllPmDefNames();
+    }
+
+    @Test
+    void contains_dictionaryDefinitions_dictionaryReadOnce() {
+
+        when(this.kpiDefinitionDAO.getAllKpiDefNames()).thenReturn(Set.of(VALID_COMPLEX_KPI_DEF_NAME));
+        when(this.pmDefinitionDAO.getAllPmDefNames()).thenReturn(Set.of(VALID_PM_DEF_NAME));
+        when(this.kpiDefinitionDAO.findAll()).thenReturn(List.of(VALID_COMPLEX_KPI_DEF_OBJ));
+
+        assertTrue(this.validationIndex.containsKpi(VALID_COMPLEX_KPI_DEF_NAME));
+        assertFalse(this.validationIndex.containsKpi("unknown"));
+        assertTrue(this.validationIndex.containsPm(VALID_PM_DEF_NAME));
+        assertFalse(this.validationIndex.containsPm("unknown"));
+        assertEquals(VALID_COMPLEX_KPI_DEF_OBJ, this.validationIndex.findKpi(VALID_COMPLEX_KPI_DEF_NAME));
+        assertNull(this.validationIndex.findKpi("unknown"));
+        assertFalse(this.validationIndex.containsAugmentation(VALID_AUGMENTATION_NAME));
+
+        verify(this.kpiDefinitionDAO, times(1)).getAllKpiDefNames();
+        verify(this.kpiDefinitionDAO, times(1)).findAll();
+        verify(this.pmDefinitionDAO, times(1)).getAllPmDefNames();
+    }
+
+    @Test
+    void isValidated_kpi() {
+
+        assertFalse(this.validationIndex.isValidated(VALID_SIMPLE_KPI_DEF_OBJ));
+
+        this.validationIndex.setValidated(VALID_SIMPLE_KPI_DEF_OBJ);
+        assertTrue(this.validationIndex.isValidated(VALID_SIMPLE_KPI_DEF_OBJ));
+
+        final KPIDefinition updatedKpi = VALID_SIMPLE_KPI_DEF_OBJ.toBuilder().displayName("new display name").build();
+        assertFalse(this.validationIndex.isValidated(updatedKpi));
+    }
+
+    @Test
+    void isValidated_profile() {
+
+        this.validationIndex.add(VALID_RESOURCE_SUBMISSION);
+
+        assertFalse(this.validationIndex.isValidated(VALID_PROFILE_DEF_OBJ));
+
+        this.validationIndex.setValidated(VALID_PROFILE_DEF_OBJ);
+
+        // the referenced KPI was added since the last profile validation pass
+        assertFalse(this.validationIndex.isValidated(VALID_PROFILE_DEF_OBJ));
+
+        this.validationIndex.profileValidationCompleted();
+        assertTrue(this.validationIndex.isValidated(VALID_PROFILE_DEF_OBJ));
+
+        assertFalse(this.validationIndex.isValidated(VALID_PROFILE_DEF_OBJ.toBuilder().description("new description").build()));
+    }
+
+    @Test
+    void isValidated_profileReferencingChangedKpi() {
+
+        this.validationIndex.add(VALID_RESOURCE_SUBMISSION);
+        this.validationIndex.setValidated(VALID_PROFILE_DEF_OBJ);
+        this.validationIndex.profileValidationCompleted();
+
+        // an identical KPI definition is not a change
+        this.validationIndex.add(ResourceSubmission.builder().kpiDefs(List.of(VALID_SIMPLE_KPI_DEF_OBJ)).build());
+        assertTrue(this.validationIndex.isValidated(VALID_PROFILE_DEF_OBJ));
+
+        final KPIDefinition updatedKpi = VALID_SIMPLE_KPI_DEF_OBJ.toBuilder().displayName("new display name").build();
+        this.validationIndex.add(ResourceSubmission.builder().kpiDefs(List.of(updatedKpi)).build());
+
+        assertFalse(this.validationIndex.isValidated(VALID_PROFILE_DEF_OBJ));
+        assertEquals(updatedKpi, this.validationIndex.findKpi(VALID_SIMPLE_KPI_DEF_NAME));
+    }
+
+    @Test
+    void addValidated() {
+
+        this.validationIndex.addValidated(VALID_RESOURCE_SUBMISSION);
+
+        assertTrue(this.validationIndex.containsKpi(VALID_SIMPLE_KPI_DEF_NAME));
+        assertTrue(this.validationIndex.containsPm(VALID_PM_DEF_NAME));
+        assertTrue(this.validationIndex.isValidated(VALID_SIMPLE_KPI_DEF_OBJ));
+        assertTrue(this.validationIndex.isValidated(VALID_PROFILE_DEF_OBJ));
+
+        // a previously validated submission replacing a different KPI definition still invalidates the referencing profiles
+        final KPIDefinition updatedKpi = VALID_SIMPLE_KPI_DEF_OBJ.toBuilder().displayName("new display name").build();
+        this.validationIndex.addValidated(ResourceSubmission.builder().kpiDefs(List.of(updatedKpi)).build());
+
+        assertTrue(this.validationIndex.isValidated(updatedKpi));
+        assertFalse(this.validationIndex.isValidated(VALID_PROFILE_DEF_OBJ));
+    }
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import com.ericsson.oss.air.exception.CsacValidationException;
+import org.junit.jupiter.api.Test;
+
+class ResourceDefinitionListTest {
+
+    private static final PMDefinition PM_A = new PMDefinition("pm_a", "source", "description");
+
+    private static final PMDefinition PM_B = new PMDefinition("pm_b", "source", "description");
+
+    private static final PMDefinition UPDATED_PM_A = new PMDefinition("pm_a", "new source", "new description");
+
+    private final Object owner = new Object();
+
+    @Test
+    void put() {
+
+        final ResourceDefinitionList<PMDefinition> definitions = new ResourceDefinitionList<>(this.owner);
+
+        definitions.put(PM_A);
+        definitions.put(PM_B);
+
+        assertEquals(List.of(PM_A, PM_B), definitions);
+
+        definitions.put(UPDATED_PM_A);
+
+        assertEquals(2, definitions.size());
+        assertEquals(UPDATED_PM_A, definitions.get(0));
+        assertEquals(PM_B, definitions.get(1));
+    }
+
+    @Test
+    void putAll() {
+
+        final ResourceDefinitionList<PMDefinition> definitions = new ResourceDefinitionList<>(this.owner);
+
+        definitions.putAll(List.of(PM_A, PM_B));
+        definitions.putAll(List.of(UPDATED_PM_A));
+
+        assertEquals(List.of(UPDATED_PM_A, PM_B), definitions);
+    }
+
+    @Test
+    void putAll_duplicateNames() {
+
+        final ResourceDefinitionList<PMDefinition> definitions = new ResourceDefinitionList<>(this.owner);
+        definitions.put(PM_B);
+
+        final List<PMDefinition> duplicates = List.of(PM_A, UPDATED_PM_A);
+
+        final CsacValidationException exception = assertThrows(CsacValidationException.class, () -> definitions.putAll(duplicates));
+
+        assertEquals("Duplicate resource definition name: pm_a", exception.getMessage());
+        assertEquals(List.of(PM_B), definitions);
+    }
+
+    @Test
+    void isOwnedBy() {
+
+        final ResourceDefinitionList<PMDefinition> definitions = new ResourceDefinitionList<>(this.owner);
+
+        assertTrue(definitions.isOwnedBy(this.owner));
+        assertFalse(definitions.isOwnedBy(new Object()));
+    }
+
+    @Test
+    void listModification_unsupported() {
+
+        final ResourceDefinitionList<PMDefinition> definitions = new ResourceDefinitionList<>(this.owner);
+        definitions.put(PM_A);
+
+        assertThrows(UnsupportedOperationException.class, () -> definitions.add(PM_B));
+        assertThrows(UnsupportedOperationException.class, () -> definitions.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> definitions.set(0, PM_B));
+    }
+}
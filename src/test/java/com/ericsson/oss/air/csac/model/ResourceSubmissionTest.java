@@ -21,6 +21,7 @@ import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_PM_SCHEMA
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -361,6 +362,50 @@ class ResourceSubmissionTest {
         assertFalse(masterRs.hasProfileDefs());
     }
 
+    @Test
+    void testMergeResourceSubmission_multipleNewRs_orderPreserved() {
+
+        final PMDefinition pmA = new PMDefinition("pm_a", VALID_PM_DEF_SOURCE, PM_DESCRIPTION);
+        final PMDefinition pmB = new PMDefinition("pm_b", VALID_PM_DEF_SOURCE, PM_DESCRIPTION);
+        final PMDefinition pmC = new PMDefinition("pm_c", VALID_PM_DEF_SOURCE, PM_DESCRIPTION);
+        final PMDefinition updatedPmA = new PMDefinition("pm_a", "SOURCE_OVERWRITE", "PM_DESCRIPTION_OVERWRITE");
+
+        final ResourceSubmission newRs1 = ResourceSubmission.builder().pmDefs(List.of(pmA, pmB)).build();
+        final ResourceSubmission newRs2 = ResourceSubmission.builder().pmDefs(List.of(pmC, updatedPmA)).build();
+
+        final ResourceSubmission masterRs = new ResourceSubmission();
+        masterRs.mergeResourceSubmission(newRs1);
+
+        final List<PMDefinition> mergedPmDefs = masterRs.getPmDefs();
+
+        masterRs.mergeResourceSubmission(newRs2);
+
+        // an overwritten definition keeps its original position and the merged list is updated in place
+        assertEquals(List.of(updatedPmA, pmB, pmC), masterRs.getPmDefs());
+        assertSame(mergedPmDefs, masterRs.getPmDefs());
+
+        // the merged resource submissions are not modified
+        assertEquals(List.of(pmA, pmB), newRs1.getPmDefs());
+        assertEquals(List.of(pmC, updatedPmA), newRs2.getPmDefs());
+
+        assertThrows(UnsupportedOperationException.class, () -> masterRs.getPmDefs().add(pmA));
+    }
+
+    @Test
+    void testMergeResourceSubmission_duplicateNames_exceptionThrown() {
+
+        final PMDefinition pmA = new PMDefinition("pm_a", VALID_PM_DEF_SOURCE, PM_DESCRIPTION);
+        final PMDefinition updatedPmA = new PMDefinition("pm_a", "SOURCE_OVERWRITE", "PM_DESCRIPTION_OVERWRITE");
+
+        final ResourceSubmission masterRs = new ResourceSubmission();
+        final ResourceSubmission newRs = ResourceSubmission.builder().pmDefs(List.of(pmA, updatedPmA)).build();
+
+        // definitions with the same name in a single resource submission are rejected rather than silently overwritten
+        final CsacValidationException exception = assertThrows(CsacValidationException.class, () -> masterRs.mergeResourceSubmission(newRs));
+
+        assertEquals("Duplicate resource definition name: pm_a", exception.getMessage());
+    }
+
     @Test
     void testMergeResourceSubmission_newRsWithUpdatedMetrics_MasterRsOverwrittenWithLatestMetrics() {
         ResourceSubmission masterRs = ResourceSubmission.builder()
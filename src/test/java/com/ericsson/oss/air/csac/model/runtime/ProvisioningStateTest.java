@@ -70,7 +70,7 @@ class ProvisioningStateTest {
     void testBean_ctor() {
 
         final ProvisioningState actual = new ProvisioningState(1, Instant.ofEpochMilli(startTime), Instant.ofEpochMilli(endTime),
-                ProvisioningState.State.ERROR);
+                ProvisioningState.State.ERROR, null);
 
         assertEquals(1, actual.getId());
         assertEquals(startTime, actual.getProvisioningStartTime().toEpochMilli());
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.model.runtime;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.ericsson.oss.air.csac.model.InputMetricOverride;
+import com.ericsson.oss.air.csac.model.KPIReference;
+import com.ericsson.oss.air.csac.model.pmsc.AggregationPeriod;
+import com.ericsson.oss.air.util.codec.Codec;
+import com.ericsson.oss.air.util.codec.Digest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the structural reference key of {@link RuntimeKpiKey} with the previous key derived from the JSON representation of the KPI reference.
+ * This is not a unit test and is not run by the build. Run it from the IDE using the {@code main} method or with the JMH runner on the test
+ * classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3,
+        time = 1)
+@Measurement(iterations = 5,
+             time = 1)
+@Fork(1)
+public class RuntimeKpiKeyBenchmark {
+
+    private final Codec codec = new Codec();
+
+    private final KPIReference kpiReference = KPIReference.builder()
+            .ref("csac_complex_kpi")
+            .aggregationPeriod(AggregationPeriod.FIFTEEN.getValue())
+            .inputMetricOverrides(List.of(
+                    InputMetricOverride.builder().id("csac_simple_kpi_1").context(List.of("plmnId", "snssai", "managedElement")).build(),
+                    InputMetricOverride.builder().id("csac_simple_kpi_2").aggregationPeriod(AggregationPeriod.FIFTEEN.getValue())
+                            .context(List.of("plmnId", "snssai")).build()))
+            .build();
+
+    @Benchmark
+    public String jsonDigestReferenceKey() throws JsonProcessingException {
+        return new Digest().getDigestAsHex(this.codec.writeValueAsString(this.kpiReference));
+    }
+
+    @Benchmark
+    public String structuralReferenceKey() {
+        return RuntimeKpiKey.referenceKeyOf(this.kpiReference);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(RuntimeKpiKeyBenchmark.class.getSimpleName()).build()).run();
+    }
+}
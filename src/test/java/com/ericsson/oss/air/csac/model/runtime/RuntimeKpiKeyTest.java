@@ -11,9 +11,13 @@
 package com.ericsson.oss.air.csac.model.runtime;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
+import java.util.Arrays;
 import java.util.List;
 
+import com.ericsson.oss.air.csac.model.InputMetricOverride;
+import com.ericsson.oss.air.csac.model.KPIReference;
 import com.ericsson.oss.air.csac.model.pmsc.AggregationPeriod;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -42,4 +46,69 @@ public class RuntimeKpiKeyTest {
     void getAggregationPeriod() {
         assertEquals(AggregationPeriod.FIFTEEN.getValue(), this.testRtKpiKey.getAggregationPeriod());
     }
+
+    @Test
+    void referenceKeyOf_equalReferences() {
+
+        final String key = RuntimeKpiKey.referenceKeyOf(reference("kpi", List.of("field1", "field2")));
+
+        assertEquals(40, key.length());
+        assertEquals(key, RuntimeKpiKey.referenceKeyOf(reference("kpi", List.of("field1", "field2"))));
+    }
+
+    @Test
+    void referenceKeyOf_differentOverrideContext() {
+
+        assertNotEquals(RuntimeKpiKey.referenceKeyOf(reference("kpi", List.of("field1", "field2"))),
+                RuntimeKpiKey.referenceKeyOf(reference("kpi", List.of("field2", "field1"))));
+        assertNotEquals(RuntimeKpiKey.referenceKeyOf(reference("kpi", List.of("field1"))),
+                RuntimeKpiKey.referenceKeyOf(reference("kpi", List.of("field1", "field2"))));
+    }
+
+    @Test
+    void referenceKeyOf_differentAggregationPeriod() {
+
+        final KPIReference reference = reference("kpi", List.of("field1"));
+        final KPIReference otherReference = reference("kpi", List.of("field1"));
+        otherReference.setAggregationPeriod(AggregationPeriod.SIXTY.getValue());
+
+        assertNotEquals(RuntimeKpiKey.referenceKeyOf(reference), RuntimeKpiKey.referenceKeyOf(otherReference));
+    }
+
+    @Test
+    void referenceKeyOf_absentAndEmptyValuesEquivalent() {
+
+        final KPIReference noOverrides = KPIReference.builder().ref("kpi").build();
+        final KPIReference emptyOverrides = KPIReference.builder().ref("kpi").inputMetricOverrides(List.of()).build();
+
+        assertEquals(RuntimeKpiKey.referenceKeyOf(noOverrides), RuntimeKpiKey.referenceKeyOf(emptyOverrides));
+
+        final KPIReference noContext = KPIReference.builder().ref("kpi")
+                .inputMetricOverrides(List.of(InputMetricOverride.builder().id("input").build()))
+                .build();
+        final KPIReference emptyContext = KPIReference.builder().ref("kpi")
+                .inputMetricOverrides(List.of(InputMetricOverride.builder().id("input").context(List.of()).build()))
+                .build();
+
+        assertEquals(RuntimeKpiKey.referenceKeyOf(noContext), RuntimeKpiKey.referenceKeyOf(emptyContext));
+    }
+
+    @Test
+    void referenceKeyOf_ambiguousConcatenation() {
+
+        assertNotEquals(RuntimeKpiKey.referenceKeyOf(reference("kpi", List.of("ab", "c"))),
+                RuntimeKpiKey.referenceKeyOf(reference("kpi", List.of("a", "bc"))));
+        assertNotEquals(RuntimeKpiKey.referenceKeyOf(reference("kpi", List.of("a"))),
+                RuntimeKpiKey.referenceKeyOf(reference("kpi1:a", List.of())));
+        assertNotEquals(RuntimeKpiKey.referenceKeyOf(reference("kpi", Arrays.asList("a", null))),
+                RuntimeKpiKey.referenceKeyOf(reference("kpi", List.of("a", ""))));
+    }
+
+    private static KPIReference reference(final String ref, final List<String> overrideContext) {
+        return KPIReference.builder()
+                .ref(ref)
+                .aggregationPeriod(AggregationPeriod.FIFTEEN.getValue())
+                .inputMetricOverrides(List.of(InputMetricOverride.builder().id("input").context(overrideContext).build()))
+                .build();
+    }
 }
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.repository.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import com.ericsson.oss.air.csac.model.pmsc.AggregationPeriod;
+import com.ericsson.oss.air.csac.model.pmsc.ComplexKpiOutputTableDto;
+import com.ericsson.oss.air.csac.model.pmsc.ComplexPmscKpiDefinitionDto;
+import com.ericsson.oss.air.csac.model.pmsc.KpiOutputTableDto;
+import com.ericsson.oss.air.csac.model.pmsc.KpiOutputTableListDto;
+import com.ericsson.oss.air.csac.model.pmsc.KpiSubmissionDto;
+import com.ericsson.oss.air.csac.model.pmsc.PmscKpiDefinitionDto;
+import com.ericsson.oss.air.csac.model.pmsc.SimpleKpiOutputTableDto;
+import com.ericsson.oss.air.csac.model.pmsc.SimplePmscKpiDefinitionDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class KpiOutputTableDigestCacheTest {
+
+    private static final PmscKpiDefinitionDto SIMPLE_KPI_1 = createSimpleKpi("simple_kpi_1");
+
+    private static final PmscKpiDefinitionDto SIMPLE_KPI_2 = createSimpleKpi("simple_kpi_2");
+
+    private static final KpiOutputTableDto SIMPLE_TABLE = createSimpleTable(List.of(SIMPLE_KPI_1, SIMPLE_KPI_2));
+
+    private static final KpiOutputTableDto COMPLEX_TABLE = ComplexKpiOutputTableDto.customComplexKpiOutputTableDtoBuilder()
+            .aggregationPeriod(AggregationPeriod.FIFTEEN)
+            .alias("complex")
+            .aggregationElements(List.of("snssai"))
+            .kpiDefinitions(List.of(ComplexPmscKpiDefinitionDto.builder()
+                    .name("complex_kpi")
+                    .expression("SUM(kpi_simple_15.simple_kpi_1) FROM kpi_db://kpi_simple_15")
+                    .objectType("FLOAT")
+                    .aggregationType("SUM")
+                    .build()))
+            .build();
+
+    private static final KpiSubmissionDto KPI_SUBMISSION = KpiSubmissionDto.builder()
+            .scheduledSimple(new KpiOutputTableListDto(List.of(SIMPLE_TABLE)))
+            .scheduledComplex(new KpiOutputTableListDto(List.of(COMPLEX_TABLE)))
+            .build();
+
+    private KpiOutputTableDigestCache kpiOutputTableDigestCache;
+
+    @BeforeEach
+    void setUp() {
+        this.kpiOutputTableDigestCache = new KpiOutputTableDigestCache();
+    }
+
+    @Test
+    void removeUnchanged_nothingAccepted() {
+        assertEquals(KPI_SUBMISSION, this.kpiOutputTableDigestCache.removeUnchanged(KPI_SUBMISSION));
+    }
+
+    @Test
+    void removeUnchanged_unchangedTablesRemoved() {
+
+        this.kpiOutputTableDigestCache.putAccepted(KpiSubmissionDto.builder()
+                .scheduledSimple(new KpiOutputTableListDto(List.of(SIMPLE_TABLE)))
+                .build());
+
+        assertEquals(1, this.kpiOutputTableDigestCache.size());
+
+        final KpiSubmissionDto changedSubmission = this.kpiOutputTableDigestCache.removeUnchanged(KPI_SUBMISSION);
+
+        assertNull(changedSubmission.getScheduledSimple());
+        assertEquals(KPI_SUBMISSION.getScheduledComplex(), changedSubmission.getScheduledComplex());
+        assertNull(changedSubmission.getOnDemand());
+
+        this.kpiOutputTableDigestCache.putAccepted(changedSubmission);
+
+        assertEquals(new KpiSubmissionDto(), this.kpiOutputTableDigestCache.removeUnchanged(KPI_SUBMISSION));
+    }
+
+    @Test
+    void removeUnchanged_kpiOrderNotSignificant() {
+
+        this.kpiOutputTableDigestCache.putAccepted(KPI_SUBMISSION);
+
+        final KpiSubmissionDto reorderedSubmission = KpiSubmissionDto.builder()
+                .scheduledSimple(new KpiOutputTableListDto(List.of(createSimpleTable(List.of(SIMPLE_KPI_2, SIMPLE_KPI_1)))))
+                .build();
+
+        assertNull(this.kpiOutputTableDigestCache.removeUnchanged(reorderedSubmission).getScheduledSimple());
+    }
+
+    @Test
+    void removeUnchanged_changedTableKept() {
+
+        this.kpiOutputTableDigestCache.putAccepted(KPI_SUBMISSION);
+
+        final KpiSubmissionDto changedSubmission = KpiSubmissionDto.builder()
+                .scheduledSimple(new KpiOutputTableListDto(List.of(createSimpleTable(List.of(SIMPLE_KPI_1)))))
+                .build();
+
+        assertEquals(changedSubmission, this.kpiOutputTableDigestCache.removeUnchanged(changedSubmission));
+    }
+
+    @Test
+    void removeUnchanged_disabled() {
+
+        this.kpiOutputTableDigestCache.setEnabled(false);
+        this.kpiOutputTableDigestCache.putAccepted(KPI_SUBMISSION);
+
+        assertFalse(this.kpiOutputTableDigestCache.isEnabled());
+        assertEquals(0, this.kpiOutputTableDigestCache.size());
+        assertSame(KPI_SUBMISSION, this.kpiOutputTableDigestCache.removeUnchanged(KPI_SUBMISSION));
+    }
+
+    @Test
+    void deleteAll() {
+
+        this.kpiOutputTableDigestCache.putAccepted(KPI_SUBMISSION);
+        assertEquals(2, this.kpiOutputTableDigestCache.size());
+
+        this.kpiOutputTableDigestCache.deleteAll();
+
+        assertEquals(0, this.kpiOutputTableDigestCache.size());
+        assertEquals(KPI_SUBMISSION, this.kpiOutputTableDigestCache.removeUnchanged(KPI_SUBMISSION));
+    }
+
+    @Test
+    void getTableName() {
+        assertEquals("kpi_simple_15", KpiOutputTableDigestCache.getTableName(SIMPLE_TABLE));
+    }
+
+    private static PmscKpiDefinitionDto createSimpleKpi(final String name) {
+        return SimplePmscKpiDefinitionDto.builder()
+                .name(name)
+                .expression("SUM(pm_counter)")
+                .objectType("FLOAT")
+                .aggregationType("SUM")
+                .build();
+    }
+
+    private static KpiOutputTableDto createSimpleTable(final List<PmscKpiDefinitionDto> kpiDefinitions) {
+        return SimpleKpiOutputTableDto.customSimpleKpiOutputTableDtoBuilder()
+                .aggregationPeriod(AggregationPeriod.FIFTEEN)
+                .alias("simple")
+                .aggregationElements(List.of("snssai"))
+                .kpiDefinitions(kpiDefinitions)
+                .inputDataIdentifier("5G|PM_COUNTERS|schema")
+                .build();
+    }
+}
@@ -10,25 +10,51 @@
 
 package com.ericsson.oss.air.csac.repository.cache;
 
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.DEPLOYED_COMPLEX_KPI_OBJ;
 import static com.ericsson.oss.air.csac.model.TestResourcesUtils.DEPLOYED_SIMPLE_KPI_OBJ;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_SIMPLE_KPI_DEF_OBJ;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+import com.ericsson.oss.air.csac.model.KPIDefinition;
 import com.ericsson.oss.air.csac.model.pmsc.AggregationPeriod;
+import com.ericsson.oss.air.csac.model.pmsc.KpiDefinitionDTO;
+import com.ericsson.oss.air.csac.model.runtime.RuntimeKpiInstance;
 import com.ericsson.oss.air.csac.model.runtime.RuntimeKpiKey;
 import com.ericsson.oss.air.csac.repository.DeployedKpiDefDAO;
+import com.ericsson.oss.air.csac.repository.KPIDefinitionDAO;
+import com.ericsson.oss.air.exception.CsacValidationException;
+import com.ericsson.oss.air.util.concurrent.AtomicDouble;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 public class ResolvedKpiCacheTest {
@@ -36,12 +62,31 @@ public class ResolvedKpiCacheTest {
     @Mock
     private DeployedKpiDefDAO deployedKpiDefDAO;
 
+    @Mock
+    private KPIDefinitionDAO kpiDefinitionDAO;
+
     @InjectMocks
     private ResolvedKpiCache resolvedKpiCache;
 
     private final RuntimeKpiKey runtimeKpiKey = RuntimeKpiKey.builder().withKpDefinitionName("testKpi").withAggregationFields(List.of("field1"))
             .withAggregationPeriod(AggregationPeriod.FIFTEEN.getValue()).build();
 
+    private final AtomicLong hitCounter = new AtomicLong();
+
+    private final AtomicLong missCounter = new AtomicLong();
+
+    private final AtomicLong sizeGauge = new AtomicLong();
+
+    private final AtomicDouble loadTime = new AtomicDouble(-1.0D);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(this.resolvedKpiCache, "hitCounter", this.hitCounter);
+        ReflectionTestUtils.setField(this.resolvedKpiCache, "missCounter", this.missCounter);
+        ReflectionTestUtils.setField(this.resolvedKpiCache, "sizeGauge", this.sizeGauge);
+        ReflectionTestUtils.setField(this.resolvedKpiCache, "loadTime", this.loadTime);
+    }
+
     @Test
     void get_noCacheExist() {
         assertEquals(Optional.empty(), this.resolvedKpiCache.get(runtimeKpiKey));
@@ -53,17 +98,94 @@ public class ResolvedKpiCacheTest {
         assertEquals(DEPLOYED_SIMPLE_KPI_OBJ, this.resolvedKpiCache.get(runtimeKpiKey).get());
     }
 
+    @Test
+    void putIfAbsent_absent() {
+        assertSame(DEPLOYED_SIMPLE_KPI_OBJ, this.resolvedKpiCache.putIfAbsent(runtimeKpiKey, DEPLOYED_SIMPLE_KPI_OBJ));
+        assertEquals(DEPLOYED_SIMPLE_KPI_OBJ, this.resolvedKpiCache.get(runtimeKpiKey).get());
+    }
+
+    @Test
+    void putIfAbsent_existing() {
+        this.resolvedKpiCache.put(runtimeKpiKey, DEPLOYED_SIMPLE_KPI_OBJ);
+
+        assertSame(DEPLOYED_SIMPLE_KPI_OBJ, this.resolvedKpiCache.putIfAbsent(runtimeKpiKey, DEPLOYED_COMPLEX_KPI_OBJ));
+        assertEquals(DEPLOYED_SIMPLE_KPI_OBJ, this.resolvedKpiCache.get(runtimeKpiKey).get());
+    }
+
+    @Test
+    void putIfAbsent_concurrentWriters() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Callable<KpiDefinitionDTO>> writers = IntStream.range(0, 32)
+                    .mapToObj(i -> (Callable<KpiDefinitionDTO>) () -> this.resolvedKpiCache.putIfAbsent(runtimeKpiKey,
+                            DEPLOYED_SIMPLE_KPI_OBJ.toBuilder().build()))
+                    .toList();
+
+            final List<Future<KpiDefinitionDTO>> results = executor.invokeAll(writers);
+
+            // every writer must observe the single instance retained by the cache
+            final KpiDefinitionDTO cached = this.resolvedKpiCache.get(runtimeKpiKey).orElseThrow();
+            for (final Future<KpiDefinitionDTO> result : results) {
+                assertSame(cached, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     void flushToRuntimeDS() {
         this.resolvedKpiCache.put(runtimeKpiKey, DEPLOYED_SIMPLE_KPI_OBJ);
         this.resolvedKpiCache.flush();
-        verify(deployedKpiDefDAO, times(1)).createDeployedKpi(DEPLOYED_SIMPLE_KPI_OBJ, runtimeKpiKey.getKpDefinitionName(), List.of("field1"));
+        verify(deployedKpiDefDAO, times(1)).createDeployedKpis(Map.of(runtimeKpiKey, DEPLOYED_SIMPLE_KPI_OBJ));
+        assertEquals(0, this.resolvedKpiCache.pendingFlushCount());
     }
 
     @Test
     void flushToRuntimeDSWithNoData() {
         this.resolvedKpiCache.flush();
-        verify(deployedKpiDefDAO, times(0)).createDeployedKpi(any(), anyString(), List.of(anyString()));
+        verify(deployedKpiDefDAO, times(0)).createDeployedKpis(anyMap());
+    }
+
+    @Test
+    void flush_unchangedInstancesNotWrittenAgain() {
+        this.resolvedKpiCache.put(runtimeKpiKey, DEPLOYED_SIMPLE_KPI_OBJ);
+        this.resolvedKpiCache.flush();
+
+        // same instance again and an existing key via putIfAbsent
+        this.resolvedKpiCache.put(runtimeKpiKey, DEPLOYED_SIMPLE_KPI_OBJ);
+        this.resolvedKpiCache.putIfAbsent(runtimeKpiKey, DEPLOYED_COMPLEX_KPI_OBJ);
+        this.resolvedKpiCache.flush();
+
+        verify(deployedKpiDefDAO, times(1)).createDeployedKpis(anyMap());
+    }
+
+    @Test
+    void flush_onlyModifiedInstancesWritten() {
+        final RuntimeKpiKey otherKey = runtimeKpiKey.toBuilder().withKpDefinitionName("otherKpi").build();
+
+        this.resolvedKpiCache.put(runtimeKpiKey, DEPLOYED_SIMPLE_KPI_OBJ);
+        this.resolvedKpiCache.putIfAbsent(otherKey, DEPLOYED_COMPLEX_KPI_OBJ);
+        this.resolvedKpiCache.flush();
+
+        verify(deployedKpiDefDAO, times(1)).createDeployedKpis(Map.of(runtimeKpiKey, DEPLOYED_SIMPLE_KPI_OBJ, otherKey, DEPLOYED_COMPLEX_KPI_OBJ));
+
+        final KpiDefinitionDTO modified = DEPLOYED_SIMPLE_KPI_OBJ.toBuilder().withAlias("modified").build();
+        this.resolvedKpiCache.put(runtimeKpiKey, modified);
+        assertEquals(1, this.resolvedKpiCache.pendingFlushCount());
+
+        this.resolvedKpiCache.flush();
+
+        verify(deployedKpiDefDAO, times(1)).createDeployedKpis(Map.of(runtimeKpiKey, modified));
+    }
+
+    @Test
+    void flush_failureKeepsInstancesPending() {
+        this.resolvedKpiCache.put(runtimeKpiKey, DEPLOYED_SIMPLE_KPI_OBJ);
+        doThrow(new IllegalStateException("test")).when(deployedKpiDefDAO).createDeployedKpis(anyMap());
+
+        assertThrows(IllegalStateException.class, () -> this.resolvedKpiCache.flush());
+        assertEquals(1, this.resolvedKpiCache.pendingFlushCount());
     }
 
     @Test
@@ -73,5 +195,183 @@ public class ResolvedKpiCacheTest {
         this.resolvedKpiCache.deleteAll();
 
         assertTrue(this.resolvedKpiCache.isEmpty());
+        assertEquals(0, this.resolvedKpiCache.pendingFlushCount());
+    }
+
+    @Test
+    void get_countsHitsAndMisses() {
+        this.resolvedKpiCache.get(runtimeKpiKey);
+        this.resolvedKpiCache.put(runtimeKpiKey, DEPLOYED_SIMPLE_KPI_OBJ);
+        this.resolvedKpiCache.get(runtimeKpiKey);
+        this.resolvedKpiCache.get(runtimeKpiKey);
+
+        assertEquals(2L, this.hitCounter.get());
+        assertEquals(1L, this.missCounter.get());
+        assertEquals(1L, this.sizeGauge.get());
+    }
+
+    @Test
+    void containsKey_notCountedAsHitOrMiss() {
+        assertFalse(this.resolvedKpiCache.containsKey(runtimeKpiKey));
+        this.resolvedKpiCache.put(runtimeKpiKey, DEPLOYED_SIMPLE_KPI_OBJ);
+        assertTrue(this.resolvedKpiCache.containsKey(runtimeKpiKey));
+
+        assertEquals(0L, this.hitCounter.get());
+        assertEquals(0L, this.missCounter.get());
+    }
+
+    @Test
+    void preload_disabled() {
+        this.resolvedKpiCache.setPreloadEnabled(false);
+
+        this.resolvedKpiCache.preload();
+
+        verify(deployedKpiDefDAO, never()).streamAllRuntimeKpis(any());
+        assertTrue(this.resolvedKpiCache.isEmpty());
+    }
+
+    @Test
+    void preload_simpleKpisOnly() {
+        this.resolvedKpiCache.setPreloadEnabled(true);
+        this.mockKpiDefinitions(kpiDefinition("simpleKpi"), kpiDefinition("complexKpi"));
+        this.mockRuntimeKpis(
+                runtimeKpi("simpleKpi", List.of("field1"), DEPLOYED_SIMPLE_KPI_OBJ),
+                runtimeKpi("complexKpi", List.of("field1"), DEPLOYED_COMPLEX_KPI_OBJ));
+
+        this.resolvedKpiCache.preload();
+
+        assertEquals(1, this.resolvedKpiCache.size());
+        assertEquals(DEPLOYED_SIMPLE_KPI_OBJ, this.resolvedKpiCache.get(runtimeKpiKey.toBuilder().withKpDefinitionName("simpleKpi").build()).get());
+        assertEquals(1L, this.sizeGauge.get());
+        assertTrue(this.loadTime.get() >= 0.0D);
+    }
+
+    @Test
+    void preload_instancesNotFlushed() {
+        this.resolvedKpiCache.setPreloadEnabled(true);
+        this.mockKpiDefinitions(kpiDefinition("simpleKpi"));
+        this.mockRuntimeKpis(runtimeKpi("simpleKpi", List.of("field1"), DEPLOYED_SIMPLE_KPI_OBJ));
+
+        this.resolvedKpiCache.preload();
+        this.resolvedKpiCache.flush();
+
+        assertEquals(0, this.resolvedKpiCache.pendingFlushCount());
+        verify(deployedKpiDefDAO, never()).createDeployedKpis(anyMap());
+    }
+
+    @Test
+    void preload_boundedEvictsOldest() {
+        this.resolvedKpiCache.setPreloadEnabled(true);
+        this.resolvedKpiCache.setMaxSize(2);
+        this.mockKpiDefinitions(kpiDefinition("kpi1"), kpiDefinition("kpi2"), kpiDefinition("kpi3"));
+        this.mockRuntimeKpis(
+                runtimeKpi("kpi1", List.of("field1"), DEPLOYED_SIMPLE_KPI_OBJ),
+                runtimeKpi("kpi2", List.of("field1"), DEPLOYED_SIMPLE_KPI_OBJ),
+                runtimeKpi("kpi3", List.of("field1"), DEPLOYED_SIMPLE_KPI_OBJ));
+
+        this.resolvedKpiCache.preload();
+
+        assertEquals(2, this.resolvedKpiCache.size());
+        assertFalse(this.resolvedKpiCache.get(runtimeKpiKey.toBuilder().withKpDefinitionName("kpi1").build()).isPresent());
+        assertTrue(this.resolvedKpiCache.get(runtimeKpiKey.toBuilder().withKpDefinitionName("kpi3").build()).isPresent());
+        assertEquals(2L, this.sizeGauge.get());
+    }
+
+    @Test
+    void preload_kpiDefinitionNotInDictionary_notLoaded() {
+        this.resolvedKpiCache.setPreloadEnabled(true);
+        this.mockKpiDefinitions(kpiDefinition("kpi1"));
+        this.mockRuntimeKpis(
+                runtimeKpi("kpi1", List.of("field1"), DEPLOYED_SIMPLE_KPI_OBJ),
+                runtimeKpi("deletedKpi", List.of("field1"), DEPLOYED_SIMPLE_KPI_OBJ));
+
+        this.resolvedKpiCache.preload();
+
+        assertEquals(1, this.resolvedKpiCache.size());
+        assertFalse(this.resolvedKpiCache.get(runtimeKpiKey.toBuilder().withKpDefinitionName("deletedKpi").build()).isPresent());
+    }
+
+    @Test
+    void evictStale_changedKpiDefinitionEvicted() {
+        this.resolvedKpiCache.setPreloadEnabled(true);
+        this.mockKpiDefinitions(kpiDefinition("kpi1"), kpiDefinition("kpi2"));
+        this.mockRuntimeKpis(
+                runtimeKpi("kpi1", List.of("field1"), DEPLOYED_SIMPLE_KPI_OBJ),
+                runtimeKpi("kpi2", List.of("field1"), DEPLOYED_SIMPLE_KPI_OBJ));
+
+        this.resolvedKpiCache.preload();
+
+        final KPIDefinition changedKpi = kpiDefinition("kpi1").toBuilder().expression("MIN(pmdef_name)").build();
+        this.resolvedKpiCache.evictStale(List.of(changedKpi, kpiDefinition("kpi2")));
+
+        assertFalse(this.resolvedKpiCache.get(runtimeKpiKey.toBuilder().withKpDefinitionName("kpi1").build()).isPresent());
+        assertTrue(this.resolvedKpiCache.get(runtimeKpiKey.toBuilder().withKpDefinitionName("kpi2").build()).isPresent());
+        assertEquals(1L, this.sizeGauge.get());
+    }
+
+    @Test
+    void evictStale_resolvedInstancesKept() {
+        this.resolvedKpiCache.setPreloadEnabled(true);
+        this.mockKpiDefinitions(kpiDefinition("kpi1"));
+        this.mockRuntimeKpis(runtimeKpi("kpi1", List.of("field1"), DEPLOYED_SIMPLE_KPI_OBJ));
+
+        this.resolvedKpiCache.preload();
+
+        // the instance resolved from the changed KPI definition replaces the preloaded one
+        final RuntimeKpiKey key = runtimeKpiKey.toBuilder().withKpDefinitionName("kpi1").build();
+        final KpiDefinitionDTO resolvedKpi = DEPLOYED_SIMPLE_KPI_OBJ.toBuilder().withExpression("MIN(pmdef_name)").build();
+        this.resolvedKpiCache.put(key, resolvedKpi);
+
+        this.resolvedKpiCache.evictStale(List.of(kpiDefinition("kpi1").toBuilder().expression("MIN(pmdef_name)").build()));
+
+        assertEquals(resolvedKpi, this.resolvedKpiCache.get(key).get());
+    }
+
+    @Test
+    void flush_boundedNeverEvictsPendingInstances() {
+        this.resolvedKpiCache.setMaxSize(1);
+        final RuntimeKpiKey otherKey = runtimeKpiKey.toBuilder().withKpDefinitionName("otherKpi").build();
+
+        this.resolvedKpiCache.put(runtimeKpiKey, DEPLOYED_SIMPLE_KPI_OBJ);
+        this.resolvedKpiCache.put(otherKey, DEPLOYED_SIMPLE_KPI_OBJ);
+
+        // both instances are pending flush and must remain cached
+        assertEquals(2, this.resolvedKpiCache.size());
+
+        this.resolvedKpiCache.flush();
+
+        assertEquals(1, this.resolvedKpiCache.size());
+        verify(deployedKpiDefDAO, times(1)).createDeployedKpis(Map.of(runtimeKpiKey, DEPLOYED_SIMPLE_KPI_OBJ, otherKey, DEPLOYED_SIMPLE_KPI_OBJ));
+    }
+
+    @Test
+    void setMaxSize_invalid() {
+        assertThrows(CsacValidationException.class, () -> this.resolvedKpiCache.setMaxSize(-1));
+        assertThrows(CsacValidationException.class, () -> this.resolvedKpiCache.setMaxSize(null));
+    }
+
+    private void mockKpiDefinitions(final KPIDefinition... kpiDefinitions) {
+        when(this.kpiDefinitionDAO.findAll()).thenReturn(Stream.of(kpiDefinitions).toList());
+    }
+
+    private static KPIDefinition kpiDefinition(final String name) {
+        return VALID_SIMPLE_KPI_DEF_OBJ.toBuilder().name(name).build();
+    }
+
+    private void mockRuntimeKpis(final RuntimeKpiInstance... runtimeKpis) {
+        doAnswer(invocation -> {
+            final Consumer<RuntimeKpiInstance> consumer = invocation.getArgument(0);
+            List.of(runtimeKpis).forEach(consumer);
+            return null;
+        }).when(deployedKpiDefDAO).streamAllRuntimeKpis(any());
+    }
+
+    private static RuntimeKpiInstance runtimeKpi(final String kpiDefName, final List<String> aggregationFields, final KpiDefinitionDTO kpiDef) {
+        return RuntimeKpiInstance.builder()
+                .withInstanceId(kpiDef.getName())
+                .withKpDefinitionName(kpiDefName)
+                .withContextFieldList(aggregationFields)
+                .withRuntimeDefinition(kpiDef)
+                .build();
     }
 }
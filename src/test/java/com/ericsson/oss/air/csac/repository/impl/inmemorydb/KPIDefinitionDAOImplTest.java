@@ -291,6 +291,13 @@ class KPIDefinitionDAOImplTest {
         assertFalse(this.kpiDefDAO.isMatched(KPI_DEF_NEW));
     }
 
+    @Test
+    void findUnmatched() {
+        this.kpiDefDAO.saveKPIDefinition(KPI_DEF_ORIG);
+        assertEquals(Set.of(KPI_DEF_NEW), this.kpiDefDAO.findUnmatched(List.of(KPI_DEF_ORIG, KPI_DEF_NEW)));
+        assertTrue(this.kpiDefDAO.findUnmatched(List.of()).isEmpty());
+    }
+
     @Test
     void getAffectedKPIDefs() {
 
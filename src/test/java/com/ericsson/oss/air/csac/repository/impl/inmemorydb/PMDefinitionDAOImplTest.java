@@ -18,6 +18,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import com.ericsson.oss.air.csac.model.PMDefinition;
 import org.junit.jupiter.api.AfterEach;
@@ -271,6 +272,13 @@ class PMDefinitionDAOImplTest {
         Assertions.assertFalse(this.pmDefDAO.isMatched(PM_DEF));
     }
 
+    @Test
+    void findUnmatched() {
+        this.pmDefDAO.savePMDefinition(PM_DEF_ORIG, SCHEMA_NAME);
+        assertEquals(Set.of(PM_DEF_UPDATED, PM_DEF), this.pmDefDAO.findUnmatched(List.of(PM_DEF_ORIG, PM_DEF_UPDATED, PM_DEF)));
+        Assertions.assertTrue(this.pmDefDAO.findUnmatched(List.of()).isEmpty());
+    }
+
     @Test
     void findAllPMDefinitions_3totalWith2RowsPage_2recordsOn1stPage_1recordOn2ndPage() {
         pmDefDAO = new PMDefinitionDAOImpl();
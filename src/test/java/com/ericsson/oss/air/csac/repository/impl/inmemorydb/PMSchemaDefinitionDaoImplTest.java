@@ -19,6 +19,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
+import java.util.Set;
 
 import com.ericsson.oss.air.csac.model.PMSchemaDefinition;
 import com.ericsson.oss.air.csac.model.pmschema.SchemaURI;
@@ -73,6 +74,15 @@ class PMSchemaDefinitionDaoImplTest {
         assertFalse(this.testDao.isMatched(VALID_PM_SCHEMA_DEFINITION_PM_COUNTER));
     }
 
+    @Test
+    void findUnmatched() {
+
+        this.testDao.save(VALID_PM_SCHEMA_DEFINITION_PM_COUNTER);
+
+        assertEquals(Set.of(VALID_PM_SCHEMA_DEFINITION_WO_PM_COUNTERS),
+                this.testDao.findUnmatched(List.of(VALID_PM_SCHEMA_DEFINITION_PM_COUNTER, VALID_PM_SCHEMA_DEFINITION_WO_PM_COUNTERS)));
+    }
+
     @Test
     void deleteById() {
         assertThrows(UnsupportedOperationException.class, () -> this.testDao.deleteById(PM_SCHEMA_NAME));
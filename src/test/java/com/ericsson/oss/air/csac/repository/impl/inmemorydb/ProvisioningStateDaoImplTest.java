@@ -192,4 +192,22 @@ class ProvisioningStateDaoImplTest {
     void deleteAll_entities() {
         assertThrows(UnsupportedOperationException.class, () -> this.provisioningStateDao.deleteAll(List.of(ProvisioningState.started())));
     }
-}
\ No newline at end of file
+
+    @Test
+    void updateResourceFingerprint() {
+
+        // not recorded unless the latest state is COMPLETED
+        this.provisioningStateDao.updateResourceFingerprint("fingerprint");
+        assertNull(this.provisioningStateDao.findLatest().getResourceFingerprint());
+
+        this.provisioningStateDao.save(ProvisioningState.started());
+        this.provisioningStateDao.save(ProvisioningState.completed());
+        this.provisioningStateDao.updateResourceFingerprint("fingerprint");
+
+        final ProvisioningState actual = this.provisioningStateDao.findLatest();
+
+        assertEquals("fingerprint", actual.getResourceFingerprint());
+        assertEquals(ProvisioningState.State.COMPLETED, actual.getProvisioningState());
+        assertEquals(2, actual.getId());
+    }
+}
@@ -17,12 +17,15 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
+import java.sql.ResultSet;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import com.ericsson.oss.air.csac.configuration.JdbcConfig;
 import com.ericsson.oss.air.csac.model.AugmentationDefinition;
@@ -30,12 +33,14 @@ import com.ericsson.oss.air.csac.model.AugmentationRule;
 import com.ericsson.oss.air.csac.model.AugmentationRuleField;
 import com.ericsson.oss.air.csac.repository.impl.jdbc.mapper.AugmentationDefinitionMapper;
 import com.ericsson.oss.air.exception.CsacDAOException;
+import com.ericsson.oss.air.util.codec.ContentDigest;
 import com.ericsson.oss.air.util.logging.FaultHandler;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -43,6 +48,7 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
@@ -210,4 +216,32 @@ class AugmentationDefinitionDAOJdbcImplTest {
 
         assertEquals(3, this.testDao.totalAugmentationDefinitions());
     }
-}
\ No newline at end of file
+
+    @Test
+    void saveAll_withDigest() {
+        this.testDao.saveAll(List.of(this.testDef));
+
+        final ArgumentCaptor<SqlParameterSource[]> captor = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        Mockito.verify(this.namedParameterJdbcTemplate).batchUpdate(
+                eq("INSERT INTO dict.aug_def(name, def, digest) VALUES(:name, to_json(:def::json), :digest)"
+                        + " ON CONFLICT (name) DO UPDATE SET def = EXCLUDED.def, digest = EXCLUDED.digest"),
+                captor.capture());
+
+        assertEquals(ContentDigest.of(this.testDef), captor.getValue()[0].getValue("digest"));
+    }
+
+    @Test
+    void findAllDigests() throws Exception {
+        final ResultSet row = Mockito.mock(ResultSet.class);
+        when(row.getString("name")).thenReturn(this.testDef.getName());
+        when(row.getString("digest")).thenReturn(ContentDigest.of(this.testDef));
+
+        Mockito.doAnswer(invocation -> {
+            invocation.getArgument(1, RowCallbackHandler.class).processRow(row);
+            return null;
+        }).when(this.jdbcTemplate).query(eq("SELECT name, digest, CASE WHEN digest IS NULL THEN def END AS def FROM dict.aug_def"),
+                any(RowCallbackHandler.class));
+
+        assertEquals(Map.of(this.testDef.getName(), ContentDigest.of(this.testDef)), this.testDao.findAllDigests());
+    }
+}
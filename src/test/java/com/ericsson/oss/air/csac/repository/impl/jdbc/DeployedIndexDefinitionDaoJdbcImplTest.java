@@ -18,12 +18,15 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
@@ -37,6 +40,7 @@ import com.ericsson.oss.air.csac.repository.impl.jdbc.mapper.DeployedIndexDefini
 import com.ericsson.oss.air.exception.CsacDAOException;
 import com.ericsson.oss.air.exception.CsacValidationException;
 import com.ericsson.oss.air.util.codec.Codec;
+import com.ericsson.oss.air.util.codec.ContentDigest;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -51,6 +55,7 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
 
 @ExtendWith(MockitoExtension.class)
 class DeployedIndexDefinitionDaoJdbcImplTest {
@@ -125,11 +130,11 @@ class DeployedIndexDefinitionDaoJdbcImplTest {
         final PreparedStatement ps = mock(PreparedStatement.class);
 
         final PreparedStatementSetter actual = this.testDao.getSaveStatementSetter("index",
-                this.validIndexDefinitionStr);
+                this.validIndexDefinitionStr, "digest");
 
         actual.setValues(ps);
 
-        Mockito.verify(ps, Mockito.times(2))
+        Mockito.verify(ps, Mockito.times(3))
                 .setString(anyInt(), anyString());
 
     }
@@ -140,11 +145,11 @@ class DeployedIndexDefinitionDaoJdbcImplTest {
         final PreparedStatement ps = mock(PreparedStatement.class);
 
         final BatchPreparedStatementSetter actual = this.testDao.getSaveAllStatementSetter(List.of("index"),
-                List.of(this.validIndexDefinitionStr));
+                List.of(this.validIndexDefinitionStr), List.of("digest"));
 
         actual.setValues(ps, 0);
 
-        Mockito.verify(ps, Mockito.times(2))
+        Mockito.verify(ps, Mockito.times(3))
                 .setString(anyInt(), anyString());
 
         assertEquals(1, actual.getBatchSize());
@@ -158,7 +163,8 @@ class DeployedIndexDefinitionDaoJdbcImplTest {
 
         this.testDao.save(actual);
 
-        final String saveSqlStatement = "INSERT INTO rtds.rt_idx_def (idx_name,idx_def) VALUES(?, to_json(?::json)) ON CONFLICT (idx_name) DO UPDATE SET idx_def = EXCLUDED.idx_def";
+        final String saveSqlStatement = "INSERT INTO rtds.rt_idx_def (idx_name,idx_def,idx_digest) VALUES(?, to_json(?::json), ?)"
+                + " ON CONFLICT (idx_name) DO UPDATE SET idx_def = EXCLUDED.idx_def, idx_digest = EXCLUDED.idx_digest";
 
         Mockito.verify(this.jdbcTemplate, Mockito.times(1))
                 .update(eq(saveSqlStatement), any(PreparedStatementSetter.class));
@@ -223,7 +229,8 @@ class DeployedIndexDefinitionDaoJdbcImplTest {
 
         this.testDao.saveAll(List.of(actual));
 
-        final String saveAllSqlStatement = "INSERT INTO rtds.rt_idx_def (idx_name,idx_def) VALUES(?, to_json(?::json)) ON CONFLICT (idx_name) DO UPDATE SET idx_def = EXCLUDED.idx_def";
+        final String saveAllSqlStatement = "INSERT INTO rtds.rt_idx_def (idx_name,idx_def,idx_digest) VALUES(?, to_json(?::json), ?)"
+                + " ON CONFLICT (idx_name) DO UPDATE SET idx_def = EXCLUDED.idx_def, idx_digest = EXCLUDED.idx_digest";
 
         Mockito.verify(this.jdbcTemplate, Mockito.times(1))
                 .batchUpdate(eq(saveAllSqlStatement), any(BatchPreparedStatementSetter.class));
@@ -281,6 +288,59 @@ class DeployedIndexDefinitionDaoJdbcImplTest {
 
     }
 
+    @Test
+    void findDigestById() throws Exception {
+
+        final DeployedIndexDefinitionDto expected = CODEC.readValue(this.validIndexDefinitionStr, DeployedIndexDefinitionDto.class);
+
+        final String findDigestSqlStatement = "SELECT idx_name, idx_digest, CASE WHEN idx_digest IS NULL THEN idx_def END AS idx_def"
+                + " FROM rtds.rt_idx_def WHERE idx_name = ?";
+
+        final ResultSet row = mock(ResultSet.class);
+        when(row.getString("idx_name")).thenReturn("index");
+        when(row.getString("idx_digest")).thenReturn(ContentDigest.of(expected));
+
+        doAnswer(invocation -> {
+            invocation.getArgument(1, RowCallbackHandler.class).processRow(row);
+            return null;
+        }).when(this.jdbcTemplate).query(eq(findDigestSqlStatement), any(RowCallbackHandler.class), eq("index"));
+
+        assertEquals(Optional.of(ContentDigest.of(expected)), this.testDao.findDigestById("index"));
+    }
+
+    @Test
+    void findDigestById_legacyRow() throws Exception {
+
+        final DeployedIndexDefinitionDto expected = CODEC.readValue(this.validIndexDefinitionStr, DeployedIndexDefinitionDto.class);
+
+        final ResultSet row = mock(ResultSet.class);
+        when(row.getString("idx_name")).thenReturn("index");
+        when(row.getString("idx_def")).thenReturn(this.validIndexDefinitionStr);
+
+        doAnswer(invocation -> {
+            invocation.getArgument(1, RowCallbackHandler.class).processRow(row);
+            return null;
+        }).when(this.jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq("index"));
+
+        assertEquals(Optional.of(ContentDigest.of(expected)), this.testDao.findDigestById("index"));
+    }
+
+    @Test
+    void findDigestById_noMatch() {
+
+        assertTrue(this.testDao.findDigestById("index").isEmpty());
+    }
+
+    @Test
+    void findDigestById_dataAccessException() {
+
+        final DataAccessException mockException = mock(DataAccessException.class);
+
+        doThrow(mockException).when(this.jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq("index"));
+
+        assertThrows(CsacDAOException.class, () -> this.testDao.findDigestById("index"));
+    }
+
     @Test
     void existsById_dataAccessException() throws Exception {
 
@@ -13,6 +13,12 @@ package com.ericsson.oss.air.csac.repository.impl.jdbc;
 import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_PROFILE_DEF_AGGREGATION_FIELD_LIST;
 import static com.ericsson.oss.air.csac.repository.impl.jdbc.DeployedKpiDefDAOJdbcImpl.FIND_ALL_RT_KPIS;
 import static com.ericsson.oss.air.csac.repository.impl.jdbc.DeployedKpiDefDAOJdbcImpl.FIND_ALL_VISIBLE_RT_KPIS;
+import static com.ericsson.oss.air.csac.repository.impl.jdbc.DeployedKpiDefDAOJdbcImpl.INSERT_BATCH_SIZE;
+import static com.ericsson.oss.air.csac.repository.impl.jdbc.DeployedKpiDefDAOJdbcImpl.KPI_DEF_NAME_COLUMN;
+import static com.ericsson.oss.air.csac.repository.impl.jdbc.DeployedKpiDefDAOJdbcImpl.KPI_INSTANCE_ID_COLUMN;
+import static com.ericsson.oss.air.csac.repository.impl.jdbc.DeployedKpiDefDAOJdbcImpl.PMSC_KPI_DEF_COLUMN;
+import static com.ericsson.oss.air.csac.repository.impl.jdbc.DeployedKpiDefDAOJdbcImpl.STREAM_FETCH_SIZE;
+import static com.ericsson.oss.air.csac.repository.impl.jdbc.DeployedProfileDAOJdbcImpl.COLUMN_AGG_FIELDS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -21,14 +27,22 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.sql.Array;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javax.sql.DataSource;
 
@@ -38,24 +52,32 @@ import com.ericsson.oss.air.csac.model.TestResourcesUtils;
 import com.ericsson.oss.air.csac.model.pmsc.KpiDefinitionDTO;
 import com.ericsson.oss.air.csac.model.pmsc.KpiTypeEnum;
 import com.ericsson.oss.air.csac.model.runtime.RuntimeKpiInstance;
+import com.ericsson.oss.air.csac.model.runtime.RuntimeKpiKey;
 import com.ericsson.oss.air.csac.model.runtime.metadata.KpiContextId;
 import com.ericsson.oss.air.csac.repository.impl.jdbc.mapper.DeployedKpiDefinitionMapper;
 import com.ericsson.oss.air.csac.repository.impl.jdbc.mapper.RuntimeKpiInstanceMapper;
+import com.ericsson.oss.air.csac.repository.impl.jdbc.util.SqlEncoder;
 import com.ericsson.oss.air.exception.CsacDAOException;
 import com.ericsson.oss.air.util.logging.FaultHandler;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.h2.tools.SimpleResultSet;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementCreator;
 import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
@@ -134,6 +156,69 @@ public class DeployedKpiDefDAOJdbcImplTest {
         assertThrows(CsacDAOException.class, () -> this.dao.createDeployedKpi(kpiDefinitionDTO, kpiDefName, profileDefinition));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void createDeployedKpis() throws SQLException, JsonProcessingException {
+        final KpiDefinitionDTO kpiDefinitionDTO = TestResourcesUtils.DEPLOYED_SIMPLE_KPI_OBJ;
+        final RuntimeKpiKey runtimeKpiKey = RuntimeKpiKey.builder()
+                .withKpDefinitionName(TestResourcesUtils.VALID_SIMPLE_KPI_DEF_NAME)
+                .withAggregationFields(VALID_PROFILE_DEF_AGGREGATION_FIELD_LIST)
+                .build();
+        final Map<RuntimeKpiKey, KpiDefinitionDTO> runtimeKpis = new LinkedHashMap<>();
+        runtimeKpis.put(runtimeKpiKey, kpiDefinitionDTO);
+
+        when(this.mapper.writeValueAsString(kpiDefinitionDTO)).thenReturn("{}");
+
+        this.dao.createDeployedKpis(runtimeKpis);
+
+        final ArgumentCaptor<Collection<Object>> rowsCaptor = ArgumentCaptor.forClass(Collection.class);
+        final ArgumentCaptor<ParameterizedPreparedStatementSetter<Object>> setterCaptor = ArgumentCaptor.forClass(
+                ParameterizedPreparedStatementSetter.class);
+
+        Mockito.verify(this.jdbcTemplate, Mockito.times(1))
+                .batchUpdate(eq(String.format(DeployedKpiDefDAOJdbcImpl.INSERT_KPI_INSTANCE_STATEMENT, "rtds")), rowsCaptor.capture(),
+                        eq(INSERT_BATCH_SIZE), setterCaptor.capture());
+        assertEquals(1, rowsCaptor.getValue().size());
+
+        // the aggregation field array is created on the batch connection
+        final PreparedStatement ps = Mockito.mock(PreparedStatement.class);
+        final Array array = Mockito.mock(Array.class);
+        when(ps.getConnection()).thenReturn(this.connection);
+        when(this.connection.createArrayOf("VARCHAR", VALID_PROFILE_DEF_AGGREGATION_FIELD_LIST.toArray())).thenReturn(array);
+
+        setterCaptor.getValue().setValues(ps, rowsCaptor.getValue().iterator().next());
+
+        Mockito.verify(ps).setString(1, kpiDefinitionDTO.getName());
+        Mockito.verify(ps).setString(2, TestResourcesUtils.VALID_SIMPLE_KPI_DEF_NAME);
+        Mockito.verify(ps).setArray(3, array);
+        Mockito.verify(ps).setString(4, "{}");
+        verifyNoInteractions(this.dataSource);
+    }
+
+    @Test
+    void createDeployedKpis_emptyInput() {
+
+        this.dao.createDeployedKpis(Collections.emptyMap());
+
+        verifyNoInteractions(this.jdbcTemplate);
+    }
+
+    @Test
+    void createDeployedKpis_invalidKpiObjectToSerialize_ObjectMapperThrowException() throws JsonProcessingException {
+        final KpiDefinitionDTO kpiDefinitionDTO = TestResourcesUtils.DEPLOYED_SIMPLE_KPI_OBJ;
+        final RuntimeKpiKey runtimeKpiKey = RuntimeKpiKey.builder()
+                .withKpDefinitionName(TestResourcesUtils.VALID_SIMPLE_KPI_DEF_NAME)
+                .withAggregationFields(VALID_PROFILE_DEF_AGGREGATION_FIELD_LIST)
+                .build();
+
+        when(this.mapper.writeValueAsString(kpiDefinitionDTO))
+                .thenThrow(new JsonProcessingException("cannot serialize kpi") {
+                });
+
+        assertThrows(CsacDAOException.class, () -> this.dao.createDeployedKpis(Map.of(runtimeKpiKey, kpiDefinitionDTO)));
+        verifyNoInteractions(this.jdbcTemplate);
+    }
+
     @Test
     void createDeployedKpi_invalidKpiObjectToSerialize_ObjectMapperThrowException() throws SQLException, JsonProcessingException {
         final KpiDefinitionDTO kpiDefinitionDTO = TestResourcesUtils.DEPLOYED_SIMPLE_KPI_OBJ;
@@ -338,6 +423,77 @@ public class DeployedKpiDefDAOJdbcImplTest {
         assertEquals(1, this.dao.findAllRuntimeKpis().size());
     }
 
+    @Test
+    void streamAllRuntimeKpis() throws Exception {
+
+        final String kpiDefJson = "{\"name\": \"csac_simple_1\", \"alias\": \"csac_simple_snssai\", \"expression\": \"SUM(fact_table_1.value1)\", "
+                + "\"object_type\": \"FLOAT\", \"aggregation_type\": \"SUM\", \"aggregation_period\": 15, "
+                + "\"aggregation_elements\": [\"fact_table_1.snssai\"], \"is_visible\": true}";
+
+        final SimpleResultSet resultSet = new SimpleResultSet();
+        resultSet.addColumn(KPI_INSTANCE_ID_COLUMN, 0, 0, 0);
+        resultSet.addColumn(PMSC_KPI_DEF_COLUMN, 0, 0, 0);
+        resultSet.addColumn(COLUMN_AGG_FIELDS, 0, 0, 0);
+        resultSet.addColumn(KPI_DEF_NAME_COLUMN, 0, 0, 0);
+        resultSet.addRow("csac_simple_1", kpiDefJson, new String[] { "snssai" }, "kpi1");
+        resultSet.next();
+
+        final PreparedStatement preparedStatement = Mockito.mock(PreparedStatement.class);
+        when(this.connection.prepareStatement(FIND_ALL_RT_KPIS.formatted("rtds"))).thenReturn(preparedStatement);
+
+        Mockito.doAnswer(invocation -> {
+            invocation.getArgument(0, PreparedStatementCreator.class).createPreparedStatement(this.connection);
+            invocation.getArgument(1, RowCallbackHandler.class).processRow(resultSet);
+            return null;
+        }).when(this.jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        final List<RuntimeKpiInstance> actual = new ArrayList<>();
+        this.dao.streamAllRuntimeKpis(actual::add);
+
+        Mockito.verify(preparedStatement).setFetchSize(STREAM_FETCH_SIZE);
+
+        assertEquals(1, actual.size());
+        assertEquals("kpi1", actual.get(0).getKpDefinitionName());
+        assertEquals(List.of("snssai"), actual.get(0).getContextFieldList());
+        assertEquals(KpiTypeEnum.SIMPLE, ((KpiDefinitionDTO) actual.get(0).getRuntimeDefinition()).getKpiType());
+    }
+
+    @Test
+    void findAllRuntimeKpisByDefinitionNames() {
+
+        final RuntimeKpiInstance rtKpi = RuntimeKpiInstance.builder()
+                .withInstanceId("rtkpi1")
+                .withContextFieldList(List.of("agg1"))
+                .withKpDefinitionName("kpi1")
+                .withRuntimeDefinition(TestResourcesUtils.DEPLOYED_SIMPLE_KPI_OBJ)
+                .build();
+
+        when(this.jdbcTemplate.query(eq("SELECT * FROM rtds.rt_kpi_inst WHERE kpi_def_name IN (?, ?)"), any(ArgumentPreparedStatementSetter.class),
+                any(RuntimeKpiInstanceMapper.class))).thenReturn(List.of(rtKpi));
+
+        assertEquals(List.of(rtKpi), this.dao.findAllRuntimeKpisByDefinitionNames(Set.of("kpi1", "kpi2")));
+    }
+
+    @Test
+    void findAllRuntimeKpisByDefinitionNames_namesPartitioned() {
+
+        final Set<String> kpiDefNames = IntStream.range(0, SqlEncoder.IN_LIST_BATCH_SIZE + 1).mapToObj(i -> "kpi" + i).collect(Collectors.toSet());
+
+        assertEquals(Collections.emptyList(), this.dao.findAllRuntimeKpisByDefinitionNames(kpiDefNames));
+
+        // one statement for each batch of names
+        Mockito.verify(this.jdbcTemplate, Mockito.times(2))
+                .query(ArgumentMatchers.startsWith("SELECT * FROM rtds.rt_kpi_inst WHERE kpi_def_name IN ("),
+                        any(ArgumentPreparedStatementSetter.class), any(RuntimeKpiInstanceMapper.class));
+    }
+
+    @Test
+    void findAllRuntimeKpisByDefinitionNames_emptyInput() {
+
+        assertEquals(Collections.emptyList(), this.dao.findAllRuntimeKpisByDefinitionNames(Set.of()));
+        Mockito.verifyNoInteractions(this.jdbcTemplate);
+    }
+
     @Test
     void findAllRuntimeKpis_parameterized() throws Exception {
 
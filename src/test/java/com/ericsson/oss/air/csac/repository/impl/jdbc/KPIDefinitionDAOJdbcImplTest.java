@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import com.ericsson.oss.air.csac.configuration.JdbcConfig;
 import com.ericsson.oss.air.csac.model.KPIDefinition;
@@ -28,6 +29,7 @@ import com.ericsson.oss.air.csac.model.PMDefinition;
 import com.ericsson.oss.air.csac.model.TestResourcesUtils;
 import com.ericsson.oss.air.csac.repository.impl.jdbc.mapper.InputMetricWithKpiDefsMapper;
 import com.ericsson.oss.air.csac.repository.impl.jdbc.mapper.KpiDefinitionMapper;
+import com.ericsson.oss.air.csac.repository.impl.jdbc.util.SqlEncoder;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -161,6 +163,32 @@ class KPIDefinitionDAOJdbcImplTest {
         assertEquals(new HashSet<>(VALID_LIST_KPI_DEF_OBJ), byKPIDefNames);
     }
 
+    @Test
+    void findUnmatched() {
+        final KPIDefinition unchangedKpiDef = VALID_LIST_KPI_DEF_OBJ.get(0);
+        final KPIDefinition changedKpiDef = unchangedKpiDef.toBuilder().description("changed description").build();
+        final KPIDefinition newKpiDef = unchangedKpiDef.toBuilder().name("newKpiDef").build();
+
+        Mockito.when(this.jdbcTemplate.query(ArgumentMatchers.startsWith("SELECT * FROM dict.kpi_def WHERE name in ("),
+                        ArgumentMatchers.any(ArgumentPreparedStatementSetter.class),
+                        ArgumentMatchers.any(KpiDefinitionMapper.class)))
+                .thenReturn(singletonList(unchangedKpiDef));
+
+        assertEquals(Set.of(), this.dao.findUnmatched(List.of(unchangedKpiDef)));
+        assertEquals(Set.of(changedKpiDef), this.dao.findUnmatched(List.of(changedKpiDef)));
+        assertEquals(Set.of(newKpiDef), this.dao.findUnmatched(List.of(unchangedKpiDef, newKpiDef)));
+
+        // only the submitted KPI definitions are read, never the whole dictionary
+        Mockito.verify(this.jdbcTemplate, Mockito.never())
+                .query(ArgumentMatchers.eq(String.format(SELECT_ALL_KPI_STATEMENT, "dict")), ArgumentMatchers.any(KpiDefinitionMapper.class));
+    }
+
+    @Test
+    void findUnmatched_emptyInput() {
+        Assertions.assertTrue(this.dao.findUnmatched(List.of()).isEmpty());
+        Mockito.verifyNoInteractions(this.jdbcTemplate);
+    }
+
     @Test
     void getAffectedKPIDefs_emptyInput() {
         final Set<KPIDefinition> byKPIDefNames = this.dao.getAffectedKPIDefs(new HashSet<>());
@@ -280,4 +308,22 @@ class KPIDefinitionDAOJdbcImplTest {
                         ArgumentMatchers.any(InputMetricWithKpiDefsMapper.class));
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void testFindAll_inputMetricsPartitioned() {
+
+        final List<KPIDefinition> kpiDefs = IntStream.range(0, SqlEncoder.IN_LIST_BATCH_SIZE + 1)
+                .mapToObj(i -> KPIDefinition.builder().name("kpi" + i).build())
+                .toList();
+        Mockito.when(this.jdbcTemplate.query(ArgumentMatchers.eq("SELECT * FROM dict.kpi_def"), ArgumentMatchers.any(KpiDefinitionMapper.class)))
+                .thenReturn(kpiDefs);
+
+        assertEquals(kpiDefs.size(), this.dao.findAll().size());
+
+        // one input metric statement for each batch of KPI names
+        Mockito.verify(this.jdbcTemplate, Mockito.times(2))
+                .query(ArgumentMatchers.startsWith("SELECT * FROM dict.kpi_input_metric WHERE kpi_name in ("),
+                        ArgumentMatchers.any(ArgumentPreparedStatementSetter.class),
+                        ArgumentMatchers.any(InputMetricWithKpiDefsMapper.class));
+    }
+}
@@ -12,21 +12,27 @@ package com.ericsson.oss.air.csac.repository.impl.jdbc;
 
 import static com.ericsson.oss.air.csac.repository.impl.jdbc.PMDefinitionDAOJdbcImpl.COUNT_STATEMENT;
 import static com.ericsson.oss.air.csac.repository.impl.jdbc.PMDefinitionDAOJdbcImpl.SELECT_ALL_NAMES_STATEMENT;
+import static com.ericsson.oss.air.csac.repository.impl.jdbc.PMDefinitionDAOJdbcImpl.SELECT_ALL_STATEMENT;
 import static com.ericsson.oss.air.csac.repository.impl.jdbc.PMDefinitionDAOJdbcImpl.SELECT_PM_DEF_BY_NAME_STATEMENT;
 import static com.ericsson.oss.air.csac.repository.impl.jdbc.PMDefinitionDAOJdbcImpl.SELECT_SCHEMA_STATEMENT;
 import static java.util.Collections.singletonList;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verifyNoInteractions;
 
+import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.ericsson.oss.air.csac.configuration.JdbcConfig;
 import com.ericsson.oss.air.csac.model.PMDefinition;
 import com.ericsson.oss.air.csac.model.TestResourcesUtils;
 import com.ericsson.oss.air.csac.repository.impl.jdbc.mapper.PMDefinitionMapper;
+import com.ericsson.oss.air.csac.repository.impl.jdbc.util.SqlEncoder;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,7 +42,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
@@ -123,6 +131,89 @@ class PMDefinitionDAOJdbcImplTest {
         Assertions.assertEquals(TestResourcesUtils.VALID_PM_DEF_OBJ, this.dao.findByPMDefName(pmDefName));
     }
 
+    @Test
+    void findByPMDefNames() {
+        Mockito.when(this.jdbcTemplate.query(ArgumentMatchers.eq("SELECT * FROM dict.pm_def WHERE name IN (?)"),
+                        ArgumentMatchers.any(ArgumentPreparedStatementSetter.class),
+                        ArgumentMatchers.any(PMDefinitionMapper.class)))
+                .thenReturn(singletonList(TestResourcesUtils.VALID_PM_DEF_OBJ));
+
+        Assertions.assertEquals(Map.of(TestResourcesUtils.VALID_PM_DEF_NAME, TestResourcesUtils.VALID_PM_DEF_OBJ),
+                this.dao.findByPMDefNames(Set.of(TestResourcesUtils.VALID_PM_DEF_NAME)));
+    }
+
+    @Test
+    void findByPMDefNames_namesPartitioned() {
+
+        final Set<String> pmDefNames = IntStream.range(0, SqlEncoder.IN_LIST_BATCH_SIZE + 1).mapToObj(i -> "pm" + i).collect(Collectors.toSet());
+
+        Assertions.assertTrue(this.dao.findByPMDefNames(pmDefNames).isEmpty());
+        Assertions.assertTrue(this.dao.findSchemasByPMDefNames(pmDefNames).isEmpty());
+
+        // one statement for each batch of names
+        Mockito.verify(this.jdbcTemplate, Mockito.times(2))
+                .query(ArgumentMatchers.startsWith("SELECT * FROM dict.pm_def WHERE name IN ("),
+                        ArgumentMatchers.any(ArgumentPreparedStatementSetter.class), ArgumentMatchers.any(PMDefinitionMapper.class));
+        Mockito.verify(this.jdbcTemplate, Mockito.times(2))
+                .query(ArgumentMatchers.startsWith("SELECT pm_name, schema FROM dict.pm_schema WHERE pm_name IN ("),
+                        ArgumentMatchers.any(ArgumentPreparedStatementSetter.class), ArgumentMatchers.any(RowCallbackHandler.class));
+    }
+
+    @Test
+    void findByPMDefNames_emptyInput() {
+        Assertions.assertTrue(this.dao.findByPMDefNames(Set.of()).isEmpty());
+        verifyNoInteractions(this.jdbcTemplate);
+    }
+
+    @Test
+    void findSchemasByPMDefNames() throws Exception {
+        final ResultSet resultSet = Mockito.mock(ResultSet.class);
+        Mockito.when(resultSet.getString(PMDefinitionDAOJdbcImpl.COLUMN_PM_NAME)).thenReturn(TestResourcesUtils.VALID_PM_DEF_NAME);
+        Mockito.when(resultSet.getString(PMDefinitionDAOJdbcImpl.COLUMN_SCHEMA)).thenReturn("schema");
+
+        Mockito.doAnswer(invocation -> {
+            invocation.getArgument(2, RowCallbackHandler.class).processRow(resultSet);
+            return null;
+        }).when(this.jdbcTemplate).query(ArgumentMatchers.eq("SELECT pm_name, schema FROM dict.pm_schema WHERE pm_name IN (?)"),
+                ArgumentMatchers.any(ArgumentPreparedStatementSetter.class),
+                ArgumentMatchers.any(RowCallbackHandler.class));
+
+        Assertions.assertEquals(Map.of(TestResourcesUtils.VALID_PM_DEF_NAME, "schema"),
+                this.dao.findSchemasByPMDefNames(Set.of(TestResourcesUtils.VALID_PM_DEF_NAME)));
+    }
+
+    @Test
+    void findSchemasByPMDefNames_emptyInput() {
+        Assertions.assertTrue(this.dao.findSchemasByPMDefNames(Set.of()).isEmpty());
+        verifyNoInteractions(this.jdbcTemplate);
+    }
+
+    @Test
+    void findUnmatched() {
+        final PMDefinition unchangedPmDef = TestResourcesUtils.VALID_PM_DEF_OBJ;
+        final PMDefinition changedPmDef = unchangedPmDef.toBuilder().description("changed description").build();
+        final PMDefinition newPmDef = unchangedPmDef.toBuilder().name("newPmDef").build();
+
+        Mockito.when(this.jdbcTemplate.query(ArgumentMatchers.startsWith("SELECT * FROM dict.pm_def WHERE name IN ("),
+                        ArgumentMatchers.any(ArgumentPreparedStatementSetter.class),
+                        ArgumentMatchers.any(PMDefinitionMapper.class)))
+                .thenReturn(singletonList(unchangedPmDef));
+
+        Assertions.assertEquals(Set.of(), this.dao.findUnmatched(List.of(unchangedPmDef)));
+        Assertions.assertEquals(Set.of(changedPmDef), this.dao.findUnmatched(List.of(changedPmDef)));
+        Assertions.assertEquals(Set.of(newPmDef), this.dao.findUnmatched(List.of(unchangedPmDef, newPmDef)));
+
+        // only the submitted PM definitions are read, never the whole table
+        Mockito.verify(this.jdbcTemplate, Mockito.never())
+                .query(ArgumentMatchers.eq(String.format(SELECT_ALL_STATEMENT, "dict")), ArgumentMatchers.any(RowCallbackHandler.class));
+    }
+
+    @Test
+    void findUnmatched_emptyInput() {
+        Assertions.assertTrue(this.dao.findUnmatched(List.of()).isEmpty());
+        verifyNoInteractions(this.jdbcTemplate);
+    }
+
     @Test
     void findAllPMDefinitions() {
 
@@ -17,23 +17,28 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
+import java.sql.ResultSet;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import com.ericsson.oss.air.csac.configuration.JdbcConfig;
 import com.ericsson.oss.air.csac.model.ProfileDefinition;
 import com.ericsson.oss.air.csac.model.TestResourcesUtils;
 import com.ericsson.oss.air.csac.repository.impl.jdbc.mapper.ProfileDefinitionMapper;
 import com.ericsson.oss.air.exception.CsacDAOException;
+import com.ericsson.oss.air.util.codec.ContentDigest;
 import com.ericsson.oss.air.util.logging.FaultHandler;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -41,6 +46,7 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
@@ -172,4 +178,34 @@ public class ProfileDefinitionDAOJdbcImplTest {
         assertEquals(3, this.testDao.totalProfileDefinitions());
     }
 
+    @Test
+    void saveAll_withDigest() {
+        this.testDao.saveAll(List.of(this.profileDefinition1));
+
+        final ArgumentCaptor<SqlParameterSource[]> captor = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        Mockito.verify(this.namedParameterJdbcTemplate).batchUpdate(
+                eq("INSERT INTO dict.prof_def(name, def, digest) VALUES(:name, to_json(:def::json), :digest)"
+                        + " ON CONFLICT (name) DO UPDATE SET def = EXCLUDED.def, digest = EXCLUDED.digest"),
+                captor.capture());
+
+        assertEquals(ContentDigest.of(this.profileDefinition1), captor.getValue()[0].getValue("digest"));
+    }
+
+    @Test
+    void findAllDigests() throws Exception {
+        final ResultSet row = Mockito.mock(ResultSet.class);
+        when(row.getString("name")).thenReturn(this.profileDefinition1.getName());
+        when(row.getString("digest")).thenReturn(ContentDigest.of(this.profileDefinition1));
+
+        Mockito.doAnswer(invocation -> {
+            invocation.getArgument(1, RowCallbackHandler.class).processRow(row);
+            return null;
+        }).when(this.jdbcTemplate).query(eq("SELECT name, digest, CASE WHEN digest IS NULL THEN def END AS def FROM dict.prof_def"),
+                any(RowCallbackHandler.class));
+
+        assertEquals(Map.of(this.profileDefinition1.getName(), ContentDigest.of(this.profileDefinition1)), this.testDao.findAllDigests());
+
+        // the stored definition is not read when the row has a digest
+        Mockito.verify(row, Mockito.never()).getString(ProfileDefinitionDAOJdbcImpl.COLUMN_DEF);
+    }
 }
@@ -288,4 +288,25 @@ class ProvisioningStateDaoJdbcImplTest {
 
         assertThrows(CsacDAOException.class, () -> this.testDao.findLatest());
     }
-}
\ No newline at end of file
+
+    @Test
+    void updateResourceFingerprint() {
+
+        this.testDao.updateResourceFingerprint("fingerprint");
+
+        verify(this.jdbcTemplate).update(sqlCaptor.capture(), eq("fingerprint"));
+
+        assertEquals("UPDATE rtds.rt_prov_state SET resource_fingerprint = ? WHERE id = (SELECT MAX(id) FROM rtds.rt_prov_state) "
+                + "AND provisioning_state = 'COMPLETED'", sqlCaptor.getValue());
+    }
+
+    @Test
+    void updateResourceFingerprint_dataAccessException() {
+
+        final DataAccessException mockException = mock(DataAccessException.class);
+
+        when(this.jdbcTemplate.update(anyString(), eq("fingerprint"))).thenThrow(mockException);
+
+        assertThrows(CsacDAOException.class, () -> this.testDao.updateResourceFingerprint("fingerprint"));
+    }
+}
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.repository.impl.jdbc.mapper;
+
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.AUGMENTED_PROFILE_DEF_OBJ;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.SQLException;
+import java.util.Map;
+
+import com.ericsson.oss.air.csac.model.ProfileDefinition;
+import com.ericsson.oss.air.csac.repository.impl.jdbc.ProfileDefinitionDAOJdbcImpl;
+import com.ericsson.oss.air.exception.CsacDAOException;
+import com.ericsson.oss.air.util.codec.ContentDigest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.h2.tools.SimpleResultSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ContentDigestRowHandlerTest {
+
+    private static final String STORED_DIGEST = "0".repeat(ContentDigest.LENGTH);
+
+    private SimpleResultSet resultSet;
+
+    private ContentDigestRowHandler<ProfileDefinition> rowHandler;
+
+    @BeforeEach
+    void setUp() {
+        this.resultSet = new SimpleResultSet();
+        this.resultSet.addColumn("name", 0, 0, 0);
+        this.resultSet.addColumn("digest", 0, 0, 0);
+        this.resultSet.addColumn(ProfileDefinitionDAOJdbcImpl.COLUMN_DEF, 0, 0, 0);
+
+        this.rowHandler = new ContentDigestRowHandler<>("name", "digest", new ProfileDefinitionMapper());
+    }
+
+    @Test
+    void processRow_storedDigest() throws SQLException {
+
+        this.resultSet.addRow("profile1", STORED_DIGEST, null);
+        this.resultSet.next();
+
+        this.rowHandler.processRow(this.resultSet);
+
+        assertEquals(Map.of("profile1", STORED_DIGEST), this.rowHandler.getDigests());
+    }
+
+    @Test
+    void processRow_noStoredDigest() throws Exception {
+
+        this.resultSet.addRow(AUGMENTED_PROFILE_DEF_OBJ.getName(), null, new ObjectMapper().writeValueAsString(AUGMENTED_PROFILE_DEF_OBJ));
+        this.resultSet.next();
+
+        this.rowHandler.processRow(this.resultSet);
+
+        assertEquals(Map.of(AUGMENTED_PROFILE_DEF_OBJ.getName(), ContentDigest.of(AUGMENTED_PROFILE_DEF_OBJ)), this.rowHandler.getDigests());
+    }
+
+    @Test
+    void processRow_noStoredDigest_invalidDefinition() throws SQLException {
+
+        this.resultSet.addRow("profile1", null, "blah!");
+        this.resultSet.next();
+
+        assertThrows(CsacDAOException.class, () -> this.rowHandler.processRow(this.resultSet));
+    }
+}
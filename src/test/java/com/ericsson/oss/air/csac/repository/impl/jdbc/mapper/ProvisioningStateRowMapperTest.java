@@ -14,6 +14,7 @@ import static com.ericsson.oss.air.csac.repository.impl.jdbc.ProvisioningStateDa
 import static com.ericsson.oss.air.csac.repository.impl.jdbc.ProvisioningStateDaoJdbcImpl.COLUMN_PROV_END_TIME;
 import static com.ericsson.oss.air.csac.repository.impl.jdbc.ProvisioningStateDaoJdbcImpl.COLUMN_PROV_START_TIME;
 import static com.ericsson.oss.air.csac.repository.impl.jdbc.ProvisioningStateDaoJdbcImpl.COLUMN_PROV_STATE;
+import static com.ericsson.oss.air.csac.repository.impl.jdbc.ProvisioningStateDaoJdbcImpl.COLUMN_RESOURCE_FINGERPRINT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -47,16 +48,17 @@ class ProvisioningStateRowMapperTest {
         this.testResultSet.addColumn(COLUMN_PROV_START_TIME, Types.TIMESTAMP_WITH_TIMEZONE, 0, 0);
         this.testResultSet.addColumn(COLUMN_PROV_END_TIME, Types.TIMESTAMP_WITH_TIMEZONE, 0, 0);
         this.testResultSet.addColumn(COLUMN_PROV_STATE, Types.VARCHAR, 0, 0);
+        this.testResultSet.addColumn(COLUMN_RESOURCE_FINGERPRINT, Types.VARCHAR, 0, 0);
     }
 
     @Test
     void mapRow() throws Exception {
 
         final ProvisioningState expected = new ProvisioningState(1, Instant.ofEpochMilli(startTime), Instant.ofEpochMilli(endTime),
-                ProvisioningState.State.INITIAL);
+                ProvisioningState.State.INITIAL, null);
 
         this.testResultSet.addRow(1, Timestamp.from(Instant.ofEpochMilli(this.startTime)), Timestamp.from(Instant.ofEpochMilli(this.endTime)),
-                ProvisioningState.State.INITIAL.name());
+                ProvisioningState.State.INITIAL.name(), null);
         this.testResultSet.next();
 
         final ProvisioningState actual = this.testMapper.mapRow(this.testResultSet, 0);
@@ -72,10 +74,10 @@ class ProvisioningStateRowMapperTest {
     void mapRow_startedNoEndTime() throws Exception {
 
         final ProvisioningState expected = new ProvisioningState(1, Instant.ofEpochMilli(startTime), null,
-                ProvisioningState.State.STARTED);
+                ProvisioningState.State.STARTED, null);
 
         this.testResultSet.addRow(1, Timestamp.from(Instant.ofEpochMilli(this.startTime)), null,
-                ProvisioningState.State.STARTED.name());
+                ProvisioningState.State.STARTED.name(), null);
         this.testResultSet.next();
 
         final ProvisioningState actual = this.testMapper.mapRow(this.testResultSet, 0);
@@ -96,4 +98,17 @@ class ProvisioningStateRowMapperTest {
 
         assertThrows(SQLException.class, () -> this.testMapper.mapRow(resultSet, 0));
     }
-}
\ No newline at end of file
+
+    @Test
+    void mapRow_completedWithResourceFingerprint() throws Exception {
+
+        this.testResultSet.addRow(1, Timestamp.from(Instant.ofEpochMilli(this.startTime)), Timestamp.from(Instant.ofEpochMilli(this.endTime)),
+                ProvisioningState.State.COMPLETED.name(), "fingerprint");
+        this.testResultSet.next();
+
+        final ProvisioningState actual = this.testMapper.mapRow(this.testResultSet, 0);
+
+        assertEquals(ProvisioningState.State.COMPLETED, actual.getProvisioningState());
+        assertEquals("fingerprint", actual.getResourceFingerprint());
+    }
+}
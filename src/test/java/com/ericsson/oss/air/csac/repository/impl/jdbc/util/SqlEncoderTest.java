@@ -13,7 +13,9 @@ package com.ericsson.oss.air.csac.repository.impl.jdbc.util;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.List;
 import java.util.MissingFormatArgumentException;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -29,6 +31,29 @@ class SqlEncoderTest {
         assertEquals("TRUNCATE schema.table CASCADE", actual);
     }
 
+    @Test
+    void partition() {
+
+        final List<Integer> values = IntStream.range(0, 2 * SqlEncoder.IN_LIST_BATCH_SIZE + 1).boxed().toList();
+
+        final List<List<Integer>> batches = SqlEncoder.partition(values);
+
+        assertEquals(3, batches.size());
+        assertEquals(SqlEncoder.IN_LIST_BATCH_SIZE, batches.get(0).size());
+        assertEquals(SqlEncoder.IN_LIST_BATCH_SIZE, batches.get(1).size());
+        assertEquals(List.of(2 * SqlEncoder.IN_LIST_BATCH_SIZE), batches.get(2));
+    }
+
+    @Test
+    void partition_empty() {
+        assertEquals(List.of(), SqlEncoder.partition(List.of()));
+    }
+
+    @Test
+    void toPlaceholders() {
+        assertEquals("?, ?, ?", SqlEncoder.toPlaceholders(3));
+    }
+
     @Test
     void encode_missingArgs() throws Exception {
 
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.repository.impl.jdbc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StatementCountingJdbcTemplateTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    private StatementCountingJdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(this.dataSource.getConnection()).thenReturn(this.connection);
+        this.jdbcTemplate = new StatementCountingJdbcTemplate(this.dataSource);
+    }
+
+    @Test
+    void getStatementCount() throws Exception {
+
+        when(this.connection.createStatement()).thenReturn(this.statement);
+        when(this.connection.prepareStatement(anyString())).thenReturn(this.preparedStatement);
+
+        final long initialCount = StatementCountingJdbcTemplate.getStatementCount();
+
+        this.jdbcTemplate.execute("SELECT 1");
+        this.jdbcTemplate.update("UPDATE t SET c = ?", "value");
+
+        assertEquals(initialCount + 2, StatementCountingJdbcTemplate.getStatementCount());
+    }
+
+    @Test
+    void getStatementCount_otherThread() throws Exception {
+
+        when(this.connection.createStatement()).thenReturn(this.statement);
+
+        final long initialCount = StatementCountingJdbcTemplate.getStatementCount();
+
+        final Thread otherThread = new Thread(() -> this.jdbcTemplate.execute("SELECT 1"));
+        otherThread.start();
+        otherThread.join(10000L);
+
+        // statements issued on other threads are not counted for the current thread
+        assertEquals(initialCount, StatementCountingJdbcTemplate.getStatementCount());
+    }
+}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.service;
+
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.SIMPLE_INPUT_METRIC_LIST_NEW;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_COMPLEX_KPI_DEF_NAME;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_COMPLEX_KPI_DEF_OBJ;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_PM_DEF_NAME;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_PM_DEF_NAME_NEW;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_PROFILE_DEF_OBJ;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_SIMPLE_KPI_DEF_NAME;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_SIMPLE_KPI_DEF_OBJ;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import com.ericsson.oss.air.csac.model.KPIReference;
+import com.ericsson.oss.air.csac.model.ProfileDefinition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DependencyGraphTest {
+
+    private static final String AUGMENTATION_NAME = "cardq";
+
+    private final ProfileDefinition augmentedProfile = VALID_PROFILE_DEF_OBJ.toBuilder()
+            .name("augmented profile")
+            .kpis(List.of(KPIReference.builder().ref(VALID_COMPLEX_KPI_DEF_NAME).build()))
+            .augmentation(AUGMENTATION_NAME)
+            .build();
+
+    private DependencyGraph dependencyGraph;
+
+    @BeforeEach
+    void setUp() {
+        this.dependencyGraph = new DependencyGraph();
+
+        this.dependencyGraph.putKpi(VALID_SIMPLE_KPI_DEF_OBJ);
+        this.dependencyGraph.putKpi(VALID_COMPLEX_KPI_DEF_OBJ);
+        this.dependencyGraph.putProfile(VALID_PROFILE_DEF_OBJ);
+        this.dependencyGraph.putProfile(this.augmentedProfile);
+    }
+
+    @Test
+    void getKpisAffectedByPms() {
+
+        assertEquals(Set.of(VALID_SIMPLE_KPI_DEF_NAME), this.dependencyGraph.getKpisAffectedByPms(List.of(VALID_PM_DEF_NAME)));
+
+        // KPI input metrics are not PM definition edges
+        assertTrue(this.dependencyGraph.getKpisAffectedByPms(List.of(VALID_SIMPLE_KPI_DEF_NAME)).isEmpty());
+        assertTrue(this.dependencyGraph.getKpisAffectedByPms(List.of("unknown")).isEmpty());
+    }
+
+    @Test
+    void getProfilesAffectedByKpis() {
+
+        assertEquals(Set.of(VALID_PROFILE_DEF_OBJ), this.dependencyGraph.getProfilesAffectedByKpis(List.of(VALID_SIMPLE_KPI_DEF_NAME)));
+        assertEquals(Set.of(VALID_PROFILE_DEF_OBJ, this.augmentedProfile),
+                this.dependencyGraph.getProfilesAffectedByKpis(List.of(VALID_COMPLEX_KPI_DEF_NAME)));
+    }
+
+    @Test
+    void getProfilesAffectedByAugmentations() {
+
+        assertEquals(Set.of(this.augmentedProfile), this.dependencyGraph.getProfilesAffectedByAugmentations(List.of(AUGMENTATION_NAME)));
+        assertTrue(this.dependencyGraph.getProfilesAffectedByAugmentations(List.of("unknown")).isEmpty());
+    }
+
+    @Test
+    void putKpi_replacesEdges() {
+
+        this.dependencyGraph.putKpi(VALID_SIMPLE_KPI_DEF_OBJ.toBuilder().inputMetrics(SIMPLE_INPUT_METRIC_LIST_NEW).build());
+
+        assertEquals(Set.of(VALID_SIMPLE_KPI_DEF_NAME), this.dependencyGraph.getKpisAffectedByPms(List.of(VALID_PM_DEF_NAME_NEW)));
+        assertEquals(Set.of(VALID_SIMPLE_KPI_DEF_NAME), this.dependencyGraph.getKpisAffectedByPms(List.of(VALID_PM_DEF_NAME)));
+
+        this.dependencyGraph.putKpi(VALID_SIMPLE_KPI_DEF_OBJ.toBuilder().inputMetrics(List.of()).build());
+
+        assertTrue(this.dependencyGraph.getKpisAffectedByPms(List.of(VALID_PM_DEF_NAME, VALID_PM_DEF_NAME_NEW)).isEmpty());
+    }
+
+    @Test
+    void removeKpi() {
+
+        this.dependencyGraph.removeKpi(VALID_SIMPLE_KPI_DEF_NAME);
+        this.dependencyGraph.removeKpi("unknown");
+
+        assertTrue(this.dependencyGraph.getKpisAffectedByPms(List.of(VALID_PM_DEF_NAME)).isEmpty());
+    }
+
+    @Test
+    void putProfile_replacesEdges() {
+
+        final ProfileDefinition updatedProfile = this.augmentedProfile.toBuilder()
+                .kpis(List.of(KPIReference.builder().ref(VALID_SIMPLE_KPI_DEF_NAME).build()))
+                .augmentation(null)
+                .build();
+
+        this.dependencyGraph.putProfile(updatedProfile);
+
+        assertEquals(Set.of(VALID_PROFILE_DEF_OBJ, updatedProfile),
+                this.dependencyGraph.getProfilesAffectedByKpis(List.of(VALID_SIMPLE_KPI_DEF_NAME)));
+        assertEquals(Set.of(VALID_PROFILE_DEF_OBJ), this.dependencyGraph.getProfilesAffectedByKpis(List.of(VALID_COMPLEX_KPI_DEF_NAME)));
+        assertTrue(this.dependencyGraph.getProfilesAffectedByAugmentations(List.of(AUGMENTATION_NAME)).isEmpty());
+    }
+
+    @Test
+    void removeProfile() {
+
+        this.dependencyGraph.removeProfile(this.augmentedProfile.getName());
+        this.dependencyGraph.removeProfile("unknown");
+
+        assertEquals(Set.of(VALID_PROFILE_DEF_OBJ), this.dependencyGraph.getProfilesAffectedByKpis(List.of(VALID_COMPLEX_KPI_DEF_NAME)));
+        assertTrue(this.dependencyGraph.getProfilesAffectedByAugmentations(List.of(AUGMENTATION_NAME)).isEmpty());
+    }
+}
@@ -16,6 +16,11 @@ import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_PROFILE_D
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
@@ -136,6 +141,25 @@ class DiffCalculatorTest {
         assertFalse(this.diffCalculator.isChanged(resourceSubmission));
     }
 
+    @Test
+    void isChanged_NoChangesWithIdenticalResource_dictionaryReadOnce() {
+        final KPIDefinitionDAO spiedKpiDefinitionDAO = spy(this.kpiDefinitionDAO);
+        final PMDefinitionDAO spiedPmDefinitionDAO = spy(this.pmDefinitionDAO);
+        final DiffCalculator calculator = new DiffCalculator(this.deployedProfileDefinitionDAO, this.profileDefinitionDAO, spiedKpiDefinitionDAO,
+                spiedPmDefinitionDAO, this.augmentationDefinitionDAO, this.effectiveAugmentationDAO, this.augmentationConfiguration,
+                this.pmSchemaDefinitionDao);
+
+        final ResourceSubmission resourceSubmission = new ResourceSubmission();
+        resourceSubmission.setKpiDefs(TestResourcesUtils.VALID_LIST_KPI_DEF_OBJ);
+        resourceSubmission.setPmDefs(TestResourcesUtils.VALID_LIST_PM_DEF_OBJ);
+
+        assertFalse(calculator.isChanged(resourceSubmission));
+
+        verify(spiedKpiDefinitionDAO, times(1)).findAll();
+        verify(spiedKpiDefinitionDAO, never()).findByKPIDefName(anyString());
+        verify(spiedPmDefinitionDAO, times(1)).findUnmatched(TestResourcesUtils.VALID_LIST_PM_DEF_OBJ);
+    }
+
     // Added to test fix for ESOA-7308
     @Test
     void isChanged_NoChangesWithIdenticalAugmentation_isIdempotent() {
@@ -338,4 +362,65 @@ class DiffCalculatorTest {
         assertEquals(this.augmentedProfileDef, affectedProfiles.toArray()[0]);
     }
 
-}
\ No newline at end of file
+    @Test
+    void getChangeSet() {
+        final ProfileDefinition newProfile = VALID_PROFILE_DEF_OBJ.toBuilder().name("New profile").build();
+        final KPIDefinition updatedKPIDef = TestResourcesUtils.VALID_SIMPLE_KPI_DEF_OBJ.toBuilder().displayName("new display name").build();
+
+        final ResourceSubmission resourceSubmission = new ResourceSubmission();
+        resourceSubmission.setProfileDefs(List.of(VALID_PROFILE_DEF_OBJ, newProfile));
+        resourceSubmission.setKpiDefs(List.of(updatedKPIDef));
+        resourceSubmission.setAugmentationDefinitions(List.of(this.augmentationDef));
+
+        final ResourceChangeSet changeSet = this.diffCalculator.getChangeSet(resourceSubmission);
+
+        assertTrue(changeSet.hasChanges());
+        assertEquals(Set.of(updatedKPIDef), changeSet.getChangedKpiDefs());
+        assertTrue(changeSet.getChangedPmDefs().isEmpty());
+        assertFalse(changeSet.isPmSchemaDefsChanged());
+        assertEquals(List.of(this.augmentationDef), changeSet.getAugmentationDefs().getAdded());
+        assertEquals(List.of(newProfile), changeSet.getProfileDefs().getAdded());
+        assertEquals(List.of(VALID_PROFILE_DEF_OBJ), changeSet.getProfileDefs().getUnchanged());
+        assertTrue(changeSet.getProfileDefs().getUpdated().isEmpty());
+    }
+
+    @Test
+    void getChangeSet_noSubmittedProfiles_deployedProfilesDeleted() {
+
+        final ResourceChangeSet changeSet = this.diffCalculator.getChangeSet(new ResourceSubmission());
+
+        assertFalse(changeSet.hasChanges());
+        assertEquals(List.of(VALID_PROFILE_DEF_OBJ), changeSet.getProfileDefs().getDeleted());
+    }
+
+    @Test
+    void getAffectedProfiles_changedKpiDef_afterDictionaryUpdate() {
+        final KPIDefinition updatedKPIDef = TestResourcesUtils.VALID_SIMPLE_KPI_DEF_OBJ.toBuilder().displayName("new display name").build();
+
+        final ResourceSubmission resourceSubmission = new ResourceSubmission();
+        resourceSubmission.setKpiDefs(List.of(updatedKPIDef));
+
+        assertEquals(Set.of(VALID_PROFILE_DEF_OBJ), this.diffCalculator.getAffectedProfiles(this.diffCalculator.getChangeSet(resourceSubmission)));
+
+        // once the dictionary holds the changed KPI definition, it no longer affects the deployed profile
+        this.kpiDefinitionDAO.saveKPIDefinition(updatedKPIDef);
+
+        assertTrue(this.diffCalculator.getAffectedProfiles(this.diffCalculator.getChangeSet(resourceSubmission)).isEmpty());
+    }
+
+    @Test
+    void getAffectedProfiles_changedDeployedProfile_afterDictionaryUpdate() {
+        final ProfileDefinition updatedProfile = VALID_PROFILE_DEF_OBJ.toBuilder().description("Update Description").build();
+
+        final ResourceSubmission resourceSubmission = new ResourceSubmission();
+        resourceSubmission.setProfileDefs(List.of(updatedProfile));
+
+        assertEquals(Set.of(updatedProfile), this.diffCalculator.getAffectedProfiles(this.diffCalculator.getChangeSet(resourceSubmission)));
+
+        // once the dictionary holds the changed profile definition, the deployed profile is no longer affected
+        this.profileDefinitionDAO.save(updatedProfile);
+
+        assertTrue(this.diffCalculator.getAffectedProfiles(this.diffCalculator.getChangeSet(resourceSubmission)).isEmpty());
+    }
+
+}
@@ -27,6 +27,7 @@ import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -34,6 +35,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import com.ericsson.oss.air.csac.configuration.schema.impl.DryrunInputSchemaProvider;
@@ -57,6 +60,7 @@ import com.ericsson.oss.air.csac.repository.impl.inmemorydb.DeployedKpiDefDAOImp
 import com.ericsson.oss.air.csac.repository.impl.inmemorydb.KPIDefinitionDAOImpl;
 import com.ericsson.oss.air.csac.repository.impl.inmemorydb.PMDefinitionDAOImpl;
 import com.ericsson.oss.air.exception.CsacValidationException;
+import com.ericsson.oss.air.util.concurrent.AtomicDouble;
 import com.ericsson.oss.air.util.logging.FaultHandler;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -65,6 +69,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class KPICalculatorTest {
@@ -82,6 +87,8 @@ class KPICalculatorTest {
 
     private KPICalculator kpiCalculator;
 
+    private KpiResolutionContextLoader resolutionContextLoader;
+
     @Mock
     private AugmentationDefinitionDAO augmentationDefinitionDAO;
 
@@ -131,15 +138,17 @@ class KPICalculatorTest {
         this.kpiDefinitionDAO = new KPIDefinitionDAOImpl();
         this.pmDefinitionDAO = new PMDefinitionDAOImpl();
         this.deployedKpiDefDAO = new DeployedKpiDefDAOImp();
-        this.resolvedKpiCache = new ResolvedKpiCache();
+        this.resolvedKpiCache = createResolvedKpiCache();
         this.inputSchemaProvider = new DryrunInputSchemaProvider();
 
         this.pmDefinitionDAO.savePMDefinition(TestResourcesUtils.VALID_PM_DEF_OBJ, VALID_SCHEMA_NAME);
         this.kpiDefinitionDAO.saveKPIDefinition(TestResourcesUtils.VALID_SIMPLE_KPI_DEF_OBJ);
         this.kpiDefinitionDAO.saveKPIDefinition(TestResourcesUtils.VALID_COMPLEX_KPI_DEF_OBJ);
 
-        this.kpiCalculator = new KPICalculator(this.pmDefinitionDAO, this.kpiDefinitionDAO, this.deployedKpiDefDAO, this.inputSchemaProvider,
-                this.resolvedKpiCache);
+        this.resolutionContextLoader = new KpiResolutionContextLoader(this.pmDefinitionDAO, this.kpiDefinitionDAO, this.deployedKpiDefDAO);
+        ReflectionTestUtils.setField(this.resolutionContextLoader, "queryCounter", new AtomicLong());
+
+        this.kpiCalculator = new KPICalculator(this.inputSchemaProvider, this.resolvedKpiCache, this.resolutionContextLoader);
         this.kpiCalculator.setAggregationPeriod(DEFAULT_AGGREGATION_PERIOD);
     }
 
@@ -280,7 +289,7 @@ class KPICalculatorTest {
         inputSimpleKpiDefinitionDtoMap.put(VALID_SIMPLE_KPI_DEF_NAME, UPDATED_DEPLOYED_SIMPLE_KPI_OBJ);
 
         final KpiDefinitionDTO complexKpiDefinitionDto = this.kpiCalculator.createComplexKpiDefinitionDto(VALID_COMPLEX_KPI_DEF_OBJ,
-                VALID_PROFILE_DEF_OBJ, inputSimpleKpiDefinitionDtoMap);
+                VALID_PROFILE_DEF_OBJ, inputSimpleKpiDefinitionDtoMap, this.resolutionContextLoader.load(List.of(VALID_PROFILE_DEF_OBJ)));
 
         Assertions.assertNotNull(complexKpiDefinitionDto);
 
@@ -296,7 +305,7 @@ class KPICalculatorTest {
                 .build();
 
         final KpiDefinitionDTO complexKpiDefinitionDto = this.kpiCalculator.createComplexKpiDefinitionDto(VALID_COMPLEX_KPI_DEF_OBJ, updatedProfile,
-                new HashMap<>());
+                new HashMap<>(), this.resolutionContextLoader.load(List.of(updatedProfile)));
 
         Assertions.assertNotNull(complexKpiDefinitionDto);
 
@@ -305,7 +314,8 @@ class KPICalculatorTest {
     @Test
     void createComplexKpiDefinitionDto_SimpleInputMetricAbsent_ThrowsException() {
         Assertions.assertThrows(CsacValidationException.class,
-                () -> this.kpiCalculator.createComplexKpiDefinitionDto(VALID_COMPLEX_KPI_DEF_OBJ, VALID_PROFILE_DEF_OBJ, new HashMap<>()));
+                () -> this.kpiCalculator.createComplexKpiDefinitionDto(VALID_COMPLEX_KPI_DEF_OBJ, VALID_PROFILE_DEF_OBJ, new HashMap<>(),
+                        this.resolutionContextLoader.load(List.of(VALID_PROFILE_DEF_OBJ))));
     }
 
     @Test
@@ -414,6 +424,120 @@ class KPICalculatorTest {
         assertEquals(1, actualSimple);
     }
 
+    @Test
+    void calculateAffectedKPIs_parallel_sameResultAsSequential() {
+
+        final List<ProfileDefinition> profiles = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            final List<String> overrideContext = List.of(VALID_PROFILE_DEF_AGGREGATION_FIELD, "field" + (3 + i % 2));
+            profiles.add(VALID_PROFILE_DEF_OBJ.toBuilder().name("profile_" + i).build());
+            profiles.add(ProfileDefinition.builder().name("profile_override_" + i).description("test profile")
+                    .context(List.of(VALID_PROFILE_DEF_AGGREGATION_FIELD))
+                    .kpis(List.of(KPIReference.builder().ref(VALID_COMPLEX_KPI_DEF_NAME).inputMetricOverrides(
+                            List.of(InputMetricOverride.builder().id(VALID_SIMPLE_KPI_DEF_NAME).context(overrideContext).build())).build()))
+                    .build());
+        }
+
+        final List<KpiDefinitionDTOWithRelationship> sequentialResult = this.kpiCalculator.calculateAffectedKPIs(profiles);
+
+        final KPICalculator parallelCalculator = new KPICalculator(this.inputSchemaProvider, createResolvedKpiCache(), this.resolutionContextLoader);
+        parallelCalculator.setAggregationPeriod(DEFAULT_AGGREGATION_PERIOD);
+        parallelCalculator.setParallelism(4);
+
+        final List<KpiDefinitionDTOWithRelationship> parallelResult = parallelCalculator.calculateAffectedKPIs(profiles);
+
+        // runtime KPI names are generated, so compare everything else
+        assertEquals(sequentialResult.size(), parallelResult.size());
+        for (int i = 0; i < sequentialResult.size(); i++) {
+            final KpiDefinitionDTOWithRelationship expected = sequentialResult.get(i);
+            final KpiDefinitionDTOWithRelationship actual = parallelResult.get(i);
+
+            assertEquals(expected.getKpiName(), actual.getKpiName());
+            assertEquals(expected.getProfile(), actual.getProfile());
+            assertEquals(expected.getKpiType(), actual.getKpiType());
+            assertEquals(expected.getAggregationElements(), actual.getAggregationElements());
+            assertEquals(expected.getFactTableName(), actual.getFactTableName());
+        }
+    }
+
+    @Test
+    void calculateAffectedKPIs_parallel_reusesCachedInstances() {
+
+        final ProfileDefinition profileDup = VALID_PROFILE_DEF_OBJ.toBuilder().name("profile_duplicate").build();
+
+        this.kpiCalculator.setParallelism(2);
+        final List<KpiDefinitionDTOWithRelationship> kpiDefinitionDTOS = this.kpiCalculator.calculateAffectedKPIs(
+                List.of(VALID_PROFILE_DEF_OBJ, profileDup));
+
+        // the duplicate profile resolves to the runtime KPIs instantiated for the first profile
+        assertEquals(2, kpiDefinitionDTOS.size());
+        assertTrue(kpiDefinitionDTOS.stream().allMatch(dto -> VALID_PROFILE_DEF_OBJ.equals(dto.getProfile())));
+
+        final List<KpiDefinitionDTOWithRelationship> secondRun = this.kpiCalculator.calculateAffectedKPIs(List.of(VALID_PROFILE_DEF_OBJ, profileDup));
+        assertTrue(secondRun.isEmpty());
+    }
+
+    @Test
+    void calculateAffectedKPIs_parallel_invalidComplexKpi_throwsException() {
+
+        // the overridden input metric context does not contain all profile context fields
+        final ProfileDefinition profile = VALID_PROFILE_DEF_OBJ.toBuilder()
+                .kpis(List.of(KPIReference.builder().ref(VALID_COMPLEX_KPI_DEF_NAME).inputMetricOverrides(
+                        List.of(InputMetricOverride.builder().id(VALID_SIMPLE_KPI_DEF_NAME).context(List.of(VALID_PROFILE_DEF_AGGREGATION_FIELD))
+                                .build())).build()))
+                .build();
+        final List<ProfileDefinition> profiles = List.of(profile, profile.toBuilder().name("profile2").build());
+
+        this.kpiCalculator.setParallelism(2);
+
+        assertThrows(CsacValidationException.class, () -> this.kpiCalculator.calculateAffectedKPIs(profiles));
+    }
+
+    @Test
+    void calculateAffectedKPIs_parallel_sharedExecutor() {
+
+        final ProfileDefinition profileDup = VALID_PROFILE_DEF_OBJ.toBuilder().name("profile_duplicate").build();
+
+        this.kpiCalculator.setParallelism(2);
+        final ExecutorService executor = (ExecutorService) ReflectionTestUtils.getField(this.kpiCalculator, "executor");
+
+        this.kpiCalculator.calculateAffectedKPIs(List.of(VALID_PROFILE_DEF_OBJ, profileDup));
+        this.kpiCalculator.calculateAffectedKPIs(List.of(VALID_PROFILE_DEF_OBJ, profileDup));
+
+        // the same pool serves every calculation until the calculator is destroyed
+        assertSame(executor, ReflectionTestUtils.getField(this.kpiCalculator, "executor"));
+        assertFalse(executor.isShutdown());
+
+        this.kpiCalculator.destroy();
+
+        assertTrue(executor.isShutdown());
+    }
+
+    @Test
+    void calculateAffectedKPIs_parallel_planningNotCountedInCacheMetrics() {
+
+        final AtomicLong hitCounter = new AtomicLong();
+        final AtomicLong missCounter = new AtomicLong();
+        ReflectionTestUtils.setField(this.resolvedKpiCache, "hitCounter", hitCounter);
+        ReflectionTestUtils.setField(this.resolvedKpiCache, "missCounter", missCounter);
+
+        final ProfileDefinition profile = VALID_PROFILE_DEF_OBJ.toBuilder()
+                .kpis(List.of(KPIReference.builder().ref(VALID_SIMPLE_KPI_DEF_NAME).build()))
+                .build();
+
+        this.kpiCalculator.setParallelism(2);
+        this.kpiCalculator.calculateAffectedKPIs(List.of(profile, profile.toBuilder().name("profile_duplicate").build()));
+
+        assertEquals(0L, hitCounter.get());
+        assertEquals(0L, missCounter.get());
+    }
+
+    @Test
+    void validateParallelism_invalidValueSet_exception() {
+        assertThrows(CsacValidationException.class, () -> this.kpiCalculator.setParallelism(0));
+        assertEquals(1, this.kpiCalculator.getParallelism());
+    }
+
     @Test
     void retrieveFactTableName_noInputMetricOverride_fromCommonTable() {
         final Map<String, KpiDefinitionDTO> inputSimpleKpiDefinitionDtoMap = new HashMap<>();
@@ -461,4 +585,13 @@ class KPICalculatorTest {
         assertEquals(SIMPLE_KPI_DTO_B.getFactTableName(), tableName);
     }
 
+    private static ResolvedKpiCache createResolvedKpiCache() {
+        final ResolvedKpiCache cache = new ResolvedKpiCache();
+        ReflectionTestUtils.setField(cache, "hitCounter", new AtomicLong());
+        ReflectionTestUtils.setField(cache, "missCounter", new AtomicLong());
+        ReflectionTestUtils.setField(cache, "sizeGauge", new AtomicLong());
+        ReflectionTestUtils.setField(cache, "loadTime", new AtomicDouble());
+        return cache;
+    }
+
 }
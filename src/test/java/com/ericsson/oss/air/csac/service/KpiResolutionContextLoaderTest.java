@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.service;
+
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.DEPLOYED_SIMPLE_KPI_OBJ;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_COMPLEX_KPI_DEF_NAME;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_COMPLEX_KPI_DEF_OBJ;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_PM_DEF_NAME;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_PM_DEF_OBJ;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_PROFILE_DEF_OBJ;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_SCHEMA_NAME;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_SIMPLE_KPI_DEF_NAME;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_SIMPLE_KPI_DEF_OBJ;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import com.ericsson.oss.air.csac.model.KPIDefinition;
+import com.ericsson.oss.air.csac.model.KPIReference;
+import com.ericsson.oss.air.csac.model.ProfileDefinition;
+import com.ericsson.oss.air.csac.repository.DeployedKpiDefDAO;
+import com.ericsson.oss.air.csac.repository.KPIDefinitionDAO;
+import com.ericsson.oss.air.csac.repository.PMDefinitionDAO;
+import com.ericsson.oss.air.csac.repository.impl.inmemorydb.DeployedKpiDefDAOImp;
+import com.ericsson.oss.air.csac.repository.impl.inmemorydb.KPIDefinitionDAOImpl;
+import com.ericsson.oss.air.csac.repository.impl.inmemorydb.PMDefinitionDAOImpl;
+import com.ericsson.oss.air.csac.repository.impl.jdbc.util.StatementCountingJdbcTemplate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class KpiResolutionContextLoaderTest {
+
+    private PMDefinitionDAO pmDefinitionDAO;
+
+    private KPIDefinitionDAO kpiDefinitionDAO;
+
+    private DeployedKpiDefDAO deployedKpiDefDAO;
+
+    private AtomicLong queryCounter;
+
+    private KpiResolutionContextLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        this.pmDefinitionDAO = new PMDefinitionDAOImpl();
+        this.kpiDefinitionDAO = new KPIDefinitionDAOImpl();
+        this.deployedKpiDefDAO = new DeployedKpiDefDAOImp();
+
+        this.pmDefinitionDAO.savePMDefinition(VALID_PM_DEF_OBJ, VALID_SCHEMA_NAME);
+        this.kpiDefinitionDAO.saveKPIDefinition(VALID_SIMPLE_KPI_DEF_OBJ);
+        this.kpiDefinitionDAO.saveKPIDefinition(VALID_COMPLEX_KPI_DEF_OBJ);
+
+        this.queryCounter = new AtomicLong();
+        this.loader = new KpiResolutionContextLoader(this.pmDefinitionDAO, this.kpiDefinitionDAO, this.deployedKpiDefDAO);
+        ReflectionTestUtils.setField(this.loader, "queryCounter", this.queryCounter);
+    }
+
+    @Test
+    void load_allKpisReferenced() {
+
+        this.deployedKpiDefDAO.createDeployedKpi(DEPLOYED_SIMPLE_KPI_OBJ, VALID_SIMPLE_KPI_DEF_NAME, VALID_PROFILE_DEF_OBJ);
+
+        final KpiResolutionContext context = this.loader.load(List.of(VALID_PROFILE_DEF_OBJ));
+
+        assertEquals(VALID_SIMPLE_KPI_DEF_OBJ, context.getKpiDefinition(VALID_SIMPLE_KPI_DEF_NAME));
+        assertEquals(VALID_COMPLEX_KPI_DEF_OBJ, context.getKpiDefinition(VALID_COMPLEX_KPI_DEF_NAME));
+        assertEquals(VALID_PM_DEF_OBJ, context.getPmDefinition(VALID_PM_DEF_NAME));
+        assertEquals(VALID_SCHEMA_NAME, context.getPmSchemaName(VALID_PM_DEF_NAME));
+        assertEquals(DEPLOYED_SIMPLE_KPI_OBJ, context.getDeployedKpi(VALID_SIMPLE_KPI_DEF_NAME, VALID_PROFILE_DEF_OBJ.getContext()));
+        assertNull(context.getDeployedKpi(VALID_COMPLEX_KPI_DEF_NAME, VALID_PROFILE_DEF_OBJ.getContext()));
+
+        // the in-memory DAOs issue no SQL statements
+        assertEquals(0, context.getQueryCount());
+        assertEquals(0L, this.queryCounter.get());
+    }
+
+    @Test
+    void load_inputMetricKpiNotReferenced() {
+
+        final ProfileDefinition profile = VALID_PROFILE_DEF_OBJ.toBuilder()
+                .kpis(List.of(KPIReference.builder().ref(VALID_COMPLEX_KPI_DEF_NAME).build()))
+                .build();
+
+        final KpiResolutionContext context = this.loader.load(List.of(profile));
+
+        assertEquals(VALID_SIMPLE_KPI_DEF_OBJ, context.getKpiDefinition(VALID_SIMPLE_KPI_DEF_NAME));
+        assertEquals(VALID_PM_DEF_OBJ, context.getPmDefinition(VALID_PM_DEF_NAME));
+    }
+
+    @Test
+    void load_statementsCounted() throws Exception {
+
+        final Connection connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(mock(Statement.class));
+
+        final DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        final StatementCountingJdbcTemplate jdbcTemplate = new StatementCountingJdbcTemplate(dataSource);
+
+        // each KPI definition lookup issues one statement
+        final KPIDefinitionDAO kpiDefinitionDAO = new KPIDefinitionDAOImpl() {
+            @Override
+            public Set<KPIDefinition> findByKPIDefNames(final Set<String> kpiDefNames) {
+                jdbcTemplate.execute("SELECT 1");
+                return super.findByKPIDefNames(kpiDefNames);
+            }
+        };
+
+        kpiDefinitionDAO.saveKPIDefinition(VALID_SIMPLE_KPI_DEF_OBJ);
+        kpiDefinitionDAO.saveKPIDefinition(VALID_COMPLEX_KPI_DEF_OBJ);
+
+        final KpiResolutionContextLoader statementCountingLoader = new KpiResolutionContextLoader(this.pmDefinitionDAO, kpiDefinitionDAO,
+                this.deployedKpiDefDAO);
+        ReflectionTestUtils.setField(statementCountingLoader, "queryCounter", this.queryCounter);
+
+        final ProfileDefinition profile = VALID_PROFILE_DEF_OBJ.toBuilder()
+                .kpis(List.of(KPIReference.builder().ref(VALID_COMPLEX_KPI_DEF_NAME).build()))
+                .build();
+
+        final KpiResolutionContext context = statementCountingLoader.load(List.of(profile));
+
+        // referenced KPI definitions and input metric KPI definitions
+        assertEquals(2, context.getQueryCount());
+        assertEquals(2L, this.queryCounter.get());
+    }
+
+    @Test
+    void load_deployedKpiWithOtherContext_notIncluded() {
+
+        final ProfileDefinition otherProfile = VALID_PROFILE_DEF_OBJ.toBuilder().context(List.of("otherField")).build();
+        this.deployedKpiDefDAO.createDeployedKpi(DEPLOYED_SIMPLE_KPI_OBJ, VALID_SIMPLE_KPI_DEF_NAME, otherProfile);
+
+        final KpiResolutionContext context = this.loader.load(List.of(VALID_PROFILE_DEF_OBJ));
+
+        assertNull(context.getDeployedKpi(VALID_SIMPLE_KPI_DEF_NAME, VALID_PROFILE_DEF_OBJ.getContext()));
+        assertNull(context.getDeployedKpi(VALID_SIMPLE_KPI_DEF_NAME, List.of("otherField")));
+    }
+
+    @Test
+    void load_noProfiles() {
+
+        final KpiResolutionContext context = this.loader.load(List.of());
+
+        assertNull(context.getKpiDefinition(VALID_SIMPLE_KPI_DEF_NAME));
+        assertEquals(0, context.getQueryCount());
+        assertEquals(0L, this.queryCounter.get());
+    }
+}
@@ -13,6 +13,10 @@ package com.ericsson.oss.air.csac.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.nio.charset.StandardCharsets;
@@ -20,6 +24,7 @@ import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.ericsson.oss.air.csac.model.InputMetric;
@@ -28,6 +33,7 @@ import com.ericsson.oss.air.csac.model.KPIReference;
 import com.ericsson.oss.air.csac.model.PMDefinition;
 import com.ericsson.oss.air.csac.model.ProfileDefinition;
 import com.ericsson.oss.air.csac.model.ResourceSubmission;
+import com.ericsson.oss.air.exception.CsacValidationException;
 import com.ericsson.oss.air.exception.ResourceFileLoaderException;
 import com.ericsson.oss.air.util.codec.Codec;
 import com.google.common.jimfs.Configuration;
@@ -59,6 +65,9 @@ class ResourceFileLoaderTest {
     @Autowired
     private ResourceFileLoader resourceFileLoader;
 
+    @Autowired
+    private Codec codec;
+
     @Mock
     private Codec mockCodec;
 
@@ -126,4 +135,112 @@ class ResourceFileLoaderTest {
         assertThrows(ResourceFileLoaderException.class, () -> resourceFileLoader.loadResourceFilePath(resourceFile));
     }
 
-}
\ No newline at end of file
+    @Test
+    void loadResourceFilePath_snapshotEnabled_loadedFromSnapshot() throws Exception {
+
+        final Path resourceFile = createPmDefFiles(1).get(0);
+        final ResourceSubmission snapshot = ResourceSubmission.builder().pmDefs(List.of(new PMDefinition("snapshot", "source", "desc"))).build();
+
+        final ResourceSnapshotStore snapshotStore = mock(ResourceSnapshotStore.class);
+        when(snapshotStore.isSnapshotEnabled(resourceFile)).thenReturn(true);
+        when(snapshotStore.load(eq(resourceFile), any())).thenReturn(snapshot);
+
+        final ResourceFileLoader loader = new ResourceFileLoader(this.codec, snapshotStore);
+
+        assertEquals(snapshot, loader.loadResourceFilePath(resourceFile));
+    }
+
+    @Test
+    void loadResourceFilePath_snapshotNotEnabled_loadedFromJson() throws Exception {
+
+        final Path resourceFile = createPmDefFiles(1).get(0);
+
+        final ResourceSnapshotStore snapshotStore = mock(ResourceSnapshotStore.class);
+        when(snapshotStore.isSnapshotEnabled(resourceFile)).thenReturn(false);
+
+        final ResourceFileLoader loader = new ResourceFileLoader(this.codec, snapshotStore);
+
+        assertEquals("pm0", loader.loadResourceFilePath(resourceFile).getPmDefs().get(0).getName());
+    }
+
+    @Test
+    void loadResourceFilePaths_concurrent_filesReturnedInOrder() throws Exception {
+
+        final List<Path> resourceFiles = createPmDefFiles(8);
+
+        final ResourceFileLoader loader = new ResourceFileLoader(this.codec);
+        loader.setParallelism(4);
+
+        final List<ResourceSubmission> actual = loader.loadResourceFilePaths(resourceFiles);
+
+        assertEquals(8, actual.size());
+        for (int i = 0; i < actual.size(); i++) {
+            assertEquals("pm" + i, actual.get(i).getPmDefs().get(0).getName());
+        }
+    }
+
+    @Test
+    void loadResourceFilePaths_sequential_filesReturnedInOrder() throws Exception {
+
+        final List<Path> resourceFiles = createPmDefFiles(3);
+
+        final ResourceFileLoader loader = new ResourceFileLoader(this.codec);
+        loader.setParallelism(1);
+
+        final List<ResourceSubmission> actual = loader.loadResourceFilePaths(resourceFiles);
+
+        assertEquals(List.of("pm0", "pm1", "pm2"), actual.stream().map(rs -> rs.getPmDefs().get(0).getName()).toList());
+    }
+
+    @Test
+    void loadResourceFilePaths_invalidFiles_firstFailureInOrderThrown() throws Exception {
+
+        final List<Path> resourceFiles = createPmDefFiles(6);
+        Files.write(resourceFiles.get(2), new byte[0], StandardOpenOption.TRUNCATE_EXISTING);
+        Files.write(resourceFiles.get(4), new byte[0], StandardOpenOption.TRUNCATE_EXISTING);
+
+        final ResourceFileLoader loader = new ResourceFileLoader(this.codec);
+        loader.setParallelism(4);
+
+        final ResourceFileLoaderException exception = assertThrows(ResourceFileLoaderException.class,
+                () -> loader.loadResourceFilePaths(resourceFiles));
+
+        assertTrue(exception.getMessage().contains(resourceFiles.get(2).toString()));
+    }
+
+    @Test
+    void loadResourceFilePaths_empty() {
+        assertTrue(this.resourceFileLoader.loadResourceFilePaths(List.of()).isEmpty());
+    }
+
+    @Test
+    void setParallelism() {
+
+        final ResourceFileLoader loader = new ResourceFileLoader(this.codec);
+
+        assertEquals(4, loader.getParallelism());
+
+        loader.setParallelism(2);
+        assertEquals(2, loader.getParallelism());
+
+        assertThrows(CsacValidationException.class, () -> loader.setParallelism(0));
+        assertThrows(CsacValidationException.class, () -> loader.setParallelism(null));
+    }
+
+    private List<Path> createPmDefFiles(final int count) throws Exception {
+
+        final Path resourceDir = testFileSystem.getPath(TEST_RESOURCE_PATH);
+        Files.createDirectories(resourceDir);
+
+        final List<Path> resourceFiles = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final Path resourceFile = resourceDir.resolve("test-" + i + ".json");
+            final String contents = "{\"pm_defs\": [{\"name\": \"pm" + i + "\", \"source\": \"source\", \"description\":\"desc\"}]}";
+            Files.write(resourceFile, contents.getBytes(StandardCharsets.UTF_8));
+            resourceFiles.add(resourceFile);
+        }
+
+        return resourceFiles;
+    }
+
+}
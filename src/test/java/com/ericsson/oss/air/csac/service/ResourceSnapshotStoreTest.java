@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.service;
+
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_LIST_AUGMENTATION_DEF_OBJ;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_PM_DEF_OBJ;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_PROFILE_DEF_OBJ;
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_SIMPLE_KPI_DEF_OBJ;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import com.ericsson.oss.air.csac.configuration.ResourceProperties;
+import com.ericsson.oss.air.csac.model.ResourceSubmission;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceSnapshotStoreTest {
+
+    private static final String OOB_FILE_NAME = "csac-oob-kpi-defs.json";
+
+    private static final ResourceSubmission RESOURCE_SUBMISSION = ResourceSubmission.builder()
+            .pmDefs(List.of(VALID_PM_DEF_OBJ))
+            .kpiDefs(List.of(VALID_SIMPLE_KPI_DEF_OBJ))
+            .profileDefs(List.of(VALID_PROFILE_DEF_OBJ))
+            .augmentationDefinitions(VALID_LIST_AUGMENTATION_DEF_OBJ)
+            .build();
+
+    @TempDir
+    private Path resourceDirectory;
+
+    @TempDir
+    private Path snapshotDirectory;
+
+    @Mock
+    private ResourceProperties resourceProperties;
+
+    private ResourceSnapshotStore snapshotStore;
+
+    private Path oobFile;
+
+    private final AtomicInteger jsonLoads = new AtomicInteger();
+
+    private final Function<Path, ResourceSubmission> jsonLoader = resourceFile -> {
+        this.jsonLoads.incrementAndGet();
+        return RESOURCE_SUBMISSION;
+    };
+
+    @BeforeEach
+    void setUp() throws Exception {
+
+        this.oobFile = Files.writeString(this.resourceDirectory.resolve(OOB_FILE_NAME), "{ \"kpi_defs\": [] }");
+
+        this.snapshotStore = new ResourceSnapshotStore(this.resourceProperties);
+        this.snapshotStore.setSnapshotPath(this.snapshotDirectory.toString());
+    }
+
+    @Test
+    void isSnapshotEnabled() {
+
+        when(this.resourceProperties.getOobResourceFilenames()).thenReturn(List.of(OOB_FILE_NAME));
+
+        assertTrue(this.snapshotStore.isSnapshotEnabled(this.oobFile));
+        assertFalse(this.snapshotStore.isSnapshotEnabled(this.resourceDirectory.resolve("custom.json")));
+
+        this.snapshotStore.setSnapshotPath("");
+
+        assertNull(this.snapshotStore.getSnapshotDirectory());
+        assertFalse(this.snapshotStore.isSnapshotEnabled(this.oobFile));
+    }
+
+    @Test
+    void load_noSnapshot_snapshotCompiled() throws Exception {
+
+        assertEquals(RESOURCE_SUBMISSION, this.snapshotStore.load(this.oobFile, this.jsonLoader));
+
+        assertEquals(1, this.jsonLoads.get());
+        assertTrue(Files.size(getSnapshotFile()) > ResourceSnapshotStore.FIXED_HEADER_LENGTH);
+    }
+
+    @Test
+    void load_validSnapshot_jsonNotLoaded() throws Exception {
+
+        this.snapshotStore.load(this.oobFile, this.jsonLoader);
+
+        final ResourceSubmission actual = this.snapshotStore.load(this.oobFile, this.jsonLoader);
+
+        assertEquals(RESOURCE_SUBMISSION, actual);
+        assertTrue(actual.getPmSchemaDefs().isEmpty());
+        assertEquals(1, this.jsonLoads.get());
+    }
+
+    @Test
+    void load_resourceFileChanged_jsonLoaded() throws Exception {
+
+        this.snapshotStore.load(this.oobFile, this.jsonLoader);
+
+        Files.writeString(this.oobFile, "{ \"pm_defs\": [] }");
+
+        this.snapshotStore.load(this.oobFile, this.jsonLoader);
+        assertEquals(2, this.jsonLoads.get());
+
+        // the snapshot was recompiled for the changed resource file
+        this.snapshotStore.load(this.oobFile, this.jsonLoader);
+        assertEquals(2, this.jsonLoads.get());
+    }
+
+    @Test
+    void load_corruptedSnapshot_jsonLoaded() throws Exception {
+
+        this.snapshotStore.load(this.oobFile, this.jsonLoader);
+
+        final byte[] snapshot = Files.readAllBytes(getSnapshotFile());
+        snapshot[snapshot.length - 1] ^= 0x01;
+        Files.write(getSnapshotFile(), snapshot);
+
+        assertEquals(RESOURCE_SUBMISSION, this.snapshotStore.load(this.oobFile, this.jsonLoader));
+        assertEquals(2, this.jsonLoads.get());
+    }
+
+    @Test
+    void load_unsupportedSnapshotVersion_jsonLoaded() throws Exception {
+
+        this.snapshotStore.load(this.oobFile, this.jsonLoader);
+
+        final byte[] snapshot = Files.readAllBytes(getSnapshotFile());
+        snapshot[7] = (byte) (ResourceSnapshotStore.FORMAT_VERSION + 1);
+        Files.write(getSnapshotFile(), snapshot);
+
+        this.snapshotStore.load(this.oobFile, this.jsonLoader);
+        assertEquals(2, this.jsonLoads.get());
+    }
+
+    @Test
+    void load_applicationUpgraded_jsonLoaded() throws Exception {
+
+        this.snapshotStore.setApplicationVersion("1.0.0");
+        this.snapshotStore.load(this.oobFile, this.jsonLoader);
+
+        this.snapshotStore.setApplicationVersion("1.1.0");
+
+        this.snapshotStore.load(this.oobFile, this.jsonLoader);
+        assertEquals(2, this.jsonLoads.get());
+
+        // the snapshot was recompiled by the upgraded application
+        this.snapshotStore.load(this.oobFile, this.jsonLoader);
+        assertEquals(2, this.jsonLoads.get());
+    }
+
+    private Path getSnapshotFile() {
+        return this.snapshotDirectory.resolve(OOB_FILE_NAME + ResourceSnapshotStore.SNAPSHOT_SUFFIX);
+    }
+}
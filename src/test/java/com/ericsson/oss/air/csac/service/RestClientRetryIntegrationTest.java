@@ -74,6 +74,9 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RequestCallback;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
@@ -151,6 +154,9 @@ public class RestClientRetryIntegrationTest {
         this.listAppender.start();
 
         this.log.addAppender(this.listAppender);
+
+        // the PMSC client builds its own RestTemplate, which is replaced by the mock RestTemplate
+        ReflectionTestUtils.setField(AopTestUtils.getUltimateTargetObject(this.livePmscRestClient), "restTemplate", this.restTemplate);
     }
 
     @AfterEach
@@ -351,44 +357,44 @@ public class RestClientRetryIntegrationTest {
 
     @Test
     void indexer_create_validRetryTest_serviceUnavailableException() {
-        given(this.restTemplate.exchange(anyString(), any(), any(), eq(Void.class)))
+        given(this.restTemplate.execute(anyString(), any(), any(RequestCallback.class), any()))
                 .willThrow(SERVICE_UNAVAILABLE_EXCEPTION);
 
         assertThrows(ServiceUnavailableException.class, () -> this.liveIndexerRestClient.create(new DeployedIndexDefinitionDto()));
-        verify(this.restTemplate, times(3)).exchange(anyString(), any(), any(), eq(Void.class));
+        verify(this.restTemplate, times(3)).execute(anyString(), any(), any(RequestCallback.class), any());
 
         assertLogsWhenRetryAttemptsAreExhausted();
     }
 
     @Test
     void indexer_create_noRetryTest_badRequestException() {
-        given(this.restTemplate.exchange(anyString(), any(), any(), eq(Void.class)))
+        given(this.restTemplate.execute(anyString(), any(), any(RequestCallback.class), any()))
                 .willThrow(BadRequestException.class);
 
         assertThrows(BadRequestException.class, () -> this.liveIndexerRestClient.create(new DeployedIndexDefinitionDto()));
-        verify(this.restTemplate, times(1)).exchange(anyString(), any(), any(), eq(Void.class));
+        verify(this.restTemplate, times(1)).execute(anyString(), any(), any(RequestCallback.class), any());
 
         assertNonretryableErrorLogEvents();
     }
 
     @Test
     void indexer_update_validRetryTest_serviceUnavailableException() {
-        given(this.restTemplate.exchange(anyString(), any(), any(), eq(Void.class)))
+        given(this.restTemplate.execute(anyString(), any(), any(RequestCallback.class), any()))
                 .willThrow(SERVICE_UNAVAILABLE_EXCEPTION);
 
         assertThrows(ServiceUnavailableException.class, () -> this.liveIndexerRestClient.update(new DeployedIndexDefinitionDto()));
-        verify(this.restTemplate, times(3)).exchange(anyString(), any(), any(), eq(Void.class));
+        verify(this.restTemplate, times(3)).execute(anyString(), any(), any(RequestCallback.class), any());
 
         assertLogsWhenRetryAttemptsAreExhausted();
     }
 
     @Test
     void indexer_update_noRetryTest_badRequestException() {
-        given(this.restTemplate.exchange(anyString(), any(), any(), eq(Void.class)))
+        given(this.restTemplate.execute(anyString(), any(), any(RequestCallback.class), any()))
                 .willThrow(BadRequestException.class);
 
         assertThrows(BadRequestException.class, () -> this.liveIndexerRestClient.update(new DeployedIndexDefinitionDto()));
-        verify(this.restTemplate, times(1)).exchange(anyString(), any(), any(), eq(Void.class));
+        verify(this.restTemplate, times(1)).execute(anyString(), any(), any(RequestCallback.class), any());
 
         assertNonretryableErrorLogEvents();
     }
@@ -427,11 +433,11 @@ public class RestClientRetryIntegrationTest {
         final ResponseEntity<PmscKpiResponseDto> response = new ResponseEntity<>(responseDto, HttpStatus.OK);
 
         given(this.restTemplate.getForEntity(anyString(), eq(PmscKpiResponseDto.class))).willReturn(response);
-        given(this.restTemplate.exchange(anyString(), any(), any(), eq(Void.class)))
+        given(this.restTemplate.execute(anyString(), any(), any(RequestCallback.class), any()))
                 .willThrow(SERVICE_UNAVAILABLE_EXCEPTION);
 
         assertThrows(ServiceUnavailableException.class, () -> this.livePmscRestClient.create(KPI_SUBMISSION_DTO));
-        verify(this.restTemplate, times(5)).exchange(anyString(), any(), any(), eq(Void.class));
+        verify(this.restTemplate, times(5)).execute(anyString(), any(), any(RequestCallback.class), any());
 
         assertLogsWhenRetryAttemptsAreExhausted(5);
     }
@@ -455,11 +461,11 @@ public class RestClientRetryIntegrationTest {
         final ResponseEntity<PmscKpiResponseDto> response = new ResponseEntity<>(responseDto, HttpStatus.OK);
 
         given(this.restTemplate.getForEntity(anyString(), eq(PmscKpiResponseDto.class))).willReturn(response);
-        given(this.restTemplate.exchange(anyString(), any(), any(), eq(Void.class)))
+        given(this.restTemplate.execute(anyString(), any(), any(RequestCallback.class), any()))
                 .willThrow(NotFoundException.class);
 
         assertThrows(NotFoundException.class, () -> this.livePmscRestClient.create(KPI_SUBMISSION_DTO));
-        verify(this.restTemplate, times(1)).exchange(anyString(), any(), any(), eq(Void.class));
+        verify(this.restTemplate, times(1)).execute(anyString(), any(), any(RequestCallback.class), any());
 
         assertNonretryableErrorLogEvents();
     }
@@ -474,11 +480,11 @@ public class RestClientRetryIntegrationTest {
 
         given(this.restTemplate.getForEntity(anyString(), eq(PmscKpiResponseDto.class))).willReturn(response);
 
-        given(this.restTemplate.exchange(anyString(), any(), any(), eq(Void.class)))
+        given(this.restTemplate.execute(anyString(), any(), any(RequestCallback.class), any()))
                 .willThrow(new ResourceAccessException(EXCEPTION_MESSAGE));
 
         assertThrows(ResourceAccessException.class, () -> this.livePmscRestClient.create(KPI_SUBMISSION_DTO));
-        verify(this.restTemplate, times(5)).exchange(anyString(), any(), any(), eq(Void.class));
+        verify(this.restTemplate, times(5)).execute(anyString(), any(), any(RequestCallback.class), any());
 
         assertLogsWhenRetryAttemptsAreExhausted(5);
     }
@@ -26,7 +26,6 @@ import com.ericsson.oss.air.csac.model.augmentation.AugmentationFieldRequestDto;
 import com.ericsson.oss.air.csac.model.augmentation.AugmentationRequestDto;
 import com.ericsson.oss.air.csac.model.augmentation.AugmentationRuleRequestDto;
 import com.ericsson.oss.air.csac.service.exception.HttpResponseErrorHandler;
-import com.ericsson.oss.air.util.codec.Codec;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -68,8 +67,6 @@ public class AugmentationRestClientTest {
             .rules(List.of(augmentationRuleRequestDto))
             .build();
 
-    private final Codec codec = new Codec();
-
     @Mock
     private RestTemplate restTemplate;
 
@@ -80,7 +77,7 @@ public class AugmentationRestClientTest {
 
     @BeforeEach
     void setup() {
-        this.augmentationRestClient = new AugmentationRestClient(restTemplate, augmentationProperties, codec);
+        this.augmentationRestClient = new AugmentationRestClient(restTemplate, augmentationProperties);
 
         when(this.augmentationProperties.getAasUrl()).thenReturn(AAS_URL);
     }
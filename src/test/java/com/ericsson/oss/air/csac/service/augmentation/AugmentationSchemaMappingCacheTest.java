@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.service.augmentation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.ericsson.oss.air.exception.CsacValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class AugmentationSchemaMappingCacheTest {
+
+    private static final Map<String, String> CARDQ_MAPPINGS = Map.of("5G|PM_COUNTERS|AMF_Mobility_NetworkSlice_1", "cardq|cardq|AMF_Mobility_1");
+
+    private static final Map<String, String> OTHER_MAPPINGS = Map.of("5G|PM_COUNTERS|smf_nsmf_pdu_session_snssai_apn_1", "other|other|smf_1");
+
+    @Mock
+    private AugmentationProvisioningService augmentationProvisioningService;
+
+    private final AtomicLong hitCounter = new AtomicLong();
+
+    private final AtomicLong missCounter = new AtomicLong();
+
+    private AugmentationSchemaMappingCache cache;
+
+    @BeforeEach
+    void setUp() {
+        this.cache = new AugmentationSchemaMappingCache(this.augmentationProvisioningService);
+        ReflectionTestUtils.setField(this.cache, "hitCounter", this.hitCounter);
+        ReflectionTestUtils.setField(this.cache, "missCounter", this.missCounter);
+    }
+
+    @Test
+    void getSchemaMappings_retrievedOnce() {
+
+        when(this.augmentationProvisioningService.getSchemaMappings("cardq")).thenReturn(CARDQ_MAPPINGS);
+
+        assertEquals(CARDQ_MAPPINGS, this.cache.getSchemaMappings("cardq"));
+        assertEquals(CARDQ_MAPPINGS, this.cache.getSchemaMappings("cardq"));
+
+        verify(this.augmentationProvisioningService, times(1)).getSchemaMappings("cardq");
+        assertEquals(1L, this.hitCounter.get());
+        assertEquals(1L, this.missCounter.get());
+    }
+
+    @Test
+    void getSchemaMappings_unmodifiable() {
+
+        when(this.augmentationProvisioningService.getSchemaMappings("cardq")).thenReturn(CARDQ_MAPPINGS);
+
+        final Map<String, String> mappings = this.cache.getSchemaMappings("cardq");
+
+        assertThrows(UnsupportedOperationException.class, () -> mappings.put("input", "output"));
+    }
+
+    @Test
+    void prefetch_parallel() {
+
+        when(this.augmentationProvisioningService.getSchemaMappings("cardq")).thenReturn(CARDQ_MAPPINGS);
+        when(this.augmentationProvisioningService.getSchemaMappings("other")).thenReturn(OTHER_MAPPINGS);
+
+        this.cache.prefetch(List.of("cardq", "other", "cardq"));
+
+        assertEquals(2, this.cache.size());
+        assertEquals(2L, this.missCounter.get());
+
+        assertEquals(CARDQ_MAPPINGS, this.cache.getSchemaMappings("cardq"));
+        assertEquals(OTHER_MAPPINGS, this.cache.getSchemaMappings("other"));
+
+        verify(this.augmentationProvisioningService, times(2)).getSchemaMappings(anyString());
+        assertEquals(2L, this.hitCounter.get());
+    }
+
+    @Test
+    void prefetch_sequential() {
+
+        this.cache.setParallelism(1);
+
+        when(this.augmentationProvisioningService.getSchemaMappings("cardq")).thenReturn(CARDQ_MAPPINGS);
+        when(this.augmentationProvisioningService.getSchemaMappings("other")).thenReturn(OTHER_MAPPINGS);
+
+        this.cache.prefetch(List.of("cardq", "other"));
+
+        assertEquals(2, this.cache.size());
+        verify(this.augmentationProvisioningService, times(2)).getSchemaMappings(anyString());
+    }
+
+    @Test
+    void prefetch_alreadyCached() {
+
+        when(this.augmentationProvisioningService.getSchemaMappings("cardq")).thenReturn(CARDQ_MAPPINGS);
+
+        this.cache.getSchemaMappings("cardq");
+        this.cache.prefetch(List.of("cardq"));
+
+        verify(this.augmentationProvisioningService, times(1)).getSchemaMappings("cardq");
+    }
+
+    @Test
+    void prefetch_exception() {
+
+        when(this.augmentationProvisioningService.getSchemaMappings("cardq")).thenReturn(CARDQ_MAPPINGS);
+        when(this.augmentationProvisioningService.getSchemaMappings("other")).thenThrow(new IllegalStateException("AAS unavailable"));
+
+        assertThrows(IllegalStateException.class, () -> this.cache.prefetch(List.of("cardq", "other")));
+    }
+
+    @Test
+    void invalidate() {
+
+        when(this.augmentationProvisioningService.getSchemaMappings("cardq")).thenReturn(CARDQ_MAPPINGS);
+        when(this.augmentationProvisioningService.getSchemaMappings("other")).thenReturn(OTHER_MAPPINGS);
+
+        this.cache.prefetch(List.of("cardq", "other"));
+        this.cache.invalidate(List.of("cardq"));
+
+        assertEquals(1, this.cache.size());
+
+        this.cache.getSchemaMappings("cardq");
+        verify(this.augmentationProvisioningService, times(2)).getSchemaMappings("cardq");
+    }
+
+    @Test
+    void invalidateAll() {
+
+        when(this.augmentationProvisioningService.getSchemaMappings("cardq")).thenReturn(CARDQ_MAPPINGS);
+
+        this.cache.getSchemaMappings("cardq");
+        this.cache.invalidateAll();
+
+        assertEquals(0, this.cache.size());
+    }
+
+    @Test
+    void setParallelism_invalid() {
+
+        assertThrows(CsacValidationException.class, () -> this.cache.setParallelism(0));
+        assertThrows(CsacValidationException.class, () -> this.cache.setParallelism(null));
+    }
+}
@@ -14,7 +14,6 @@ import static com.ericsson.oss.air.csac.model.TestResourcesUtils.REGISTRATION_RE
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -34,9 +33,7 @@ import com.ericsson.oss.air.csac.model.augmentation.AugmentationFieldRequestDto;
 import com.ericsson.oss.air.csac.model.augmentation.AugmentationRequestDto;
 import com.ericsson.oss.air.csac.model.augmentation.AugmentationRuleRequestDto;
 import com.ericsson.oss.air.exception.CsacValidationException;
-import com.ericsson.oss.air.util.codec.Codec;
 import com.ericsson.oss.air.util.logging.FaultHandler;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -117,10 +114,6 @@ class LiveAugmentationProvisioningServiceTest {
             .rules(List.of(augmentationRuleRequestDto2))
             .build();
 
-    private final Codec codec = new Codec();
-
-    private final Codec mockCodec = spy(this.codec);
-
     private final FaultHandler faultHandler = new FaultHandler();
 
     @Mock
@@ -137,8 +130,6 @@ class LiveAugmentationProvisioningServiceTest {
 
     private LiveAugmentationProvisioningService service;
 
-    private LiveAugmentationProvisioningService mockService;
-
     private ListAppender<ILoggingEvent> listAppender;
 
     @BeforeEach
@@ -147,13 +138,6 @@ class LiveAugmentationProvisioningServiceTest {
         this.service = new LiveAugmentationProvisioningService(this.ardqRestClient,
                 this.augmentationRestClient,
                 this.augmentationConfiguration,
-                this.codec,
-                this.faultHandler);
-
-        this.mockService = new LiveAugmentationProvisioningService(this.ardqRestClient,
-                this.augmentationRestClient,
-                this.augmentationConfiguration,
-                this.mockCodec,
                 this.faultHandler);
 
         final Logger logger = (Logger) LoggerFactory.getLogger(LiveAugmentationProvisioningService.class);
@@ -212,11 +196,12 @@ class LiveAugmentationProvisioningServiceTest {
     }
 
     @Test
-    void create_jsonException() throws Exception {
+    void create_summaryLogged() {
 
-        when(this.mockCodec.writeValueAsString(any())).thenThrow(JsonProcessingException.class);
+        this.service.create(List.of(augmentationRequestDto1, augmentationRequestDto2));
 
-        assertThrows(JsonProcessingException.class, () -> this.mockService.create(List.of(augmentationRequestDto1)));
+        assertEquals("Submitting {} new augmentation definitions", this.listAppender.list.get(0).getMessage());
+        assertEquals(2, this.listAppender.list.get(0).getArgumentArray()[0]);
     }
 
     @Test
@@ -229,11 +214,12 @@ class LiveAugmentationProvisioningServiceTest {
     }
 
     @Test
-    void update_jsonException() throws Exception {
+    void update_summaryLogged() {
 
-        when(this.mockCodec.writeValueAsString(any())).thenThrow(JsonProcessingException.class);
+        this.service.update(List.of(augmentationRequestDto1, augmentationRequestDto2));
 
-        assertThrows(JsonProcessingException.class, () -> this.mockService.update(List.of(augmentationRequestDto1)));
+        assertEquals("Updating {} augmentation definitions", this.listAppender.list.get(0).getMessage());
+        assertEquals(2, this.listAppender.list.get(0).getArgumentArray()[0]);
     }
 
     @Test
@@ -246,11 +232,12 @@ class LiveAugmentationProvisioningServiceTest {
     }
 
     @Test
-    void delete_jsonException() throws Exception {
+    void delete_summaryLogged() {
 
-        when(this.mockCodec.writeValueAsString(any())).thenThrow(JsonProcessingException.class);
+        this.service.delete(List.of(augmentationRequestDto1, augmentationRequestDto2));
 
-        assertThrows(JsonProcessingException.class, () -> this.mockService.delete(List.of(augmentationRequestDto1)));
+        assertEquals("Deleting {} augmentation definitions", this.listAppender.list.get(0).getMessage());
+        assertEquals(2, this.listAppender.list.get(0).getArgumentArray()[0]);
     }
 
     @Test
@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.net.URI;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -43,6 +44,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.OngoingStubbing;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.client.ClientHttpResponse;
@@ -96,6 +98,30 @@ class HttpResponseErrorHandlerTest {
                 () -> errorHandler.handleError(response));
     }
 
+    @Test
+    void handleError_endpointFromRequest() throws IOException {
+        when(response.getStatusCode()).thenReturn(HttpStatus.NOT_FOUND);
+
+        final HttpResponseErrorHandler requestErrorHandler = new HttpResponseErrorHandler();
+        final URI url = URI.create("http://localhost:8080/catalog/v1/data-type");
+
+        final NotFoundException exception = assertThrows(NotFoundException.class,
+                () -> requestErrorHandler.handleError(url, HttpMethod.GET, response));
+
+        assertEquals("GET http://localhost:8080/catalog/v1/data-type: 404 Not Found", exception.getMessage());
+    }
+
+    @Test
+    void handleError_configuredEndpoint() throws IOException {
+        when(response.getStatusCode()).thenReturn(HttpStatus.NOT_FOUND);
+
+        final URI url = URI.create("http://localhost:8080/catalog/v1/data-type");
+
+        final NotFoundException exception = assertThrows(NotFoundException.class, () -> errorHandler.handleError(url, HttpMethod.GET, response));
+
+        assertEquals(ENDPOINT + ": 404 Not Found", exception.getMessage());
+    }
+
     @Test
     void handleError_badRequest_success() throws IOException {
         when(response.getStatusCode()).thenReturn(HttpStatus.BAD_REQUEST);
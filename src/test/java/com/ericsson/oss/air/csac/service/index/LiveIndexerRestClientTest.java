@@ -23,8 +23,11 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import com.ericsson.oss.air.csac.model.TestResourcesUtils;
 import com.ericsson.oss.air.csac.model.runtime.index.DeployedIndexDefinitionDto;
@@ -32,17 +35,21 @@ import com.ericsson.oss.air.csac.repository.DeployedIndexDefinitionDao;
 import com.ericsson.oss.air.csac.service.exception.HttpResponseErrorHandler;
 import com.ericsson.oss.air.exception.http.BadRequestException;
 import com.ericsson.oss.air.exception.http.ServiceUnavailableException;
+import com.ericsson.oss.air.util.StreamingJsonRequestCallback;
+import com.ericsson.oss.air.util.codec.Codec;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpRequest;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RequestCallback;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
@@ -69,7 +76,8 @@ public class LiveIndexerRestClientTest {
     @Test
     void createIndexDefinition_emptyIndexDefinition_badRequest() {
         final DeployedIndexDefinitionDto emptyIndexDefinition = DeployedIndexDefinitionDto.builder().indexDefinitionName("test").build();
-        when(this.restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(), eq(Void.class))).thenThrow(BadRequestException.class);
+        when(this.restTemplate.execute(anyString(), eq(HttpMethod.POST), any(StreamingJsonRequestCallback.class), any()))
+                .thenThrow(BadRequestException.class);
 
         assertThrows(BadRequestException.class, () -> this.liveIndexerRestClient.create(emptyIndexDefinition));
 
@@ -79,7 +87,8 @@ public class LiveIndexerRestClientTest {
     @Test
     void updateIndexDefinition_emptyIndexDefinition_badRequest() {
         final DeployedIndexDefinitionDto emptyIndexDefinition = DeployedIndexDefinitionDto.builder().indexDefinitionName("test").build();
-        when(this.restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(), eq(Void.class))).thenThrow(BadRequestException.class);
+        when(this.restTemplate.execute(anyString(), eq(HttpMethod.POST), any(StreamingJsonRequestCallback.class), any()))
+                .thenThrow(BadRequestException.class);
 
         assertThrows(BadRequestException.class, () -> this.liveIndexerRestClient.update(emptyIndexDefinition));
 
@@ -88,49 +97,70 @@ public class LiveIndexerRestClientTest {
     }
 
     @Test
-    void createIndexDefinition_success() {
+    void createIndexDefinition_success() throws Exception {
         final ResponseEntity<Void> response = ResponseEntity.ok().build();
-        when(this.restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(), eq(Void.class))).thenReturn(response);
+        when(this.restTemplate.execute(anyString(), eq(HttpMethod.POST), any(StreamingJsonRequestCallback.class), any()))
+                .thenReturn(response);
 
         this.liveIndexerRestClient.create(TestResourcesUtils.DEPLOYED_INDEX_DEFINITION_DTO_A);
 
         verify(this.restTemplate, times(1)).setErrorHandler(any(HttpResponseErrorHandler.class));
-        verify(this.restTemplate, times(1)).exchange(INDEXER_URL + AIS_INDEXER_URI, HttpMethod.POST, getRequestEntity(), Void.class);
+        verifyRequest(HttpMethod.POST);
     }
 
     @Test
-    void updateIndexDefinition_success() {
+    void updateIndexDefinition_success() throws Exception {
         final ResponseEntity<Void> response = ResponseEntity.ok().build();
-        when(this.restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(), eq(Void.class))).thenReturn(response);
+        when(this.restTemplate.execute(anyString(), eq(HttpMethod.POST), any(StreamingJsonRequestCallback.class), any()))
+                .thenReturn(response);
 
         this.liveIndexerRestClient.update(TestResourcesUtils.DEPLOYED_INDEX_DEFINITION_DTO_A);
 
         verify(this.restTemplate, times(1)).setErrorHandler(any(HttpResponseErrorHandler.class));
-        verify(this.restTemplate, times(1)).exchange(INDEXER_URL + AIS_INDEXER_URI, HttpMethod.POST, getRequestEntity(), Void.class);
+        verifyRequest(HttpMethod.POST);
     }
 
     @Test
-    void createIndexDefinition_validIndexDefinition_serviceUnavailable() {
-        when(this.restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(), eq(Void.class))).thenThrow(ServiceUnavailableException.class);
+    void createIndexDefinition_validIndexDefinition_serviceUnavailable() throws Exception {
+        when(this.restTemplate.execute(anyString(), eq(HttpMethod.POST), any(StreamingJsonRequestCallback.class), any()))
+                .thenThrow(ServiceUnavailableException.class);
 
         assertThrows(ServiceUnavailableException.class,
                 () -> this.liveIndexerRestClient.create(TestResourcesUtils.DEPLOYED_INDEX_DEFINITION_DTO_A));
 
         verify(this.restTemplate, times(1)).setErrorHandler(any(HttpResponseErrorHandler.class));
-        verify(this.restTemplate, times(1)).exchange(INDEXER_URL + AIS_INDEXER_URI, HttpMethod.POST, getRequestEntity(), Void.class);
+        verifyRequest(HttpMethod.POST);
     }
 
     @Test
-    void updateIndexDefinition_success_newIndexClient() {
+    void updateIndexDefinition_success_newIndexClient() throws Exception {
         ReflectionTestUtils.setField(this.liveIndexerRestClient, "isLegacyIndexClient", false);
 
         final ResponseEntity<Void> response = ResponseEntity.ok().build();
-        when(this.restTemplate.exchange(anyString(), eq(HttpMethod.PUT), any(), eq(Void.class))).thenReturn(response);
+        when(this.restTemplate.execute(anyString(), eq(HttpMethod.PUT), any(StreamingJsonRequestCallback.class), any()))
+                .thenReturn(response);
 
         this.liveIndexerRestClient.update(TestResourcesUtils.DEPLOYED_INDEX_DEFINITION_DTO_A);
 
         verify(this.restTemplate, times(1)).setErrorHandler(any(HttpResponseErrorHandler.class));
-        verify(this.restTemplate, times(1)).exchange(INDEXER_URL + AIS_INDEXER_URI, HttpMethod.PUT, getRequestEntity(), Void.class);
+        verifyRequest(HttpMethod.PUT);
+    }
+
+    @Test
+    void createIndexDefinition_compressed() throws Exception {
+        ReflectionTestUtils.setField(this.liveIndexerRestClient, "compressRequests", true);
+
+        final ResponseEntity<Void> response = ResponseEntity.ok().build();
+        when(this.restTemplate.execute(anyString(), eq(HttpMethod.POST), any(StreamingJsonRequestCallback.class), any()))
+                .thenReturn(response);
+
+        this.liveIndexerRestClient.create(TestResourcesUtils.DEPLOYED_INDEX_DEFINITION_DTO_A);
+
+        final MockClientHttpRequest request = this.captureRequest(HttpMethod.POST);
+
+        assertEquals(StreamingJsonRequestCallback.GZIP_CONTENT_ENCODING, request.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(new Codec().writeValueAsString(TestResourcesUtils.DEPLOYED_INDEX_DEFINITION_DTO_A),
+                new String(new GZIPInputStream(new ByteArrayInputStream(request.getBodyAsBytes())).readAllBytes(), StandardCharsets.UTF_8));
     }
 
     @Test
@@ -184,9 +214,22 @@ public class LiveIndexerRestClientTest {
         verify(this.restTemplate, times(2)).setErrorHandler(any(HttpResponseErrorHandler.class));
     }
 
-    private HttpEntity getRequestEntity() {
-        final HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        return new HttpEntity<>(TestResourcesUtils.DEPLOYED_INDEX_DEFINITION_DTO_A, headers);
+    private void verifyRequest(final HttpMethod httpMethod) throws Exception {
+
+        final MockClientHttpRequest request = this.captureRequest(httpMethod);
+
+        assertEquals(MediaType.APPLICATION_JSON, request.getHeaders().getContentType());
+        assertEquals(new Codec().writeValueAsString(TestResourcesUtils.DEPLOYED_INDEX_DEFINITION_DTO_A), request.getBodyAsString());
+    }
+
+    private MockClientHttpRequest captureRequest(final HttpMethod httpMethod) throws Exception {
+
+        final ArgumentCaptor<RequestCallback> requestCallback = ArgumentCaptor.forClass(RequestCallback.class);
+        verify(this.restTemplate, times(1)).execute(eq(INDEXER_URL + AIS_INDEXER_URI), eq(httpMethod), requestCallback.capture(), any());
+
+        final MockClientHttpRequest request = new MockClientHttpRequest();
+        requestCallback.getValue().doWithRequest(request);
+
+        return request;
     }
 }
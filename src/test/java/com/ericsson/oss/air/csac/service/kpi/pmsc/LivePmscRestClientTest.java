@@ -15,21 +15,28 @@ import static com.ericsson.oss.air.csac.service.kpi.pmsc.DryRunPmscRestClientTes
 import static com.ericsson.oss.air.csac.service.kpi.pmsc.LivePmscRestClient.PMSC_KPIS_DEFINITIONS_API;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.client.ExpectedCount.manyTimes;
 import static org.springframework.test.web.client.ExpectedCount.times;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.headerDoesNotExist;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withCreatedEntity;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withBadRequest;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import com.ericsson.oss.air.csac.model.pmsc.AggregationPeriod;
 import com.ericsson.oss.air.csac.model.pmsc.KpiOutputTableListDto;
@@ -38,22 +45,28 @@ import com.ericsson.oss.air.csac.model.pmsc.PmscKpiDefinitionDto;
 import com.ericsson.oss.air.csac.model.pmsc.SimpleKpiOutputTableDto;
 import com.ericsson.oss.air.csac.model.pmsc.SimplePmscKpiDefinitionDto;
 import com.ericsson.oss.air.csac.service.exception.PmscHttpResponseErrorHandler;
+import com.ericsson.oss.air.exception.CsacValidationException;
+import com.ericsson.oss.air.exception.http.BadRequestException;
+import com.ericsson.oss.air.util.StreamingJsonRequestCallback;
+import com.ericsson.oss.air.util.codec.Codec;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.client.MockServerRestTemplateCustomizer;
 import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
-import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpRequest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.client.MockRestServiceServer;
-import org.springframework.web.client.RestTemplate;
 
 @RestClientTest(LivePmscRestClient.class)
 @ActiveProfiles("test")
@@ -63,7 +76,7 @@ public class LivePmscRestClientTest {
     private String pmscUrl;
 
     @Autowired
-    private MockRestServiceServer server;
+    private MockServerRestTemplateCustomizer serverCustomizer;
 
     @Autowired
     private LivePmscRestClient testClient;
@@ -71,8 +84,7 @@ public class LivePmscRestClientTest {
     @Autowired
     private ObjectMapper objectMapper;
 
-    @SpyBean
-    private RestTemplate restTemplate;
+    private MockRestServiceServer server;
 
     private String URL;
 
@@ -100,6 +112,11 @@ public class LivePmscRestClientTest {
     @BeforeEach
     void setUp() {
         URL = this.pmscUrl + PMSC_KPIS_DEFINITIONS_API;
+        this.testClient.getInventory().invalidate();
+
+        // the client builds its own RestTemplate, so the mock server bound to it is used rather than the auto-configured server
+        final LivePmscRestClient target = AopTestUtils.getUltimateTargetObject(this.testClient);
+        this.server = this.serverCustomizer.getServer(target.getRestTemplate());
     }
 
     @Test
@@ -110,8 +127,6 @@ public class LivePmscRestClientTest {
         final ResponseEntity<Void> response = testClient.create(KPI_DEFINITIONS_SUBMISSION);
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
 
-        verify(this.restTemplate, Mockito.times(2)).setErrorHandler(any(PmscHttpResponseErrorHandler.class));
-
     }
 
     @Test
@@ -123,8 +138,6 @@ public class LivePmscRestClientTest {
 
         server.verify();
 
-        verify(this.restTemplate, Mockito.times(1)).setErrorHandler(any(PmscHttpResponseErrorHandler.class));
-
     }
 
     @Test
@@ -135,8 +148,6 @@ public class LivePmscRestClientTest {
 
         this.server.verify();
 
-        verify(this.restTemplate, Mockito.times(1)).setErrorHandler(any(PmscHttpResponseErrorHandler.class));
-
     }
 
     @Test
@@ -151,8 +162,6 @@ public class LivePmscRestClientTest {
         this.server.verify();
         assertNotNull(result);
 
-        verify(this.restTemplate, Mockito.times(1)).setErrorHandler(any(PmscHttpResponseErrorHandler.class));
-
     }
 
     @Test
@@ -167,8 +176,6 @@ public class LivePmscRestClientTest {
 
         this.server.verify();
 
-        verify(this.restTemplate, Mockito.times(2)).setErrorHandler(any(PmscHttpResponseErrorHandler.class));
-
     }
 
     @Test
@@ -181,8 +188,6 @@ public class LivePmscRestClientTest {
         this.server.verify();
         assertEquals(result, List.of());
 
-        verify(this.restTemplate, Mockito.times(1)).setErrorHandler(any(PmscHttpResponseErrorHandler.class));
-
     }
 
     @Test
@@ -250,8 +255,6 @@ public class LivePmscRestClientTest {
 
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
 
-        verify(this.restTemplate, Mockito.times(1)).setErrorHandler(any(PmscHttpResponseErrorHandler.class));
-
     }
 
     @Test
@@ -267,7 +270,126 @@ public class LivePmscRestClientTest {
 
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
 
-        verify(this.restTemplate, Mockito.times(1)).setErrorHandler(any(PmscHttpResponseErrorHandler.class));
+    }
+
+    @Test
+    void create_inventoryUpdated() {
+
+        this.server.expect(times(1), requestTo(URL)).andExpect(method(HttpMethod.GET)).andRespond(withSuccess("", MediaType.APPLICATION_JSON));
+        this.server.expect(times(1), requestTo(URL)).andExpect(method(HttpMethod.POST)).andRespond(withCreatedEntity(null));
+
+        assertEquals(HttpStatus.CREATED, this.testClient.create(KPI_SUBMISSION_DTO).getStatusCode());
+
+        // the created KPIs are found in the inventory without retrieving them from the PMSC
+        assertEquals(HttpStatus.CREATED, this.testClient.create(KPI_SUBMISSION_DTO).getStatusCode());
+        assertTrue(this.testClient.doSkipCreate(KPI_SUBMISSION_DTO));
+
+        this.server.verify();
+    }
+
+    @Test
+    void create_requestBodyStreamed() throws Exception {
+
+        this.server.expect(times(1), requestTo(URL)).andExpect(method(HttpMethod.GET)).andRespond(withSuccess("", MediaType.APPLICATION_JSON));
+        this.server.expect(times(1), requestTo(URL)).andExpect(method(HttpMethod.POST))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(headerDoesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().json(new Codec().writeValueAsString(KPI_SUBMISSION_DTO), true))
+                .andRespond(withCreatedEntity(null));
+
+        assertEquals(HttpStatus.CREATED, this.testClient.create(KPI_SUBMISSION_DTO).getStatusCode());
+
+        this.server.verify();
+    }
+
+    @Test
+    void create_compressed() throws Exception {
+
+        final String expectedBody = new Codec().writeValueAsString(KPI_SUBMISSION_DTO);
+
+        this.server.expect(times(1), requestTo(URL)).andExpect(method(HttpMethod.GET)).andRespond(withSuccess("", MediaType.APPLICATION_JSON));
+        this.server.expect(times(1), requestTo(URL)).andExpect(method(HttpMethod.POST))
+                .andExpect(header(HttpHeaders.CONTENT_ENCODING, StreamingJsonRequestCallback.GZIP_CONTENT_ENCODING))
+                .andExpect(request -> assertEquals(expectedBody, new String(
+                        new GZIPInputStream(new ByteArrayInputStream(((MockClientHttpRequest) request).getBodyAsBytes())).readAllBytes(),
+                        StandardCharsets.UTF_8)))
+                .andRespond(withCreatedEntity(null));
+
+        final LivePmscRestClient target = AopTestUtils.getUltimateTargetObject(this.testClient);
+        ReflectionTestUtils.setField(target, "compressRequests", true);
+
+        try {
+            assertEquals(HttpStatus.CREATED, this.testClient.create(KPI_SUBMISSION_DTO).getStatusCode());
+        } finally {
+            ReflectionTestUtils.setField(target, "compressRequests", false);
+        }
+
+        this.server.verify();
+    }
+
+    @Test
+    void deleteById_inventoryUpdated() throws IOException {
 
+        final String responseString = FileUtils.readFileToString(
+                new File("src/test/resources/fixtures/pmsc/pmsc_get_kpi_response_single_simple.json"),
+                StandardCharsets.UTF_8);
+
+        this.server.expect(times(1), requestTo(URL)).andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(responseString, MediaType.APPLICATION_JSON));
+        this.server.expect(times(1), requestTo(URL)).andExpect(method(HttpMethod.DELETE)).andRespond(withSuccess());
+
+        assertTrue(this.testClient.doSkipCreate(KPI_SUBMISSION_DTO));
+
+        this.testClient.deleteById(List.of(SIMPLE_KPI_DEFINITION_DTO.getName()));
+
+        assertFalse(this.testClient.doSkipCreate(KPI_SUBMISSION_DTO));
+
+        this.server.verify();
+    }
+
+    @Test
+    void deleteById_error_inventoryInvalidated() throws IOException {
+
+        final String responseString = FileUtils.readFileToString(
+                new File("src/test/resources/fixtures/pmsc/pmsc_get_kpi_response_single_simple.json"),
+                StandardCharsets.UTF_8);
+
+        this.server.expect(times(1), requestTo(URL)).andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(responseString, MediaType.APPLICATION_JSON));
+        this.server.expect(times(1), requestTo(URL)).andExpect(method(HttpMethod.DELETE)).andRespond(withServerError());
+        this.server.expect(times(1), requestTo(URL)).andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(responseString, MediaType.APPLICATION_JSON));
+
+        assertTrue(this.testClient.doSkipCreate(KPI_SUBMISSION_DTO));
+
+        final List<String> ids = List.of(SIMPLE_KPI_DEFINITION_DTO.getName());
+        assertThrows(RuntimeException.class, () -> this.testClient.deleteById(ids));
+
+        // the inventory is reloaded from the PMSC
+        assertTrue(this.testClient.doSkipCreate(KPI_SUBMISSION_DTO));
+
+        this.server.verify();
+    }
+
+    @Test
+    void create_errorResponse() {
+
+        this.server.expect(times(1), requestTo(URL)).andExpect(method(HttpMethod.GET)).andRespond(withSuccess("", MediaType.APPLICATION_JSON));
+        this.server.expect(times(1), requestTo(URL)).andExpect(method(HttpMethod.POST)).andRespond(withBadRequest());
+
+        // the error handler configured on the client's RestTemplate reports the failed request
+        final BadRequestException exception = assertThrows(BadRequestException.class, () -> this.testClient.create(KPI_SUBMISSION_DTO));
+
+        assertEquals("POST " + URL + ": 400 Bad Request", exception.getMessage());
+        assertInstanceOf(PmscHttpResponseErrorHandler.class,
+                AopTestUtils.<LivePmscRestClient>getUltimateTargetObject(this.testClient).getRestTemplate().getErrorHandler());
+
+        this.server.verify();
+    }
+
+    @Test
+    void setInventoryRefreshPeriod() {
+        assertThrows(CsacValidationException.class, () -> this.testClient.setInventoryRefreshPeriod(-1L));
+        assertThrows(CsacValidationException.class, () -> this.testClient.setInventoryRefreshPeriod(null));
     }
-}
\ No newline at end of file
+}
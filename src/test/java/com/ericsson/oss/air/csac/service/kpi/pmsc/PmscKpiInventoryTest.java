@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.csac.service.kpi.pmsc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.ericsson.oss.air.csac.model.pmsc.ComplexPmscKpiDefinitionDto;
+import com.ericsson.oss.air.csac.model.pmsc.KpiTypeEnum;
+import com.ericsson.oss.air.csac.model.pmsc.PmscKpiDefinitionDto;
+import com.ericsson.oss.air.csac.model.pmsc.SimplePmscKpiDefinitionDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PmscKpiInventoryTest {
+
+    private static final PmscKpiDefinitionDto SIMPLE_KPI = SimplePmscKpiDefinitionDto.builder()
+            .name("csac_simple")
+            .expression("SUM(pm_counter)")
+            .objectType("FLOAT")
+            .aggregationType("SUM")
+            .build();
+
+    private static final PmscKpiDefinitionDto COMPLEX_KPI = ComplexPmscKpiDefinitionDto.builder()
+            .name("csac_complex")
+            .expression("SUM(kpi_simple_15.csac_simple) FROM kpi_db://kpi_simple_15")
+            .objectType("FLOAT")
+            .aggregationType("SUM")
+            .build();
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    private PmscKpiInventory inventory;
+
+    @BeforeEach
+    void setUp() {
+        this.inventory = new PmscKpiInventory(() -> {
+            this.loadCount.incrementAndGet();
+            return List.of(SIMPLE_KPI, COMPLEX_KPI);
+        }, 300000L);
+    }
+
+    @Test
+    void containsAll_loadedOnce() {
+
+        assertTrue(this.inventory.containsAll(List.of("csac_simple", "csac_complex")));
+        assertFalse(this.inventory.containsAll(List.of("csac_simple", "csac_unknown")));
+
+        assertEquals(1, this.loadCount.get());
+    }
+
+    @Test
+    void getAll_complexFirst() {
+
+        this.inventory.containsAll(List.of());
+        this.inventory.putAll(Map.of("csac_complex_2", KpiTypeEnum.COMPLEX, "csac_simple_2", KpiTypeEnum.SIMPLE));
+
+        final List<String> kpiNames = this.inventory.getAll();
+
+        assertEquals(4, kpiNames.size());
+        assertTrue(List.of("csac_complex", "csac_complex_2").containsAll(kpiNames.subList(0, 2)));
+        assertTrue(List.of("csac_simple", "csac_simple_2").containsAll(kpiNames.subList(2, 4)));
+    }
+
+    @Test
+    void putAll_notLoaded_ignored() {
+
+        this.inventory.putAll(Map.of("csac_created", KpiTypeEnum.SIMPLE));
+
+        assertFalse(this.inventory.containsAll(List.of("csac_created")));
+        assertEquals(1, this.loadCount.get());
+    }
+
+    @Test
+    void removeAll() {
+
+        this.inventory.containsAll(List.of());
+        this.inventory.removeAll(List.of("csac_simple"));
+
+        assertFalse(this.inventory.containsAll(List.of("csac_simple")));
+        assertTrue(this.inventory.containsAll(List.of("csac_complex")));
+    }
+
+    @Test
+    void invalidate_reloaded() {
+
+        this.inventory.containsAll(List.of());
+        this.inventory.putAll(Map.of("csac_created", KpiTypeEnum.SIMPLE));
+        this.inventory.invalidate();
+
+        assertEquals(List.of("csac_complex", "csac_simple"), this.inventory.getAll());
+        assertEquals(2, this.loadCount.get());
+    }
+
+    @Test
+    void refreshPeriodElapsed_reloaded() {
+
+        this.inventory.setRefreshPeriodMillis(0L);
+
+        this.inventory.containsAll(List.of());
+        this.inventory.containsAll(List.of());
+
+        assertEquals(2, this.loadCount.get());
+    }
+}
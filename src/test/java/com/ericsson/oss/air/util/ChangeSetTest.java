@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class ChangeSetTest {
+
+    @Test
+    void empty() {
+
+        final ChangeSet<String> changeSet = ChangeSet.empty();
+
+        assertTrue(changeSet.getAdded().isEmpty());
+        assertTrue(changeSet.getUpdated().isEmpty());
+        assertTrue(changeSet.getDeleted().isEmpty());
+        assertTrue(changeSet.getUnchanged().isEmpty());
+        assertTrue(changeSet.getChanged().isEmpty());
+        assertFalse(changeSet.hasChanges());
+    }
+
+    @Test
+    void build() {
+
+        final ChangeSet<String> changeSet = ChangeSet.<String>builder()
+                .added("a")
+                .updated("u")
+                .deleted("d")
+                .unchanged("n")
+                .changedFields("u", Set.of("field"))
+                .build();
+
+        assertEquals(List.of("a"), changeSet.getAdded());
+        assertEquals(List.of("u"), changeSet.getUpdated());
+        assertEquals(List.of("d"), changeSet.getDeleted());
+        assertEquals(List.of("n"), changeSet.getUnchanged());
+        assertEquals(List.of("a", "u"), changeSet.getChanged());
+        assertEquals(Set.of("field"), changeSet.getChangedFields("u"));
+        assertTrue(changeSet.getChangedFields("a").isEmpty());
+        assertTrue(changeSet.hasChanges());
+    }
+
+    @Test
+    void hasChanges_deletedOnly() {
+        assertTrue(ChangeSet.<String>builder().deleted("d").build().hasChanges());
+    }
+
+    @Test
+    void isImmutable() {
+
+        final ChangeSet<String> changeSet = ChangeSet.<String>builder().added("a").build();
+
+        assertThrows(UnsupportedOperationException.class, () -> changeSet.getAdded().add("b"));
+    }
+}
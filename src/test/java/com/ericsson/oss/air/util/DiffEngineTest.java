@@ -11,9 +11,13 @@
 package com.ericsson.oss.air.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 
 import com.ericsson.oss.air.csac.model.AugmentationDefinition;
@@ -171,4 +175,87 @@ class DiffEngineTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    void testDiff() {
+
+        final Function<AugmentationDefinition, String> identity = AugmentationDefinition::getName;
+
+        final List<AugmentationDefinition> existing = List.of(aug1, aug2);
+
+        final DiffEngine<AugmentationDefinition> diffEngine = DiffEngine.builder()
+                .source(existing)
+                .identityFunction(identity)
+                .build();
+
+        final AugmentationDefinition aug3 = aug2.toBuilder().name("aug3").build();
+
+        final ChangeSet<AugmentationDefinition> actual = diffEngine.diff(List.of(aug1_update, aug3));
+
+        assertEquals(List.of(aug3), actual.getAdded());
+        assertEquals(List.of(aug1_update), actual.getUpdated());
+        assertEquals(List.of(aug2), actual.getDeleted());
+        assertTrue(actual.getUnchanged().isEmpty());
+        assertTrue(actual.getChangedFields(aug1.getName()).isEmpty());
+        assertTrue(actual.hasChanges());
+    }
+
+    @Test
+    void testDiff_noChanges() {
+
+        final Function<AugmentationDefinition, String> identity = AugmentationDefinition::getName;
+
+        final DiffEngine<AugmentationDefinition> diffEngine = DiffEngine.builder()
+                .source(List.of(aug1, aug2))
+                .identityFunction(identity)
+                .build();
+
+        final ChangeSet<AugmentationDefinition> actual = diffEngine.diff(List.of(aug2, aug1));
+
+        assertEquals(List.of(aug2, aug1), actual.getUnchanged());
+        assertFalse(actual.hasChanges());
+    }
+
+    @Test
+    void testDiff_trackFieldChanges() {
+
+        final Function<AugmentationDefinition, String> identity = AugmentationDefinition::getName;
+
+        final DiffEngine<AugmentationDefinition> diffEngine = DiffEngine.builder()
+                .source(List.of(aug1))
+                .identityFunction(identity)
+                .trackFieldChanges(true)
+                .build();
+
+        final ChangeSet<AugmentationDefinition> actual = diffEngine.diff(List.of(aug1_update));
+
+        assertEquals(List.of(aug1_update), actual.getUpdated());
+        assertEquals(Set.of("ardq_rules"), actual.getChangedFields(aug1.getName()));
+    }
+
+    @Test
+    void testDiff_customEquivalence() {
+
+        final Function<AugmentationDefinition, String> identity = AugmentationDefinition::getName;
+
+        final DiffEngine<AugmentationDefinition> diffEngine = DiffEngine.builder()
+                .source(List.of(aug1))
+                .identityFunction(identity)
+                .equivalence((candidate, existing) -> Objects.equals(((AugmentationDefinition) candidate).getUrl(),
+                        ((AugmentationDefinition) existing).getUrl()))
+                .build();
+
+        final ChangeSet<AugmentationDefinition> actual = diffEngine.diff(List.of(aug1_update));
+
+        assertEquals(List.of(aug1_update), actual.getUnchanged());
+        assertTrue(actual.getUpdated().isEmpty());
+    }
+
+    @Test
+    void testBuilder_nullEquivalence() {
+
+        final Function<AugmentationDefinition, String> identity = AugmentationDefinition::getName;
+
+        assertThrows(NullPointerException.class, () -> DiffEngine.builder().source(List.of()).identityFunction(identity).equivalence(null).build());
+    }
+
+}
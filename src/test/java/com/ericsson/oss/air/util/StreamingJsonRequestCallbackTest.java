@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.ericsson.oss.air.util.logging.payload.PayloadLogFactory;
+import com.ericsson.oss.air.util.logging.payload.PayloadLogger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+
+class StreamingJsonRequestCallbackTest {
+
+    private static final Map<String, List<String>> BODY = Map.of("names", List.of("first", "second"));
+
+    private static final String BODY_JSON = "{\"names\":[\"first\",\"second\"]}";
+
+    private static final PayloadLogger PAYLOAD_LOGGER = PayloadLogFactory.getLogger(StreamingJsonRequestCallbackTest.class);
+
+    private Logger log;
+
+    private ListAppender<ILoggingEvent> listAppender;
+
+    @BeforeEach
+    void setUp() {
+
+        this.log = (Logger) LoggerFactory.getLogger(StreamingJsonRequestCallbackTest.class);
+        this.log.setLevel(Level.DEBUG);
+        this.listAppender = new ListAppender<>();
+        this.listAppender.start();
+        this.log.addAppender(this.listAppender);
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        this.log.detachAppender(this.listAppender);
+        this.log.setLevel(null);
+    }
+
+    @Test
+    void doWithRequest() throws Exception {
+
+        final MockClientHttpRequest request = new MockClientHttpRequest();
+
+        new StreamingJsonRequestCallback(BODY, false, PAYLOAD_LOGGER.capture("Body: {}")).doWithRequest(request);
+
+        assertEquals(MediaType.APPLICATION_JSON, request.getHeaders().getContentType());
+        assertFalse(request.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(BODY_JSON, request.getBodyAsString());
+
+        assertEquals(1, this.listAppender.list.size());
+        assertEquals("Body: " + BODY_JSON, this.listAppender.list.get(0).getFormattedMessage());
+    }
+
+    @Test
+    void doWithRequest_compressed() throws Exception {
+
+        final MockClientHttpRequest request = new MockClientHttpRequest();
+
+        new StreamingJsonRequestCallback(BODY, true, PAYLOAD_LOGGER.capture("Body: {}")).doWithRequest(request);
+
+        assertEquals(MediaType.APPLICATION_JSON, request.getHeaders().getContentType());
+        assertEquals(StreamingJsonRequestCallback.GZIP_CONTENT_ENCODING, request.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(BODY_JSON, decompress(request.getBodyAsBytes()));
+
+        // the uncompressed body is logged
+        assertEquals("Body: " + BODY_JSON, this.listAppender.list.get(0).getFormattedMessage());
+    }
+
+    @Test
+    void doWithRequest_streamingRequest_bodyWrittenWhenSent() throws Exception {
+
+        final StreamingRequest request = new StreamingRequest();
+
+        new StreamingJsonRequestCallback(BODY, true, PAYLOAD_LOGGER.capture("Body: {}")).doWithRequest(request);
+
+        // nothing is written until the request is sent
+        assertTrue(this.listAppender.list.isEmpty());
+        assertTrue(request.body.repeatable());
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        request.body.writeTo(out);
+
+        assertEquals(StreamingJsonRequestCallback.GZIP_CONTENT_ENCODING, request.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(BODY_JSON, decompress(out.toByteArray()));
+        assertEquals("Body: " + BODY_JSON, this.listAppender.list.get(0).getFormattedMessage());
+    }
+
+    private static String decompress(final byte[] bytes) throws IOException {
+
+        try (final GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    static class StreamingRequest extends MockClientHttpRequest implements StreamingHttpOutputMessage {
+
+        private StreamingHttpOutputMessage.Body body;
+
+        StreamingRequest() {
+            super(HttpMethod.POST, "http://localhost");
+        }
+
+        @Override
+        public void setBody(final StreamingHttpOutputMessage.Body body) {
+            this.body = body;
+        }
+
+        @Override
+        public OutputStream getBody() {
+            throw new IllegalStateException("Body must be streamed");
+        }
+
+        @Override
+        protected ClientHttpResponse executeInternal() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -10,6 +10,8 @@
 
 package com.ericsson.oss.air.util.codec;
 
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
 import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Jimfs;
 import org.junit.jupiter.api.AfterAll;
@@ -21,15 +23,20 @@ import org.springframework.http.codec.json.Jackson2JsonEncoder;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
@@ -93,6 +100,44 @@ class CodecTest {
         assertEquals(expected, this.codec.writeValueAsStringPretty(TEST_BEAN));
     }
 
+    @Test
+    void writeValuePretty() throws Exception {
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        this.codec.writeValuePretty(out, TEST_BEAN);
+
+        assertEquals(this.codec.writeValueAsStringPretty(TEST_BEAN), out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void writeValue() throws Exception {
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        this.codec.writeValue(out, TEST_BEAN);
+
+        assertEquals(TEST_BEAN_DEF, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void writeValueAsString_maxLength() throws Exception {
+
+        assertEquals(TEST_BEAN_DEF, this.codec.writeValueAsString(TEST_BEAN, TEST_BEAN_DEF.length()));
+        assertEquals(TEST_BEAN_DEF.substring(0, 10) + Codec.TRUNCATION_MARKER, this.codec.writeValueAsString(TEST_BEAN, 10));
+
+        final List<TestBean> largeValue = new ArrayList<>();
+
+        for (int i = 0; i < 10000; i++) {
+            largeValue.add(TEST_BEAN);
+        }
+
+        final String truncated = this.codec.writeValueAsString(largeValue, 100);
+
+        assertEquals(100 + Codec.TRUNCATION_MARKER.length(), truncated.length());
+        assertTrue(truncated.startsWith("[" + TEST_BEAN_DEF));
+    }
+
     @Test
     void readValue_fromString() throws Exception {
 
@@ -148,4 +193,44 @@ class CodecTest {
         final TestBean tb = this.codec.readValue(bytes, TestBean.class);
         assertEquals(TEST_BEAN, tb);
     }
-}
\ No newline at end of file
+
+    @Test
+    void readArrayElements() throws Exception {
+
+        final Path resourceFile = Files.createDirectories(testFileSystem.getPath(TEST_RESOURCE_PATH)).resolve("arrays.json");
+        Files.writeString(resourceFile, "{\"first\": [" + TEST_BEAN_DEF + ", " + INVALID_TEST_BEAN_DEF + "], \"second\": null, "
+                + "\"third\": [\"value\"]}");
+
+        final List<String> arrayNames = new ArrayList<>();
+        final List<Object> elements = new ArrayList<>();
+
+        this.codec.readArrayElements(resourceFile, Map.of("first", TestBean.class, "second", TestBean.class, "third", String.class),
+                (arrayName, element) -> {
+                    arrayNames.add(arrayName);
+                    elements.add(element);
+                });
+
+        // the non-validating codec does not validate the elements
+        assertEquals(List.of("first", "first", "third"), arrayNames);
+        assertEquals(List.of(TEST_BEAN, TEST_BEAN_INVALID_INT, "value"), elements);
+    }
+
+    @Test
+    void readArrayElements_invalidDocument() throws Exception {
+
+        final Path resourceDir = Files.createDirectories(testFileSystem.getPath(TEST_RESOURCE_PATH));
+        final Map<String, Class<?>> elementTypes = Map.of("first", TestBean.class);
+
+        final Path emptyFile = Files.writeString(resourceDir.resolve("empty.json"), "");
+        assertThrows(MismatchedInputException.class, () -> this.codec.readArrayElements(emptyFile, elementTypes, (arrayName, element) -> {
+        }));
+
+        final Path unknownField = Files.writeString(resourceDir.resolve("unknown.json"), "{\"unknown\": []}");
+        assertThrows(UnrecognizedPropertyException.class, () -> this.codec.readArrayElements(unknownField, elementTypes, (arrayName, element) -> {
+        }));
+
+        final Path notAnArray = Files.writeString(resourceDir.resolve("object.json"), "{\"first\": " + TEST_BEAN_DEF + "}");
+        assertThrows(MismatchedInputException.class, () -> this.codec.readArrayElements(notAnArray, elementTypes, (arrayName, element) -> {
+        }));
+    }
+}
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.util.codec;
+
+import static com.ericsson.oss.air.csac.model.TestResourcesUtils.VALID_PROFILE_DEF_OBJ;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.ericsson.oss.air.csac.model.ProfileDefinition;
+import com.ericsson.oss.air.csac.model.runtime.index.DeployedIndexDefinitionDto;
+import com.ericsson.oss.air.csac.model.runtime.index.IndexWriterDto;
+import org.junit.jupiter.api.Test;
+
+class ContentDigestTest {
+
+    @Test
+    void of() {
+
+        final String digest = ContentDigest.of(VALID_PROFILE_DEF_OBJ);
+
+        assertEquals(ContentDigest.LENGTH, digest.length());
+        assertEquals(digest, ContentDigest.of(VALID_PROFILE_DEF_OBJ.toBuilder().build()));
+    }
+
+    @Test
+    void of_changedContent() {
+
+        final ProfileDefinition changed = VALID_PROFILE_DEF_OBJ.toBuilder().description("changed description").build();
+
+        assertNotEquals(ContentDigest.of(VALID_PROFILE_DEF_OBJ), ContentDigest.of(changed));
+    }
+
+    @Test
+    void of_mapEntryOrderIgnored() {
+
+        final Map<String, Object> first = new LinkedHashMap<>();
+        first.put("name", "index");
+        first.put("description", "Index description");
+
+        final Map<String, Object> second = new HashMap<>();
+        second.put("description", "Index description");
+        second.put("name", "index");
+
+        assertEquals(ContentDigest.of(first), ContentDigest.of(second));
+    }
+
+    @Test
+    void of_setElementOrderIgnored() {
+
+        final IndexWriterDto writer1 = IndexWriterDto.builder().name("writer1").inputSchema("schema1").build();
+        final IndexWriterDto writer2 = IndexWriterDto.builder().name("writer2").inputSchema("schema2").build();
+
+        final Set<IndexWriterDto> first = new LinkedHashSet<>(List.of(writer1, writer2));
+        final Set<IndexWriterDto> second = new LinkedHashSet<>(List.of(writer2, writer1));
+
+        final DeployedIndexDefinitionDto firstIndex = DeployedIndexDefinitionDto.builder().indexDefinitionName("index").indexWriters(first).build();
+        final DeployedIndexDefinitionDto secondIndex = DeployedIndexDefinitionDto.builder().indexDefinitionName("index").indexWriters(second).build();
+
+        assertEquals(ContentDigest.of(firstIndex), ContentDigest.of(secondIndex));
+        assertNotEquals(ContentDigest.of(firstIndex), ContentDigest.of(DeployedIndexDefinitionDto.builder()
+                .indexDefinitionName("index")
+                .indexWriters(new LinkedHashSet<>(List.of(writer1)))
+                .build()));
+    }
+}
@@ -12,7 +12,14 @@ package com.ericsson.oss.air.util.codec;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -87,4 +94,47 @@ class DigestTest {
         assertEquals(digest, digest.toLowerCase());
     }
 
-}
\ No newline at end of file
+    @Test
+    void getDigestAsHex_matchesMessageDigest() throws Exception {
+
+        final String expected = HexFormat.of()
+                .formatHex(MessageDigest.getInstance("SHA1").digest("csacplmnidsnssai".getBytes(StandardCharsets.UTF_8)));
+
+        final Digest digest = new Digest();
+
+        // repeated use of the same digest must not carry state over from a previous call
+        assertEquals(expected, digest.getDigestAsHex("csac", "plmnid", "snssai"));
+        assertEquals(expected, digest.getDigestAsHex("csac", "plmnid", "snssai"));
+    }
+
+    @Test
+    void getDigestAsHex_concurrentUse() {
+
+        final Digest digest = new Digest();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            final List<CompletableFuture<Boolean>> results = IntStream.range(0, 200)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(
+                            () -> digest.getDigestAsHex("input", String.valueOf(i)).equals(new Digest().getDigestAsHex("input" + i)), executor))
+                    .toList();
+
+            results.forEach(result -> assertEquals(Boolean.TRUE, result.join()));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void newMessageDigest() {
+
+        final MessageDigest messageDigest = Digest.newMessageDigest(Digest.Algorithm.SHA256);
+        messageDigest.update("csac".getBytes(StandardCharsets.UTF_8));
+        messageDigest.update("plmnid".getBytes(StandardCharsets.UTF_8));
+
+        // an incrementally updated message digest matches the digest of the joined input
+        assertEquals(Digest.withAlgorithm(Digest.Algorithm.SHA256).getDigestAsHex("csac", "plmnid"),
+                HexFormat.of().formatHex(messageDigest.digest()));
+    }
+
+}
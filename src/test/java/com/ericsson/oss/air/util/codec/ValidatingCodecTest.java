@@ -27,10 +27,14 @@ import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -142,4 +146,32 @@ class ValidatingCodecTest {
         assertThrows(ConstraintViolationException.class,
                 () -> this.validatingCodec.readValue(INVALID_TEST_BEAN_DEF_EMPTY_FIELD.getBytes(StandardCharsets.UTF_8), TestBean.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void readArrayElements_Valid() throws Exception {
+
+        final Path resourceFile = Files.createDirectories(testFileSystem.getPath(TEST_RESOURCE_PATH)).resolve("beans.json");
+        Files.writeString(resourceFile, "{\"beans\": [" + TEST_BEAN_DEF + ", " + TEST_BEAN_DEF + "]}");
+
+        final List<Object> elements = new ArrayList<>();
+        this.validatingCodec.readArrayElements(resourceFile, Map.of("beans", TestBean.class), (arrayName, element) -> elements.add(element));
+
+        assertEquals(List.of(TEST_BEAN, TEST_BEAN), elements);
+    }
+
+    @Test
+    void readArrayElements_InValid_abortsAtFirstInvalidElement() throws Exception {
+
+        // the third element is malformed JSON and is never reached
+        final Path resourceFile = Files.createDirectories(testFileSystem.getPath(TEST_RESOURCE_PATH)).resolve("beans.json");
+        Files.writeString(resourceFile, "{\"beans\": [" + TEST_BEAN_DEF + ", " + INVALID_TEST_BEAN_DEF_EMPTY_FIELD + ", {\"sField\": ");
+
+        final List<Object> elements = new ArrayList<>();
+        final ConstraintViolationException exception = assertThrows(ConstraintViolationException.class,
+                () -> this.validatingCodec.readArrayElements(resourceFile, Map.of("beans", TestBean.class),
+                        (arrayName, element) -> elements.add(element)));
+
+        assertEquals(List.of(TEST_BEAN), elements);
+        assertTrue(exception.getMessage().startsWith("beans[1].string_field:"));
+    }
+}
@@ -0,0 +1,258 @@
+/*******************************************************************************
+ * COPYRIGHT Ericsson 2024
+ *
+ * The copyright to the computer program(s) herein is the property of
+ * Ericsson Inc. The programs may be used and/or copied only with written
+ * permission from Ericsson Inc. or in accordance with the terms and
+ * conditions stipulated in the agreement/contract under which the
+ * program(s) have been supplied.
+ ******************************************************************************/
+
+package com.ericsson.oss.air.util.logging.payload;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.ericsson.oss.air.exception.CsacValidationException;
+import com.ericsson.oss.air.util.codec.Codec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+class PayloadLoggerTest {
+
+    private static final Class<?> TEST_CLASS = PayloadLoggerTest.class;
+
+    private static final List<String> PAYLOAD = List.of("first", "second");
+
+    private static final String PAYLOAD_JSON = "[\"first\",\"second\"]";
+
+    private Logger log;
+
+    private Logger dumpLog;
+
+    private ListAppender<ILoggingEvent> listAppender;
+
+    private ListAppender<ILoggingEvent> dumpAppender;
+
+    private PayloadLogger payloadLogger;
+
+    @BeforeEach
+    void setUp() {
+
+        this.log = (Logger) LoggerFactory.getLogger(TEST_CLASS);
+        this.log.setLevel(Level.DEBUG);
+        this.listAppender = new ListAppender<>();
+        this.listAppender.start();
+        this.log.addAppender(this.listAppender);
+
+        this.dumpLog = (Logger) LoggerFactory.getLogger(PayloadLogger.DUMP_LOGGER_NAME);
+        this.dumpLog.setLevel(Level.INFO);
+        this.dumpAppender = new ListAppender<>();
+        this.dumpAppender.start();
+        this.dumpLog.addAppender(this.dumpAppender);
+
+        this.payloadLogger = PayloadLogFactory.getLogger(TEST_CLASS);
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        this.log.detachAppender(this.listAppender);
+        this.log.setLevel(null);
+        this.dumpLog.detachAppender(this.dumpAppender);
+        this.dumpLog.setLevel(null);
+
+        PayloadLogger.setMaxLength(PayloadLogger.DEFAULT_MAX_LENGTH);
+    }
+
+    @Test
+    void debug() {
+
+        this.payloadLogger.debug("Payload for {}: {}", "test", PAYLOAD);
+
+        assertEquals(1, this.listAppender.list.size());
+        assertEquals(Level.DEBUG, this.listAppender.list.get(0).getLevel());
+        assertEquals("Payload for test: " + PAYLOAD_JSON, this.listAppender.list.get(0).getFormattedMessage());
+        assertTrue(this.dumpAppender.list.isEmpty());
+    }
+
+    @Test
+    void debug_truncated() {
+
+        PayloadLogger.setMaxLength(5);
+
+        this.payloadLogger.debug("Payload: {}", PAYLOAD);
+
+        assertEquals("Payload: " + PAYLOAD_JSON.substring(0, 5) + Codec.TRUNCATION_MARKER, this.listAppender.list.get(0).getFormattedMessage());
+    }
+
+    @Test
+    void debug_disabled_payloadNotSerialized() {
+
+        this.log.setLevel(Level.INFO);
+
+        final CountingPayload payload = new CountingPayload();
+
+        assertFalse(this.payloadLogger.isEnabled());
+
+        this.payloadLogger.debug("Payload: {}", payload);
+
+        assertEquals(0, payload.getSerializationCount());
+        assertTrue(this.listAppender.list.isEmpty());
+        assertTrue(this.dumpAppender.list.isEmpty());
+    }
+
+    @Test
+    void debug_dumpEnabled_completePayloadDumped() {
+
+        this.log.setLevel(Level.INFO);
+        this.dumpLog.setLevel(Level.DEBUG);
+
+        PayloadLogger.setMaxLength(5);
+
+        assertTrue(this.payloadLogger.isEnabled());
+
+        this.payloadLogger.debug("Payload: {}", PAYLOAD);
+
+        assertTrue(this.listAppender.list.isEmpty());
+        assertEquals(1, this.dumpAppender.list.size());
+        assertEquals(TEST_CLASS.getName() + " - Payload: " + PAYLOAD_JSON, this.dumpAppender.list.get(0).getFormattedMessage());
+    }
+
+    @Test
+    void debug_unserializablePayload() {
+
+        this.payloadLogger.debug("Payload: {}", new FailingPayload());
+
+        assertTrue(this.listAppender.list.get(0).getFormattedMessage().startsWith("Payload: <payload cannot be serialized: "));
+    }
+
+    @Test
+    void debug_noArguments() {
+
+        this.payloadLogger.debug("No payload");
+
+        assertEquals("No payload", this.listAppender.list.get(0).getFormattedMessage());
+    }
+
+    @Test
+    void capture() throws Exception {
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final PayloadCapture capture = this.payloadLogger.capture("Payload for {}: {}", "test");
+
+        final OutputStream tee = capture.tee(out);
+        tee.write(PAYLOAD_JSON.getBytes(StandardCharsets.UTF_8));
+        capture.log();
+
+        assertEquals(PAYLOAD_JSON, out.toString(StandardCharsets.UTF_8));
+        assertEquals(1, this.listAppender.list.size());
+        assertEquals("Payload for test: " + PAYLOAD_JSON, this.listAppender.list.get(0).getFormattedMessage());
+    }
+
+    @Test
+    void capture_truncated() throws Exception {
+
+        PayloadLogger.setMaxLength(5);
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final PayloadCapture capture = this.payloadLogger.capture("Payload: {}");
+
+        capture.tee(out).write(PAYLOAD_JSON.getBytes(StandardCharsets.UTF_8));
+        capture.log();
+
+        // the payload written is never truncated
+        assertEquals(PAYLOAD_JSON, out.toString(StandardCharsets.UTF_8));
+        assertEquals("Payload: " + PAYLOAD_JSON.substring(0, 5) + Codec.TRUNCATION_MARKER, this.listAppender.list.get(0).getFormattedMessage());
+    }
+
+    @Test
+    void capture_rewritten_capturedOnce() throws Exception {
+
+        final PayloadCapture capture = this.payloadLogger.capture("Payload: {}");
+
+        capture.tee(new ByteArrayOutputStream()).write(PAYLOAD_JSON.getBytes(StandardCharsets.UTF_8));
+        capture.tee(new ByteArrayOutputStream()).write(PAYLOAD_JSON.getBytes(StandardCharsets.UTF_8));
+        capture.log();
+
+        assertEquals("Payload: " + PAYLOAD_JSON, this.listAppender.list.get(0).getFormattedMessage());
+    }
+
+    @Test
+    void capture_dumpEnabled_completePayloadDumped() throws Exception {
+
+        this.log.setLevel(Level.INFO);
+        this.dumpLog.setLevel(Level.DEBUG);
+
+        PayloadLogger.setMaxLength(5);
+
+        final PayloadCapture capture = this.payloadLogger.capture("Payload: {}");
+
+        capture.tee(new ByteArrayOutputStream()).write(PAYLOAD_JSON.getBytes(StandardCharsets.UTF_8));
+        capture.log();
+
+        assertTrue(this.listAppender.list.isEmpty());
+        assertEquals(TEST_CLASS.getName() + " - Payload: " + PAYLOAD_JSON, this.dumpAppender.list.get(0).getFormattedMessage());
+    }
+
+    @Test
+    void capture_disabled_nothingCaptured() {
+
+        this.log.setLevel(Level.INFO);
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final PayloadCapture capture = this.payloadLogger.capture("Payload: {}");
+
+        assertSame(out, capture.tee(out));
+
+        capture.log();
+
+        assertTrue(this.listAppender.list.isEmpty());
+        assertTrue(this.dumpAppender.list.isEmpty());
+    }
+
+    @Test
+    void setMaxLength() {
+
+        PayloadLogger.setMaxLength(100);
+        assertEquals(100, PayloadLogger.getMaxLength());
+
+        assertThrows(CsacValidationException.class, () -> PayloadLogger.setMaxLength(0));
+        assertThrows(CsacValidationException.class, () -> PayloadLogger.setMaxLength(null));
+    }
+
+    static class CountingPayload {
+
+        private int serializationCount;
+
+        public String getValue() {
+            this.serializationCount++;
+            return "value";
+        }
+
+        int getSerializationCount() {
+            return this.serializationCount;
+        }
+    }
+
+    static class FailingPayload {
+
+        public String getValue() {
+            throw new IllegalStateException("cannot serialize");
+        }
+    }
+}